@@ -0,0 +1,78 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.application.index.CouponCodeIndex;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidateCouponCodeBenchmark {
+
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    @Param({"100000", "1000000"})
+    public int indexedCoupons;
+
+    private ValidateCouponCodeUseCase useCase;
+    private String[] knownCodes;
+    private String[] unknownCodes;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Clock clock = Clock.system(ZoneId.of("America/Sao_Paulo"));
+        CouponCodeIndex index = new CouponCodeIndex(null, clock);
+        Random random = new Random(42);
+        LocalDateTime expiration = LocalDateTime.now(clock).plusDays(30);
+
+        knownCodes = new String[1024];
+        for (int i = 0; i < indexedCoupons; i++) {
+            String code = randomCode(random);
+            index.put(Coupon.reconstruct(UUID.randomUUID(), code, "Benchmark", BigDecimal.TEN, expiration, true, false, CouponStatus.ACTIVE));
+            if (i < knownCodes.length) {
+                knownCodes[i] = code;
+            }
+        }
+        unknownCodes = new String[1024];
+        for (int i = 0; i < unknownCodes.length; i++) {
+            unknownCodes[i] = "ZZ" + randomCode(random).substring(2);
+        }
+        useCase = new ValidateCouponCodeUseCase(index, clock);
+    }
+
+    @Benchmark
+    public CouponAvailability validateKnownCode() {
+        return useCase.execute(knownCodes[cursor++ & 1023]);
+    }
+
+    @Benchmark
+    public CouponAvailability validateUnknownCode() {
+        return useCase.execute(unknownCodes[cursor++ & 1023]);
+    }
+
+    private static String randomCode(Random random) {
+        char[] code = new char[6];
+        for (int i = 0; i < code.length; i++) {
+            code[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        }
+        return new String(code);
+    }
+}
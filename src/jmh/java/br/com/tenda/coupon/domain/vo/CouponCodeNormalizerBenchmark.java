@@ -0,0 +1,46 @@
+package br.com.tenda.coupon.domain.vo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CouponCodeNormalizerBenchmark {
+
+    @Param({"canonical", "typical", "invalid", "pathological"})
+    public String input;
+
+    private String code;
+
+    @Setup
+    public void setUp() {
+        code = switch (input) {
+            case "canonical" -> "ABC123";
+            case "typical" -> "abc-123";
+            case "invalid" -> "AB-12";
+            // a long run of separators followed by far too many alphanumerics
+            case "pathological" -> "-".repeat(4096) + "A1".repeat(2048);
+            default -> throw new IllegalArgumentException(input);
+        };
+    }
+
+    @Benchmark
+    public String regex() {
+        String cleaned = code.replaceAll("[^a-zA-Z0-9]", "").toUpperCase();
+        return cleaned.length() == CouponCodeNormalizer.CODE_LENGTH ? cleaned : null;
+    }
+
+    @Benchmark
+    public String singlePass() {
+        return CouponCodeNormalizer.normalize(code);
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import br.com.tenda.coupon.domain.vo.CouponEffectiveStatus;
+import br.com.tenda.coupon.presentation.dto.CouponPageResponse;
+import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * A page of coupons as JSON, CBOR and Protobuf: the server's cost to write it and a client's cost to
+ * parse it. The payload size of each format is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CouponPageFormatBenchmark {
+
+    @Param({"json", "cbor", "protobuf"})
+    public String format;
+
+    @Param({"1", "20"})
+    public int pageSize;
+
+    private CouponPageResponse page;
+    private ObjectWriter writer;
+    private ObjectReader reader;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<CouponResponse> coupons = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            coupons.add(new CouponResponse(UUID.randomUUID(), String.format("BN%04d", i), i % 2 == 0 ? null : UUID.randomUUID(),
+                    "Desconto de primavera", new BigDecimal("10.50"), LocalDateTime.of(2026, 12, 31, 23, 59, 59),
+                    true, false, CouponEffectiveStatus.ACTIVE, i % 3 == 0, i));
+        }
+        page = new CouponPageResponse(coupons, new CouponPageResponse.PageMetadata(pageSize, 0, 10_000, 10_000 / pageSize));
+
+        // dates as text and the JSON module, as the application's builder is configured
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new CouponJsonModule());
+        switch (format) {
+            case "json" -> {
+                writer = builder.build().writer();
+                reader = builder.build().readerFor(JsonNode.class);
+            }
+            case "cbor" -> {
+                writer = BinaryObjectMappers.cbor(builder).writer();
+                reader = BinaryObjectMappers.cbor(builder).readerFor(JsonNode.class);
+            }
+            case "protobuf" -> {
+                ProtobufSchema schema = CouponProtobufSchemas.load().schemaFor(ResolvableType.forClass(CouponPageResponse.class));
+                writer = BinaryObjectMappers.protobuf(builder).writer(schema);
+                reader = BinaryObjectMappers.protobuf(builder).readerFor(JsonNode.class).with(schema);
+            }
+            default -> throw new IllegalArgumentException("Unknown format: " + format);
+        }
+        payload = writer.writeValueAsBytes(page);
+        System.out.printf("%n%s, %d coupon(s): %d bytes%n", format, pageSize, payload.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public JsonNode parse() throws Exception {
+        return reader.readValue(payload);
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import br.com.tenda.coupon.domain.vo.CouponEffectiveStatus;
+import br.com.tenda.coupon.presentation.dto.CouponPageResponse;
+import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * GET /api/v1/coupons as JSON: "paged-model" is the PagedModel the controller used to return, through
+ * Jackson's bean serializers; "envelope" is CouponPageResponse with CouponJsonModule installed. Both
+ * write the same document, whose size is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CouponPageJsonBenchmark {
+
+    @Param({"paged-model", "envelope"})
+    public String output;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private Object page;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<CouponResponse> coupons = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            coupons.add(new CouponResponse(UUID.randomUUID(), String.format("BN%04d", i), i % 2 == 0 ? null : UUID.randomUUID(),
+                    "Desconto de primavera", new BigDecimal("10.50"), LocalDateTime.of(2026, 12, 31, 23, 59, 59),
+                    true, false, CouponEffectiveStatus.ACTIVE, i % 3 == 0, i));
+        }
+
+        // dates as text, as spring.jackson configures the application's builder
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        switch (output) {
+            case "paged-model" -> {
+                page = new PagedModel<>(new PageImpl<>(coupons, PageRequest.of(0, pageSize), 10_000));
+                writer = builder.build().writer();
+            }
+            case "envelope" -> {
+                page = new CouponPageResponse(coupons, new CouponPageResponse.PageMetadata(pageSize, 0, 10_000, 10_000 / pageSize));
+                writer = builder.modulesToInstall(new CouponJsonModule()).build().writer();
+            }
+            default -> throw new IllegalArgumentException("Unknown output: " + output);
+        }
+        System.out.printf("%n%s, %d coupons: %d bytes%n", output, pageSize, writer.writeValueAsBytes(page).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(page);
+    }
+}
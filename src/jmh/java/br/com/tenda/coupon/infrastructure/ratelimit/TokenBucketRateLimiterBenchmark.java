@@ -0,0 +1,42 @@
+package br.com.tenda.coupon.infrastructure.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenBucketRateLimiterBenchmark {
+
+    @Param({"1000", "100000"})
+    private int clients;
+
+    private TokenBucketRateLimiter rateLimiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new TokenBucketRateLimiter(1_000_000, 1_000_000, 64, Duration.ofMinutes(10), 16_384, System::nanoTime);
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "ip:10." + (i >>> 16) + "." + ((i >>> 8) & 0xFF) + "." + (i & 0xFF);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long tryAcquire() {
+        return rateLimiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(clients)]);
+    }
+}
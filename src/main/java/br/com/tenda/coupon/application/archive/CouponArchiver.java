@@ -0,0 +1,101 @@
+package br.com.tenda.coupon.application.archive;
+
+import br.com.tenda.coupon.domain.event.CouponsArchivedEvent;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * Moves DELETED coupons, and coupons expired for longer than the retention, out of the coupons table
+ * so it, its unique code index and every listing scan only hold live data. Each chunk is one
+ * INSERT ... SELECT and one DELETE in its own short transaction; the code index and lookup cache
+ * drop the moved codes once it commits.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "coupon.archiver", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponArchiver {
+
+    private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration retention;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Timer runTimer;
+    private final Counter archivedCounter;
+
+    public CouponArchiver(CouponRepository couponRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          PlatformTransactionManager transactionManager,
+                          Clock clock,
+                          MeterRegistry meterRegistry,
+                          @Value("${coupon.archiver.retention:P90D}") Duration retention,
+                          @Value("${coupon.archiver.chunk-size:1000}") int chunkSize,
+                          @Value("${coupon.archiver.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.couponRepository = couponRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.runTimer = Timer.builder("coupon.archive.run")
+                .description("Time taken by one archiver run")
+                .register(meterRegistry);
+        this.archivedCounter = Counter.builder("coupon.archive.moved")
+                .description("Coupons moved to the archive table")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${coupon.archiver.interval:PT1H}",
+            fixedDelayString = "${coupon.archiver.interval:PT1H}")
+    public void scheduledArchive() {
+        try {
+            archive();
+        } catch (RuntimeException ex) {
+            log.warn("Coupon archiving failed, retrying on the next run", ex);
+        }
+    }
+
+    /**
+     * @return how many coupons this run moved
+     */
+    public long archive() {
+        return runTimer.record(() -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            LocalDateTime expiredBefore = now.minus(retention);
+            long archived = 0;
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                List<String> codes = transactionTemplate.execute(status -> {
+                    List<String> moved = couponRepository.archive(expiredBefore, now, chunkSize);
+                    if (!moved.isEmpty()) {
+                        eventPublisher.publishEvent(new CouponsArchivedEvent(moved));
+                    }
+                    return moved;
+                });
+                archived += codes.size();
+                archivedCounter.increment(codes.size());
+                if (codes.size() < chunkSize) {
+                    break;
+                }
+            }
+            return archived;
+        });
+    }
+}
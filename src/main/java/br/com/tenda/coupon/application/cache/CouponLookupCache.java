@@ -0,0 +1,172 @@
+package br.com.tenda.coupon.application.cache;
+
+import br.com.tenda.coupon.domain.event.CampaignUpdatedEvent;
+import br.com.tenda.coupon.domain.event.CouponDeletedEvent;
+import br.com.tenda.coupon.domain.event.CouponRedeemedEvent;
+import br.com.tenda.coupon.domain.event.CouponsArchivedEvent;
+import br.com.tenda.coupon.domain.event.CouponsDeletedEvent;
+import br.com.tenda.coupon.domain.event.CouponsExpiredEvent;
+import br.com.tenda.coupon.domain.event.CouponsTransitionedEvent;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Read-through cache of coupons by code for the evaluate path. Bounded with CLOCK: a hit sets the
+ * entry's reference bit, and a load that finds the cache full sweeps a persistent hand that clears
+ * set bits and evicts the first entry whose bit is already clear, so hot codes survive a burst of
+ * one-off misses. Every eviction bumps a generation counter for the key's stripe before removing
+ * it, and a load is only kept if its stripe's generation did not move while it read the row, so a
+ * change that commits during the read cannot leave the old copy cached.
+ */
+@Component
+public class CouponLookupCache {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final CouponRepository couponRepository;
+    private final int maxEntries;
+    // keyed by CouponCode.pack
+    private final ConcurrentHashMap<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final ReentrantLock handLock = new ReentrantLock();
+    private Iterator<Map.Entry<Integer, Entry>> hand;
+
+    public CouponLookupCache(CouponRepository couponRepository,
+                             @Value("${coupon.cache.max-entries:100000}") int maxEntries) {
+        this.couponRepository = couponRepository;
+        this.maxEntries = maxEntries;
+    }
+
+    // Misses are not cached, so unknown codes cannot grow the cache.
+    public Coupon lookup(String code) {
+        int key = CouponCode.pack(code);
+        Entry cached = entries.get(key);
+        if (cached != null) {
+            if (!cached.referenced) {
+                cached.referenced = true;
+            }
+            return cached.coupon;
+        }
+
+        long generation = generations.get(stripe(key));
+        Coupon loaded = couponRepository.findByCode(code).orElse(null);
+        if (loaded == null) {
+            return null;
+        }
+        makeRoom();
+        // checked under the bin lock evict's remove also takes, so an eviction cannot slip in between
+        Entry kept = entries.compute(key, (k, raced) -> {
+            if (raced != null) {
+                return raced;
+            }
+            return generations.get(stripe(key)) == generation ? new Entry(loaded) : null;
+        });
+        return kept != null ? kept.coupon : loaded;
+    }
+
+    public void evict(String code) {
+        int key = CouponCode.pack(code);
+        generations.incrementAndGet(stripe(key));
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void makeRoom() {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        handLock.lock();
+        try {
+            // a full turn clears every bit, so a second one always finds a victim unless hits keep racing it
+            for (int scanned = 0; entries.size() >= maxEntries; scanned++) {
+                if (hand == null || !hand.hasNext()) {
+                    hand = entries.entrySet().iterator();
+                    if (!hand.hasNext()) {
+                        return;
+                    }
+                }
+                Map.Entry<Integer, Entry> candidate = hand.next();
+                Entry entry = candidate.getValue();
+                if (entry.referenced && scanned < 2 * maxEntries) {
+                    entry.referenced = false;
+                } else {
+                    entries.remove(candidate.getKey(), entry);
+                }
+            }
+        } finally {
+            handLock.unlock();
+        }
+    }
+
+    private static int stripe(int key) {
+        return (key ^ (key >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    @TransactionalEventListener
+    public void onCouponDeleted(CouponDeletedEvent event) {
+        evict(event.getCode());
+    }
+
+    @TransactionalEventListener
+    public void onCouponsDeleted(CouponsDeletedEvent event) {
+        event.getCodes().forEach(this::evict);
+    }
+
+    // an expired coupon only ever answers EXPIRED, so it no longer earns a slot in the cache;
+    // the expiration wheel publishes outside any transaction
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCouponsExpired(CouponsExpiredEvent event) {
+        event.getCodes().forEach(this::evict);
+    }
+
+    @TransactionalEventListener
+    public void onCouponsArchived(CouponsArchivedEvent event) {
+        event.getCodes().forEach(this::evict);
+    }
+
+    @TransactionalEventListener
+    public void onCouponsTransitioned(CouponsTransitionedEvent event) {
+        event.getCodes().forEach(this::evict);
+    }
+
+    // cached coupons still point at the campaign instance the change replaced; evicting after commit
+    // keeps a concurrent lookup from caching them again with the old one
+    @TransactionalEventListener
+    public void onCampaignUpdated(CampaignUpdatedEvent event) {
+        UUID campaignId = event.getCampaign().getId();
+        // loads in flight may carry the old instance too, and their codes are unknown until they land
+        for (int stripe = 0; stripe < GENERATION_STRIPES; stripe++) {
+            generations.incrementAndGet(stripe);
+        }
+        entries.values().removeIf(entry -> entry.coupon.getCampaign() != null && entry.coupon.getCampaign().getId().equals(campaignId));
+    }
+
+    @TransactionalEventListener
+    public void onCouponRedeemed(CouponRedeemedEvent event) {
+        evict(event.getCode());
+    }
+
+    private static final class Entry {
+
+        private final Coupon coupon;
+        private volatile boolean referenced;
+
+        private Entry(Coupon coupon) {
+            this.coupon = coupon;
+        }
+    }
+}
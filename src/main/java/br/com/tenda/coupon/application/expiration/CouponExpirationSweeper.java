@@ -0,0 +1,100 @@
+package br.com.tenda.coupon.application.expiration;
+
+import br.com.tenda.coupon.application.usecase.TransitionCouponsUseCase;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponTransition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Deactivates ACTIVE coupons past their expiration on the scheduler thread, never on a request.
+ * Each chunk is one conditional UPDATE in its own short transaction (TransitionCouponsUseCase), so
+ * the index and lookup cache follow through the usual transition event. The lag gauge is how long
+ * the oldest expired coupon had been waiting when the last sweep started.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "coupon.expiration-sweeper", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponExpirationSweeper {
+
+    private final CouponRepository couponRepository;
+    private final TransitionCouponsUseCase transitionCouponsUseCase;
+    private final Clock clock;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Timer sweepTimer;
+    private final Counter sweptCounter;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public CouponExpirationSweeper(CouponRepository couponRepository,
+                                   TransitionCouponsUseCase transitionCouponsUseCase,
+                                   Clock clock,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${coupon.expiration-sweeper.chunk-size:1000}") int chunkSize,
+                                   @Value("${coupon.expiration-sweeper.max-chunks-per-run:100}") int maxChunksPerRun) {
+        this.couponRepository = couponRepository;
+        this.transitionCouponsUseCase = transitionCouponsUseCase;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.sweepTimer = Timer.builder("coupon.expiration.sweep")
+                .description("Time taken by one expiration sweep")
+                .register(meterRegistry);
+        this.sweptCounter = Counter.builder("coupon.expiration.swept")
+                .description("Expired coupons moved from ACTIVE to INACTIVE")
+                .register(meterRegistry);
+        Gauge.builder("coupon.expiration.lag", lagSeconds, AtomicLong::get)
+                .description("Seconds the oldest expired ACTIVE coupon had waited when the last sweep started")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${coupon.expiration-sweeper.interval:PT1M}",
+            fixedDelayString = "${coupon.expiration-sweeper.interval:PT1M}")
+    public void scheduledSweep() {
+        try {
+            sweep();
+        } catch (RuntimeException ex) {
+            log.warn("Expiration sweep failed, retrying on the next run", ex);
+        }
+    }
+
+    /**
+     * @return how many coupons this run deactivated
+     */
+    public long sweep() {
+        return sweepTimer.record(() -> {
+            LocalDateTime now = LocalDateTime.now(clock);
+            lagSeconds.set(couponRepository.findOldestExpiredActive(now)
+                    .map(oldest -> Duration.between(oldest, now).toSeconds())
+                    .orElse(0L));
+
+            long swept = 0;
+            // bounded so a large backlog is worked off over several runs instead of one long one
+            for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+                List<UUID> ids = couponRepository.findExpiredActiveIds(now, chunkSize);
+                long changed = ids.isEmpty() ? 0 : transitionCouponsUseCase.execute(ids, CouponTransition.DEACTIVATE);
+                swept += changed;
+                sweptCounter.increment(changed);
+                if (ids.size() < chunkSize || changed == 0) {
+                    break;
+                }
+            }
+            return swept;
+        });
+    }
+}
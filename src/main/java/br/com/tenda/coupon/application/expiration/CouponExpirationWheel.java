@@ -0,0 +1,199 @@
+package br.com.tenda.coupon.application.expiration;
+
+import br.com.tenda.coupon.domain.event.CampaignUpdatedEvent;
+import br.com.tenda.coupon.domain.event.CouponCreatedEvent;
+import br.com.tenda.coupon.domain.event.CouponDeletedEvent;
+import br.com.tenda.coupon.domain.event.CouponRedeemedEvent;
+import br.com.tenda.coupon.domain.event.CouponsArchivedEvent;
+import br.com.tenda.coupon.domain.event.CouponsDeletedEvent;
+import br.com.tenda.coupon.domain.event.CouponsExpiredEvent;
+import br.com.tenda.coupon.domain.event.CouponsGeneratedEvent;
+import br.com.tenda.coupon.domain.event.CouponsImportedEvent;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponFilter;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponCode;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Keeps every upcoming coupon expiration in a TimingWheel and publishes CouponsExpiredEvent on the
+ * second they fall due, so the code index and lookup cache react at that second instead of waiting
+ * for the next sweep. Loaded once at startup and then kept in step by committed create, generate,
+ * import, delete, redeem and campaign events. The database is still updated by the sweeper.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "coupon.expiration-wheel", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CouponExpirationWheel implements SmartInitializingSingleton, DisposableBean {
+
+    private static final long MAX_RESCAN_BACKOFF_SECONDS = 60;
+
+    private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final ZoneId zoneId;
+    private final TimingWheel wheel;
+    // schedule and cancel run on request threads after commit; a monitor would pin a virtual thread's carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "coupon-expiration-wheel");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // campaign rescans read the database, so they stay off both the request thread and the ticker
+    private final ScheduledExecutorService rescanner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "coupon-expiration-rescan");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CouponExpirationWheel(CouponRepository couponRepository, ApplicationEventPublisher eventPublisher, Clock clock) {
+        this.couponRepository = couponRepository;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.zoneId = clock.getZone();
+        this.wheel = new TimingWheel(clock.instant().getEpochSecond());
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        couponRepository.forEach(this::schedule);
+        // first tick right after the next second boundary, then once per second
+        long untilNextSecond = 1000 - clock.millis() % 1000;
+        ticker.scheduleAtFixedRate(this::tick, untilNextSecond, 1000, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        ticker.shutdownNow();
+        rescanner.shutdownNow();
+    }
+
+    public void schedule(Coupon coupon) {
+        int key = coupon.getCode().packed();
+        boolean live = !coupon.isRedeemed() && CouponStatus.from(coupon.getStatus()) != CouponStatus.DELETED;
+        long deadline = live ? coupon.getExpirationDate().getValue().atZone(zoneId).toEpochSecond() : 0;
+        lock.lock();
+        try {
+            if (live) {
+                wheel.schedule(key, deadline);
+            } else {
+                wheel.cancel(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void cancel(String code) {
+        int key = CouponCode.pack(code);
+        lock.lock();
+        try {
+            wheel.cancel(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return wheel.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void tick() {
+        try {
+            long now = clock.instant().getEpochSecond();
+            List<String> codes = new ArrayList<>();
+            lock.lock();
+            try {
+                wheel.advanceTo(now, key -> codes.add(CouponCode.fromPacked(key).getValue()));
+            } finally {
+                lock.unlock();
+            }
+            // published outside the lock so listeners never hold up schedule and cancel
+            if (!codes.isEmpty()) {
+                eventPublisher.publishEvent(new CouponsExpiredEvent(codes, now));
+            }
+        } catch (RuntimeException ex) {
+            // an exception would cancel the fixed-rate task; the next tick picks up what this one missed
+            log.warn("Expiration wheel tick failed", ex);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCouponCreated(CouponCreatedEvent event) {
+        schedule(event.getCoupon());
+    }
+
+    @TransactionalEventListener
+    public void onCouponsGenerated(CouponsGeneratedEvent event) {
+        event.getCoupons().forEach(this::schedule);
+    }
+
+    @TransactionalEventListener
+    public void onCouponsImported(CouponsImportedEvent event) {
+        event.getCoupons().forEach(this::schedule);
+    }
+
+    @TransactionalEventListener
+    public void onCampaignUpdated(CampaignUpdatedEvent event) {
+        if (event.isExpirationChanged()) {
+            UUID campaignId = event.getCampaign().getId();
+            rescanner.execute(() -> rescan(campaignId, 1));
+        }
+    }
+
+    // retried with backoff, so a failure after the commit cannot leave the old deadlines in the wheel for good
+    private void rescan(UUID campaignId, int attempt) {
+        try {
+            couponRepository.forEach(CouponFilter.builder().campaignId(campaignId).build(), this::schedule);
+        } catch (RuntimeException ex) {
+            long delaySeconds = Math.min(MAX_RESCAN_BACKOFF_SECONDS, 1L << Math.min(attempt - 1, 6));
+            log.warn("Rescan of campaign {} failed on attempt {}, retrying in {}s", campaignId, attempt, delaySeconds, ex);
+            rescanner.schedule(() -> rescan(campaignId, attempt + 1), delaySeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCouponDeleted(CouponDeletedEvent event) {
+        cancel(event.getCode());
+    }
+
+    @TransactionalEventListener
+    public void onCouponsDeleted(CouponsDeletedEvent event) {
+        event.getCodes().forEach(this::cancel);
+    }
+
+    @TransactionalEventListener
+    public void onCouponsArchived(CouponsArchivedEvent event) {
+        event.getCodes().forEach(this::cancel);
+    }
+
+    @TransactionalEventListener
+    public void onCouponRedeemed(CouponRedeemedEvent event) {
+        if (event.isExhausted()) {
+            cancel(event.getCode());
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.tenda.coupon.application.expiration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/*
+ * Hierarchical timing wheel with one-second ticks: four levels of 64 slots cover 64 s, ~68 min,
+ * ~3 days and ~194 days. A key is linked into the slot of the level its remaining time fits, and a
+ * higher slot is cascaded into the lower levels when the clock reaches it, so schedule and cancel
+ * are O(1) and advancing one second touches only the slots that are due. Deadlines beyond the last
+ * level park in its farthest slot and are placed again when that slot cascades.
+ * Not thread-safe; CouponExpirationWheel guards it.
+ */
+final class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long SPAN = 1L << (SLOT_BITS * LEVELS);
+
+    private final Node[] slots = new Node[SLOTS * LEVELS];
+    private final Map<Integer, Node> nodes = new HashMap<>();
+    private long currentSecond;
+
+    TimingWheel(long startEpochSecond) {
+        this.currentSecond = startEpochSecond;
+    }
+
+    /**
+     * Schedules {@code key} to fire at {@code deadlineEpochSecond}, replacing any earlier schedule for it.
+     *
+     * @return {@code false} if the deadline is not after the last second already fired
+     */
+    boolean schedule(int key, long deadlineEpochSecond) {
+        cancel(key);
+        if (deadlineEpochSecond <= currentSecond) {
+            return false;
+        }
+        Node node = new Node(key, deadlineEpochSecond);
+        nodes.put(key, node);
+        link(node);
+        return true;
+    }
+
+    boolean cancel(int key) {
+        Node node = nodes.remove(key);
+        if (node == null) {
+            return false;
+        }
+        unlink(node);
+        return true;
+    }
+
+    /**
+     * Fires, in deadline order, every key due up to and including {@code epochSecond}.
+     */
+    void advanceTo(long epochSecond, IntConsumer expired) {
+        while (currentSecond < epochSecond) {
+            currentSecond++;
+            // highest level first: a level-2 cascade can refill the level-1 slot due this same second
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((currentSecond & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(level);
+                }
+            }
+            Node node = detach(slotOf(0, currentSecond));
+            while (node != null) {
+                Node next = node.next;
+                nodes.remove(node.key);
+                expired.accept(node.key);
+                node = next;
+            }
+        }
+    }
+
+    long currentSecond() {
+        return currentSecond;
+    }
+
+    int size() {
+        return nodes.size();
+    }
+
+    private void cascade(int level) {
+        Node node = detach(slotOf(level, currentSecond));
+        while (node != null) {
+            Node next = node.next;
+            link(node);
+            node = next;
+        }
+    }
+
+    private void link(Node node) {
+        long delta = node.deadline - currentSecond;
+        int slot;
+        if (delta >= SPAN) {
+            slot = slotOf(LEVELS - 1, currentSecond + SPAN - 1);
+        } else {
+            int level = 0;
+            while (delta >= 1L << (SLOT_BITS * (level + 1))) {
+                level++;
+            }
+            slot = slotOf(level, node.deadline);
+        }
+        node.slot = slot;
+        node.prev = null;
+        node.next = slots[slot];
+        if (node.next != null) {
+            node.next.prev = node;
+        }
+        slots[slot] = node;
+    }
+
+    private void unlink(Node node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            slots[node.slot] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+    }
+
+    private Node detach(int slot) {
+        Node head = slots[slot];
+        slots[slot] = null;
+        return head;
+    }
+
+    private static int slotOf(int level, long epochSecond) {
+        return level * SLOTS + (int) ((epochSecond >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private static final class Node {
+
+        private final int key;
+        private final long deadline;
+        private int slot;
+        private Node prev;
+        private Node next;
+
+        private Node(int key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.tenda.coupon.application.generator;
+
+import br.com.tenda.coupon.domain.vo.CouponCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * Keyed bijection over the 36^6 code space. A balanced Feistel network permutes
+ * 32-bit values (2^32 is the smallest power of two above 36^6) and cycle walking
+ * re-encrypts anything that falls outside the space, so distinct sequence numbers
+ * always map to distinct codes and consecutive numbers look unrelated.
+ */
+@Component
+public class CodePermutation {
+
+    private static final int ROUNDS = 6;
+    private static final int HALF_BITS = 16;
+    private static final int HALF_MASK = (1 << HALF_BITS) - 1;
+
+    private final long[] roundKeys = new long[ROUNDS];
+
+    // no default: a key shipped with the source would make every deployment's codes predictable
+    public CodePermutation(@Value("${coupon.generator.key}") long key) {
+        long state = key;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            roundKeys[i] = mix(state);
+        }
+    }
+
+    public long permute(long sequence) {
+        if (sequence < 0 || sequence >= CouponCode.SPACE_SIZE) {
+            throw new IllegalArgumentException("Sequence must be between 0 and " + (CouponCode.SPACE_SIZE - 1));
+        }
+        long value = sequence;
+        do {
+            value = encrypt(value);
+        } while (value >= CouponCode.SPACE_SIZE);
+        return value;
+    }
+
+    public CouponCode codeAt(long sequence) {
+        return CouponCode.fromOrdinal(permute(sequence));
+    }
+
+    private long encrypt(long value) {
+        int left = (int) (value >>> HALF_BITS) & HALF_MASK;
+        int right = (int) value & HALF_MASK;
+        for (int round = 0; round < ROUNDS; round++) {
+            int next = left ^ ((int) mix(right ^ roundKeys[round]) & HALF_MASK);
+            left = right;
+            right = next;
+        }
+        return ((long) left << HALF_BITS) | right;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.tenda.coupon.application.generator;
+
+import br.com.tenda.coupon.domain.exception.CodePoolExhaustedException;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * Codes already reserved from the generator sequence and checked against hand-typed ones,
+ * so creating a coupon without a code is a queue poll. A single background worker tops the
+ * queue back up to capacity whenever a take leaves it below the low watermark; reservations
+ * only ever happen on that worker, never inside a caller's transaction.
+ */
+@Slf4j
+@Component
+public class CodePool implements SmartInitializingSingleton, DisposableBean {
+
+    private static final int CHUNK_SIZE = 500;
+    // a refill chunk lands in well under a second once the worker gets going
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final CouponRepository couponRepository;
+    private final CodePermutation codePermutation;
+    private final BlockingQueue<String> codes;
+    private final int lowWatermark;
+    private final long maxWaitNanos;
+    private final Timer refillTimer;
+    private final Timer waitTimer;
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private final ExecutorService refiller = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "code-pool-refill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CodePool(CouponRepository couponRepository,
+                    CodePermutation codePermutation,
+                    MeterRegistry meterRegistry,
+                    @Value("${coupon.code-pool.capacity:10000}") int capacity,
+                    @Value("${coupon.code-pool.low-watermark:2000}") int lowWatermark,
+                    @Value("${coupon.code-pool.max-wait:PT5S}") Duration maxWait) {
+        this.couponRepository = couponRepository;
+        this.codePermutation = codePermutation;
+        this.codes = new ArrayBlockingQueue<>(capacity);
+        this.lowWatermark = lowWatermark;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.refillTimer = Timer.builder("coupon.code.pool.refill")
+                .description("Time taken to top the code pool back up to capacity")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("coupon.code.pool.wait")
+                .description("Time a take spent waiting for the refill after finding the pool empty")
+                .register(meterRegistry);
+        Gauge.builder("coupon.code.pool.depth", codes, BlockingQueue::size)
+                .description("Reserved codes ready to be handed out")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        scheduleRefill();
+    }
+
+    public String take() {
+        while (true) {
+            String code = codes.poll();
+            if (codes.size() < lowWatermark) {
+                scheduleRefill();
+            }
+            if (code == null) {
+                code = awaitRefill();
+            }
+            // a hand-typed coupon may have claimed the code since it was pooled; answered from the
+            // occupancy bitmap in memory, and a database round trip only when occupancy is disabled
+            if (!couponRepository.existsByCode(code)) {
+                return code;
+            }
+        }
+    }
+
+    public int depth() {
+        return codes.size();
+    }
+
+    @Override
+    public void destroy() {
+        refiller.shutdownNow();
+    }
+
+    // drained faster than the worker refills
+    private String awaitRefill() {
+        scheduleRefill();
+        long start = System.nanoTime();
+        try {
+            String code = codes.poll(maxWaitNanos, TimeUnit.NANOSECONDS);
+            if (code == null) {
+                throw new CodePoolExhaustedException("No coupon code available, retry shortly", RETRY_AFTER_SECONDS);
+            }
+            return code;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the code pool", ex);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void scheduleRefill() {
+        if (refilling.compareAndSet(false, true)) {
+            try {
+                refiller.execute(this::refill);
+            } catch (RejectedExecutionException ex) {
+                refilling.set(false);
+            }
+        }
+    }
+
+    private void refill() {
+        try {
+            refillTimer.record(() -> {
+                while (codes.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+                    fill(Math.min(CHUNK_SIZE, codes.remainingCapacity()));
+                }
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Code pool refill failed, {} codes left", codes.size(), ex);
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    private void fill(int size) {
+        long firstSequence = couponRepository.reserveCodeSequence(size);
+        List<String> candidates = new ArrayList<>(size);
+        for (long sequence = firstSequence; sequence < firstSequence + size; sequence++) {
+            candidates.add(codePermutation.codeAt(sequence).getValue());
+        }
+        Set<String> taken = couponRepository.findExistingCodes(candidates);
+        candidates.removeIf(taken::contains);
+        // a full queue drops the surplus; the sequence space is large enough not to care
+        candidates.forEach(codes::offer);
+    }
+}
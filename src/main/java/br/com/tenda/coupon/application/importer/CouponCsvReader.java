@@ -0,0 +1,213 @@
+package br.com.tenda.coupon.application.importer;
+
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+/*
+ * Pull parser for RFC 4180 coupon CSV, plain or gzip (detected from the magic bytes). Only one
+ * record is held at a time and a record longer than MAX_RECORD_LENGTH is skipped rather than
+ * buffered, so memory does not depend on the size of the upload.
+ *
+ * Columns are matched by header name, case-insensitively and in any order:
+ * code, description, discountValue, expirationDate and, optionally, published and onePerCustomer.
+ */
+public final class CouponCsvReader implements Closeable {
+
+    static final int MAX_RECORD_LENGTH = 8192;
+
+    private static final String[] COLUMNS = {"code", "description", "discountvalue", "expirationdate", "published", "onepercustomer"};
+    private static final int REQUIRED_COLUMNS = 4;
+    private static final int NO_CHAR = -2;
+
+    private final BufferedReader reader;
+    private final int[] columnIndexes = new int[COLUMNS.length];
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private int headerSize;
+    private int pending = NO_CHAR;
+    private long nextLine = 1;
+    private boolean overflow;
+    private boolean unterminated;
+
+    private CouponCsvReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Opens the stream and reads the header, so a file without the required columns is rejected
+     * before any row is processed.
+     */
+    public static CouponCsvReader open(InputStream input) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(input);
+        buffered.mark(2);
+        boolean gzip = buffered.read() == 0x1f && buffered.read() == 0x8b;
+        buffered.reset();
+        InputStream source = gzip ? new GZIPInputStream(buffered) : buffered;
+        CouponCsvReader csv = new CouponCsvReader(new BufferedReader(new InputStreamReader(source, StandardCharsets.UTF_8)));
+        try {
+            csv.readHeader();
+            return csv;
+        } catch (IOException | RuntimeException ex) {
+            csv.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * @return the next non-blank record, or {@code null} at the end of the stream
+     */
+    public CouponCsvRow next() throws IOException {
+        while (true) {
+            long line = nextLine;
+            if (!readRecord()) {
+                return null;
+            }
+            if (fields.size() == 1 && fields.get(0).isEmpty() && !overflow) {
+                continue;
+            }
+            String code = fields.isEmpty() ? null : field(0);
+            if (overflow) {
+                return CouponCsvRow.malformed(line, code, "Row exceeds " + MAX_RECORD_LENGTH + " characters");
+            }
+            if (unterminated) {
+                return CouponCsvRow.malformed(line, code, "Unterminated quoted field");
+            }
+            if (fields.size() != headerSize) {
+                return CouponCsvRow.malformed(line, code,
+                        "Expected " + headerSize + " columns but found " + fields.size());
+            }
+            return new CouponCsvRow(line, code, field(1), field(2), field(3), field(4), field(5), null);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        if (!readRecord()) {
+            throw new InvalidCouponException("CSV file is empty");
+        }
+        if (overflow || unterminated) {
+            throw new InvalidCouponException("CSV header is malformed");
+        }
+        Arrays.fill(columnIndexes, -1);
+        for (int i = 0; i < fields.size(); i++) {
+            String name = fields.get(i).strip().toLowerCase(Locale.ROOT);
+            if (i == 0 && name.startsWith("\uFEFF")) {
+                name = name.substring(1);
+            }
+            for (int column = 0; column < COLUMNS.length; column++) {
+                if (COLUMNS[column].equals(name)) {
+                    if (columnIndexes[column] >= 0) {
+                        throw new InvalidCouponException("CSV header repeats column " + fields.get(i).strip());
+                    }
+                    columnIndexes[column] = i;
+                }
+            }
+        }
+        for (int column = 0; column < REQUIRED_COLUMNS; column++) {
+            if (columnIndexes[column] < 0) {
+                throw new InvalidCouponException("CSV header must contain code, description, discountValue and expirationDate");
+            }
+        }
+        headerSize = fields.size();
+    }
+
+    private String field(int column) {
+        int index = columnIndexes[column];
+        if (index < 0 || index >= fields.size()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        overflow = false;
+        unterminated = false;
+        int length = 0;
+        boolean quoted = false;
+        boolean read = false;
+        while (true) {
+            int c = read();
+            if (c == -1) {
+                if (!read) {
+                    return false;
+                }
+                unterminated = quoted;
+                endField();
+                return true;
+            }
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        append('"', length++);
+                        continue;
+                    }
+                    pending = next;
+                    quoted = false;
+                    continue;
+                }
+                if (c == '\n') {
+                    nextLine++;
+                }
+                append((char) c, length++);
+            } else if (c == ',') {
+                endField();
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pending = next;
+                    }
+                }
+                nextLine++;
+                endField();
+                return true;
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                append((char) c, length++);
+            }
+        }
+    }
+
+    private void append(char c, int length) {
+        if (length >= MAX_RECORD_LENGTH) {
+            overflow = true;
+            return;
+        }
+        field.append(c);
+    }
+
+    private void endField() {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    private int read() throws IOException {
+        if (pending != NO_CHAR) {
+            int c = pending;
+            pending = NO_CHAR;
+            return c;
+        }
+        return reader.read();
+    }
+}
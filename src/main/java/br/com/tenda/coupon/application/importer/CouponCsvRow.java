@@ -0,0 +1,30 @@
+package br.com.tenda.coupon.application.importer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * One CSV record with its fields resolved by header name. Optional columns missing from the
+ * header are null. A record that could not be parsed carries an error and no fields.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CouponCsvRow {
+
+    private final long line;
+    private final String code;
+    private final String description;
+    private final String discountValue;
+    private final String expirationDate;
+    private final String published;
+    private final String onePerCustomer;
+    private final String error;
+
+    static CouponCsvRow malformed(long line, String code, String error) {
+        return new CouponCsvRow(line, code, null, null, null, null, null, error);
+    }
+
+    public boolean isMalformed() {
+        return error != null;
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.tenda.coupon.application.importer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CouponImportError {
+
+    private final long line;
+    private final String code;
+    private final String message;
+}
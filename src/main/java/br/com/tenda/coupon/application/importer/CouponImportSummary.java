@@ -0,0 +1,12 @@
+package br.com.tenda.coupon.application.importer;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CouponImportSummary {
+
+    private final long imported;
+    private final long rejected;
+}
@@ -0,0 +1,223 @@
+package br.com.tenda.coupon.application.index;
+
+import br.com.tenda.coupon.domain.event.CampaignUpdatedEvent;
+import br.com.tenda.coupon.domain.event.CouponCreatedEvent;
+import br.com.tenda.coupon.domain.event.CouponDeletedEvent;
+import br.com.tenda.coupon.domain.event.CouponRedeemedEvent;
+import br.com.tenda.coupon.domain.event.CouponsArchivedEvent;
+import br.com.tenda.coupon.domain.event.CouponsDeletedEvent;
+import br.com.tenda.coupon.domain.event.CouponsExpiredEvent;
+import br.com.tenda.coupon.domain.event.CouponsGeneratedEvent;
+import br.com.tenda.coupon.domain.event.CouponsImportedEvent;
+import br.com.tenda.coupon.domain.event.CouponsTransitionedEvent;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import br.com.tenda.coupon.domain.vo.CouponCode;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * In-memory code -> state index answering validation without touching the database. Keys are
+ * packed codes (CouponCode.pack), so a lookup hashes an int instead of a string. It is loaded once
+ * before the web server starts and then follows committed create, generate, import, transition,
+ * delete, redeem, archive and campaign events. Coupons inheriting their campaign's expiration share
+ * one mutable CampaignExpiry per campaign, so a campaign change is a single write however many
+ * coupons it has. Once a coupon with its own expiration expires, its state collapses into the
+ * shared EXPIRED instance, since nothing but deletion changes its answer after that. Archived
+ * codes, loaded from the archive at startup and replaced on each archive event, keep one of the
+ * shared DELETED, REDEEMED or EXPIRED tombstones, so they still answer what they did before moving.
+ */
+@Component
+public class CouponCodeIndex implements SmartInitializingSingleton {
+
+    private final CouponRepository couponRepository;
+    private final ZoneId zoneId;
+    private final ConcurrentHashMap<Integer, CodeState> states = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, CampaignExpiry> campaignExpiries = new ConcurrentHashMap<>();
+
+    public CouponCodeIndex(CouponRepository couponRepository, Clock clock) {
+        this.couponRepository = couponRepository;
+        this.zoneId = clock.getZone();
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        couponRepository.forEach(this::put);
+        couponRepository.forEachArchived(coupon -> states.put(coupon.getCode().packed(),
+                CodeState.tombstoneOf(coupon.availabilityAt(LocalDateTime.MAX))));
+    }
+
+    public CouponAvailability availabilityOf(String code, long nowEpochSecond) {
+        CodeState state = states.get(CouponCode.pack(code));
+        return state == null ? CouponAvailability.UNKNOWN : state.availabilityAt(nowEpochSecond);
+    }
+
+    public void put(Coupon coupon) {
+        long expiresAtEpochSecond = coupon.getExpirationDate().getValue().atZone(zoneId).toEpochSecond();
+        CampaignExpiry campaignExpiry = coupon.inheritsExpiration()
+                ? campaignExpiries.computeIfAbsent(coupon.getCampaign().getId(), id -> new CampaignExpiry(expiresAtEpochSecond))
+                : null;
+        states.put(coupon.getCode().packed(), new CodeState(
+                CouponStatus.from(coupon.getStatus()),
+                coupon.isRedeemed(),
+                coupon.isPublished(),
+                expiresAtEpochSecond,
+                campaignExpiry
+        ));
+    }
+
+    public int size() {
+        return states.size();
+    }
+
+    @TransactionalEventListener
+    public void onCouponCreated(CouponCreatedEvent event) {
+        put(event.getCoupon());
+    }
+
+    @TransactionalEventListener
+    public void onCouponsGenerated(CouponsGeneratedEvent event) {
+        event.getCoupons().forEach(this::put);
+    }
+
+    @TransactionalEventListener
+    public void onCouponsImported(CouponsImportedEvent event) {
+        event.getCoupons().forEach(this::put);
+    }
+
+    @TransactionalEventListener
+    public void onCampaignUpdated(CampaignUpdatedEvent event) {
+        if (event.isExpirationChanged()) {
+            long expiresAtEpochSecond = event.getCampaign().getExpirationDate().getValue().atZone(zoneId).toEpochSecond();
+            campaignExpiries.computeIfAbsent(event.getCampaign().getId(), id -> new CampaignExpiry(expiresAtEpochSecond))
+                    .epochSecond = expiresAtEpochSecond;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCouponDeleted(CouponDeletedEvent event) {
+        markDeleted(event.getCode());
+    }
+
+    @TransactionalEventListener
+    public void onCouponsDeleted(CouponsDeletedEvent event) {
+        event.getCodes().forEach(this::markDeleted);
+    }
+
+    // published by the expiration wheel outside any transaction
+    @EventListener
+    public void onCouponsExpired(CouponsExpiredEvent event) {
+        for (String code : event.getCodes()) {
+            // a campaign's coupons keep their state: the campaign may still be extended
+            states.computeIfPresent(CouponCode.pack(code), (key, state) -> state.campaignExpiry == null
+                    && state.availabilityAt(event.getExpiredAtEpochSecond()) == CouponAvailability.EXPIRED ? CodeState.EXPIRED : state);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCouponsTransitioned(CouponsTransitionedEvent event) {
+        for (String code : event.getCodes()) {
+            states.computeIfPresent(CouponCode.pack(code), (key, state) -> state.isTombstone() ? state : switch (event.getTransition()) {
+                case PUBLISH -> new CodeState(state.status, state.redeemed, true, state.expiresAtEpochSecond, state.campaignExpiry);
+                case UNPUBLISH -> new CodeState(state.status, state.redeemed, false, state.expiresAtEpochSecond, state.campaignExpiry);
+                case ACTIVATE -> new CodeState(CouponStatus.ACTIVE, state.redeemed, state.published, state.expiresAtEpochSecond, state.campaignExpiry);
+                case DEACTIVATE -> new CodeState(CouponStatus.INACTIVE, state.redeemed, state.published, state.expiresAtEpochSecond, state.campaignExpiry);
+            });
+        }
+    }
+
+    // only deleted or long-expired coupons are archived, so any remaining answer is EXPIRED
+    @TransactionalEventListener
+    public void onCouponsArchived(CouponsArchivedEvent event) {
+        for (String code : event.getCodes()) {
+            states.computeIfPresent(CouponCode.pack(code), (key, state) -> CodeState.tombstoneOf(state.availabilityAt(Long.MAX_VALUE)));
+        }
+    }
+
+    private void markDeleted(String code) {
+        states.computeIfPresent(CouponCode.pack(code), (key, state) ->
+                new CodeState(CouponStatus.DELETED, state.redeemed, state.published, state.expiresAtEpochSecond, state.campaignExpiry));
+    }
+
+    @TransactionalEventListener
+    public void onCouponRedeemed(CouponRedeemedEvent event) {
+        if (!event.isExhausted()) {
+            return;
+        }
+        states.computeIfPresent(CouponCode.pack(event.getCode()), (code, state) ->
+                new CodeState(state.status, true, state.published, state.expiresAtEpochSecond, state.campaignExpiry));
+    }
+
+    private static final class CodeState {
+
+        private static final CodeState EXPIRED = new CodeState(CouponStatus.INACTIVE, false, false, Long.MIN_VALUE, null);
+        private static final CodeState REDEEMED = new CodeState(CouponStatus.INACTIVE, true, false, Long.MIN_VALUE, null);
+        private static final CodeState DELETED = new CodeState(CouponStatus.DELETED, false, false, Long.MIN_VALUE, null);
+
+        private final CouponStatus status;
+        private final boolean redeemed;
+        private final boolean published;
+        private final long expiresAtEpochSecond;
+        // set when the expiration is inherited, and then read instead of expiresAtEpochSecond
+        private final CampaignExpiry campaignExpiry;
+
+        private CodeState(CouponStatus status, boolean redeemed, boolean published, long expiresAtEpochSecond, CampaignExpiry campaignExpiry) {
+            this.status = status;
+            this.redeemed = redeemed;
+            this.published = published;
+            this.expiresAtEpochSecond = expiresAtEpochSecond;
+            this.campaignExpiry = campaignExpiry;
+        }
+
+        private boolean isTombstone() {
+            return this == EXPIRED || this == REDEEMED || this == DELETED;
+        }
+
+        private static CodeState tombstoneOf(CouponAvailability availability) {
+            return switch (availability) {
+                case DELETED -> DELETED;
+                case REDEEMED -> REDEEMED;
+                default -> EXPIRED;
+            };
+        }
+
+        // same precedence as Coupon.availabilityAt
+        private CouponAvailability availabilityAt(long nowEpochSecond) {
+            if (status == CouponStatus.DELETED) {
+                return CouponAvailability.DELETED;
+            }
+            if (redeemed) {
+                return CouponAvailability.REDEEMED;
+            }
+            if ((campaignExpiry != null ? campaignExpiry.epochSecond : expiresAtEpochSecond) <= nowEpochSecond) {
+                return CouponAvailability.EXPIRED;
+            }
+            if (status == CouponStatus.INACTIVE) {
+                return CouponAvailability.INACTIVE;
+            }
+            if (!published) {
+                return CouponAvailability.UNPUBLISHED;
+            }
+            return CouponAvailability.VALID;
+        }
+    }
+
+    private static final class CampaignExpiry {
+
+        private volatile long epochSecond;
+
+        private CampaignExpiry(long epochSecond) {
+            this.epochSecond = epochSecond;
+        }
+    }
+}
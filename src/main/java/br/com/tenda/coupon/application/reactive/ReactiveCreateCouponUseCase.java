@@ -0,0 +1,51 @@
+package br.com.tenda.coupon.application.reactive;
+
+import br.com.tenda.coupon.application.generator.CodePool;
+import br.com.tenda.coupon.domain.event.CouponCreatedEvent;
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.ReactiveCouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCreateCouponUseCase {
+
+    private final ReactiveCouponRepository couponRepository;
+    private final TransactionalEventPublisher eventPublisher;
+    private final TransactionalOperator transactionalOperator;
+    private final CodePool codePool;
+
+    public Mono<Coupon> execute(String code, String description, BigDecimal discountValue, LocalDateTime expirationDate,
+                                boolean published, boolean redeemed, boolean onePerCustomer) {
+        return resolveCode(code)
+                .map(resolved -> Coupon.create(resolved, description, discountValue, expirationDate, published, redeemed, onePerCustomer))
+                .flatMap(couponRepository::save)
+                .flatMap(saved -> eventPublisher.publishEvent(new CouponCreatedEvent(saved)).thenReturn(saved))
+                .as(transactionalOperator::transactional);
+    }
+
+    private Mono<String> resolveCode(String code) {
+        if (code == null || code.isBlank()) {
+            // usually a queue poll plus the occupancy check, but a drained pool parks the thread until the
+            // background refill catches up, up to coupon.code-pool.max-wait, and then fails with 503
+            return Mono.fromCallable(codePool::take).subscribeOn(Schedulers.boundedElastic());
+        }
+        return Mono.fromCallable(() -> CouponCode.from(code).getValue())
+                .flatMap(canonical -> couponRepository.existsByCode(canonical)
+                        .flatMap(exists -> exists
+                                ? Mono.error(new InvalidCouponException("A coupon with this code already exists"))
+                                : Mono.just(canonical)));
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.tenda.coupon.application.reactive;
+
+import br.com.tenda.coupon.domain.event.CouponDeletedEvent;
+import br.com.tenda.coupon.domain.exception.CouponNotFoundException;
+import br.com.tenda.coupon.domain.repository.ReactiveCouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveDeleteCouponUseCase {
+
+    private final ReactiveCouponRepository couponRepository;
+    private final TransactionalEventPublisher eventPublisher;
+    private final TransactionalOperator transactionalOperator;
+
+    public Mono<Void> execute(UUID couponId) {
+        return couponRepository.findById(couponId)
+                .switchIfEmpty(Mono.error(() -> new CouponNotFoundException("Coupon not found with id: " + couponId)))
+                .flatMap(coupon -> {
+                    coupon.delete();
+                    return couponRepository.save(coupon);
+                })
+                .flatMap(coupon -> eventPublisher.publishEvent(new CouponDeletedEvent(coupon.getId(), coupon.getCodeValue())))
+                .as(transactionalOperator::transactional);
+    }
+}
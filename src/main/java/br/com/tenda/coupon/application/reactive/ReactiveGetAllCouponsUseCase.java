@@ -0,0 +1,22 @@
+package br.com.tenda.coupon.application.reactive;
+
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.ReactiveCouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGetAllCouponsUseCase {
+
+    private final ReactiveCouponRepository couponRepository;
+
+    public Mono<Page<Coupon>> execute(Pageable pageable) {
+        return couponRepository.findAll(pageable);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.tenda.coupon.application.reactive;
+
+import br.com.tenda.coupon.domain.exception.CouponNotFoundException;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.ReactiveCouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveGetCouponByIdUseCase {
+
+    private final ReactiveCouponRepository couponRepository;
+
+    public Mono<Coupon> execute(UUID couponId, boolean includeArchived) {
+        return couponRepository.findById(couponId)
+                .switchIfEmpty(includeArchived ? Mono.defer(() -> couponRepository.findArchivedById(couponId)) : Mono.empty())
+                .switchIfEmpty(Mono.error(() -> new CouponNotFoundException("Coupon not found with id: " + couponId)));
+    }
+}
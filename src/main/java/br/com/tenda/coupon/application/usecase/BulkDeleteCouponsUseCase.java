@@ -0,0 +1,89 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.event.CouponsDeletedEvent;
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.repository.CouponFilter;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponCodeNormalizer;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * Soft deletes by id list or filter in chunks of CHUNK_SIZE rows, one short transaction per
+ * chunk, so row locks are held for one set-based UPDATE at a time instead of the whole request.
+ * A failure part-way leaves earlier chunks deleted; running the same request again finishes the job.
+ */
+@Service
+public class BulkDeleteCouponsUseCase {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkDeleteCouponsUseCase(CouponRepository couponRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager) {
+        this.couponRepository = couponRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @return how many coupons this call deleted; ids that are unknown or already deleted do not count
+     */
+    public long execute(List<UUID> ids) {
+        long deleted = 0;
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            deleted += deleteChunk(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())));
+        }
+        return deleted;
+    }
+
+    public long execute(String codePrefix, LocalDateTime expiringBefore, CouponStatus status) {
+        if (codePrefix == null && expiringBefore == null && status == null) {
+            throw new InvalidCouponException("Bulk delete requires ids or at least one filter criterion");
+        }
+        String normalizedPrefix = null;
+        if (codePrefix != null) {
+            normalizedPrefix = CouponCodeNormalizer.normalizePrefix(codePrefix);
+            if (normalizedPrefix == null) {
+                throw new InvalidCouponException("Code prefix must have between 1 and 6 alphanumeric characters");
+            }
+        }
+        CouponFilter filter = CouponFilter.builder()
+                .codePrefix(normalizedPrefix)
+                .expiringBefore(expiringBefore)
+                .status(status)
+                .build();
+
+        long deleted = 0;
+        while (true) {
+            List<UUID> ids = couponRepository.findDeletableIds(filter, CHUNK_SIZE);
+            if (ids.isEmpty()) {
+                return deleted;
+            }
+            deleted += deleteChunk(ids);
+        }
+    }
+
+    private int deleteChunk(Collection<UUID> ids) {
+        Integer count = transactionTemplate.execute(status -> {
+            List<String> codes = couponRepository.softDeleteAll(ids);
+            if (!codes.isEmpty()) {
+                eventPublisher.publishEvent(new CouponsDeletedEvent(codes));
+            }
+            return codes.size();
+        });
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.domain.repository.CampaignRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class CreateCampaignUseCase {
+
+    private final CampaignRepository campaignRepository;
+
+    @Transactional
+    public Campaign execute(String description, BigDecimal discountValue, LocalDateTime expirationDate) {
+        return campaignRepository.save(Campaign.create(description, discountValue, expirationDate));
+    }
+}
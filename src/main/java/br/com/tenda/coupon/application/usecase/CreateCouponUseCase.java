@@ -1,30 +1,71 @@
 package br.com.tenda.coupon.application.usecase;
 
+import br.com.tenda.coupon.application.generator.CodePool;
+import br.com.tenda.coupon.domain.event.CouponCreatedEvent;
+import br.com.tenda.coupon.domain.exception.CampaignNotFoundException;
 import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Campaign;
 import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CampaignRepository;
 import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class CreateCouponUseCase {
 
     private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CodePool codePool;
+    private final CampaignRepository campaignRepository;
 
     @Transactional
     public Coupon execute(String code, String description, BigDecimal discountValue, LocalDateTime expirationDate, boolean published, boolean redeemed) {
+        return execute(code, description, discountValue, expirationDate, published, redeemed, false);
+    }
+
+    @Transactional
+    public Coupon execute(String code, String description, BigDecimal discountValue, LocalDateTime expirationDate, boolean published, boolean redeemed, boolean onePerCustomer) {
+        Coupon coupon = Coupon.create(resolveCode(code), description, discountValue, expirationDate, published, redeemed, onePerCustomer);
+        return saveAndPublish(coupon);
+    }
+
+    /**
+     * Creates a coupon of a campaign; a null description, discount value or expiration date is inherited.
+     */
+    @Transactional
+    public Coupon execute(UUID campaignId, String code, String description, BigDecimal discountValue, LocalDateTime expirationDate, boolean published, boolean onePerCustomer) {
+        Campaign campaign = campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new CampaignNotFoundException("Campaign not found with id: " + campaignId));
 
-        if (couponRepository.existsByCode(code.replaceAll("[^a-zA-Z0-9]", "").toUpperCase())) {
+        Coupon coupon = Coupon.create(resolveCode(code), campaign, description, discountValue, expirationDate, published, onePerCustomer);
+        return saveAndPublish(coupon);
+    }
+
+    private String resolveCode(String code) {
+        if (code == null || code.isBlank()) {
+            // pooled codes were reserved from the generator and are checked against existing ones again on take
+            return codePool.take();
+        }
+        // canonical from here on, so Coupon.create re-validates it without allocating
+        code = CouponCode.from(code).getValue();
+        if (couponRepository.existsByCode(code)) {
             throw new InvalidCouponException("A coupon with this code already exists");
         }
+        return code;
+    }
 
-        Coupon coupon = Coupon.create(code, description, discountValue, expirationDate, published, redeemed);
-        return couponRepository.save(coupon);
+    private Coupon saveAndPublish(Coupon coupon) {
+        Coupon saved = couponRepository.save(coupon);
+        eventPublisher.publishEvent(new CouponCreatedEvent(saved));
+        return saved;
     }
 }
-
@@ -1,9 +1,11 @@
 package br.com.tenda.coupon.application.usecase;
 
+import br.com.tenda.coupon.domain.event.CouponDeletedEvent;
 import br.com.tenda.coupon.domain.exception.CouponNotFoundException;
 import br.com.tenda.coupon.domain.model.Coupon;
 import br.com.tenda.coupon.domain.repository.CouponRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +16,7 @@ import java.util.UUID;
 public class DeleteCouponUseCase {
 
     private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void execute(UUID couponId) {
@@ -23,6 +26,6 @@ public class DeleteCouponUseCase {
         coupon.delete();
 
         couponRepository.save(coupon);
+        eventPublisher.publishEvent(new CouponDeletedEvent(coupon.getId(), coupon.getCodeValue()));
     }
 }
-
@@ -0,0 +1,62 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.application.cache.CouponLookupCache;
+import br.com.tenda.coupon.domain.model.AppliedDiscount;
+import br.com.tenda.coupon.domain.model.CartEvaluation;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import br.com.tenda.coupon.domain.vo.CouponCodeNormalizer;
+import br.com.tenda.coupon.domain.vo.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class EvaluateCouponsUseCase {
+
+    private final CouponLookupCache couponLookupCache;
+    private final Clock clock;
+
+    public CartEvaluation execute(BigDecimal cartTotal, List<String> codes) {
+        long cartTotalMinorUnits = Money.toMinorUnits(cartTotal);
+        long remaining = cartTotalMinorUnits;
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<AppliedDiscount> discounts = new ArrayList<>(codes.size());
+
+        for (String rawCode : codes) {
+            String normalizedCode = CouponCodeNormalizer.normalize(rawCode);
+            // codes that can never match are echoed back as sent
+            String code = normalizedCode == null ? rawCode : normalizedCode;
+            if (alreadyEvaluated(discounts, code)) {
+                continue;
+            }
+
+            Coupon coupon = normalizedCode == null ? null : couponLookupCache.lookup(code);
+            CouponAvailability availability = coupon == null ? CouponAvailability.UNKNOWN : coupon.availabilityAt(now);
+
+            long applied = 0L;
+            if (availability == CouponAvailability.VALID) {
+                applied = Math.min(coupon.getDiscount().getMinorUnits(), remaining);
+                remaining -= applied;
+            }
+            discounts.add(new AppliedDiscount(code, availability, applied));
+        }
+
+        return new CartEvaluation(cartTotalMinorUnits, discounts, cartTotalMinorUnits - remaining, remaining);
+    }
+
+    private boolean alreadyEvaluated(List<AppliedDiscount> discounts, String code) {
+        for (int i = 0; i < discounts.size(); i++) {
+            if (discounts.get(i).getCode().equals(code)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
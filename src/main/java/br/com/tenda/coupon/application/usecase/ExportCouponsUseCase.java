@@ -0,0 +1,23 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponFilter;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class ExportCouponsUseCase {
+
+    private final CouponRepository couponRepository;
+
+    // read-only transaction: drivers such as PostgreSQL only honour the fetch size with auto-commit off
+    @Transactional(readOnly = true)
+    public void execute(CouponFilter filter, Consumer<Coupon> sink) {
+        couponRepository.forEach(filter, sink);
+    }
+}
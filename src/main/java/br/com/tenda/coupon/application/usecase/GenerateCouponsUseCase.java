@@ -0,0 +1,83 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.application.generator.CodePermutation;
+import br.com.tenda.coupon.domain.event.CouponsGeneratedEvent;
+import br.com.tenda.coupon.domain.exception.CampaignNotFoundException;
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CampaignRepository;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+public class GenerateCouponsUseCase {
+
+    public static final int MAX_COUNT = 10_000;
+    static final int CHUNK_SIZE = 500;
+
+    private final CouponRepository couponRepository;
+    private final CodePermutation codePermutation;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CampaignRepository campaignRepository;
+
+    @Transactional
+    public List<Coupon> execute(int count, String description, BigDecimal discountValue, LocalDateTime expirationDate,
+                                boolean published, boolean onePerCustomer) {
+        return generate(count, code -> Coupon.create(code, description, discountValue, expirationDate, published, false, onePerCustomer));
+    }
+
+    /**
+     * Generates coupons that inherit every attribute from the campaign, so their rows only hold the code and flags.
+     */
+    @Transactional
+    public List<Coupon> execute(UUID campaignId, int count, boolean published, boolean onePerCustomer) {
+        Campaign campaign = campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new CampaignNotFoundException("Campaign not found with id: " + campaignId));
+        return generate(count, code -> Coupon.create(code, campaign, null, null, null, published, onePerCustomer));
+    }
+
+    private List<Coupon> generate(int count, Function<String, Coupon> factory) {
+        if (count < 1 || count > MAX_COUNT) {
+            throw new InvalidCouponException("Count must be between 1 and " + MAX_COUNT);
+        }
+
+        List<Coupon> generated = new ArrayList<>(count);
+        while (generated.size() < count) {
+            int chunkSize = Math.min(CHUNK_SIZE, count - generated.size());
+            long firstSequence = couponRepository.reserveCodeSequence(chunkSize);
+
+            List<String> codes = new ArrayList<>(chunkSize);
+            for (long sequence = firstSequence; sequence < firstSequence + chunkSize; sequence++) {
+                codes.add(codePermutation.codeAt(sequence).getValue());
+            }
+
+            // generated codes never collide with each other, only with codes typed in by hand: one lookup per chunk skips those
+            Set<String> taken = couponRepository.findExistingCodes(codes);
+            List<Coupon> chunk = new ArrayList<>(chunkSize);
+            for (String code : codes) {
+                if (!taken.contains(code)) {
+                    chunk.add(factory.apply(code));
+                }
+            }
+
+            couponRepository.saveAll(chunk);
+            generated.addAll(chunk);
+        }
+
+        eventPublisher.publishEvent(new CouponsGeneratedEvent(generated));
+        return generated;
+    }
+}
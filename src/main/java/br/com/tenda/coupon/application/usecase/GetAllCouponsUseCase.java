@@ -1,6 +1,7 @@
 package br.com.tenda.coupon.application.usecase;
 
 import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponProjection;
 import br.com.tenda.coupon.domain.repository.CouponRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,5 +19,10 @@ public class GetAllCouponsUseCase {
     public Page<Coupon> execute(Pageable pageable) {
         return couponRepository.findAll(pageable);
     }
+
+    @Transactional(readOnly = true)
+    public Page<Coupon> execute(Pageable pageable, CouponProjection projection) {
+        return couponRepository.findAll(pageable, projection);
+    }
 }
 
@@ -0,0 +1,23 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.exception.CampaignNotFoundException;
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.domain.repository.CampaignRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class GetCampaignByIdUseCase {
+
+    private final CampaignRepository campaignRepository;
+
+    @Transactional(readOnly = true)
+    public Campaign execute(UUID campaignId) {
+        return campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new CampaignNotFoundException("Campaign not found with id: " + campaignId));
+    }
+}
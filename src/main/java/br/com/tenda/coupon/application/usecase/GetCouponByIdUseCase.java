@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -17,7 +18,13 @@ public class GetCouponByIdUseCase {
 
     @Transactional
     public Coupon execute(UUID couponId) {
+        return execute(couponId, false);
+    }
+
+    @Transactional
+    public Coupon execute(UUID couponId, boolean includeArchived) {
         return couponRepository.findById(couponId)
+                .or(() -> includeArchived ? couponRepository.findArchivedById(couponId) : Optional.empty())
                 .orElseThrow(() -> new CouponNotFoundException("Coupon not found with id: " + couponId));
     }
 }
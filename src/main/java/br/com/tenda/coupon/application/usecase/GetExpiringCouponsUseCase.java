@@ -0,0 +1,54 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.repository.ExpirationCursor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GetExpiringCouponsUseCase {
+
+    static final int MAX_PAGE_SIZE = 1000;
+    static final Duration MAX_WINDOW = Duration.ofDays(366);
+
+    private final CouponRepository couponRepository;
+
+    /**
+     * Coupons that are neither deleted nor redeemed and expire after {@code now} and within {@code within} of it,
+     * soonest first, resuming after {@code after} when given.
+     */
+    @Transactional(readOnly = true)
+    public Slice execute(LocalDateTime now, Duration within, ExpirationCursor after, int size) {
+        if (within == null || within.isNegative() || within.isZero() || within.compareTo(MAX_WINDOW) > 0) {
+            throw new InvalidCouponException("Window must be positive and at most " + MAX_WINDOW.toDays() + " days");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidCouponException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        // one row past the page tells whether another page follows
+        List<Coupon> coupons = couponRepository.findExpiring(now, now.plus(within), after, size + 1);
+        if (coupons.size() <= size) {
+            return new Slice(coupons, null);
+        }
+        List<Coupon> page = coupons.subList(0, size);
+        return new Slice(page, ExpirationCursor.after(page.get(size - 1)));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Slice {
+
+        private final List<Coupon> coupons;
+        // null on the last page
+        private final ExpirationCursor next;
+    }
+}
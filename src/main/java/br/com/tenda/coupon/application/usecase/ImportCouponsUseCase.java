@@ -0,0 +1,185 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.application.importer.CouponCsvReader;
+import br.com.tenda.coupon.application.importer.CouponCsvRow;
+import br.com.tenda.coupon.application.importer.CouponImportError;
+import br.com.tenda.coupon.application.importer.CouponImportSummary;
+import br.com.tenda.coupon.domain.event.CouponsImportedEvent;
+import br.com.tenda.coupon.domain.exception.ExpirationDateException;
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/*
+ * Rows are validated through Coupon.create and inserted in chunks, each chunk in its own
+ * transaction: a chunk holds at most CHUNK_SIZE coupons and rejected rows are handed to the
+ * caller as they are found, so nothing grows with the file.
+ */
+@Service
+public class ImportCouponsUseCase {
+
+    static final int CHUNK_SIZE = 500;
+
+    private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ImportCouponsUseCase(CouponRepository couponRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager) {
+        this.couponRepository = couponRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public CouponImportSummary execute(CouponCsvReader reader, Consumer<CouponImportError> errors) throws IOException {
+        Chunk chunk = new Chunk(errors);
+        CouponCsvRow row;
+        while ((row = reader.next()) != null) {
+            if (row.isMalformed()) {
+                chunk.reject(row.getLine(), row.getCode(), row.getError());
+                continue;
+            }
+            try {
+                chunk.add(row.getLine(), toCoupon(row));
+            } catch (InvalidCouponException | ExpirationDateException ex) {
+                chunk.reject(row.getLine(), row.getCode(), ex.getMessage());
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                chunk.flush();
+            }
+        }
+        chunk.flush();
+        return new CouponImportSummary(chunk.imported, chunk.rejected);
+    }
+
+    private Coupon toCoupon(CouponCsvRow row) {
+        return Coupon.create(
+                row.getCode(),
+                row.getDescription(),
+                parseDiscount(row.getDiscountValue()),
+                parseExpirationDate(row.getExpirationDate()),
+                parseFlag(row.getPublished(), "published"),
+                false,
+                parseFlag(row.getOnePerCustomer(), "onePerCustomer")
+        );
+    }
+
+    private static BigDecimal parseDiscount(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value.strip());
+        } catch (NumberFormatException ex) {
+            throw new InvalidCouponException("Discount value is not a number: " + value);
+        }
+    }
+
+    private static LocalDateTime parseExpirationDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.strip());
+        } catch (DateTimeParseException ex) {
+            throw new ExpirationDateException("Expiration date must be formatted as yyyy-MM-ddTHH:mm:ss: " + value);
+        }
+    }
+
+    private static boolean parseFlag(String value, String column) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        String flag = value.strip();
+        if (flag.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (flag.equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw new InvalidCouponException("Column " + column + " must be true or false: " + value);
+    }
+
+    private final class Chunk {
+
+        private final Consumer<CouponImportError> errors;
+        private final List<Coupon> coupons = new ArrayList<>(CHUNK_SIZE);
+        private final long[] lines = new long[CHUNK_SIZE];
+        private final Set<String> codes = new HashSet<>();
+        private long imported;
+        private long rejected;
+
+        private Chunk(Consumer<CouponImportError> errors) {
+            this.errors = errors;
+        }
+
+        private int size() {
+            return coupons.size();
+        }
+
+        private void add(long line, Coupon coupon) {
+            // earlier chunks are committed and caught by findExistingCodes; only this one needs its own check
+            if (!codes.add(coupon.getCodeValue())) {
+                reject(line, coupon.getCodeValue(), "Code appears more than once in the file");
+                return;
+            }
+            lines[coupons.size()] = line;
+            coupons.add(coupon);
+        }
+
+        private void reject(long line, String code, String message) {
+            rejected++;
+            errors.accept(new CouponImportError(line, code, message));
+        }
+
+        private void flush() {
+            if (coupons.isEmpty()) {
+                return;
+            }
+            try {
+                List<Integer> duplicates = transactionTemplate.execute(status -> {
+                    Set<String> taken = couponRepository.findExistingCodes(codes);
+                    List<Coupon> accepted = new ArrayList<>(coupons.size());
+                    List<Integer> skipped = new ArrayList<>();
+                    for (int i = 0; i < coupons.size(); i++) {
+                        if (taken.contains(coupons.get(i).getCodeValue())) {
+                            skipped.add(i);
+                        } else {
+                            accepted.add(coupons.get(i));
+                        }
+                    }
+                    couponRepository.saveAll(accepted);
+                    eventPublisher.publishEvent(new CouponsImportedEvent(accepted));
+                    return skipped;
+                });
+                for (int index : duplicates) {
+                    reject(lines[index], coupons.get(index).getCodeValue(), "A coupon with this code already exists");
+                }
+                imported += coupons.size() - duplicates.size();
+            } catch (DataIntegrityViolationException ex) {
+                // a code was created concurrently between the lookup and the insert: the whole chunk rolled back
+                for (int i = 0; i < coupons.size(); i++) {
+                    reject(lines[i], coupons.get(i).getCodeValue(), "Chunk rolled back: a code in it was created concurrently");
+                }
+            }
+            coupons.clear();
+            codes.clear();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.event.CouponRedeemedEvent;
+import br.com.tenda.coupon.domain.exception.CouponNotFoundException;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponCodeNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class RedeemCouponUseCase {
+
+    private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    @Transactional
+    public Coupon execute(String code, Long customerId) {
+        String normalizedCode = CouponCodeNormalizer.normalize(code);
+        if (normalizedCode == null) {
+            throw new CouponNotFoundException("Coupon not found with code: " + code);
+        }
+        Coupon coupon = couponRepository.findByCodeForUpdate(normalizedCode)
+                .orElseThrow(() -> new CouponNotFoundException("Coupon not found with code: " + normalizedCode));
+
+        coupon.redeem(LocalDateTime.now(clock), customerId);
+
+        Coupon redeemed = couponRepository.save(coupon);
+        eventPublisher.publishEvent(new CouponRedeemedEvent(
+                redeemed.getId(), redeemed.getCodeValue(), clock.instant(), customerId, redeemed.isRedeemed()));
+        return redeemed;
+    }
+}
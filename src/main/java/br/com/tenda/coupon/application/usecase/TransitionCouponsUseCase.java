@@ -0,0 +1,71 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.event.CouponsTransitionedEvent;
+import br.com.tenda.coupon.domain.exception.CouponNotFoundException;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponTransition;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * Publish, unpublish, activate and deactivate. A single coupon goes through the domain so a deleted
+ * one is reported, under a row lock; the bulk variant is one conditional UPDATE per chunk of CHUNK_SIZE ids, each in
+ * its own short transaction, and silently skips deleted coupons and those already in the target state.
+ */
+@Service
+public class TransitionCouponsUseCase {
+
+    static final int CHUNK_SIZE = 1000;
+
+    private final CouponRepository couponRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public TransitionCouponsUseCase(CouponRepository couponRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PlatformTransactionManager transactionManager) {
+        this.couponRepository = couponRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional
+    public Coupon execute(UUID couponId, CouponTransition transition) {
+        // locked so the full save cannot overwrite a concurrent redemption
+        Coupon coupon = couponRepository.findByIdForUpdate(couponId)
+                .orElseThrow(() -> new CouponNotFoundException("Coupon not found with id: " + couponId));
+
+        if (!coupon.apply(transition)) {
+            return coupon;
+        }
+        Coupon saved = couponRepository.save(coupon);
+        eventPublisher.publishEvent(new CouponsTransitionedEvent(List.of(saved.getCodeValue()), transition));
+        return saved;
+    }
+
+    /**
+     * @return how many coupons changed
+     */
+    public long execute(List<UUID> ids, CouponTransition transition) {
+        long changed = 0;
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            Integer count = transactionTemplate.execute(status -> {
+                List<String> codes = couponRepository.applyAll(chunk, transition);
+                if (!codes.isEmpty()) {
+                    eventPublisher.publishEvent(new CouponsTransitionedEvent(codes, transition));
+                }
+                return codes.size();
+            });
+            changed += count == null ? 0 : count;
+        }
+        return changed;
+    }
+}
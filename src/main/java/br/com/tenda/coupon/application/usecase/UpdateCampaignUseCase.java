@@ -0,0 +1,37 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.event.CampaignUpdatedEvent;
+import br.com.tenda.coupon.domain.exception.CampaignNotFoundException;
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.domain.repository.CampaignRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/*
+ * A campaign-wide change is one campaigns row: coupons that inherit the changed attributes
+ * pick them up without being touched.
+ */
+@Service
+@RequiredArgsConstructor
+public class UpdateCampaignUseCase {
+
+    private final CampaignRepository campaignRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Campaign execute(UUID campaignId, String description, BigDecimal discountValue, LocalDateTime expirationDate) {
+        Campaign current = campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new CampaignNotFoundException("Campaign not found with id: " + campaignId));
+
+        Campaign updated = campaignRepository.save(current.update(description, discountValue, expirationDate));
+        boolean expirationChanged = !updated.getExpirationDate().getValue().equals(current.getExpirationDate().getValue());
+        eventPublisher.publishEvent(new CampaignUpdatedEvent(updated, expirationChanged));
+        return updated;
+    }
+}
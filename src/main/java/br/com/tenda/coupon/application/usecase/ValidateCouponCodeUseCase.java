@@ -0,0 +1,25 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.application.index.CouponCodeIndex;
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import br.com.tenda.coupon.domain.vo.CouponCodeNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+
+@Service
+@RequiredArgsConstructor
+public class ValidateCouponCodeUseCase {
+
+    private final CouponCodeIndex couponCodeIndex;
+    private final Clock clock;
+
+    public CouponAvailability execute(String code) {
+        String normalizedCode = CouponCodeNormalizer.normalize(code);
+        if (normalizedCode == null) {
+            return CouponAvailability.UNKNOWN;
+        }
+        return couponCodeIndex.availabilityOf(normalizedCode, clock.instant().getEpochSecond());
+    }
+}
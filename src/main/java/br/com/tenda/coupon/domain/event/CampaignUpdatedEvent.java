@@ -0,0 +1,13 @@
+package br.com.tenda.coupon.domain.event;
+
+import br.com.tenda.coupon.domain.model.Campaign;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CampaignUpdatedEvent {
+
+    private final Campaign campaign;
+    private final boolean expirationChanged;
+}
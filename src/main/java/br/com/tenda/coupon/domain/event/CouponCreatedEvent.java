@@ -0,0 +1,12 @@
+package br.com.tenda.coupon.domain.event;
+
+import br.com.tenda.coupon.domain.model.Coupon;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class CouponCreatedEvent {
+
+    private final Coupon coupon;
+}
@@ -0,0 +1,14 @@
+package br.com.tenda.coupon.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+@Getter
+@RequiredArgsConstructor
+public class CouponDeletedEvent {
+
+    private final UUID couponId;
+    private final String code;
+}
@@ -0,0 +1,18 @@
+package br.com.tenda.coupon.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@RequiredArgsConstructor
+public class CouponRedeemedEvent {
+
+    private final UUID couponId;
+    private final String code;
+    private final Instant redeemedAt;
+    private final Long customerId;
+    private final boolean exhausted;
+}
@@ -0,0 +1,13 @@
+package br.com.tenda.coupon.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class CouponsDeletedEvent {
+
+    private final List<String> codes;
+}
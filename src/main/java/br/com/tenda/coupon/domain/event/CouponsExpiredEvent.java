@@ -0,0 +1,14 @@
+package br.com.tenda.coupon.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class CouponsExpiredEvent {
+
+    private final List<String> codes;
+    private final long expiredAtEpochSecond;
+}
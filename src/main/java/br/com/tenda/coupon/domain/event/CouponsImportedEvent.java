@@ -0,0 +1,14 @@
+package br.com.tenda.coupon.domain.event;
+
+import br.com.tenda.coupon.domain.model.Coupon;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class CouponsImportedEvent {
+
+    private final List<Coupon> coupons;
+}
@@ -0,0 +1,15 @@
+package br.com.tenda.coupon.domain.event;
+
+import br.com.tenda.coupon.domain.vo.CouponTransition;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class CouponsTransitionedEvent {
+
+    private final List<String> codes;
+    private final CouponTransition transition;
+}
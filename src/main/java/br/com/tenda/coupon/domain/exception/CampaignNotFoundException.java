@@ -0,0 +1,8 @@
+package br.com.tenda.coupon.domain.exception;
+
+public class CampaignNotFoundException extends RuntimeException {
+
+    public CampaignNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package br.com.tenda.coupon.domain.exception;
+
+import lombok.Getter;
+
+@Getter
+public class CodePoolExhaustedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public CodePoolExhaustedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
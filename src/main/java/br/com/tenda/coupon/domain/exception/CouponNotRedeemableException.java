@@ -0,0 +1,8 @@
+package br.com.tenda.coupon.domain.exception;
+
+public class CouponNotRedeemableException extends RuntimeException {
+
+    public CouponNotRedeemableException(String message) {
+        super(message);
+    }
+}
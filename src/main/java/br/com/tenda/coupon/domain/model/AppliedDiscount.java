@@ -0,0 +1,18 @@
+package br.com.tenda.coupon.domain.model;
+
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class AppliedDiscount {
+
+    private final String code;
+    private final CouponAvailability availability;
+    private final long discountMinorUnits;
+
+    public boolean isApplied() {
+        return discountMinorUnits > 0;
+    }
+}
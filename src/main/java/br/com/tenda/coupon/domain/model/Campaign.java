@@ -0,0 +1,43 @@
+package br.com.tenda.coupon.domain.model;
+
+import br.com.tenda.coupon.domain.vo.CouponDescription;
+import br.com.tenda.coupon.domain.vo.CouponDiscount;
+import br.com.tenda.coupon.domain.vo.CouponExpirationDate;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/*
+ * Description, discount and expiration shared by the coupons of a campaign. Instances are immutable
+ * and interned by CampaignRepository, so every coupon loaded from one campaign points at the same
+ * object; a change produces a new instance for the same id.
+ */
+@Getter
+public final class Campaign {
+
+    private final UUID id;
+    private final CouponDescription description;
+    private final CouponDiscount discount;
+    private final CouponExpirationDate expirationDate;
+
+    private Campaign(UUID id, CouponDescription description, CouponDiscount discount, CouponExpirationDate expirationDate) {
+        this.id = id;
+        this.description = description;
+        this.discount = discount;
+        this.expirationDate = expirationDate;
+    }
+
+    public static Campaign create(String description, BigDecimal discountValue, LocalDateTime expirationDate) {
+        return new Campaign(UUID.randomUUID(), CouponDescription.from(description), CouponDiscount.from(discountValue), CouponExpirationDate.from(expirationDate));
+    }
+
+    public static Campaign reconstruct(UUID id, String description, BigDecimal discountValue, LocalDateTime expirationDate) {
+        return new Campaign(id, CouponDescription.reconstruct(description), CouponDiscount.reconstruct(discountValue), CouponExpirationDate.reconstruct(expirationDate));
+    }
+
+    public Campaign update(String description, BigDecimal discountValue, LocalDateTime expirationDate) {
+        return new Campaign(this.id, CouponDescription.from(description), CouponDiscount.from(discountValue), CouponExpirationDate.from(expirationDate));
+    }
+}
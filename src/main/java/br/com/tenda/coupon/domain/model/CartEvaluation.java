@@ -0,0 +1,16 @@
+package br.com.tenda.coupon.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class CartEvaluation {
+
+    private final long cartTotalMinorUnits;
+    private final List<AppliedDiscount> discounts;
+    private final long totalDiscountMinorUnits;
+    private final long finalAmountMinorUnits;
+}
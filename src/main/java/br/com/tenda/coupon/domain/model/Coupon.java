@@ -1,42 +1,99 @@
 package br.com.tenda.coupon.domain.model;
 
 import br.com.tenda.coupon.domain.exception.CouponAlreadyDeletedException;
+import br.com.tenda.coupon.domain.exception.CouponNotRedeemableException;
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
 import br.com.tenda.coupon.domain.vo.*;
 import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.UUID;
 
+/*
+ * A coupon of a campaign inherits description, discount and expiration from the shared Campaign
+ * and only holds the ones it overrides; the own* fields are null for inherited values.
+ */
 @Getter
 public class Coupon {
 
     private final UUID id;
     private final CouponCode code;
-    private final CouponDescription description;
-    private final CouponDiscount discount;
-    private final CouponExpirationDate expirationDate;
-    private final boolean published;
-    private final boolean redeemed;
+    private final Campaign campaign;
+    private final CouponDescription ownDescription;
+    private final CouponDiscount ownDiscount;
+    private final CouponExpirationDate ownExpirationDate;
+    private boolean published;
+    private boolean redeemed;
     private String status;
+    private final boolean onePerCustomer;
+    private final CustomerBitmap redeemedCustomers;
 
-    private Coupon(UUID id, CouponCode code, CouponDescription description, CouponDiscount discount, CouponExpirationDate expirationDate, boolean published, boolean redeemed, CouponStatus status) {
+    private Coupon(UUID id, CouponCode code, Campaign campaign, CouponDescription description, CouponDiscount discount, CouponExpirationDate expirationDate, boolean published, boolean redeemed, CouponStatus status, boolean onePerCustomer, CustomerBitmap redeemedCustomers) {
         this.id = id;
         this.code = code;
-        this.description = description;
-        this.discount = discount;
-        this.expirationDate = expirationDate;
+        this.campaign = campaign;
+        this.ownDescription = description;
+        this.ownDiscount = discount;
+        this.ownExpirationDate = expirationDate;
         this.published = published;
         this.redeemed = redeemed;
         this.status = status.name();
+        this.onePerCustomer = onePerCustomer;
+        this.redeemedCustomers = redeemedCustomers;
     }
 
     public static Coupon create(String code, String description, BigDecimal discountValue, LocalDateTime expirationDate, boolean published, boolean redeemed) {
-        return new Coupon(UUID.randomUUID(), CouponCode.from(code), CouponDescription.from(description), CouponDiscount.from(discountValue), CouponExpirationDate.from(expirationDate), published, redeemed, CouponStatus.ACTIVE);
+        return create(code, description, discountValue, expirationDate, published, redeemed, false);
+    }
+
+    public static Coupon create(String code, String description, BigDecimal discountValue, LocalDateTime expirationDate, boolean published, boolean redeemed, boolean onePerCustomer) {
+        return new Coupon(UUID.randomUUID(), CouponCode.from(code), null, CouponDescription.from(description), CouponDiscount.from(discountValue), CouponExpirationDate.from(expirationDate), published, redeemed, CouponStatus.ACTIVE, onePerCustomer, CustomerBitmap.empty());
+    }
+
+    /**
+     * Creates a coupon of {@code campaign}; a null description, discount value or expiration date is
+     * inherited from the campaign.
+     */
+    public static Coupon create(String code, Campaign campaign, String description, BigDecimal discountValue, LocalDateTime expirationDate, boolean published, boolean onePerCustomer) {
+        return new Coupon(UUID.randomUUID(), CouponCode.from(code), campaign,
+                description == null ? null : CouponDescription.from(description),
+                discountValue == null ? null : CouponDiscount.from(discountValue),
+                expirationDate == null ? null : CouponExpirationDate.from(expirationDate),
+                published, false, CouponStatus.ACTIVE, onePerCustomer, CustomerBitmap.empty());
     }
 
     public static Coupon reconstruct(UUID id, String code, String description, BigDecimal discountValue, LocalDateTime expirationDate, boolean published, boolean redeemed, CouponStatus status) {
-        return new Coupon(id, CouponCode.reconstruct(code), CouponDescription.reconstruct(description), CouponDiscount.reconstruct(discountValue), CouponExpirationDate.reconstruct(expirationDate), published, redeemed, status);
+        return reconstruct(id, code, description, discountValue, expirationDate, published, redeemed, status, false, CustomerBitmap.empty());
+    }
+
+    public static Coupon reconstruct(UUID id, String code, String description, BigDecimal discountValue, LocalDateTime expirationDate, boolean published, boolean redeemed, CouponStatus status, boolean onePerCustomer, CustomerBitmap redeemedCustomers) {
+        return reconstruct(id, code, null, description, discountValue, expirationDate, published, redeemed, status, onePerCustomer, redeemedCustomers);
+    }
+
+    public static Coupon reconstruct(UUID id, String code, Campaign campaign, String description, BigDecimal discountValue, LocalDateTime expirationDate, boolean published, boolean redeemed, CouponStatus status, boolean onePerCustomer, CustomerBitmap redeemedCustomers) {
+        return new Coupon(id, CouponCode.reconstruct(code), campaign,
+                description == null ? null : CouponDescription.reconstruct(description),
+                discountValue == null ? null : CouponDiscount.reconstruct(discountValue),
+                expirationDate == null ? null : CouponExpirationDate.reconstruct(expirationDate),
+                published, redeemed, status, onePerCustomer, redeemedCustomers);
+    }
+
+    public CouponDescription getDescription() {
+        return ownDescription != null ? ownDescription : campaign.getDescription();
+    }
+
+    public CouponDiscount getDiscount() {
+        return ownDiscount != null ? ownDiscount : campaign.getDiscount();
+    }
+
+    public CouponExpirationDate getExpirationDate() {
+        return ownExpirationDate != null ? ownExpirationDate : campaign.getExpirationDate();
+    }
+
+    public boolean inheritsExpiration() {
+        return ownExpirationDate == null;
     }
 
     public void delete() {
@@ -46,6 +103,93 @@ public class Coupon {
         this.status = CouponStatus.DELETED.name();
     }
 
+    /**
+     * Applies {@code transition}; repeating one the coupon is already in is a no-op.
+     *
+     * @return {@code true} if the coupon changed
+     */
+    public boolean apply(CouponTransition transition) {
+        if (CouponStatus.DELETED.name().equals(this.status)) {
+            throw new CouponAlreadyDeletedException("Coupon with id " + this.id + " is deleted and cannot " + transition.name().toLowerCase(Locale.ROOT));
+        }
+        return switch (transition) {
+            case PUBLISH -> changePublished(true);
+            case UNPUBLISH -> changePublished(false);
+            case ACTIVATE -> changeStatus(CouponStatus.ACTIVE);
+            case DEACTIVATE -> changeStatus(CouponStatus.INACTIVE);
+        };
+    }
+
+    private boolean changePublished(boolean published) {
+        if (this.published == published) {
+            return false;
+        }
+        this.published = published;
+        return true;
+    }
+
+    private boolean changeStatus(CouponStatus status) {
+        if (status.name().equals(this.status)) {
+            return false;
+        }
+        this.status = status.name();
+        return true;
+    }
+
+    public void redeem(LocalDateTime now, Long customerId) {
+        CouponAvailability availability = availabilityAt(now);
+        if (availability != CouponAvailability.VALID) {
+            throw new CouponNotRedeemableException("Coupon " + getCodeValue() + " cannot be redeemed: " + availability);
+        }
+        if (!this.onePerCustomer) {
+            if (customerId != null) {
+                this.redeemedCustomers.add(customerId);
+            }
+            this.redeemed = true;
+            return;
+        }
+        if (customerId == null) {
+            throw new InvalidCouponException("Coupon " + getCodeValue() + " is limited to one redemption per customer and requires a customer id");
+        }
+        if (!this.redeemedCustomers.add(customerId)) {
+            throw new CouponNotRedeemableException("Coupon " + getCodeValue() + " was already redeemed by customer " + customerId);
+        }
+    }
+
+    public boolean wasRedeemedBy(long customerId) {
+        return redeemedCustomers.contains(customerId);
+    }
+
+    public CouponAvailability availabilityAt(LocalDateTime now) {
+        if (CouponStatus.DELETED.name().equals(this.status)) {
+            return CouponAvailability.DELETED;
+        }
+        if (this.redeemed) {
+            return CouponAvailability.REDEEMED;
+        }
+        // ahead of INACTIVE: the expiration sweeper deactivates expired coupons and they still read as expired
+        if (!getExpirationDate().getValue().isAfter(now)) {
+            return CouponAvailability.EXPIRED;
+        }
+        if (CouponStatus.INACTIVE.name().equals(this.status)) {
+            return CouponAvailability.INACTIVE;
+        }
+        if (!this.published) {
+            return CouponAvailability.UNPUBLISHED;
+        }
+        return CouponAvailability.VALID;
+    }
+
+    public CouponEffectiveStatus effectiveStatusAt(LocalDateTime now) {
+        return switch (availabilityAt(now)) {
+            case DELETED -> CouponEffectiveStatus.DELETED;
+            case REDEEMED -> CouponEffectiveStatus.REDEEMED;
+            case EXPIRED -> CouponEffectiveStatus.EXPIRED;
+            case INACTIVE -> CouponEffectiveStatus.INACTIVE;
+            case VALID, UNPUBLISHED, UNKNOWN -> CouponEffectiveStatus.ACTIVE;
+        };
+    }
+
     public String getCodeValue() {
         return code.getValue();
     }
@@ -0,0 +1,16 @@
+package br.com.tenda.coupon.domain.repository;
+
+import br.com.tenda.coupon.domain.model.Campaign;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CampaignRepository {
+
+    Campaign save(Campaign campaign);
+
+    /**
+     * @return the shared instance for {@code id}; every caller gets the same one until the campaign changes
+     */
+    Optional<Campaign> findById(UUID id);
+}
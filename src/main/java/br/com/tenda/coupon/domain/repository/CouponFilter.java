@@ -0,0 +1,30 @@
+package br.com.tenda.coupon.domain.repository;
+
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/*
+ * Optional criteria for scanning coupons; a null field does not filter.
+ */
+@Getter
+@Builder
+public class CouponFilter {
+
+    private final CouponStatus status;
+    private final Boolean published;
+    private final Boolean redeemed;
+    private final LocalDateTime expiringBefore;
+    // normalized, see CouponCodeNormalizer.normalizePrefix
+    private final String codePrefix;
+    private final UUID campaignId;
+    // also scan coupons moved to the archive; only forEach honours it
+    private final boolean includeArchived;
+
+    public static CouponFilter none() {
+        return CouponFilter.builder().build();
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.tenda.coupon.domain.repository;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/*
+ * The variable-length columns a read of coupons loads; the fixed-width ones always are. A coupon read
+ * without its description or redeemed customers has them empty and must not be asked for them.
+ */
+@Getter
+@Builder
+public class CouponProjection {
+
+    private final boolean description;
+    private final boolean redeemedCustomers;
+
+    public static CouponProjection full() {
+        return CouponProjection.builder().description(true).redeemedCustomers(true).build();
+    }
+
+    public boolean isFull() {
+        return description && redeemedCustomers;
+    }
+}
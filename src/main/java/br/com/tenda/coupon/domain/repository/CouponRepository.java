@@ -1,20 +1,108 @@
 package br.com.tenda.coupon.domain.repository;
 
 import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.vo.CouponTransition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface CouponRepository {
 
     Coupon save(Coupon coupon);
 
+    void saveAll(List<Coupon> coupons);
+
     Optional<Coupon> findById(UUID id);
 
+    Optional<Coupon> findByIdForUpdate(UUID id);
+
+    Optional<Coupon> findArchivedById(UUID id);
+
+    Optional<Coupon> findByCode(String code);
+
+    Optional<Coupon> findByCodeForUpdate(String code);
+
     boolean existsByCode(String code);
 
+    Set<String> findExistingCodes(Collection<String> codes);
+
+    /**
+     * Reserves {@code count} consecutive generator sequence numbers and returns the first one. The
+     * reservation commits on its own, independently of any transaction the caller is in.
+     */
+    long reserveCodeSequence(int count);
+
     Page<Coupon> findAll(Pageable pageable);
+
+    /**
+     * Like {@link #findAll(Pageable)}, reading only the columns of {@code projection}.
+     */
+    Page<Coupon> findAll(Pageable pageable, CouponProjection projection);
+
+    void forEach(Consumer<Coupon> action);
+
+    /**
+     * Streams the coupons matching {@code filter} one at a time, without loading the result set.
+     */
+    void forEach(CouponFilter filter, Consumer<Coupon> action);
+
+    /**
+     * Streams every archived coupon one at a time, without loading the result set.
+     */
+    void forEachArchived(Consumer<Coupon> action);
+
+    /**
+     * Ids of up to {@code limit} coupons matching {@code filter} that are not deleted yet.
+     */
+    List<UUID> findDeletableIds(CouponFilter filter, int limit);
+
+    /**
+     * Soft deletes the given coupons with one set-based update, skipping those already deleted.
+     *
+     * @return the codes of the coupons this call deleted
+     */
+    List<String> softDeleteAll(Collection<UUID> ids);
+
+    /**
+     * Applies {@code transition} with one conditional set-based update to the given coupons that are
+     * not deleted and not already in the target state.
+     *
+     * @return the codes of the coupons this call changed
+     */
+    List<String> applyAll(Collection<UUID> ids, CouponTransition transition);
+
+    /**
+     * Up to {@code limit} ids of ACTIVE coupons whose own or inherited expiration is not after {@code now}.
+     */
+    List<UUID> findExpiredActiveIds(LocalDateTime now, int limit);
+
+    /**
+     * The earliest expiration among ACTIVE coupons already expired at {@code now}, i.e. how far behind
+     * the expiration sweep is.
+     */
+    Optional<LocalDateTime> findOldestExpiredActive(LocalDateTime now);
+
+    /**
+     * Up to {@code limit} coupons neither deleted nor redeemed whose own or inherited expiration is after
+     * {@code from} and not after {@code until}, in (expiration date, id) order and strictly past
+     * {@code after} when given.
+     */
+    List<Coupon> findExpiring(LocalDateTime from, LocalDateTime until, ExpirationCursor after, int limit);
+
+    /**
+     * Moves up to {@code limit} coupons that are DELETED or whose own or inherited expiration is before
+     * {@code expiredBefore} from the coupons table to the archive, in one INSERT ... SELECT and one DELETE.
+     * Archived codes stay taken.
+     *
+     * @return the codes of the coupons moved
+     */
+    List<String> archive(LocalDateTime expiredBefore, LocalDateTime archivedAt, int limit);
 }
 
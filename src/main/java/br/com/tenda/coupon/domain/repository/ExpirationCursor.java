@@ -0,0 +1,50 @@
+package br.com.tenda.coupon.domain.repository;
+
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Coupon;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/*
+ * Position in the (effective expiration date, id) order of coupons. Handed to clients as an opaque
+ * URL-safe token; the next page starts strictly after it, so rows inserted meanwhile never shift it.
+ */
+@Getter
+@EqualsAndHashCode
+public final class ExpirationCursor {
+
+    private final LocalDateTime expirationDate;
+    private final UUID id;
+
+    public ExpirationCursor(LocalDateTime expirationDate, UUID id) {
+        this.expirationDate = expirationDate;
+        this.id = id;
+    }
+
+    public static ExpirationCursor after(Coupon coupon) {
+        return new ExpirationCursor(coupon.getExpirationDate().getValue(), coupon.getId());
+    }
+
+    public static ExpirationCursor decode(String token) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 2) {
+                throw new InvalidCouponException("Invalid cursor");
+            }
+            return new ExpirationCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCouponException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((expirationDate + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
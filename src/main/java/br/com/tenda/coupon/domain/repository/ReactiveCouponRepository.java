@@ -0,0 +1,27 @@
+package br.com.tenda.coupon.domain.repository;
+
+import br.com.tenda.coupon.domain.model.Coupon;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Non-blocking counterpart of {@link CouponRepository} for the request paths of the reactive profile.
+ */
+public interface ReactiveCouponRepository {
+
+    /**
+     * Inserts the coupon, or updates it when a coupon with its id already exists.
+     */
+    Mono<Coupon> save(Coupon coupon);
+
+    Mono<Coupon> findById(UUID id);
+
+    Mono<Coupon> findArchivedById(UUID id);
+
+    Mono<Boolean> existsByCode(String code);
+
+    Mono<Page<Coupon>> findAll(Pageable pageable);
+}
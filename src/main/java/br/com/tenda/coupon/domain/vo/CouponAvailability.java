@@ -0,0 +1,11 @@
+package br.com.tenda.coupon.domain.vo;
+
+public enum CouponAvailability {
+    VALID,
+    UNKNOWN,
+    EXPIRED,
+    DELETED,
+    REDEEMED,
+    INACTIVE,
+    UNPUBLISHED
+}
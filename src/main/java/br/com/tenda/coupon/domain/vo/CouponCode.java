@@ -6,7 +6,12 @@ import lombok.Getter;
 @Getter
 public class CouponCode {
 
-    private static final int REQUIRED_LENGTH = 6;
+    private static final int REQUIRED_LENGTH = CouponCodeNormalizer.CODE_LENGTH;
+    private static final String ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    // number of distinct normalized codes: 36^6
+    public static final long SPACE_SIZE = 2_176_782_336L;
+
     private final String value;
 
     private CouponCode(String value) {
@@ -18,22 +23,105 @@ public class CouponCode {
             throw new InvalidCouponException("Coupon code is required");
         }
 
-        String cleanedCode = rawCode.replaceAll("[^a-zA-Z0-9]", "");
+        String normalizedCode = CouponCodeNormalizer.normalize(rawCode);
 
-        if (cleanedCode.length() != REQUIRED_LENGTH) {
+        if (normalizedCode == null) {
             throw new InvalidCouponException(
                 String.format("Coupon code must have exactly %d alphanumeric characters (after removing special characters)",
                 REQUIRED_LENGTH)
             );
         }
 
-        return new CouponCode(cleanedCode.toUpperCase());
+        return new CouponCode(normalizedCode);
     }
 
     public static CouponCode reconstruct(String code) {
         return new CouponCode(code);
     }
 
+    /**
+     * Maps an ordinal in [0, 36^6) to its base-36 code, e.g. 0 -> "000000" and 36^6 - 1 -> "ZZZZZZ".
+     */
+    public static CouponCode fromOrdinal(long ordinal) {
+        if (ordinal < 0 || ordinal >= SPACE_SIZE) {
+            throw new InvalidCouponException("Coupon code ordinal must be between 0 and " + (SPACE_SIZE - 1));
+        }
+        char[] chars = new char[REQUIRED_LENGTH];
+        long remaining = ordinal;
+        for (int i = REQUIRED_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt((int) (remaining % ALPHABET.length()));
+            remaining /= ALPHABET.length();
+        }
+        return new CouponCode(new String(chars));
+    }
+
+    public long ordinal() {
+        return ordinalOf(value);
+    }
+
+    public int packed() {
+        return pack(value);
+    }
+
+    /*
+     * Packed form: the ordinal shifted by Integer.MIN_VALUE. 36^6 < 2^32, so every code fits in an
+     * int, and signed int order is the same as code order, which keeps ORDER BY code meaningful.
+     */
+    public static int pack(String value) {
+        long ordinal = ordinalOf(value);
+        if (ordinal < 0) {
+            throw new InvalidCouponException("Coupon code must be normalized before packing: " + value);
+        }
+        return (int) (ordinal + Integer.MIN_VALUE);
+    }
+
+    /**
+     * Packed bounds, inclusive, of every code starting with a normalized {@code prefix}; packing
+     * preserves order, so the codes sharing a prefix are one contiguous range.
+     */
+    public static int packFloor(String prefix) {
+        return pack(padded(prefix, ALPHABET.charAt(0)));
+    }
+
+    public static int packCeiling(String prefix) {
+        return pack(padded(prefix, ALPHABET.charAt(ALPHABET.length() - 1)));
+    }
+
+    private static String padded(String prefix, char filler) {
+        return prefix + String.valueOf(filler).repeat(Math.max(0, REQUIRED_LENGTH - prefix.length()));
+    }
+
+    public static CouponCode fromPacked(int packed) {
+        return fromOrdinal(ordinalOfPacked(packed));
+    }
+
+    public static long ordinalOfPacked(int packed) {
+        return (long) packed - Integer.MIN_VALUE;
+    }
+
+    /**
+     * Ordinal of an already normalized code, or -1 when the value is not 6 characters of [0-9A-Z].
+     */
+    public static long ordinalOf(String value) {
+        if (value == null || value.length() != REQUIRED_LENGTH) {
+            return -1;
+        }
+        long ordinal = 0;
+        for (int i = 0; i < REQUIRED_LENGTH; i++) {
+            char c = value.charAt(i);
+            int digit;
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'A' && c <= 'Z') {
+                digit = c - 'A' + 10;
+            } else {
+                return -1;
+            }
+            ordinal = ordinal * ALPHABET.length() + digit;
+        }
+        return ordinal;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
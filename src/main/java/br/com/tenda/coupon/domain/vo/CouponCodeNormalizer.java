@@ -0,0 +1,77 @@
+package br.com.tenda.coupon.domain.vo;
+
+/*
+ * Single-pass equivalent of replaceAll("[^a-zA-Z0-9]", "").toUpperCase() restricted to codes of
+ * exactly six characters. It gives up as soon as a seventh alphanumeric shows up and allocates
+ * nothing when the input is already canonical.
+ */
+public final class CouponCodeNormalizer {
+
+    public static final int CODE_LENGTH = 6;
+
+    private CouponCodeNormalizer() { }
+
+    /**
+     * @return the canonical code, or {@code null} when the input does not hold exactly six ASCII alphanumerics
+     */
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        long packed = 0;
+        int count = 0;
+        boolean canonical = raw.length() == CODE_LENGTH;
+        for (int i = 0, length = raw.length(); i < length; i++) {
+            char c = raw.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                c -= 'a' - 'A';
+                canonical = false;
+            } else if (!(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9')) {
+                canonical = false;
+                continue;
+            }
+            if (count == CODE_LENGTH) {
+                return null;
+            }
+            packed = (packed << 8) | c;
+            count++;
+        }
+        if (count != CODE_LENGTH) {
+            return null;
+        }
+        if (canonical) {
+            return raw;
+        }
+        char[] chars = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            chars[i] = (char) (packed & 0xFF);
+            packed >>>= 8;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Same rules for the start of a code.
+     *
+     * @return the canonical prefix, or {@code null} unless it holds one to six ASCII alphanumerics
+     */
+    public static String normalizePrefix(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        StringBuilder prefix = new StringBuilder(CODE_LENGTH);
+        for (int i = 0, length = raw.length(); i < length; i++) {
+            char c = raw.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                c -= 'a' - 'A';
+            } else if (!(c >= 'A' && c <= 'Z') && !(c >= '0' && c <= '9')) {
+                continue;
+            }
+            if (prefix.length() == CODE_LENGTH) {
+                return null;
+            }
+            prefix.append(c);
+        }
+        return prefix.isEmpty() ? null : prefix.toString();
+    }
+}
@@ -9,9 +9,11 @@ import java.math.BigDecimal;
 public class CouponDiscount {
 
     private final BigDecimal value;
+    private final long minorUnits;
 
     public CouponDiscount(BigDecimal value) {
         this.value = value;
+        this.minorUnits = value == null ? 0L : Money.toMinorUnits(value);
     }
 
     public static CouponDiscount from(BigDecimal value) {
@@ -0,0 +1,13 @@
+package br.com.tenda.coupon.domain.vo;
+
+/*
+ * Status as a client should read it at a given instant: the stored CouponStatus with redemption
+ * and expiration folded in, so nothing has to be written when a coupon expires.
+ */
+public enum CouponEffectiveStatus {
+    ACTIVE,
+    INACTIVE,
+    EXPIRED,
+    REDEEMED,
+    DELETED
+}
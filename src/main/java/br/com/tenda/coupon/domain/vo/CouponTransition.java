@@ -0,0 +1,23 @@
+package br.com.tenda.coupon.domain.vo;
+
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+
+import java.util.Locale;
+
+/*
+ * Reversible state changes of a live coupon. Deletion is not one of them: it is final.
+ */
+public enum CouponTransition {
+    PUBLISH,
+    UNPUBLISH,
+    ACTIVATE,
+    DEACTIVATE;
+
+    public static CouponTransition from(String transition) {
+        try {
+            return valueOf(transition.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCouponException("Unknown coupon transition: " + transition + " (use publish, unpublish, activate or deactivate)");
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package br.com.tenda.coupon.domain.vo;
+
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/*
+ * Roaring-style set of unsigned 32-bit customer ids. Ids are split into a
+ * 16-bit key and a 16-bit low part; each key owns a sorted char[] while it
+ * holds up to 4096 customers and switches to a 65536-bit bitmap beyond that,
+ * so both sparse and dense coupons stay compact and a membership check is a
+ * key lookup plus a binary search or a single bit test.
+ *
+ * Serialized layout: version byte, container count, then per container the
+ * key, cardinality - 1 and either the sorted low parts or the bitmap words.
+ */
+public final class CustomerBitmap {
+
+    public static final long MAX_CUSTOMER_ID = 0xFFFFFFFFL;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int ARRAY_CONTAINER_MAX = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    private char[] keys;
+    private Container[] containers;
+    private int containerCount;
+    private long cardinality;
+
+    private CustomerBitmap(int capacity) {
+        this.keys = new char[capacity];
+        this.containers = new Container[capacity];
+    }
+
+    public static CustomerBitmap empty() {
+        return new CustomerBitmap(4);
+    }
+
+    public static CustomerBitmap fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return empty();
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.get() != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported customer bitmap format");
+            }
+            int count = buffer.getInt();
+            CustomerBitmap bitmap = new CustomerBitmap(Math.max(count, 1));
+            for (int i = 0; i < count; i++) {
+                char key = buffer.getChar();
+                int containerCardinality = buffer.getChar() + 1;
+                Container container;
+                if (containerCardinality <= ARRAY_CONTAINER_MAX) {
+                    char[] values = new char[containerCardinality];
+                    buffer.asCharBuffer().get(values);
+                    buffer.position(buffer.position() + containerCardinality * Character.BYTES);
+                    container = new ArrayContainer(values, containerCardinality);
+                } else {
+                    long[] words = new long[BITMAP_WORDS];
+                    buffer.asLongBuffer().get(words);
+                    buffer.position(buffer.position() + BITMAP_WORDS * Long.BYTES);
+                    container = new BitmapContainer(words, containerCardinality);
+                }
+                bitmap.keys[i] = key;
+                bitmap.containers[i] = container;
+                bitmap.cardinality += containerCardinality;
+            }
+            bitmap.containerCount = count;
+            return bitmap;
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalStateException("Truncated customer bitmap", ex);
+        }
+    }
+
+    public boolean contains(long customerId) {
+        int id = checked(customerId);
+        int index = Arrays.binarySearch(keys, 0, containerCount, (char) (id >>> 16));
+        return index >= 0 && containers[index].contains((char) id);
+    }
+
+    /**
+     * @return {@code true} if the customer was not in the set yet
+     */
+    public boolean add(long customerId) {
+        int id = checked(customerId);
+        char key = (char) (id >>> 16);
+        int index = Arrays.binarySearch(keys, 0, containerCount, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key);
+        }
+        Container container = containers[index];
+        if (container.contains((char) id)) {
+            return false;
+        }
+        containers[index] = container.add((char) id);
+        cardinality++;
+        return true;
+    }
+
+    public long cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public byte[] toBytes() {
+        int size = Byte.BYTES + Integer.BYTES;
+        for (int i = 0; i < containerCount; i++) {
+            size += 2 * Character.BYTES + containers[i].serializedSize();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(FORMAT_VERSION);
+        buffer.putInt(containerCount);
+        for (int i = 0; i < containerCount; i++) {
+            buffer.putChar(keys[i]);
+            buffer.putChar((char) (containers[i].cardinality() - 1));
+            containers[i].writeTo(buffer);
+        }
+        return buffer.array();
+    }
+
+    private void insertContainer(int index, char key) {
+        if (containerCount == keys.length) {
+            int capacity = Math.max(4, keys.length * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        keys[index] = key;
+        containers[index] = new ArrayContainer(new char[4], 0);
+        containerCount++;
+    }
+
+    private static int checked(long customerId) {
+        if (customerId < 0 || customerId > MAX_CUSTOMER_ID) {
+            throw new InvalidCouponException("Customer id must be between 0 and " + MAX_CUSTOMER_ID);
+        }
+        return (int) customerId;
+    }
+
+    private interface Container {
+
+        boolean contains(char value);
+
+        Container add(char value);
+
+        int cardinality();
+
+        int serializedSize();
+
+        void writeTo(ByteBuffer buffer);
+    }
+
+    private static final class ArrayContainer implements Container {
+
+        private char[] values;
+        private int size;
+
+        private ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            if (size == ARRAY_CONTAINER_MAX) {
+                return toBitmap().add(value);
+            }
+            int index = -Arrays.binarySearch(values, 0, size, value) - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_CONTAINER_MAX, values.length * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public int serializedSize() {
+            return size * Character.BYTES;
+        }
+
+        @Override
+        public void writeTo(ByteBuffer buffer) {
+            for (int i = 0; i < size; i++) {
+                buffer.putChar(values[i]);
+            }
+        }
+
+        private BitmapContainer toBitmap() {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < size; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return new BitmapContainer(words, size);
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public Container add(char value) {
+            words[value >>> 6] |= 1L << value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public int serializedSize() {
+            return BITMAP_WORDS * Long.BYTES;
+        }
+
+        @Override
+        public void writeTo(ByteBuffer buffer) {
+            for (long word : words) {
+                buffer.putLong(word);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+
+// mappers for the binary formats from a builder configured like the JSON one; each takes a fresh builder
+public class BinaryObjectMappers {
+
+    private BinaryObjectMappers() { }
+
+    public static ObjectMapper cbor(Jackson2ObjectMapperBuilder builder) {
+        return builder.factory(new CBORFactory()).build();
+    }
+
+    // the protobuf generator writes a BigDecimal as a double; the string keeps its scale, as in JSON
+    public static ObjectMapper protobuf(Jackson2ObjectMapperBuilder builder) {
+        return builder.factory(new ProtobufFactory())
+                .serializerByType(BigDecimal.class, ToStringSerializer.instance)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/*
+ * CBOR for the reactive profile. Spring's Jackson2CborEncoder only encodes through encodeValue,
+ * which the server's message writer does not call. Limited to the responses that also have a
+ * Protobuf message, so Boot's own error bodies stay JSON when the client accepts any type.
+ */
+public class CborJacksonEncoder extends AbstractJackson2Encoder {
+
+    private final CouponProtobufSchemas schemas;
+
+    // the mapper must be built on a CBORFactory
+    public CborJacksonEncoder(ObjectMapper objectMapper, CouponProtobufSchemas schemas) {
+        super(objectMapper, MediaType.APPLICATION_CBOR);
+        this.schemas = schemas;
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        return schemas.schemaFor(elementType) != null && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        if (!(inputStream instanceof Mono)) {
+            return Flux.error(new UnsupportedOperationException("CBOR responses must be a single value"));
+        }
+        return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import br.com.tenda.coupon.presentation.dto.CouponField;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.PropertyFilter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.lang.Nullable;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/*
+ * A ?fields= selection on its way to CouponResponseJsonSerializer, as the one filter of the
+ * FilterProvider a writer is given. CouponResponse has no @JsonFilter: only that serializer applies it.
+ */
+public class CouponFieldsFilter extends SimpleBeanPropertyFilter {
+
+    static final String ID = "couponFields";
+
+    private final Set<CouponField> fields;
+    private final Set<String> properties = new HashSet<>();
+
+    private CouponFieldsFilter(Set<CouponField> fields) {
+        this.fields = fields;
+        for (CouponField field : fields) {
+            properties.add(field.getProperty());
+        }
+    }
+
+    public static FilterProvider provider(Set<CouponField> fields) {
+        return new SimpleFilterProvider().addFilter(ID, new CouponFieldsFilter(fields));
+    }
+
+    // the selection the writer was given, or null when it writes every field
+    @Nullable
+    static CouponFieldsFilter of(SerializerProvider provider, Object value) {
+        FilterProvider filters = provider.getFilterProvider();
+        if (filters == null) {
+            return null;
+        }
+        PropertyFilter filter = filters.findPropertyFilter(ID, value);
+        return filter instanceof CouponFieldsFilter selection ? selection : null;
+    }
+
+    boolean includes(CouponField field) {
+        return fields.contains(field);
+    }
+
+    @Override
+    protected boolean include(BeanPropertyWriter writer) {
+        return properties.contains(writer.getName());
+    }
+
+    @Override
+    protected boolean include(PropertyWriter writer) {
+        return properties.contains(writer.getName());
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import br.com.tenda.coupon.presentation.controller.CouponController;
+import br.com.tenda.coupon.presentation.dto.CouponField;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+/*
+ * Narrows the body of the coupon endpoints that take ?fields= to the selected properties, for every
+ * Jackson converter: JSON, CBOR and Protobuf. The controller has already rejected unknown ones.
+ */
+@ControllerAdvice(assignableTypes = CouponController.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CouponFieldsResponseBodyAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String PARAMETER = "fields";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return super.supports(returnType, converterType) && takesFields(returnType.getMethod());
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType, MethodParameter returnType,
+                                           ServerHttpRequest request, ServerHttpResponse response) {
+        String fields = ((ServletServerHttpRequest) request).getServletRequest().getParameter(PARAMETER);
+        if (fields != null) {
+            bodyContainer.setFilters(CouponFieldsFilter.provider(CouponField.parse(fields)));
+        }
+    }
+
+    private static boolean takesFields(Method method) {
+        if (method == null) {
+            return false;
+        }
+        for (Parameter parameter : method.getParameters()) {
+            RequestParam param = parameter.getAnnotation(RequestParam.class);
+            if (param != null && PARAMETER.equals(param.value())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
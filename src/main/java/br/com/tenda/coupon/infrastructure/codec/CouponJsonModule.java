@@ -0,0 +1,29 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+/*
+ * Puts CouponResponseJsonSerializer in front of the bean serializer Jackson builds for
+ * CouponResponse, which stays in use for every format other than JSON.
+ */
+public class CouponJsonModule extends SimpleModule {
+
+    public CouponJsonModule() {
+        super("CouponJsonModule");
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                return beanDesc.getBeanClass() == CouponResponse.class
+                        ? new CouponResponseJsonSerializer((JsonSerializer<Object>) serializer)
+                        : serializer;
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import br.com.tenda.coupon.presentation.dto.BulkDeleteCouponsResponse;
+import br.com.tenda.coupon.presentation.dto.CartEvaluationResponse;
+import br.com.tenda.coupon.presentation.dto.CouponPageResponse;
+import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import br.com.tenda.coupon.presentation.dto.CouponValidationResponse;
+import br.com.tenda.coupon.presentation.dto.ErrorResponse;
+import br.com.tenda.coupon.presentation.dto.ExpiringCouponsResponse;
+import br.com.tenda.coupon.presentation.dto.GeneratedCouponsResponse;
+import br.com.tenda.coupon.presentation.dto.TransitionCouponsResponse;
+import com.fasterxml.jackson.dataformat.protobuf.schema.NativeProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchemaLoader;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+// the messages of proto/coupon.proto by the response type they are written from
+public class CouponProtobufSchemas {
+
+    public static final String LOCATION = "/proto/coupon.proto";
+
+    private final Map<Class<?>, ProtobufSchema> byType;
+
+    private CouponProtobufSchemas(NativeProtobufSchema schema) {
+        this.byType = Map.of(
+                CouponResponse.class, schema.forType("CouponResponse"),
+                CouponPageResponse.class, schema.forType("CouponPage"),
+                ExpiringCouponsResponse.class, schema.forType("ExpiringCouponsResponse"),
+                GeneratedCouponsResponse.class, schema.forType("GeneratedCouponsResponse"),
+                BulkDeleteCouponsResponse.class, schema.forType("BulkDeleteCouponsResponse"),
+                TransitionCouponsResponse.class, schema.forType("TransitionCouponsResponse"),
+                CouponValidationResponse.class, schema.forType("CouponValidationResponse"),
+                CartEvaluationResponse.class, schema.forType("CartEvaluationResponse"),
+                ErrorResponse.class, schema.forType("ErrorResponse")
+        );
+    }
+
+    public static CouponProtobufSchemas load() {
+        try (InputStream in = CouponProtobufSchemas.class.getResourceAsStream(LOCATION)) {
+            if (in == null) {
+                throw new IllegalStateException("Protobuf schema not found: " + LOCATION);
+            }
+            return new CouponProtobufSchemas(ProtobufSchemaLoader.std.loadNative(in, true));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // the message to write a value of the given type as, or null when it has none
+    @Nullable
+    public ProtobufSchema schemaFor(ResolvableType type) {
+        return byType.get(type.toClass());
+    }
+}
@@ -0,0 +1,229 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import br.com.tenda.coupon.domain.vo.CouponEffectiveStatus;
+import br.com.tenda.coupon.presentation.dto.CouponField;
+import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.UUID;
+
+/*
+ * Writes a CouponResponse as JSON field by field, in the order and form of the bean serializer it
+ * wraps: field names encoded once, ids and dates formatted straight into a char buffer, and the
+ * discount as its plain decimal text. CBOR and Protobuf keep the wrapped serializer, which their
+ * schema-driven generators rely on for ids as bytes and discounts as strings. Either way only the
+ * fields of a CouponFieldsFilter are written when the writer carries one.
+ */
+public class CouponResponseJsonSerializer extends StdSerializer<CouponResponse>
+        implements ContextualSerializer, ResolvableSerializer {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString CAMPAIGN_ID = new SerializedString("campaignId");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString DISCOUNT_VALUE = new SerializedString("discountValue");
+    private static final SerializedString EXPIRATION_DATE = new SerializedString("expirationDate");
+    private static final SerializedString PUBLISHED = new SerializedString("published");
+    private static final SerializedString REDEEMED = new SerializedString("redeemed");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString ONE_PER_CUSTOMER = new SerializedString("onePerCustomer");
+    private static final SerializedString CUSTOMER_REDEMPTIONS = new SerializedString("customerRedemptions");
+
+    private static final SerializedString[] STATUSES = new SerializedString[CouponEffectiveStatus.values().length];
+
+    static {
+        for (CouponEffectiveStatus status : CouponEffectiveStatus.values()) {
+            STATUSES[status.ordinal()] = new SerializedString(status.name());
+        }
+    }
+
+    // the @JsonFormat pattern of CouponResponse.expirationDate, for years the fast path does not cover
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final JsonSerializer<Object> beanSerializer;
+
+    public CouponResponseJsonSerializer(JsonSerializer<Object> beanSerializer) {
+        super(CouponResponse.class);
+        this.beanSerializer = beanSerializer;
+    }
+
+    @Override
+    public void serialize(CouponResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        CouponFieldsFilter selection = CouponFieldsFilter.of(provider, value);
+        if (!(gen instanceof JsonGeneratorImpl)) {
+            if (selection == null) {
+                beanSerializer.serialize(value, gen, provider);
+            } else {
+                serializeSelected(value, gen, provider, selection);
+            }
+            return;
+        }
+        gen.writeStartObject(value);
+        if (writes(selection, CouponField.ID)) {
+            gen.writeFieldName(ID);
+            writeUuid(gen, value.getId());
+        }
+        if (writes(selection, CouponField.CODE)) {
+            gen.writeFieldName(CODE);
+            gen.writeString(value.getCode());
+        }
+        if (writes(selection, CouponField.CAMPAIGN_ID)) {
+            gen.writeFieldName(CAMPAIGN_ID);
+            writeUuid(gen, value.getCampaignId());
+        }
+        if (writes(selection, CouponField.DESCRIPTION)) {
+            gen.writeFieldName(DESCRIPTION);
+            gen.writeString(value.getDescription());
+        }
+        if (writes(selection, CouponField.DISCOUNT_VALUE)) {
+            gen.writeFieldName(DISCOUNT_VALUE);
+            writeDecimal(gen, value.getDiscountValue());
+        }
+        if (writes(selection, CouponField.EXPIRATION_DATE)) {
+            gen.writeFieldName(EXPIRATION_DATE);
+            writeDateTime(gen, value.getExpirationDate());
+        }
+        if (writes(selection, CouponField.PUBLISHED)) {
+            gen.writeFieldName(PUBLISHED);
+            gen.writeBoolean(value.isPublished());
+        }
+        if (writes(selection, CouponField.REDEEMED)) {
+            gen.writeFieldName(REDEEMED);
+            gen.writeBoolean(value.isRedeemed());
+        }
+        if (writes(selection, CouponField.STATUS)) {
+            gen.writeFieldName(STATUS);
+            if (value.getStatus() == null) {
+                gen.writeNull();
+            } else {
+                gen.writeString(STATUSES[value.getStatus().ordinal()]);
+            }
+        }
+        if (writes(selection, CouponField.ONE_PER_CUSTOMER)) {
+            gen.writeFieldName(ONE_PER_CUSTOMER);
+            gen.writeBoolean(value.isOnePerCustomer());
+        }
+        if (writes(selection, CouponField.CUSTOMER_REDEMPTIONS)) {
+            gen.writeFieldName(CUSTOMER_REDEMPTIONS);
+            gen.writeNumber(value.getCustomerRedemptions());
+        }
+        gen.writeEndObject();
+    }
+
+    // the wrapped serializer's properties, through the selection as Jackson would apply a @JsonFilter
+    private void serializeSelected(CouponResponse value, JsonGenerator gen, SerializerProvider provider,
+                                   CouponFieldsFilter selection) throws IOException {
+        gen.writeStartObject(value);
+        Iterator<PropertyWriter> properties = beanSerializer.properties();
+        while (properties.hasNext()) {
+            try {
+                selection.serializeAsField(value, gen, provider, properties.next());
+            } catch (IOException | RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw JsonMappingException.from(gen, "Failed to write a CouponResponse field", ex);
+            }
+        }
+        gen.writeEndObject();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+        JsonSerializer<?> contextual = provider.handleSecondaryContextualization(beanSerializer, property);
+        return contextual == beanSerializer ? this : new CouponResponseJsonSerializer((JsonSerializer<Object>) contextual);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (beanSerializer instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    private static boolean writes(CouponFieldsFilter selection, CouponField field) {
+        return selection == null || selection.includes(field);
+    }
+
+    private static void writeUuid(JsonGenerator gen, UUID value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        char[] buffer = new char[36];
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        hex(buffer, 0, msb >>> 32, 8);
+        buffer[8] = '-';
+        hex(buffer, 9, msb >>> 16, 4);
+        buffer[13] = '-';
+        hex(buffer, 14, msb, 4);
+        buffer[18] = '-';
+        hex(buffer, 19, lsb >>> 48, 4);
+        buffer[23] = '-';
+        hex(buffer, 24, lsb, 12);
+        gen.writeString(buffer, 0, buffer.length);
+    }
+
+    private static void writeDecimal(JsonGenerator gen, BigDecimal value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.toPlainString());
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, LocalDateTime value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        if (value.getYear() < 1 || value.getYear() > 9999) {
+            gen.writeString(DATE_TIME.format(value));
+            return;
+        }
+        char[] buffer = new char[19];
+        digits(buffer, 0, value.getYear(), 4);
+        buffer[4] = '-';
+        digits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        digits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        digits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        digits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        digits(buffer, 17, value.getSecond(), 2);
+        gen.writeString(buffer, 0, buffer.length);
+    }
+
+    private static void hex(char[] buffer, int offset, long bits, int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            buffer[i] = HEX[(int) (bits & 0xF)];
+            bits >>>= 4;
+        }
+    }
+
+    private static void digits(char[] buffer, int offset, int value, int length) {
+        for (int i = offset + length - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/*
+ * The reactive profile's counterpart of ProtobufJacksonHttpMessageConverter. One message per
+ * response: Protobuf has no framing for a stream of them.
+ */
+public class ProtobufJacksonEncoder extends AbstractJackson2Encoder {
+
+    private final CouponProtobufSchemas schemas;
+
+    // the mapper must be built on a ProtobufFactory
+    public ProtobufJacksonEncoder(ObjectMapper objectMapper, CouponProtobufSchemas schemas) {
+        super(objectMapper, ProtobufJacksonHttpMessageConverter.PROTOBUF);
+        this.schemas = schemas;
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
+        return schemas.schemaFor(elementType) != null && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory, ResolvableType elementType,
+                                   @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        if (!(inputStream instanceof Mono)) {
+            return Flux.error(new UnsupportedOperationException("Protobuf responses must be a single value"));
+        }
+        return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable MimeType mimeType, ResolvableType elementType,
+                                           @Nullable Map<String, Object> hints) {
+        return writer.with(schemas.schemaFor(elementType));
+    }
+}
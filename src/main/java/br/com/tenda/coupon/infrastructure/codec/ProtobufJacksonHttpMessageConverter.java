@@ -0,0 +1,64 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/*
+ * Writes the coupon API's responses as the Protobuf messages of CouponProtobufSchemas, serialized
+ * by Jackson from the same DTOs as JSON. Responses only: request bodies stay JSON.
+ */
+public class ProtobufJacksonHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
+    private final CouponProtobufSchemas schemas;
+
+    // the mapper must be built on a ProtobufFactory
+    public ProtobufJacksonHttpMessageConverter(ObjectMapper objectMapper, CouponProtobufSchemas schemas) {
+        super(objectMapper, PROTOBUF);
+        this.schemas = schemas;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, @Nullable MediaType mediaType) {
+        return schemas.schemaFor(ResolvableType.forClass(clazz)) != null && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        ResolvableType resolvable = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+        return schemas.schemaFor(resolvable) != null && super.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        // a declared type always reaches customizeWriter, which picks the message from it
+        super.writeInternal(object, type != null ? type : object.getClass(), outputMessage);
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, @Nullable MediaType contentType) {
+        return writer.with(schemas.schemaFor(ResolvableType.forClass(javaType.getRawClass())));
+    }
+}
@@ -0,0 +1,78 @@
+package br.com.tenda.coupon.infrastructure.config;
+
+import br.com.tenda.coupon.infrastructure.codec.BinaryObjectMappers;
+import br.com.tenda.coupon.infrastructure.codec.CborJacksonEncoder;
+import br.com.tenda.coupon.infrastructure.codec.CouponProtobufSchemas;
+import br.com.tenda.coupon.infrastructure.codec.ProtobufJacksonEncoder;
+import br.com.tenda.coupon.infrastructure.codec.ProtobufJacksonHttpMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/*
+ * application/cbor and application/x-protobuf next to JSON, chosen by the Accept header. Both
+ * mappers come from Boot's builder, so dates and modules match JSON.
+ * They are not beans: a second ObjectMapper bean would replace the JSON one.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    @Bean
+    public CouponProtobufSchemas couponProtobufSchemas() {
+        return CouponProtobufSchemas.load();
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class Servlet implements WebMvcConfigurer {
+
+        private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+        private final CouponProtobufSchemas schemas;
+
+        Servlet(ObjectProvider<Jackson2ObjectMapperBuilder> builders, CouponProtobufSchemas schemas) {
+            this.builders = builders;
+            this.schemas = schemas;
+        }
+
+        // takes the place of Spring MVC's default CBOR converter, which is not built from Boot's builder
+        @Bean
+        public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+            return new MappingJackson2CborHttpMessageConverter(BinaryObjectMappers.cbor(builders.getObject()));
+        }
+
+        // appended rather than a bean, which would go first and answer Accept: */* in place of JSON
+        @Override
+        public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+            converters.add(new ProtobufJacksonHttpMessageConverter(BinaryObjectMappers.protobuf(builders.getObject()), schemas));
+        }
+    }
+
+    // custom encoders come before the JSON one: the reactive controller and exception handler list JSON first in produces
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class Reactive implements WebFluxConfigurer {
+
+        private final ObjectProvider<Jackson2ObjectMapperBuilder> builders;
+        private final CouponProtobufSchemas schemas;
+
+        Reactive(ObjectProvider<Jackson2ObjectMapperBuilder> builders, CouponProtobufSchemas schemas) {
+            this.builders = builders;
+            this.schemas = schemas;
+        }
+
+        @Override
+        public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+            configurer.customCodecs().register(new CborJacksonEncoder(BinaryObjectMappers.cbor(builders.getObject()), schemas));
+            configurer.customCodecs().register(new ProtobufJacksonEncoder(BinaryObjectMappers.protobuf(builders.getObject()), schemas));
+        }
+    }
+}
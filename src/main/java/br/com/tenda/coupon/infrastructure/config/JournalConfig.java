@@ -0,0 +1,38 @@
+package br.com.tenda.coupon.infrastructure.config;
+
+import br.com.tenda.coupon.infrastructure.journal.JournalProperties;
+import br.com.tenda.coupon.infrastructure.journal.JournalReader;
+import br.com.tenda.coupon.infrastructure.journal.RedemptionJournal;
+import br.com.tenda.coupon.infrastructure.journal.RedemptionJournalListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+@Configuration
+@EnableConfigurationProperties(JournalProperties.class)
+@ConditionalOnProperty(prefix = "coupon.journal", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public RedemptionJournal redemptionJournal(JournalProperties properties) throws IOException {
+        return RedemptionJournal.open(
+                properties.getDirectory(),
+                Math.toIntExact(properties.getSegmentSize().toBytes()),
+                properties.getRetainedSegments(),
+                properties.getGroupCommitWindow()
+        );
+    }
+
+    @Bean
+    public JournalReader journalReader(JournalProperties properties) {
+        return new JournalReader(properties.getDirectory());
+    }
+
+    @Bean
+    public RedemptionJournalListener redemptionJournalListener(RedemptionJournal redemptionJournal) {
+        return new RedemptionJournalListener(redemptionJournal);
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.tenda.coupon.infrastructure.config;
+
+import br.com.tenda.coupon.infrastructure.codec.CouponJsonModule;
+import com.fasterxml.jackson.databind.Module;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JsonConfig {
+
+    // installed by Boot's Jackson2ObjectMapperBuilder, so the JSON mapper, its codecs and the export all get it
+    @Bean
+    public Module couponJsonModule() {
+        return new CouponJsonModule();
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.tenda.coupon.infrastructure.config;
+
+import br.com.tenda.coupon.domain.vo.CouponCode;
+import br.com.tenda.coupon.infrastructure.occupancy.CodeOccupancyBitmap;
+import br.com.tenda.coupon.infrastructure.occupancy.OccupancyProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+@Configuration
+@EnableConfigurationProperties(OccupancyProperties.class)
+@ConditionalOnProperty(prefix = "coupon.occupancy", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OccupancyConfig {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    // the coupons tables must exist before they can be counted or scanned; archived codes stay taken
+    @Bean(destroyMethod = "close")
+    @DependsOn("entityManagerFactory")
+    public CodeOccupancyBitmap codeOccupancyBitmap(OccupancyProperties properties, JdbcTemplate jdbcTemplate) throws IOException {
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT (SELECT COUNT(*) FROM coupons) + (SELECT COUNT(*) FROM coupons_archive)", Long.class);
+        return CodeOccupancyBitmap.open(properties.getFile(), rows == null ? 0 : rows, sink ->
+                jdbcTemplate.query(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            "SELECT code FROM coupons UNION ALL SELECT code FROM coupons_archive", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(FETCH_SIZE);
+                    return statement;
+                }, (RowCallbackHandler) resultSet -> sink.accept(CouponCode.ordinalOfPacked(resultSet.getInt(1)))));
+    }
+}
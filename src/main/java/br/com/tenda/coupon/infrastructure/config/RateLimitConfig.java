@@ -0,0 +1,41 @@
+package br.com.tenda.coupon.infrastructure.config;
+
+import br.com.tenda.coupon.infrastructure.ratelimit.RateLimitFilter;
+import br.com.tenda.coupon.infrastructure.ratelimit.RateLimitProperties;
+import br.com.tenda.coupon.infrastructure.ratelimit.TokenBucketRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "coupon.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public TokenBucketRateLimiter tokenBucketRateLimiter(RateLimitProperties properties) {
+        return new TokenBucketRateLimiter(
+                properties.getCapacity(),
+                properties.getRefillPerSecond(),
+                properties.getStripes(),
+                properties.getIdleTimeout(),
+                properties.getMaxBucketsPerStripe(),
+                System::nanoTime
+        );
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(TokenBucketRateLimiter rateLimiter,
+                                                                   ObjectMapper objectMapper,
+                                                                   RateLimitProperties properties) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(rateLimiter, objectMapper, properties.getClientKeyHeader(), properties.getApiKeys()));
+        registration.setUrlPatterns(properties.getPaths());
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
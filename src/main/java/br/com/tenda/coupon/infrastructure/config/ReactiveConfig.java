@@ -0,0 +1,67 @@
+package br.com.tenda.coupon.infrastructure.config;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+/*
+ * The R2DBC side of the reactive profile. The connection factory and its transaction manager stay
+ * out of the context: a ConnectionFactory bean would switch off the JDBC DataSource, and a second
+ * TransactionManager bean the JPA one, which the schema, the sweeper and the archiver still use.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig implements WebFluxConfigurer {
+
+    private final ConnectionFactory connectionFactory;
+
+    // the same in-memory database as spring.datasource.url, whose tables JPA creates, with its credentials
+    public ReactiveConfig(@Value("${coupon.reactive.url:r2dbc:pool:h2:mem:///coupondb?maxSize=50}") String url,
+                          @Value("${spring.datasource.username:sa}") String username,
+                          @Value("${spring.datasource.password:}") String password) {
+        this.connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build());
+    }
+
+    // Tomcat, on the classpath for the servlet mode, would otherwise be chosen ahead of Netty
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    @Bean
+    public TransactionalOperator transactionalOperator() {
+        return TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+    }
+
+    // delivers to @TransactionalEventListener once the reactive transaction commits
+    @Bean
+    public TransactionalEventPublisher transactionalEventPublisher(ApplicationEventPublisher eventPublisher) {
+        return new TransactionalEventPublisher(eventPublisher);
+    }
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver());
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.tenda.coupon.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * Spring Boot silently keeps platform threads when spring.threads.virtual.enabled is set on a JVM older
+ * than 21; say so at startup instead of letting a load test measure the wrong mode.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    public VirtualThreadsConfig() {
+        if (JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            log.info("Serving requests on virtual threads");
+        } else {
+            log.warn("Virtual threads requested but running on Java {}; requests stay on platform threads", JavaVersion.getJavaVersion());
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package br.com.tenda.coupon.infrastructure.exception;
 
+import br.com.tenda.coupon.domain.exception.CampaignNotFoundException;
+import br.com.tenda.coupon.domain.exception.CodePoolExhaustedException;
 import br.com.tenda.coupon.domain.exception.CouponAlreadyDeletedException;
 import br.com.tenda.coupon.domain.exception.CouponNotFoundException;
+import br.com.tenda.coupon.domain.exception.CouponNotRedeemableException;
 import br.com.tenda.coupon.domain.exception.ExpirationDateException;
 import br.com.tenda.coupon.domain.exception.InvalidCouponException;
 import br.com.tenda.coupon.presentation.dto.ErrorResponse;
 import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -18,6 +23,7 @@ import java.time.LocalDateTime;
 import java.util.stream.Collectors;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(UnrecognizedPropertyException.class)
@@ -80,6 +86,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(CampaignNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCampaignNotFoundException(
+            CampaignNotFoundException ex, HttpServletRequest request) {
+
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
     @ExceptionHandler(CouponAlreadyDeletedException.class)
     public ResponseEntity<ErrorResponse> handleCouponAlreadyDeletedException(
             CouponAlreadyDeletedException ex, HttpServletRequest request) {
@@ -95,6 +116,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(CouponNotRedeemableException.class)
+    public ResponseEntity<ErrorResponse> handleCouponNotRedeemableException(
+            CouponNotRedeemableException ex, HttpServletRequest request) {
+
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    @ExceptionHandler(CodePoolExhaustedException.class)
+    public ResponseEntity<ErrorResponse> handleCodePoolExhaustedException(
+            CodePoolExhaustedException ex, HttpServletRequest request) {
+
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                request.getRequestURI()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException ex, HttpServletRequest request) {
         String message = ex.getBindingResult().getFieldErrors().stream()
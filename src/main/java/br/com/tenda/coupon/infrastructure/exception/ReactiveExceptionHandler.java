@@ -0,0 +1,84 @@
+package br.com.tenda.coupon.infrastructure.exception;
+
+import br.com.tenda.coupon.domain.exception.CodePoolExhaustedException;
+import br.com.tenda.coupon.domain.exception.CouponAlreadyDeletedException;
+import br.com.tenda.coupon.domain.exception.CouponNotFoundException;
+import br.com.tenda.coupon.domain.exception.ExpirationDateException;
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.presentation.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+/*
+ * GlobalExceptionHandler for the WebFlux endpoints of the reactive profile: the same statuses and
+ * ErrorResponse bodies, with WebFlux's binding and decoding exceptions in place of the servlet ones.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    // JSON first, as in ReactiveCouponController: error bodies do not inherit the handler's produces
+    private static final String JSON = MediaType.APPLICATION_JSON_VALUE;
+    private static final String CBOR = MediaType.APPLICATION_CBOR_VALUE;
+    private static final String PROTOBUF = "application/x-protobuf";
+
+    @ExceptionHandler(value = ServerWebInputException.class, produces = {JSON, CBOR, PROTOBUF})
+    public ResponseEntity<ErrorResponse> handleServerWebInputException(ServerWebInputException ex, ServerHttpRequest request) {
+        if (NestedExceptionUtils.getMostSpecificCause(ex) instanceof UnrecognizedPropertyException unrecognized) {
+            String message = String.format("The attribute '%s' is not recognized or allowed in the request", unrecognized.getPropertyName());
+            return error(HttpStatus.BAD_REQUEST, "Unrecognized field", message, request);
+        }
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", ex.getReason(), request);
+    }
+
+    @ExceptionHandler(value = WebExchangeBindException.class, produces = {JSON, CBOR, PROTOBUF})
+    public ResponseEntity<ErrorResponse> handleValidationException(WebExchangeBindException ex, ServerHttpRequest request) {
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(FieldError::getDefaultMessage)
+                .collect(Collectors.joining(", "));
+        return error(HttpStatus.BAD_REQUEST, "Validation Failed", message, request);
+    }
+
+    @ExceptionHandler(value = {ExpirationDateException.class, InvalidCouponException.class}, produces = {JSON, CBOR, PROTOBUF})
+    public ResponseEntity<ErrorResponse> handleBadRequest(RuntimeException ex, ServerHttpRequest request) {
+        return error(HttpStatus.BAD_REQUEST, "Bad Request", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(value = CouponNotFoundException.class, produces = {JSON, CBOR, PROTOBUF})
+    public ResponseEntity<ErrorResponse> handleCouponNotFoundException(CouponNotFoundException ex, ServerHttpRequest request) {
+        return error(HttpStatus.NOT_FOUND, "Not Found", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(value = CouponAlreadyDeletedException.class, produces = {JSON, CBOR, PROTOBUF})
+    public ResponseEntity<ErrorResponse> handleCouponAlreadyDeletedException(CouponAlreadyDeletedException ex, ServerHttpRequest request) {
+        return error(HttpStatus.CONFLICT, "Conflict", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(value = CodePoolExhaustedException.class, produces = {JSON, CBOR, PROTOBUF})
+    public ResponseEntity<ErrorResponse> handleCodePoolExhaustedException(CodePoolExhaustedException ex, ServerHttpRequest request) {
+        ErrorResponse body = new ErrorResponse(LocalDateTime.now(), HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable",
+                ex.getMessage(), request.getPath().value());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                .body(body);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, String error, String message, ServerHttpRequest request) {
+        ErrorResponse body = new ErrorResponse(LocalDateTime.now(), status.value(), error, message, request.getPath().value());
+        return ResponseEntity.status(status).body(body);
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.tenda.coupon.infrastructure.journal;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+@Getter
+@RequiredArgsConstructor
+public class JournalEntry {
+
+    static final int CODE_LENGTH = 6;
+    static final int BODY_SIZE = Long.BYTES + Long.BYTES + Byte.BYTES + 2 * Long.BYTES + CODE_LENGTH;
+
+    private final long sequence;
+    private final long timestampMillis;
+    private final JournalEntryType type;
+    private final UUID couponId;
+    private final String code;
+
+    void writeBody(ByteBuffer buffer, int offset) {
+        buffer.putLong(offset, sequence);
+        buffer.putLong(offset + 8, timestampMillis);
+        buffer.put(offset + 16, type.getId());
+        buffer.putLong(offset + 17, couponId.getMostSignificantBits());
+        buffer.putLong(offset + 25, couponId.getLeastSignificantBits());
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            buffer.put(offset + 33 + i, (byte) code.charAt(i));
+        }
+    }
+
+    static JournalEntry readBody(ByteBuffer buffer, int offset) {
+        char[] code = new char[CODE_LENGTH];
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            code[i] = (char) buffer.get(offset + 33 + i);
+        }
+        return new JournalEntry(
+                buffer.getLong(offset),
+                buffer.getLong(offset + 8),
+                JournalEntryType.fromId(buffer.get(offset + 16)),
+                new UUID(buffer.getLong(offset + 17), buffer.getLong(offset + 25)),
+                new String(code)
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.tenda.coupon.infrastructure.journal;
+
+public enum JournalEntryType {
+    REDEEMED((byte) 1);
+
+    private final byte id;
+
+    JournalEntryType(byte id) {
+        this.id = id;
+    }
+
+    public byte getId() {
+        return id;
+    }
+
+    public static JournalEntryType fromId(byte id) {
+        for (JournalEntryType type : values()) {
+            if (type.id == id) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("Unknown journal entry type: " + id);
+    }
+}
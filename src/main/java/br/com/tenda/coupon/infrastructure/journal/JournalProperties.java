@@ -0,0 +1,25 @@
+package br.com.tenda.coupon.infrastructure.journal;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.journal")
+public class JournalProperties {
+
+    private boolean enabled = true;
+
+    private Path directory = Path.of("data", "journal");
+
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    private int retainedSegments = 16;
+
+    private Duration groupCommitWindow = Duration.ZERO;
+}
@@ -0,0 +1,121 @@
+package br.com.tenda.coupon.infrastructure.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+public class JournalReader {
+
+    private final Path directory;
+
+    public JournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    public long replay(long fromSequence, Consumer<JournalEntry> consumer) {
+        try (Cursor cursor = openCursor(fromSequence)) {
+            cursor.poll(consumer);
+            return cursor.getLastSequence();
+        }
+    }
+
+    // A cursor keeps its position between polls, so tailing is a matter of polling it periodically.
+    public Cursor openCursor(long fromSequence) {
+        return new Cursor(directory, fromSequence);
+    }
+
+    public static final class Cursor implements Closeable {
+
+        private final Path directory;
+        private final long fromSequence;
+        private final CRC32C crc = new CRC32C();
+        private Path segmentPath;
+        private MappedByteBuffer buffer;
+        private int position;
+        private long lastSequence;
+
+        private Cursor(Path directory, long fromSequence) {
+            this.directory = directory;
+            this.fromSequence = fromSequence;
+            this.lastSequence = fromSequence - 1;
+        }
+
+        public int poll(Consumer<JournalEntry> consumer) {
+            int delivered = 0;
+            while (buffer != null || openFirstSegment()) {
+                int length = JournalSegment.validRecordLength(buffer, position, crc);
+                if (length > 0) {
+                    JournalEntry entry = JournalEntry.readBody(buffer, position + JournalSegment.RECORD_HEADER_SIZE);
+                    position += JournalSegment.RECORD_HEADER_SIZE + length;
+                    if (entry.getSequence() >= fromSequence) {
+                        consumer.accept(entry);
+                        lastSequence = entry.getSequence();
+                        delivered++;
+                    }
+                    continue;
+                }
+
+                Path next = nextSegment();
+                if (next == null) {
+                    break;
+                }
+                // the writer only rolls after finishing this segment, so check once more before moving on
+                if (JournalSegment.validRecordLength(buffer, position, crc) > 0) {
+                    continue;
+                }
+                map(next);
+            }
+            return delivered;
+        }
+
+        public long getLastSequence() {
+            return lastSequence;
+        }
+
+        @Override
+        public void close() {
+            buffer = null;
+            segmentPath = null;
+        }
+
+        private boolean openFirstSegment() {
+            List<Path> segments = JournalSegment.list(directory);
+            if (segments.isEmpty()) {
+                return false;
+            }
+            Path start = segments.get(0);
+            for (Path candidate : segments) {
+                if (JournalSegment.baseSequenceOf(candidate) <= fromSequence) {
+                    start = candidate;
+                }
+            }
+            map(start);
+            return true;
+        }
+
+        private Path nextSegment() {
+            long currentBase = JournalSegment.baseSequenceOf(segmentPath);
+            for (Path candidate : JournalSegment.list(directory)) {
+                if (JournalSegment.baseSequenceOf(candidate) > currentBase) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        private void map(Path path) {
+            try {
+                buffer = JournalSegment.mapReadOnly(path);
+                segmentPath = path;
+                position = JournalSegment.HEADER_SIZE;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open journal segment " + path, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.tenda.coupon.infrastructure.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/*
+ * Segment layout: a 16 byte header (magic, version, base sequence) followed by records.
+ * Each record is [int bodyLength][int crc32c(body)][body]; a zero length marks the end of written data.
+ * The length is written last, so a record is never visible before its body and checksum.
+ */
+final class JournalSegment implements Closeable {
+
+    static final int MAGIC = 0x434A524E;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_HEADER_SIZE = 8;
+
+    private static final String SUFFIX = ".journal";
+
+    private final Path path;
+    private final long baseSequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final CRC32C crc = new CRC32C();
+    private int writePosition = HEADER_SIZE;
+    private long lastSequence;
+
+    private JournalSegment(Path path, long baseSequence, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.baseSequence = baseSequence;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.lastSequence = baseSequence - 1;
+    }
+
+    static JournalSegment create(Path directory, long baseSequence, int size) throws IOException {
+        Path path = directory.resolve(fileName(baseSequence));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(8, baseSequence);
+        buffer.force();
+        return new JournalSegment(path, baseSequence, channel, buffer);
+    }
+
+    static JournalSegment openForAppend(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+        JournalSegment segment = new JournalSegment(path, readBaseSequence(buffer, path), channel, buffer);
+        segment.recover();
+        return segment;
+    }
+
+    static MappedByteBuffer mapReadOnly(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            readBaseSequence(buffer, path);
+            return buffer;
+        }
+    }
+
+    static List<Path> list(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static long baseSequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+
+    // Returns the body length of a complete record at position, or -1 when there is none (yet).
+    static int validRecordLength(MappedByteBuffer buffer, int position, CRC32C crc) {
+        if (position + RECORD_HEADER_SIZE > buffer.capacity()) {
+            return -1;
+        }
+        int length = buffer.getInt(position);
+        if (length <= 0 || position + RECORD_HEADER_SIZE + length > buffer.capacity()) {
+            return -1;
+        }
+        crc.reset();
+        crc.update(buffer.slice(position + RECORD_HEADER_SIZE, length));
+        return (int) crc.getValue() == buffer.getInt(position + 4) ? length : -1;
+    }
+
+    boolean hasRoomFor(int bodySize) {
+        return writePosition + RECORD_HEADER_SIZE + bodySize <= buffer.capacity();
+    }
+
+    void append(JournalEntry entry) {
+        int bodyOffset = writePosition + RECORD_HEADER_SIZE;
+        entry.writeBody(buffer, bodyOffset);
+        crc.reset();
+        crc.update(buffer.slice(bodyOffset, JournalEntry.BODY_SIZE));
+        buffer.putInt(writePosition + 4, (int) crc.getValue());
+        buffer.putInt(writePosition, JournalEntry.BODY_SIZE);
+        writePosition = bodyOffset + JournalEntry.BODY_SIZE;
+        lastSequence = entry.getSequence();
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getBaseSequence() {
+        return baseSequence;
+    }
+
+    long getLastSequence() {
+        return lastSequence;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void recover() {
+        int position = HEADER_SIZE;
+        int length;
+        while ((length = validRecordLength(buffer, position, crc)) > 0) {
+            lastSequence = buffer.getLong(position + RECORD_HEADER_SIZE);
+            position += RECORD_HEADER_SIZE + length;
+        }
+        writePosition = position;
+        if (position + RECORD_HEADER_SIZE <= buffer.capacity() && buffer.getInt(position) != 0) {
+            // torn record left by a crash: wipe it so readers never see stale bytes past the tail
+            for (int i = position; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+    }
+
+    private static long readBaseSequence(MappedByteBuffer buffer, Path path) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Not a journal segment: " + path);
+        }
+        return buffer.getLong(8);
+    }
+
+    private static String fileName(long baseSequence) {
+        return String.format("%020d%s", baseSequence, SUFFIX);
+    }
+}
@@ -0,0 +1,165 @@
+package br.com.tenda.coupon.infrastructure.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * Append-only journal of redemption events stored in fixed-size memory-mapped segments.
+ *
+ * Writers copy their record into the current segment under a short write lock and then wait until it is durable.
+ * Durability uses group commit: the first waiter becomes the leader and forces the segment once for every record
+ * written so far, while the writers that arrive during that fsync wait and are covered by the next one.
+ */
+public class RedemptionJournal implements Closeable {
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int retainedSegments;
+    private final long groupCommitWindowNanos;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final Condition committed = commitLock.newCondition();
+
+    private volatile JournalSegment segment;
+    private JournalSegment previousSegment;
+    private volatile long lastWrittenSequence;
+    private long durableSequence;
+    private boolean flushing;
+    private boolean closed;
+
+    private RedemptionJournal(Path directory, int segmentSize, int retainedSegments, Duration groupCommitWindow) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.retainedSegments = Math.max(retainedSegments, 2);
+        this.groupCommitWindowNanos = groupCommitWindow.toNanos();
+    }
+
+    public static RedemptionJournal open(Path directory, int segmentSize, int retainedSegments, Duration groupCommitWindow) throws IOException {
+        if (segmentSize < JournalSegment.HEADER_SIZE + JournalSegment.RECORD_HEADER_SIZE + JournalEntry.BODY_SIZE) {
+            throw new IllegalArgumentException("Journal segment size is too small: " + segmentSize);
+        }
+        Files.createDirectories(directory);
+
+        RedemptionJournal journal = new RedemptionJournal(directory, segmentSize, retainedSegments, groupCommitWindow);
+        List<Path> existing = JournalSegment.list(directory);
+        journal.segment = existing.isEmpty()
+                ? JournalSegment.create(directory, 1L, segmentSize)
+                : JournalSegment.openForAppend(existing.get(existing.size() - 1));
+        journal.lastWrittenSequence = journal.segment.getLastSequence();
+        journal.durableSequence = journal.lastWrittenSequence;
+        return journal;
+    }
+
+    public long append(JournalEntryType type, UUID couponId, String code, long timestampMillis) {
+        long sequence = write(type, couponId, code, timestampMillis);
+        awaitDurable(sequence);
+        return sequence;
+    }
+
+    public long getLastWrittenSequence() {
+        return lastWrittenSequence;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            segment.force();
+            segment.close();
+            if (previousSegment != null) {
+                previousSegment.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private long write(JournalEntryType type, UUID couponId, String code, long timestampMillis) {
+        writeLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Journal is closed");
+            }
+            if (!segment.hasRoomFor(JournalEntry.BODY_SIZE)) {
+                roll();
+            }
+            long sequence = lastWrittenSequence + 1;
+            segment.append(new JournalEntry(sequence, timestampMillis, type, couponId, code));
+            lastWrittenSequence = sequence;
+            return sequence;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void awaitDurable(long sequence) {
+        commitLock.lock();
+        try {
+            while (durableSequence < sequence) {
+                if (flushing) {
+                    committed.awaitUninterruptibly();
+                    continue;
+                }
+                flushing = true;
+                long target;
+                commitLock.unlock();
+                try {
+                    if (groupCommitWindowNanos > 0) {
+                        LockSupport.parkNanos(groupCommitWindowNanos);
+                    }
+                    target = lastWrittenSequence;
+                    segment.force();
+                } finally {
+                    commitLock.lock();
+                    flushing = false;
+                    committed.signalAll();
+                }
+                durableSequence = Math.max(durableSequence, target);
+            }
+        } finally {
+            commitLock.unlock();
+        }
+    }
+
+    // Called with the write lock held. The full segment is forced before the switch, so a flush of the new
+    // segment covers every sequence written so far.
+    private void roll() {
+        try {
+            segment.force();
+            JournalSegment next = JournalSegment.create(directory, lastWrittenSequence + 1, segmentSize);
+            if (previousSegment != null) {
+                previousSegment.close();
+            }
+            previousSegment = segment;
+            segment = next;
+            applyRetention();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not roll journal segment in " + directory, e);
+        }
+    }
+
+    private void applyRetention() throws IOException {
+        List<Path> segments = JournalSegment.list(directory);
+        for (int i = 0; i < segments.size() - retainedSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.tenda.coupon.infrastructure.journal;
+
+import br.com.tenda.coupon.domain.event.CouponRedeemedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/*
+ * Appends before the redemption commits and waits for the entry to be forced to disk, so a crash
+ * right after the commit cannot lose the audit record. A failed append rolls the redemption back;
+ * a commit that fails after a successful append leaves an entry for a redemption that never
+ * happened, which readers reconcile against the coupons table.
+ */
+@RequiredArgsConstructor
+public class RedemptionJournalListener {
+
+    private final RedemptionJournal redemptionJournal;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onCouponRedeemed(CouponRedeemedEvent event) {
+        redemptionJournal.append(JournalEntryType.REDEEMED, event.getCouponId(), event.getCode(), event.getRedeemedAt().toEpochMilli());
+    }
+}
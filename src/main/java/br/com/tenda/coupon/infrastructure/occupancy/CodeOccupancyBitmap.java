@@ -0,0 +1,169 @@
+package br.com.tenda.coupon.infrastructure.occupancy;
+
+import br.com.tenda.coupon.domain.vo.CouponCode;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/*
+ * One bit per code of the 36^6 space (~272 MB), memory-mapped from a sparse file.
+ * Layout: a 4 KB header (magic, version, state, number of set bits) followed by the bit words.
+ * The state is OPEN while mapped and CLEAN only after a forced close, so a file left behind by a
+ * crash, or one whose bit count no longer matches the table, is rebuilt instead of trusted.
+ * Bits are flipped with CAS on the mapped words, so concurrent claims of one code have one winner.
+ */
+public final class CodeOccupancyBitmap implements Closeable {
+
+    static final int MAGIC = 0x43424D50;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4096;
+
+    private static final int STATE_OFFSET = 8;
+    private static final int COUNT_OFFSET = 16;
+    private static final int STATE_CLEAN = 0;
+    private static final int STATE_OPEN = 1;
+    private static final long WORDS = (CouponCode.SPACE_SIZE + Long.SIZE - 1) / Long.SIZE;
+    static final long FILE_SIZE = HEADER_SIZE + WORDS * Long.BYTES;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final MappedByteBuffer buffer;
+    private final boolean rebuilt;
+
+    private CodeOccupancyBitmap(FileChannel channel, FileLock lock, MappedByteBuffer buffer, boolean rebuilt) {
+        this.channel = channel;
+        this.lock = lock;
+        this.buffer = buffer;
+        this.rebuilt = rebuilt;
+    }
+
+    /**
+     * Maps the bitmap at {@code path}, rebuilding it through {@code loader} when the file is missing,
+     * was not closed cleanly or does not hold {@code expectedCount} codes.
+     */
+    public static CodeOccupancyBitmap open(Path path, long expectedCount, Consumer<LongConsumer> loader) throws IOException {
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                throw new IllegalStateException("Occupancy bitmap is in use by another process: " + path);
+            }
+            boolean rebuild = !isUsable(channel, expectedCount);
+            if (rebuild) {
+                // truncating first turns every page back into a hole, which reads as zero
+                channel.truncate(0);
+                channel.write(ByteBuffer.allocate(1), FILE_SIZE - 1);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE);
+            buffer.order(ByteOrder.nativeOrder());
+            CodeOccupancyBitmap bitmap = new CodeOccupancyBitmap(channel, lock, buffer, rebuild);
+            if (rebuild) {
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                loader.accept(bitmap::set);
+                buffer.force();
+            }
+            buffer.putInt(STATE_OFFSET, STATE_OPEN);
+            buffer.force(0, HEADER_SIZE);
+            return bitmap;
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    public boolean isSet(long ordinal) {
+        long word = (long) LONGS.getAcquire(buffer, wordOffset(ordinal));
+        return (word & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Sets the bit for {@code ordinal}.
+     *
+     * @return {@code true} if this call flipped it, {@code false} if it was already set
+     */
+    public boolean set(long ordinal) {
+        int offset = wordOffset(ordinal);
+        long mask = 1L << ordinal;
+        long word;
+        do {
+            word = (long) LONGS.getVolatile(buffer, offset);
+            if ((word & mask) != 0) {
+                return false;
+            }
+        } while (!LONGS.compareAndSet(buffer, offset, word, word | mask));
+        LONGS.getAndAdd(buffer, COUNT_OFFSET, 1L);
+        return true;
+    }
+
+    public boolean clear(long ordinal) {
+        int offset = wordOffset(ordinal);
+        long mask = 1L << ordinal;
+        long word;
+        do {
+            word = (long) LONGS.getVolatile(buffer, offset);
+            if ((word & mask) == 0) {
+                return false;
+            }
+        } while (!LONGS.compareAndSet(buffer, offset, word, word & ~mask));
+        LONGS.getAndAdd(buffer, COUNT_OFFSET, -1L);
+        return true;
+    }
+
+    public long count() {
+        return (long) LONGS.getVolatile(buffer, COUNT_OFFSET);
+    }
+
+    public boolean wasRebuilt() {
+        return rebuilt;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            buffer.force();
+            buffer.putInt(STATE_OFFSET, STATE_CLEAN);
+            buffer.force(0, HEADER_SIZE);
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            lock.release();
+            channel.close();
+        }
+    }
+
+    private static boolean isUsable(FileChannel channel, long expectedCount) throws IOException {
+        if (channel.size() != FILE_SIZE) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(COUNT_OFFSET + Long.BYTES).order(ByteOrder.nativeOrder());
+        channel.read(header, 0);
+        return header.getInt(0) == MAGIC
+                && header.getInt(4) == VERSION
+                && header.getInt(STATE_OFFSET) == STATE_CLEAN
+                && header.getLong(COUNT_OFFSET) == expectedCount;
+    }
+
+    private static int wordOffset(long ordinal) {
+        if (ordinal < 0 || ordinal >= CouponCode.SPACE_SIZE) {
+            throw new IllegalArgumentException("Ordinal out of code space: " + ordinal);
+        }
+        return (int) (HEADER_SIZE + (ordinal >>> 6) * Long.BYTES);
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.tenda.coupon.infrastructure.occupancy;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.occupancy")
+public class OccupancyProperties {
+
+    private boolean enabled = true;
+
+    private Path file = Path.of("data", "occupancy", "codes.bitmap");
+}
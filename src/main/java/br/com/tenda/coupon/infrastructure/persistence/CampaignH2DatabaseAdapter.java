@@ -0,0 +1,101 @@
+package br.com.tenda.coupon.infrastructure.persistence;
+
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.domain.repository.CampaignRepository;
+import br.com.tenda.coupon.infrastructure.persistence.entity.CampaignEntity;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Interns campaigns: the first load of an id is kept and handed to every later caller, so the
+ * coupons of a campaign share one Campaign. A save drops the interned instance once its
+ * transaction commits and the next load picks up the committed row. A load that overlapped such
+ * a commit may have read the old row, so it is returned but not interned.
+ */
+@Component
+public class CampaignH2DatabaseAdapter implements CampaignRepository {
+
+    private final SpringDataCampaignRepository springDataRepository;
+    private final ConcurrentHashMap<UUID, Campaign> interned = new ConcurrentHashMap<>();
+    // bumped before every removal; saves are rare, so one counter for all ids is enough
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CampaignH2DatabaseAdapter(SpringDataCampaignRepository springDataRepository) {
+        this.springDataRepository = springDataRepository;
+    }
+
+    @Override
+    public Campaign save(Campaign campaign) {
+        // flushed so coupon queries, which read campaigns over JDBC, see it within the same transaction
+        springDataRepository.saveAndFlush(toEntity(campaign));
+        UUID id = campaign.getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // ahead of after-commit event listeners, so they already load the new instance
+                @Override
+                public int getOrder() {
+                    return Ordered.HIGHEST_PRECEDENCE;
+                }
+
+                @Override
+                public void afterCommit() {
+                    invalidate(id);
+                }
+            });
+        } else {
+            invalidate(id);
+        }
+        return campaign;
+    }
+
+    @Override
+    public Optional<Campaign> findById(UUID id) {
+        Campaign cached = interned.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long generation = invalidations.get();
+        return springDataRepository.findById(id)
+                .map(entity -> {
+                    Campaign loaded = toDomain(entity);
+                    // checked under the bin lock remove also takes, so an invalidation cannot slip in between
+                    Campaign kept = interned.compute(id, (key, raced) -> {
+                        if (raced != null) {
+                            return raced;
+                        }
+                        return invalidations.get() == generation ? loaded : null;
+                    });
+                    return kept != null ? kept : loaded;
+                });
+    }
+
+    private void invalidate(UUID id) {
+        invalidations.incrementAndGet();
+        interned.remove(id);
+    }
+
+    private static Campaign toDomain(CampaignEntity entity) {
+        return Campaign.reconstruct(
+                entity.getId(),
+                entity.getDescription(),
+                entity.getDiscountValue(),
+                entity.getExpirationDate()
+        );
+    }
+
+    private static CampaignEntity toEntity(Campaign campaign) {
+        return new CampaignEntity(
+                campaign.getId(),
+                campaign.getDescription().getValue(),
+                campaign.getDiscount().getValue(),
+                campaign.getExpirationDate().getValue()
+        );
+    }
+}
@@ -1,39 +1,218 @@
 package br.com.tenda.coupon.infrastructure.persistence;
 
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Campaign;
 import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CampaignRepository;
+import br.com.tenda.coupon.domain.repository.CouponFilter;
+import br.com.tenda.coupon.domain.repository.CouponProjection;
 import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.repository.ExpirationCursor;
+import br.com.tenda.coupon.domain.vo.CouponCode;
 import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.domain.vo.CouponTransition;
+import br.com.tenda.coupon.domain.vo.CustomerBitmap;
+import br.com.tenda.coupon.infrastructure.occupancy.CodeOccupancyBitmap;
+import br.com.tenda.coupon.infrastructure.persistence.entity.CodeSequenceEntity;
 import br.com.tenda.coupon.infrastructure.persistence.entity.CouponEntity;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @Component
-@RequiredArgsConstructor
 public class CouponH2DatabaseAdapter implements CouponRepository {
 
+    private static final String COLUMNS = "id, code, campaign_id, description, discount_value, expiration_date, published, "
+            + "redeemed, status, one_per_customer, redeemed_customers";
+    private static final String SELECT_ALL = "SELECT " + COLUMNS + " FROM coupons";
+    // aliased as coupons so the same conditions apply to both tables
+    private static final String SELECT_ARCHIVED = "SELECT " + COLUMNS + " FROM coupons_archive coupons";
+    private static final String INSERT =
+            "INSERT INTO coupons (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // the effective expiration of a coupon, its own or its campaign's
+    private static final String EXPIRATION_DATE =
+            "COALESCE(coupons.expiration_date, (SELECT campaigns.expiration_date FROM campaigns WHERE campaigns.id = coupons.campaign_id))";
+    private static final int FETCH_SIZE = 1000;
+    private static final int BATCH_SIZE = 500;
+    private static final String CODE_SEQUENCE = "coupon-code";
+    private static final String NOT_DELETED = "status <> '" + CouponStatus.DELETED.name() + "'";
+    private static final String ACTIVE = "coupons.status = '" + CouponStatus.ACTIVE.name() + "'";
+    private static final String SELECT_INHERITING =
+            "SELECT coupons.id, coupons.code, coupons.campaign_id, coupons.description, coupons.discount_value, "
+                    + "coupons.expiration_date, coupons.published, coupons.redeemed, coupons.status, coupons.one_per_customer, "
+                    + "coupons.redeemed_customers FROM campaigns JOIN coupons ON coupons.campaign_id = campaigns.id";
+    // H2 orders UUIDs as unsigned 128-bit numbers, unlike UUID.compareTo
+    private static final Comparator<Coupon> EXPIRATION_ORDER = Comparator
+            .comparing((Coupon coupon) -> coupon.getExpirationDate().getValue())
+            .thenComparing(Coupon::getId, Comparator
+                    .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+                    .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned));
+    private static final String INHERITS_EXPIRED_CAMPAIGN = "coupons.expiration_date IS NULL AND coupons.campaign_id IN "
+            + "(SELECT campaigns.id FROM campaigns WHERE campaigns.expiration_date <= ?)";
+
     private final SpringDataCouponRepository springDataRepository;
+    private final SpringDataCodeSequenceRepository codeSequenceRepository;
+    private final CampaignRepository campaignRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate sequenceTransaction;
+    // absent when coupon.occupancy.enabled=false: uniqueness checks then go to the database
+    private final CodeOccupancyBitmap occupancy;
+
+    public CouponH2DatabaseAdapter(SpringDataCouponRepository springDataRepository,
+                                   SpringDataCodeSequenceRepository codeSequenceRepository,
+                                   CampaignRepository campaignRepository,
+                                   JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectProvider<CodeOccupancyBitmap> occupancy) {
+        this.springDataRepository = springDataRepository;
+        this.codeSequenceRepository = codeSequenceRepository;
+        this.campaignRepository = campaignRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // a reservation commits on its own, so the sequence row lock is never held through a caller's inserts
+        this.sequenceTransaction = new TransactionTemplate(transactionManager);
+        this.sequenceTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.occupancy = occupancy.getIfAvailable();
+        // seeded up front so the first concurrent reservations never race to insert the row
+        jdbcTemplate.update("MERGE INTO code_sequences USING (VALUES (CAST(? AS VARCHAR))) AS seed(name) "
+                + "ON code_sequences.name = seed.name "
+                + "WHEN NOT MATCHED THEN INSERT (name, next_value) VALUES (seed.name, 0)", CODE_SEQUENCE);
+    }
 
     @Override
     public Coupon save(Coupon coupon) {
+        claim(List.of(coupon));
         CouponEntity entity = toEntity(coupon);
         CouponEntity savedEntity = springDataRepository.save(entity);
         return toDomain(savedEntity);
     }
 
+    @Override
+    public void saveAll(List<Coupon> coupons) {
+        claim(coupons);
+        jdbcTemplate.batchUpdate(INSERT, coupons, BATCH_SIZE, (statement, coupon) -> {
+            statement.setObject(1, coupon.getId());
+            statement.setInt(2, coupon.getCode().packed());
+            statement.setObject(3, coupon.getCampaign() == null ? null : coupon.getCampaign().getId());
+            statement.setString(4, coupon.getOwnDescription() == null ? null : coupon.getOwnDescription().getValue());
+            statement.setBigDecimal(5, coupon.getOwnDiscount() == null ? null : coupon.getOwnDiscount().getValue());
+            statement.setObject(6, coupon.getOwnExpirationDate() == null ? null : coupon.getOwnExpirationDate().getValue());
+            statement.setBoolean(7, coupon.isPublished());
+            statement.setBoolean(8, coupon.isRedeemed());
+            statement.setString(9, coupon.getStatus());
+            statement.setBoolean(10, coupon.isOnePerCustomer());
+            statement.setBytes(11, coupon.getRedeemedCustomers().isEmpty() ? null : coupon.getRedeemedCustomers().toBytes());
+        });
+    }
+
     @Override
     public Optional<Coupon> findById(UUID id) {
         return springDataRepository.findById(id)
                 .map(this::toDomain);
     }
 
+    @Override
+    public Optional<Coupon> findByIdForUpdate(UUID id) {
+        return springDataRepository.findLockedById(id)
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Optional<Coupon> findArchivedById(UUID id) {
+        return jdbcTemplate.query(SELECT_ARCHIVED + " WHERE id = ?", (resultSet, row) -> toDomain(resultSet), id)
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Optional<Coupon> findByCode(String code) {
+        return springDataRepository.findByCode(CouponCode.pack(code))
+                .map(this::toDomain);
+    }
+
+    @Override
+    public Optional<Coupon> findByCodeForUpdate(String code) {
+        return springDataRepository.findLockedByCode(CouponCode.pack(code))
+                .map(this::toDomain);
+    }
+
     @Override
     public boolean existsByCode(String code) {
-        return springDataRepository.existsByCode(code);
+        long ordinal = CouponCode.ordinalOf(code);
+        if (ordinal < 0) {
+            return false;
+        }
+        if (occupancy == null) {
+            int packed = CouponCode.pack(code);
+            return springDataRepository.existsByCode(packed)
+                    || jdbcTemplate.queryForObject("SELECT COUNT(*) FROM coupons_archive WHERE code = ?", Integer.class, packed) > 0;
+        }
+        return occupancy.isSet(ordinal);
+    }
+
+    @Override
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return Set.of();
+        }
+        if (occupancy != null) {
+            Set<String> existing = new HashSet<>();
+            for (String code : codes) {
+                if (existsByCode(code)) {
+                    existing.add(code);
+                }
+            }
+            return existing;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(codes.size(), "?"));
+        Object[] packed = codes.stream().map(CouponCode::pack).toArray();
+        Set<String> existing = new HashSet<>();
+        Object[] args = new Object[packed.length * 2];
+        System.arraycopy(packed, 0, args, 0, packed.length);
+        System.arraycopy(packed, 0, args, packed.length, packed.length);
+        jdbcTemplate.query("SELECT code FROM coupons WHERE code IN (" + placeholders + ") "
+                        + "UNION ALL SELECT code FROM coupons_archive WHERE code IN (" + placeholders + ")",
+                (RowCallbackHandler) resultSet -> existing.add(CouponCode.fromPacked(resultSet.getInt(1)).getValue()), args);
+        return existing;
+    }
+
+    @Override
+    public long reserveCodeSequence(int count) {
+        Long reserved = sequenceTransaction.execute(status -> {
+            CodeSequenceEntity sequence = codeSequenceRepository.findLockedByName(CODE_SEQUENCE)
+                    .orElseThrow(() -> new IllegalStateException("Code sequence row is missing: " + CODE_SEQUENCE));
+            long first = sequence.getNextValue();
+            if (first + count > CouponCode.SPACE_SIZE) {
+                throw new InvalidCouponException("Coupon code space is exhausted");
+            }
+            sequence.setNextValue(first + count);
+            codeSequenceRepository.save(sequence);
+            return first;
+        });
+        return reserved;
     }
 
     @Override
@@ -42,30 +221,322 @@ public class CouponH2DatabaseAdapter implements CouponRepository {
                 .map(this::toDomain);
     }
 
+    // the skipped columns are selected as NULL, so rows map to coupons the same way
+    @Override
+    public Page<Coupon> findAll(Pageable pageable, CouponProjection projection) {
+        if (projection.isFull()) {
+            return findAll(pageable);
+        }
+        String sql = "SELECT id, code, campaign_id, "
+                + (projection.isDescription() ? "description" : "NULL AS description")
+                + ", discount_value, expiration_date, published, redeemed, status, one_per_customer, "
+                + (projection.isRedeemedCustomers() ? "redeemed_customers" : "NULL AS redeemed_customers")
+                + " FROM coupons ORDER BY " + CouponOrder.orderBy(pageable.getSort()) + " LIMIT ? OFFSET ?";
+        List<Coupon> content = jdbcTemplate.query(sql, (resultSet, row) -> toDomain(resultSet),
+                pageable.getPageSize(), pageable.getOffset());
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM coupons", Long.class));
+    }
+
+    @Override
+    public void forEach(Consumer<Coupon> action) {
+        forEach(CouponFilter.none(), action);
+    }
+
+    @Override
+    public void forEach(CouponFilter filter, Consumer<Coupon> action) {
+        scan(SELECT_ALL, filter, action);
+        if (filter.isIncludeArchived()) {
+            scan(SELECT_ARCHIVED, filter, action);
+        }
+    }
+
+    @Override
+    public void forEachArchived(Consumer<Coupon> action) {
+        scan(SELECT_ARCHIVED, CouponFilter.none(), action);
+    }
+
+    private void scan(String select, CouponFilter filter, Consumer<Coupon> action) {
+        List<Object> args = new ArrayList<>(6);
+        String sql = select + where(filter, args, List.of());
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, (RowCallbackHandler) resultSet -> action.accept(toDomain(resultSet)));
+    }
+
+    @Override
+    public List<UUID> findDeletableIds(CouponFilter filter, int limit) {
+        List<Object> args = new ArrayList<>(7);
+        String sql = "SELECT id FROM coupons" + where(filter, args, List.of(NOT_DELETED)) + " LIMIT ?";
+        args.add(limit);
+        return jdbcTemplate.query(sql, (resultSet, row) -> resultSet.getObject(1, UUID.class), args.toArray());
+    }
+
+    @Override
+    public List<String> softDeleteAll(Collection<UUID> ids) {
+        return updateAll(ids, "status = '" + CouponStatus.DELETED.name() + "'", NOT_DELETED);
+    }
+
+    @Override
+    public List<String> applyAll(Collection<UUID> ids, CouponTransition transition) {
+        return switch (transition) {
+            case PUBLISH -> updateAll(ids, "published = TRUE", NOT_DELETED + " AND published = FALSE");
+            case UNPUBLISH -> updateAll(ids, "published = FALSE", NOT_DELETED + " AND published = TRUE");
+            case ACTIVATE -> updateAll(ids, "status = '" + CouponStatus.ACTIVE.name() + "'",
+                    "status = '" + CouponStatus.INACTIVE.name() + "'");
+            case DEACTIVATE -> updateAll(ids, "status = '" + CouponStatus.INACTIVE.name() + "'",
+                    "status = '" + CouponStatus.ACTIVE.name() + "'");
+        };
+    }
+
+    // own expirations come off the (status, expiration_date) index in expiration order; campaign coupons follow
+    @Override
+    public List<UUID> findExpiredActiveIds(LocalDateTime now, int limit) {
+        List<UUID> ids = new ArrayList<>(jdbcTemplate.query(
+                "SELECT id FROM coupons WHERE " + ACTIVE + " AND coupons.expiration_date <= ? ORDER BY coupons.expiration_date LIMIT ?",
+                (resultSet, row) -> resultSet.getObject(1, UUID.class), now, limit));
+        if (ids.size() < limit) {
+            ids.addAll(jdbcTemplate.query(
+                    "SELECT id FROM coupons WHERE " + ACTIVE + " AND " + INHERITS_EXPIRED_CAMPAIGN + " LIMIT ?",
+                    (resultSet, row) -> resultSet.getObject(1, UUID.class), now, limit - ids.size()));
+        }
+        return ids;
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestExpiredActive(LocalDateTime now) {
+        LocalDateTime own = jdbcTemplate.queryForObject(
+                "SELECT MIN(coupons.expiration_date) FROM coupons WHERE " + ACTIVE + " AND coupons.expiration_date <= ?",
+                (resultSet, row) -> resultSet.getObject(1, LocalDateTime.class), now);
+        LocalDateTime inherited = jdbcTemplate.queryForObject(
+                "SELECT MIN(campaigns.expiration_date) FROM campaigns WHERE campaigns.expiration_date <= ? AND EXISTS "
+                        + "(SELECT 1 FROM coupons WHERE coupons.campaign_id = campaigns.id AND " + ACTIVE
+                        + " AND coupons.expiration_date IS NULL)",
+                (resultSet, row) -> resultSet.getObject(1, LocalDateTime.class), now);
+        if (own == null || inherited == null) {
+            return Optional.ofNullable(own != null ? own : inherited);
+        }
+        return Optional.of(own.isBefore(inherited) ? own : inherited);
+    }
+
+    /*
+     * Own expirations range-scan idx_coupons_expiration_id; inherited ones range-scan the campaign
+     * expiration index and join their coupons. Each side is already in cursor order, so the page is
+     * a merge of the two.
+     */
+    @Override
+    public List<Coupon> findExpiring(LocalDateTime from, LocalDateTime until, ExpirationCursor after, int limit) {
+        String live = " AND coupons." + NOT_DELETED + " AND coupons.redeemed = FALSE";
+        List<Coupon> own = findExpiring(SELECT_ALL + " WHERE coupons.expiration_date IS NOT NULL" + live,
+                "coupons.expiration_date", from, until, after, limit);
+        List<Coupon> inherited = findExpiring(SELECT_INHERITING + " WHERE coupons.expiration_date IS NULL" + live,
+                "campaigns.expiration_date", from, until, after, limit);
+        List<Coupon> merged = new ArrayList<>(own.size() + inherited.size());
+        merged.addAll(own);
+        merged.addAll(inherited);
+        merged.sort(EXPIRATION_ORDER);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    private List<Coupon> findExpiring(String select, String expirationColumn, LocalDateTime from, LocalDateTime until,
+                                      ExpirationCursor after, int limit) {
+        List<Object> args = new ArrayList<>(6);
+        StringBuilder sql = new StringBuilder(select)
+                .append(" AND ").append(expirationColumn).append(" > ?")
+                .append(" AND ").append(expirationColumn).append(" <= ?");
+        args.add(from);
+        args.add(until);
+        if (after != null) {
+            // the leading >= keeps this a range scan; the OR only trims the cursor's own second
+            sql.append(" AND ").append(expirationColumn).append(" >= ? AND (").append(expirationColumn)
+                    .append(" > ? OR coupons.id > ?)");
+            args.add(after.getExpirationDate());
+            args.add(after.getExpirationDate());
+            args.add(after.getId());
+        }
+        sql.append(" ORDER BY ").append(expirationColumn).append(", coupons.id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (resultSet, row) -> toDomain(resultSet), args.toArray());
+    }
+
+    /*
+     * DELETED coupons come off the (status, expiration_date) index, then own and inherited expirations.
+     * The locked SELECT, the INSERT ... SELECT and the DELETE all re-check the condition, so a coupon
+     * whose campaign was extended in between stays where it is.
+     */
+    @Override
+    public List<String> archive(LocalDateTime expiredBefore, LocalDateTime archivedAt, int limit) {
+        List<UUID> ids = new ArrayList<>(jdbcTemplate.query("SELECT id FROM coupons WHERE status = ? LIMIT ?",
+                (resultSet, row) -> resultSet.getObject(1, UUID.class), CouponStatus.DELETED.name(), limit));
+        if (ids.size() < limit) {
+            ids.addAll(jdbcTemplate.query("SELECT id FROM coupons WHERE " + NOT_DELETED + " AND expiration_date < ? LIMIT ?",
+                    (resultSet, row) -> resultSet.getObject(1, UUID.class), expiredBefore, limit - ids.size()));
+        }
+        if (ids.size() < limit) {
+            ids.addAll(jdbcTemplate.query("SELECT id FROM coupons WHERE " + NOT_DELETED + " AND coupons.expiration_date IS NULL "
+                            + "AND coupons.campaign_id IN (SELECT campaigns.id FROM campaigns WHERE campaigns.expiration_date < ?) LIMIT ?",
+                    (resultSet, row) -> resultSet.getObject(1, UUID.class), expiredBefore, limit - ids.size()));
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String where = " WHERE id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ") AND ("
+                + "status = '" + CouponStatus.DELETED.name() + "' OR " + EXPIRATION_DATE + " < ?)";
+        List<Object> args = new ArrayList<>(ids);
+        args.add(expiredBefore);
+        List<String> codes = jdbcTemplate.query("SELECT code FROM coupons" + where + " FOR UPDATE",
+                (resultSet, row) -> CouponCode.fromPacked(resultSet.getInt(1)).getValue(), args.toArray());
+        if (!codes.isEmpty()) {
+            List<Object> insertArgs = new ArrayList<>(args.size() + 1);
+            insertArgs.add(archivedAt);
+            insertArgs.addAll(args);
+            jdbcTemplate.update("INSERT INTO coupons_archive (" + COLUMNS + ", archived_at) SELECT " + COLUMNS + ", ? FROM coupons" + where,
+                    insertArgs.toArray());
+            jdbcTemplate.update("DELETE FROM coupons" + where, args.toArray());
+        }
+        return codes;
+    }
+
+    /*
+     * One conditional UPDATE over an id list. The matching rows are locked first, so the codes
+     * reported are exactly the rows the update changes.
+     */
+    private List<String> updateAll(Collection<UUID> ids, String assignment, String condition) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        String where = " WHERE id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ") AND " + condition;
+        Object[] args = ids.toArray();
+        List<String> codes = jdbcTemplate.query("SELECT code FROM coupons" + where + " FOR UPDATE",
+                (resultSet, row) -> CouponCode.fromPacked(resultSet.getInt(1)).getValue(), args);
+        if (!codes.isEmpty()) {
+            jdbcTemplate.update("UPDATE coupons SET " + assignment + where, args);
+        }
+        return codes;
+    }
+
+    private static String where(CouponFilter filter, List<Object> args, List<String> extraConditions) {
+        List<String> conditions = new ArrayList<>(extraConditions);
+        if (filter.getStatus() != null) {
+            conditions.add("status = ?");
+            args.add(filter.getStatus().name());
+        }
+        if (filter.getPublished() != null) {
+            conditions.add("published = ?");
+            args.add(filter.getPublished());
+        }
+        if (filter.getRedeemed() != null) {
+            conditions.add("redeemed = ?");
+            args.add(filter.getRedeemed());
+        }
+        if (filter.getExpiringBefore() != null) {
+            conditions.add(EXPIRATION_DATE + " < ?");
+            args.add(filter.getExpiringBefore());
+        }
+        if (filter.getCampaignId() != null) {
+            conditions.add("campaign_id = ?");
+            args.add(filter.getCampaignId());
+        }
+        if (filter.getCodePrefix() != null) {
+            // a prefix is a range of packed codes, so this is a range scan of the unique index
+            conditions.add("code BETWEEN ? AND ?");
+            args.add(CouponCode.packFloor(filter.getCodePrefix()));
+            args.add(CouponCode.packCeiling(filter.getCodePrefix()));
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    /*
+     * Sets the occupancy bit of codes being inserted; updates find their bit already set. Only bits
+     * this transaction flipped are released on rollback, so a loser of a concurrent insert never
+     * clears the winner's bit.
+     */
+    private void claim(List<Coupon> coupons) {
+        if (occupancy == null) {
+            return;
+        }
+        long[] claimed = new long[coupons.size()];
+        int count = 0;
+        for (Coupon coupon : coupons) {
+            long ordinal = CouponCode.ordinalOf(coupon.getCodeValue());
+            if (occupancy.set(ordinal)) {
+                claimed[count++] = ordinal;
+            }
+        }
+        if (count == 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        int claimedCount = count;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    for (int i = 0; i < claimedCount; i++) {
+                        occupancy.clear(claimed[i]);
+                    }
+                }
+            }
+        });
+    }
+
+    private Campaign campaign(UUID campaignId) {
+        if (campaignId == null) {
+            return null;
+        }
+        return campaignRepository.findById(campaignId)
+                .orElseThrow(() -> new IllegalStateException("Coupon references a missing campaign: " + campaignId));
+    }
+
     private Coupon toDomain(CouponEntity entity) {
         return Coupon.reconstruct(
                 entity.getId(),
-                entity.getCode(),
+                CouponCode.fromPacked(entity.getCode()).getValue(),
+                campaign(entity.getCampaignId()),
                 entity.getDescription(),
                 entity.getDiscountValue(),
                 entity.getExpirationDate(),
                 entity.isPublished(),
                 entity.isRedeemed(),
-                CouponStatus.from(entity.getStatus())
+                CouponStatus.from(entity.getStatus()),
+                entity.isOnePerCustomer(),
+                CustomerBitmap.fromBytes(entity.getRedeemedCustomers())
+        );
+    }
+
+    private Coupon toDomain(ResultSet resultSet) throws SQLException {
+        return Coupon.reconstruct(
+                resultSet.getObject("id", UUID.class),
+                CouponCode.fromPacked(resultSet.getInt("code")).getValue(),
+                campaign(resultSet.getObject("campaign_id", UUID.class)),
+                resultSet.getString("description"),
+                resultSet.getBigDecimal("discount_value"),
+                resultSet.getObject("expiration_date", LocalDateTime.class),
+                resultSet.getBoolean("published"),
+                resultSet.getBoolean("redeemed"),
+                CouponStatus.from(resultSet.getString("status")),
+                resultSet.getBoolean("one_per_customer"),
+                CustomerBitmap.fromBytes(resultSet.getBytes("redeemed_customers"))
         );
     }
 
     private CouponEntity toEntity(Coupon coupon) {
         return new CouponEntity(
                 coupon.getId(),
-                coupon.getCodeValue(),
-                coupon.getDescription().getValue(),
-                coupon.getDiscount().getValue(),
-                coupon.getExpirationDate().getValue(),
+                coupon.getCode().packed(),
+                coupon.getCampaign() == null ? null : coupon.getCampaign().getId(),
+                coupon.getOwnDescription() == null ? null : coupon.getOwnDescription().getValue(),
+                coupon.getOwnDiscount() == null ? null : coupon.getOwnDiscount().getValue(),
+                coupon.getOwnExpirationDate() == null ? null : coupon.getOwnExpirationDate().getValue(),
                 coupon.isPublished(),
                 coupon.isRedeemed(),
-                coupon.getStatus()
+                coupon.getStatus(),
+                coupon.isOnePerCustomer(),
+                coupon.getRedeemedCustomers().isEmpty() ? null : coupon.getRedeemedCustomers().toBytes()
         );
     }
 }
-
@@ -0,0 +1,40 @@
+package br.com.tenda.coupon.infrastructure.persistence;
+
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// the ORDER BY of the pages of coupons read without JPA, over the properties its page of CouponEntity is sorted by
+final class CouponOrder {
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "coupons.id",
+            "code", "coupons.code",
+            "description", "coupons.description",
+            "discountValue", "coupons.discount_value",
+            "expirationDate", "coupons.expiration_date",
+            "published", "coupons.published",
+            "redeemed", "coupons.redeemed",
+            "status", "coupons.status",
+            "onePerCustomer", "coupons.one_per_customer"
+    );
+
+    private CouponOrder() { }
+
+    static String orderBy(Sort sort) {
+        List<String> columns = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new InvalidCouponException("Coupons cannot be sorted by: " + order.getProperty());
+            }
+            columns.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        // the id last keeps pages stable across equal sort keys
+        columns.add("coupons.id");
+        return String.join(", ", columns);
+    }
+}
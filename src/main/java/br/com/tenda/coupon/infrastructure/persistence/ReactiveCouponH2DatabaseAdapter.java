@@ -0,0 +1,212 @@
+package br.com.tenda.coupon.infrastructure.persistence;
+
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.ReactiveCouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponCode;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.domain.vo.CustomerBitmap;
+import br.com.tenda.coupon.infrastructure.occupancy.CodeOccupancyBitmap;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * The reactive profile's coupon port over R2DBC, on the same H2 database as CouponH2DatabaseAdapter.
+ * Campaign values are joined into each row instead of loaded per coupon, and the occupancy bitmap
+ * is claimed and released the same way, through the reactive transaction's synchronizations.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCouponH2DatabaseAdapter implements ReactiveCouponRepository {
+
+    private static final String COLUMNS = "coupons.id, coupons.code, coupons.campaign_id, coupons.description, "
+            + "coupons.discount_value, coupons.expiration_date, coupons.published, coupons.redeemed, coupons.status, "
+            + "coupons.one_per_customer, "
+            // the column is a BLOB, which R2DBC only hands out as a stream
+            + "CAST(coupons.redeemed_customers AS VARBINARY) AS redeemed_customers, "
+            + "campaigns.description AS campaign_description, campaigns.discount_value AS campaign_discount_value, "
+            + "campaigns.expiration_date AS campaign_expiration_date";
+    private static final String SELECT_ALL =
+            "SELECT " + COLUMNS + " FROM coupons LEFT JOIN campaigns ON campaigns.id = coupons.campaign_id";
+    private static final String SELECT_ARCHIVED =
+            "SELECT " + COLUMNS + " FROM coupons_archive coupons LEFT JOIN campaigns ON campaigns.id = coupons.campaign_id";
+    private static final String MERGE = "MERGE INTO coupons (id, code, campaign_id, description, discount_value, "
+            + "expiration_date, published, redeemed, status, one_per_customer, redeemed_customers) KEY (id) VALUES "
+            + "(:id, :code, :campaignId, :description, :discountValue, :expirationDate, :published, :redeemed, :status, "
+            + ":onePerCustomer, :redeemedCustomers)";
+    private final DatabaseClient databaseClient;
+    // absent when coupon.occupancy.enabled=false: uniqueness checks then go to the database
+    private final CodeOccupancyBitmap occupancy;
+
+    public ReactiveCouponH2DatabaseAdapter(DatabaseClient databaseClient, ObjectProvider<CodeOccupancyBitmap> occupancy) {
+        this.databaseClient = databaseClient;
+        this.occupancy = occupancy.getIfAvailable();
+    }
+
+    @Override
+    public Mono<Coupon> save(Coupon coupon) {
+        return Mono.defer(() -> {
+            long claimed = claim(coupon);
+            return releaseOnRollback(claimed).flatMap(registered -> bind(databaseClient.sql(MERGE), coupon)
+                    .fetch()
+                    .rowsUpdated()
+                    .doOnError(ex -> {
+                        if (!registered) {
+                            release(claimed);
+                        }
+                    })
+                    .thenReturn(coupon));
+        });
+    }
+
+    @Override
+    public Mono<Coupon> findById(UUID id) {
+        return databaseClient.sql(SELECT_ALL + " WHERE coupons.id = :id")
+                .bind("id", id)
+                .map(ReactiveCouponH2DatabaseAdapter::toDomain)
+                .one();
+    }
+
+    @Override
+    public Mono<Coupon> findArchivedById(UUID id) {
+        return databaseClient.sql(SELECT_ARCHIVED + " WHERE coupons.id = :id")
+                .bind("id", id)
+                .map(ReactiveCouponH2DatabaseAdapter::toDomain)
+                .one();
+    }
+
+    @Override
+    public Mono<Boolean> existsByCode(String code) {
+        long ordinal = CouponCode.ordinalOf(code);
+        if (ordinal < 0) {
+            return Mono.just(false);
+        }
+        if (occupancy != null) {
+            return Mono.fromSupplier(() -> occupancy.isSet(ordinal));
+        }
+        return databaseClient.sql("SELECT (SELECT COUNT(*) FROM coupons WHERE code = :code) "
+                        + "+ (SELECT COUNT(*) FROM coupons_archive WHERE code = :code) AS total")
+                .bind("code", CouponCode.pack(code))
+                .map(row -> row.get("total", Long.class))
+                .one()
+                .map(total -> total > 0);
+    }
+
+    @Override
+    public Mono<Page<Coupon>> findAll(Pageable pageable) {
+        return Mono.defer(() -> {
+            String sql = SELECT_ALL + " ORDER BY " + CouponOrder.orderBy(pageable.getSort()) + " LIMIT :limit OFFSET :offset";
+            Mono<List<Coupon>> content = databaseClient.sql(sql)
+                    .bind("limit", pageable.getPageSize())
+                    .bind("offset", pageable.getOffset())
+                    .map(ReactiveCouponH2DatabaseAdapter::toDomain)
+                    .all()
+                    .collectList();
+            Mono<Long> total = databaseClient.sql("SELECT COUNT(*) AS total FROM coupons")
+                    .map(row -> row.get("total", Long.class))
+                    .one();
+            return Mono.zip(content, total, (coupons, count) -> new PageImpl<>(coupons, pageable, count));
+        });
+    }
+
+    private long claim(Coupon coupon) {
+        if (occupancy == null) {
+            return -1;
+        }
+        long ordinal = CouponCode.ordinalOf(coupon.getCodeValue());
+        return occupancy.set(ordinal) ? ordinal : -1;
+    }
+
+    private void release(long claimed) {
+        if (claimed >= 0) {
+            occupancy.clear(claimed);
+        }
+    }
+
+    /*
+     * Clears a bit this call flipped if the surrounding transaction does not commit. Emits whether a
+     * transaction took that over; without one the caller releases the bit on a failed write itself.
+     */
+    private Mono<Boolean> releaseOnRollback(long claimed) {
+        if (claimed < 0) {
+            return Mono.just(true);
+        }
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                .map(synchronizations -> {
+                    synchronizations.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public Mono<Void> afterCompletion(int status) {
+                            if (status != STATUS_COMMITTED) {
+                                release(claimed);
+                            }
+                            return Mono.empty();
+                        }
+                    });
+                    return true;
+                })
+                .onErrorResume(NoTransactionException.class, ex -> Mono.empty())
+                .defaultIfEmpty(false);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec, Coupon coupon) {
+        spec = spec.bind("id", coupon.getId())
+                .bind("code", coupon.getCode().packed())
+                .bind("published", coupon.isPublished())
+                .bind("redeemed", coupon.isRedeemed())
+                .bind("status", coupon.getStatus())
+                .bind("onePerCustomer", coupon.isOnePerCustomer());
+        spec = bindNullable(spec, "campaignId", coupon.getCampaign() == null ? null : coupon.getCampaign().getId(), UUID.class);
+        spec = bindNullable(spec, "description",
+                coupon.getOwnDescription() == null ? null : coupon.getOwnDescription().getValue(), String.class);
+        spec = bindNullable(spec, "discountValue",
+                coupon.getOwnDiscount() == null ? null : coupon.getOwnDiscount().getValue(), BigDecimal.class);
+        spec = bindNullable(spec, "expirationDate",
+                coupon.getOwnExpirationDate() == null ? null : coupon.getOwnExpirationDate().getValue(), LocalDateTime.class);
+        return bindNullable(spec, "redeemedCustomers",
+                coupon.getRedeemedCustomers().isEmpty() ? null : coupon.getRedeemedCustomers().toBytes(), byte[].class);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                                  Object value, Class<?> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    private static Coupon toDomain(Readable row) {
+        UUID campaignId = row.get("campaign_id", UUID.class);
+        Campaign campaign = campaignId == null ? null : Campaign.reconstruct(
+                campaignId,
+                row.get("campaign_description", String.class),
+                row.get("campaign_discount_value", BigDecimal.class),
+                row.get("campaign_expiration_date", LocalDateTime.class)
+        );
+        return Coupon.reconstruct(
+                row.get("id", UUID.class),
+                CouponCode.fromPacked(row.get("code", Integer.class)).getValue(),
+                campaign,
+                row.get("description", String.class),
+                row.get("discount_value", BigDecimal.class),
+                row.get("expiration_date", LocalDateTime.class),
+                Boolean.TRUE.equals(row.get("published", Boolean.class)),
+                Boolean.TRUE.equals(row.get("redeemed", Boolean.class)),
+                CouponStatus.from(row.get("status", String.class)),
+                Boolean.TRUE.equals(row.get("one_per_customer", Boolean.class)),
+                CustomerBitmap.fromBytes(row.get("redeemed_customers", byte[].class))
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.tenda.coupon.infrastructure.persistence;
+
+import br.com.tenda.coupon.infrastructure.persistence.entity.CampaignEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface SpringDataCampaignRepository extends JpaRepository<CampaignEntity, UUID> {
+}
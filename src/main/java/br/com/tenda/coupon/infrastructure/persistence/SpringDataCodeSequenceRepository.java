@@ -0,0 +1,16 @@
+package br.com.tenda.coupon.infrastructure.persistence;
+
+import br.com.tenda.coupon.infrastructure.persistence.entity.CodeSequenceEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface SpringDataCodeSequenceRepository extends JpaRepository<CodeSequenceEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<CodeSequenceEntity> findLockedByName(String name);
+}
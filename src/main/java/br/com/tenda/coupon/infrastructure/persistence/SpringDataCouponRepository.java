@@ -1,17 +1,28 @@
 package br.com.tenda.coupon.infrastructure.persistence;
 
 import br.com.tenda.coupon.infrastructure.persistence.entity.CouponEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface SpringDataCouponRepository extends JpaRepository<CouponEntity, UUID> {
 
-    boolean existsByCode(String code);
+    Optional<CouponEntity> findByCode(int code);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<CouponEntity> findLockedByCode(int code);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<CouponEntity> findLockedById(UUID id);
+
+    boolean existsByCode(int code);
 
     Page<CouponEntity> findAllByStatusNot(String status, Pageable pageable);
 }
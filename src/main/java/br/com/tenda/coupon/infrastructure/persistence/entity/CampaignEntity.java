@@ -0,0 +1,36 @@
+package br.com.tenda.coupon.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "campaigns", indexes = @Index(name = "idx_campaigns_expiration", columnList = "expiration_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal discountValue;
+
+    @Column(nullable = false)
+    private LocalDateTime expirationDate;
+}
@@ -0,0 +1,25 @@
+package br.com.tenda.coupon.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "code_sequences")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CodeSequenceEntity {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private long nextValue;
+}
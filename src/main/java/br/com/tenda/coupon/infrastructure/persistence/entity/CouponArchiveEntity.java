@@ -0,0 +1,59 @@
+package br.com.tenda.coupon.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/*
+ * Cold copy of coupons moved out of the coupons table by the archiver, written and read with plain
+ * SQL by CouponH2DatabaseAdapter; mapped only so the table is created with the schema.
+ */
+@Entity
+@Table(name = "coupons_archive", indexes = {
+        @Index(name = "idx_coupons_archive_code", columnList = "code")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class CouponArchiveEntity {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private int code;
+
+    @Column(name = "campaign_id")
+    private UUID campaignId;
+
+    private String description;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal discountValue;
+
+    private LocalDateTime expirationDate;
+
+    @Column(nullable = false)
+    private boolean published;
+
+    @Column(nullable = false)
+    private boolean redeemed;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(nullable = false)
+    private boolean onePerCustomer;
+
+    @Lob
+    @Column(name = "redeemed_customers")
+    private byte[] redeemedCustomers;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
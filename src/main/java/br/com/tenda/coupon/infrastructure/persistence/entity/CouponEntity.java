@@ -11,7 +11,13 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "coupons")
+@Table(name = "coupons", indexes = {
+        @Index(name = "idx_coupons_campaign", columnList = "campaign_id"),
+        // expiration sweep: ACTIVE coupons in expiration order
+        @Index(name = "idx_coupons_status_expiration", columnList = "status, expiration_date"),
+        // expiring-soon listing: a range scan in the order the cursor pages through
+        @Index(name = "idx_coupons_expiration_id", columnList = "expiration_date, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,16 +27,19 @@ public class CouponEntity {
     @Id
     private UUID id;
 
-    @Column(nullable = false, unique = true, length = 6)
-    private String code;
+    // CouponCode.pack: a 4-byte key instead of VARCHAR(6) for the unique index
+    @Column(nullable = false, unique = true)
+    private int code;
 
-    @Column(nullable = false)
+    @Column(name = "campaign_id")
+    private UUID campaignId;
+
+    // null when inherited from the campaign
     private String description;
 
-    @Column(nullable = false, precision = 10, scale = 2)
+    @Column(precision = 10, scale = 2)
     private BigDecimal discountValue;
 
-    @Column(nullable = false)
     private LocalDateTime expirationDate;
 
     @Column(nullable = false)
@@ -41,6 +50,13 @@ public class CouponEntity {
 
     @Column(nullable = false)
     private String status;
+
+    @Column(nullable = false)
+    private boolean onePerCustomer;
+
+    @Lob
+    @Column(name = "redeemed_customers")
+    private byte[] redeemedCustomers;
 }
 
 
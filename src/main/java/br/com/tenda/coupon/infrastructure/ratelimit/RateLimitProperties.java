@@ -0,0 +1,35 @@
+package br.com.tenda.coupon.infrastructure.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private int capacity = 20;
+
+    private double refillPerSecond = 10;
+
+    private int stripes = 64;
+
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    // beyond this, unknown clients of a stripe share one overflow bucket
+    private int maxBucketsPerStripe = 16_384;
+
+    private String clientKeyHeader = "X-API-Key";
+
+    // keys that get their own bucket; any other value in the header is limited by IP
+    private Set<String> apiKeys = Set.of();
+
+    private List<String> paths = List.of("/api/v1/coupons/validate", "/api/v1/coupons/redeem");
+}
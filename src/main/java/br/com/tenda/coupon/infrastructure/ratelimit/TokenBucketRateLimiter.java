@@ -0,0 +1,137 @@
+package br.com.tenda.coupon.infrastructure.ratelimit;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/*
+ * One token bucket per client key. Keys are spread over a fixed number of
+ * lock stripes, each owning an access-ordered LinkedHashMap, so concurrent
+ * clients rarely contend and a hit costs one hash lookup plus a few
+ * arithmetic operations. Buckets are refilled lazily on access. Since the
+ * least recently used bucket is always the eldest, each acquire sweeps at most
+ * SWEEP_BATCH buckets off the head once they have been idle long enough to be
+ * full again, and stops at the first one that has not. A full stripe hands
+ * clients it does not know one shared overflow bucket instead of growing or
+ * evicting a bucket that still owes tokens.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int SWEEP_BATCH = 16;
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final double capacity;
+    private final double tokensPerNano;
+    private final long idleNanos;
+    private final int maxBucketsPerStripe;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond, int stripes, Duration idleTimeout,
+                                  int maxBucketsPerStripe, LongSupplier nanoClock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Rate limit capacity must be at least 1");
+        }
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit refill rate must be positive");
+        }
+        if (maxBucketsPerStripe < 1) {
+            throw new IllegalArgumentException("Rate limit buckets per stripe must be at least 1");
+        }
+        int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(new Bucket(capacity, nanoClock.getAsLong()));
+        }
+        this.mask = stripeCount - 1;
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / 1_000_000_000.0;
+        // A bucket evicted before it is full again would hand out free tokens on its next request.
+        this.idleNanos = Math.max(idleTimeout.toNanos(), (long) Math.ceil(capacity / tokensPerNano));
+        this.maxBucketsPerStripe = maxBucketsPerStripe;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Takes one token from the client's bucket.
+     *
+     * @return 0 when the request is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String clientKey) {
+        long now = nanoClock.getAsLong();
+        Stripe stripe = stripes[spread(clientKey.hashCode()) & mask];
+        stripe.lock.lock();
+        try {
+            stripe.sweep(now, idleNanos);
+            Bucket bucket = stripe.buckets.get(clientKey);
+            if (bucket == null && stripe.buckets.size() < maxBucketsPerStripe) {
+                bucket = new Bucket(capacity, now);
+                stripe.buckets.put(clientKey, bucket);
+            } else {
+                if (bucket == null) {
+                    bucket = stripe.overflow;
+                }
+                bucket.tokens = Math.min(capacity, bucket.tokens + (now - bucket.updatedAt) * tokensPerNano);
+                bucket.updatedAt = now;
+            }
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, Bucket> buckets = new LinkedHashMap<>(16, 0.75f, true);
+        private final Bucket overflow;
+
+        private Stripe(Bucket overflow) {
+            this.overflow = overflow;
+        }
+
+        private void sweep(long now, long idleNanos) {
+            Iterator<Bucket> iterator = buckets.values().iterator();
+            for (int swept = 0; swept < SWEEP_BATCH && iterator.hasNext(); swept++) {
+                if (now - iterator.next().updatedAt < idleNanos) {
+                    return;
+                }
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
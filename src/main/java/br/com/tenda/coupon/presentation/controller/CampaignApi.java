@@ -0,0 +1,137 @@
+package br.com.tenda.coupon.presentation.controller;
+
+import br.com.tenda.coupon.presentation.dto.CampaignRequest;
+import br.com.tenda.coupon.presentation.dto.CampaignResponse;
+import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import br.com.tenda.coupon.presentation.dto.CreateCampaignCouponRequest;
+import br.com.tenda.coupon.presentation.dto.GenerateCampaignCouponsRequest;
+import br.com.tenda.coupon.presentation.dto.GeneratedCouponsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.UUID;
+
+@Tag(name = "Campaigns", description = "API para campanhas: atributos compartilhados pelos cupons de uma campanha")
+public interface CampaignApi {
+
+    @Operation(
+        summary = "Criar campanha",
+        description = "Cria uma campanha com descrição, desconto e expiração herdados pelos seus cupons"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Campanha criada com sucesso",
+            content = @Content(schema = @Schema(implementation = CampaignResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados inválidos ou violação de regra de negócio"
+        )
+    })
+    ResponseEntity<CampaignResponse> createCampaign(@Valid @RequestBody CampaignRequest request);
+
+    @Operation(
+        summary = "Buscar campanha por ID",
+        description = "Retorna os atributos atuais da campanha"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Campanha encontrada",
+            content = @Content(schema = @Schema(implementation = CampaignResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Campanha não encontrada"
+        )
+    })
+    ResponseEntity<CampaignResponse> getCampaignById(
+            @Parameter(description = "ID da campanha", example = "7c9e6679-7425-40de-944b-e07fc1f90ae7")
+            @PathVariable("id") UUID id);
+
+    @Operation(
+        summary = "Alterar campanha",
+        description = "Substitui descrição, desconto e expiração da campanha com a alteração de uma única linha. " +
+                      "Todos os cupons que herdam esses atributos passam a refletir os novos valores; " +
+                      "cupons que os sobrescrevem mantêm os seus."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Campanha alterada",
+            content = @Content(schema = @Schema(implementation = CampaignResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados inválidos ou violação de regra de negócio"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Campanha não encontrada"
+        )
+    })
+    ResponseEntity<CampaignResponse> updateCampaign(
+            @Parameter(description = "ID da campanha", example = "7c9e6679-7425-40de-944b-e07fc1f90ae7")
+            @PathVariable("id") UUID id,
+            @Valid @RequestBody CampaignRequest request);
+
+    @Operation(
+        summary = "Criar cupom da campanha",
+        description = "Cria um cupom que herda os atributos da campanha. Descrição, desconto ou expiração " +
+                      "informados sobrescrevem os da campanha apenas para este cupom."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Cupom criado com sucesso",
+            content = @Content(schema = @Schema(implementation = CouponResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados inválidos ou código já existente"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Campanha não encontrada"
+        )
+    })
+    ResponseEntity<CouponResponse> createCampaignCoupon(
+            @Parameter(description = "ID da campanha", example = "7c9e6679-7425-40de-944b-e07fc1f90ae7")
+            @PathVariable("id") UUID id,
+            @Valid @RequestBody CreateCampaignCouponRequest request);
+
+    @Operation(
+        summary = "Gerar cupons da campanha",
+        description = "Gera até 10000 cupons com códigos únicos que herdam todos os atributos da campanha; " +
+                      "cada linha guarda apenas o código, os indicadores e a referência à campanha."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Cupons gerados com sucesso",
+            content = @Content(schema = @Schema(implementation = GeneratedCouponsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Quantidade fora do intervalo permitido"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Campanha não encontrada"
+        )
+    })
+    ResponseEntity<GeneratedCouponsResponse> generateCampaignCoupons(
+            @Parameter(description = "ID da campanha", example = "7c9e6679-7425-40de-944b-e07fc1f90ae7")
+            @PathVariable("id") UUID id,
+            @Valid @RequestBody GenerateCampaignCouponsRequest request);
+}
@@ -0,0 +1,103 @@
+package br.com.tenda.coupon.presentation.controller;
+
+import br.com.tenda.coupon.application.usecase.CreateCampaignUseCase;
+import br.com.tenda.coupon.application.usecase.CreateCouponUseCase;
+import br.com.tenda.coupon.application.usecase.GenerateCouponsUseCase;
+import br.com.tenda.coupon.application.usecase.GetCampaignByIdUseCase;
+import br.com.tenda.coupon.application.usecase.UpdateCampaignUseCase;
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.presentation.dto.CampaignRequest;
+import br.com.tenda.coupon.presentation.dto.CampaignResponse;
+import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import br.com.tenda.coupon.presentation.dto.CreateCampaignCouponRequest;
+import br.com.tenda.coupon.presentation.dto.GenerateCampaignCouponsRequest;
+import br.com.tenda.coupon.presentation.dto.GeneratedCouponsResponse;
+import br.com.tenda.coupon.presentation.mapper.CampaignMapper;
+import br.com.tenda.coupon.presentation.mapper.CouponMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/campaigns")
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CampaignController implements CampaignApi {
+
+    private final CreateCampaignUseCase createCampaignUseCase;
+    private final GetCampaignByIdUseCase getCampaignByIdUseCase;
+    private final UpdateCampaignUseCase updateCampaignUseCase;
+    private final CreateCouponUseCase createCouponUseCase;
+    private final GenerateCouponsUseCase generateCouponsUseCase;
+    private final Clock clock;
+
+    @PostMapping
+    @Override
+    public ResponseEntity<CampaignResponse> createCampaign(@Valid @RequestBody CampaignRequest request) {
+        Campaign campaign = createCampaignUseCase.execute(
+                request.getDescription(),
+                request.getDiscountValue(),
+                request.getExpirationDate()
+        );
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(CampaignMapper.toResponse(campaign));
+    }
+
+    @GetMapping("/{id}")
+    @Override
+    public ResponseEntity<CampaignResponse> getCampaignById(@PathVariable("id") UUID id) {
+        return ResponseEntity.ok(CampaignMapper.toResponse(getCampaignByIdUseCase.execute(id)));
+    }
+
+    @PutMapping("/{id}")
+    @Override
+    public ResponseEntity<CampaignResponse> updateCampaign(@PathVariable("id") UUID id, @Valid @RequestBody CampaignRequest request) {
+        Campaign campaign = updateCampaignUseCase.execute(
+                id,
+                request.getDescription(),
+                request.getDiscountValue(),
+                request.getExpirationDate()
+        );
+        return ResponseEntity.ok(CampaignMapper.toResponse(campaign));
+    }
+
+    @PostMapping("/{id}/coupons")
+    @Override
+    public ResponseEntity<CouponResponse> createCampaignCoupon(@PathVariable("id") UUID id,
+                                                               @Valid @RequestBody CreateCampaignCouponRequest request) {
+        Coupon coupon = createCouponUseCase.execute(
+                id,
+                request.getCode(),
+                request.getDescription(),
+                request.getDiscountValue(),
+                request.getExpirationDate(),
+                request.isPublished(),
+                request.isOnePerCustomer()
+        );
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(CouponMapper.toResponse(coupon, LocalDateTime.now(clock)));
+    }
+
+    @PostMapping("/{id}/coupons/generate")
+    @Override
+    public ResponseEntity<GeneratedCouponsResponse> generateCampaignCoupons(@PathVariable("id") UUID id,
+                                                                            @Valid @RequestBody GenerateCampaignCouponsRequest request) {
+        List<Coupon> coupons = generateCouponsUseCase.execute(id, request.getCount(), request.isPublished(), request.isOnePerCustomer());
+
+        List<String> codes = coupons.stream().map(Coupon::getCodeValue).toList();
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(new GeneratedCouponsResponse(codes.size(), codes));
+    }
+}
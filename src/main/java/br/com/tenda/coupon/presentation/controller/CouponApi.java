@@ -1,7 +1,22 @@
 package br.com.tenda.coupon.presentation.controller;
 
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.presentation.dto.BulkDeleteCouponsRequest;
+import br.com.tenda.coupon.presentation.dto.BulkDeleteCouponsResponse;
+import br.com.tenda.coupon.presentation.dto.CartEvaluationResponse;
 import br.com.tenda.coupon.presentation.dto.CreateCouponRequest;
+import br.com.tenda.coupon.presentation.dto.CouponImportErrorResponse;
+import br.com.tenda.coupon.presentation.dto.CouponImportSummaryResponse;
+import br.com.tenda.coupon.presentation.dto.CouponPageResponse;
 import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import br.com.tenda.coupon.presentation.dto.CouponValidationResponse;
+import br.com.tenda.coupon.presentation.dto.EvaluateCartRequest;
+import br.com.tenda.coupon.presentation.dto.ExpiringCouponsResponse;
+import br.com.tenda.coupon.presentation.dto.GenerateCouponsRequest;
+import br.com.tenda.coupon.presentation.dto.GeneratedCouponsResponse;
+import br.com.tenda.coupon.presentation.dto.RedeemCouponRequest;
+import br.com.tenda.coupon.presentation.dto.TransitionCouponsRequest;
+import br.com.tenda.coupon.presentation.dto.TransitionCouponsResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -12,13 +27,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Tag(name = "Coupons", description = "API para gerenciamento de cupons de desconto")
@@ -62,6 +84,77 @@ public interface CouponApi {
     )
     ResponseEntity<CouponResponse> createCoupon(@Valid @RequestBody CreateCouponRequest request);
 
+    @Operation(
+        summary = "Deletar cupons em lote",
+        description = "Aplica soft delete a uma lista de IDs ou a todos os cupons que atendem ao filtro (prefixo do código, " +
+                      "expiração anterior a uma data e/ou status). A deleção roda em blocos de 1000 cupons, cada um com " +
+                      "um único UPDATE em uma transação curta. Cupons já deletados ou inexistentes não são contados."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cupons deletados",
+            content = @Content(schema = @Schema(implementation = BulkDeleteCouponsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Nenhum critério informado, IDs e filtro juntos ou prefixo inválido"
+        )
+    })
+    ResponseEntity<BulkDeleteCouponsResponse> bulkDeleteCoupons(@Valid @RequestBody BulkDeleteCouponsRequest request);
+
+    @Operation(
+        summary = "Publicar, despublicar, ativar ou desativar cupons em lote",
+        description = "Aplica a transição (publish, unpublish, activate ou deactivate) à lista de IDs em blocos de 1000 " +
+                      "cupons, cada um com um único UPDATE condicional em uma transação curta. Cupons deletados, " +
+                      "inexistentes ou que já estão no estado de destino não são contados."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cupons alterados",
+            content = @Content(schema = @Schema(implementation = TransitionCouponsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Transição desconhecida ou lista de IDs vazia"
+        )
+    })
+    ResponseEntity<TransitionCouponsResponse> transitionCoupons(
+            @Parameter(description = "Transição: publish, unpublish, activate ou deactivate", example = "publish")
+            @PathVariable("transition") String transition,
+            @Valid @RequestBody TransitionCouponsRequest request);
+
+    @Operation(
+        summary = "Publicar, despublicar, ativar ou desativar cupom",
+        description = "Aplica a transição ao cupom. Repetir uma transição já aplicada não altera o cupom. " +
+                      "Cupons inativos ou não publicados não podem ser resgatados."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cupom no estado de destino",
+            content = @Content(schema = @Schema(implementation = CouponResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Transição desconhecida"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Cupom não encontrado"
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Cupom deletado"
+        )
+    })
+    ResponseEntity<CouponResponse> transitionCoupon(
+            @Parameter(description = "ID do cupom", example = "550e8400-e29b-41d4-a716-446655440000")
+            @PathVariable("id") UUID id,
+            @Parameter(description = "Transição: publish, unpublish, activate ou deactivate", example = "publish")
+            @PathVariable("transition") String transition);
+
     @Operation(
         summary = "Buscar cupom por ID",
         description = "Retorna os detalhes de um cupom específico pelo seu identificador único"
@@ -77,7 +170,93 @@ public interface CouponApi {
             description = "Cupom não encontrado"
         )
     })
-    ResponseEntity<CouponResponse> getCouponById(@PathVariable("id") UUID id);
+    ResponseEntity<CouponResponse> getCouponById(
+        @PathVariable("id") UUID id,
+        @Parameter(description = "Procura também entre os cupons arquivados")
+        @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived,
+        @Parameter(description = "Propriedades do cupom a retornar, separadas por vírgula; todas quando ausente",
+            example = "code,discountValue,expirationDate")
+        @RequestParam(value = "fields", required = false) String fields
+    );
+
+    @Operation(
+        summary = "Gerar cupons em lote",
+        description = "Gera de 1 a 10000 cupons com códigos únicos criados pelo servidor a partir de uma permutação " +
+                      "com chave do espaço de 36^6 códigos. Os códigos não são sequenciais e dispensam tentativa e erro."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Cupons gerados com sucesso",
+            content = @Content(schema = @Schema(implementation = GeneratedCouponsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados inválidos ou violação de regra de negócio"
+        )
+    })
+    ResponseEntity<GeneratedCouponsResponse> generateCoupons(@Valid @RequestBody GenerateCouponsRequest request);
+
+    @Operation(
+        summary = "Importar cupons de arquivo CSV",
+        description = "Importa cupons de um arquivo CSV, opcionalmente compactado com gzip, lido em fluxo sem carregar o " +
+                      "arquivo em memória. O cabeçalho deve conter code, description, discountValue e expirationDate " +
+                      "(published e onePerCustomer são opcionais). Cada linha passa pelas mesmas validações da criação " +
+                      "e os cupons são gravados em lotes. A resposta é um relatório NDJSON enviado durante a importação: " +
+                      "uma linha por linha rejeitada e, ao final, os totais."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Importação processada; o relatório lista as linhas rejeitadas e termina com os totais",
+            content = @Content(
+                mediaType = "application/x-ndjson",
+                schema = @Schema(oneOf = {CouponImportErrorResponse.class, CouponImportSummaryResponse.class}),
+                examples = @ExampleObject(value = """
+                    {"line":3,"code":"AB-12","error":"Coupon code must have exactly 6 alphanumeric characters (after removing special characters)"}
+                    {"imported":2,"rejected":1}
+                    """)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Arquivo vazio ou cabeçalho sem as colunas obrigatórias"
+        )
+    })
+    ResponseEntity<StreamingResponseBody> importCoupons(
+        @Parameter(description = "Arquivo CSV (ou CSV.gz)") @RequestPart("file") MultipartFile file
+    ) throws IOException;
+
+    @Operation(
+        summary = "Exportar cupons",
+        description = "Exporta todos os cupons que atendem aos filtros em NDJSON ou CSV. As linhas são lidas do banco " +
+                      "com um cursor e escritas direto na resposta, sem paginação e com memória constante. O CSV usa " +
+                      "os mesmos nomes de coluna da importação."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Exportação enviada em fluxo",
+            content = {
+                @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = CouponResponse.class)),
+                @Content(mediaType = "text/csv")
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Formato ou filtro inválido"
+        )
+    })
+    ResponseEntity<StreamingResponseBody> exportCoupons(
+        @Parameter(description = "Formato: ndjson ou csv", example = "ndjson") @RequestParam(value = "format", defaultValue = "ndjson") String format,
+        @Parameter(description = "Filtra pelo status") @RequestParam(value = "status", required = false) CouponStatus status,
+        @Parameter(description = "Filtra por publicado") @RequestParam(value = "published", required = false) Boolean published,
+        @Parameter(description = "Filtra por resgatado") @RequestParam(value = "redeemed", required = false) Boolean redeemed,
+        @Parameter(description = "Somente cupons que expiram antes desta data", example = "2026-12-31T23:59:59")
+        @RequestParam(value = "expiringBefore", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expiringBefore,
+        @Parameter(description = "Inclui os cupons arquivados, após os ativos")
+        @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived
+    );
 
     @Operation(
         summary = "Deletar cupom",
@@ -103,21 +282,132 @@ public interface CouponApi {
         summary = "Listar todos os cupons",
         description = "Retorna uma lista paginada de todos os cupons cadastrados no sistema. " +
                       "Utilize os parâmetros 'page' (número da página, começando em 0) e " +
-                      "'size' (quantidade de itens por página, padrão 20)."
+                      "'size' (quantidade de itens por página, padrão 20). Com 'fields', a consulta ao banco " +
+                      "deixa de ler a descrição e os clientes que resgataram quando não pedidos."
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
             description = "Lista de cupons retornada com sucesso"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Propriedade de cupom desconhecida em 'fields'"
         )
     })
-    ResponseEntity<Page<CouponResponse>> getAllCoupons(
+    ResponseEntity<CouponPageResponse> getAllCoupons(
         @Parameter(
             in = ParameterIn.QUERY,
             description = "Número da página (começa em 0)",
             schema = @Schema(type = "integer", defaultValue = "0")
         )
-        @PageableDefault(size = 20) Pageable pageable
+        @PageableDefault(size = 20) Pageable pageable,
+        @Parameter(description = "Propriedades do cupom a retornar, separadas por vírgula; todas quando ausente",
+            example = "code,discountValue,expirationDate")
+        @RequestParam(value = "fields", required = false) String fields
+    );
+
+    @Operation(
+        summary = "Listar cupons prestes a expirar",
+        description = "Retorna, do mais próximo ao mais distante, os cupons não deletados e não resgatados cuja " +
+                      "expiração (própria ou da campanha) cai dentro da janela informada a partir de agora. " +
+                      "Para a próxima página, repita a consulta com o 'nextCursor' recebido."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Página retornada com sucesso",
+            content = @Content(schema = @Schema(implementation = ExpiringCouponsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Janela, tamanho de página, cursor ou 'fields' inválido"
+        )
+    })
+    ResponseEntity<ExpiringCouponsResponse> getExpiringCoupons(
+        @Parameter(description = "Janela a partir de agora em ISO-8601 (máximo 366 dias)", example = "PT24H")
+        @RequestParam("within") Duration within,
+        @Parameter(description = "Cursor devolvido pela página anterior")
+        @RequestParam(value = "cursor", required = false) String cursor,
+        @Parameter(description = "Quantidade de cupons por página (1 a 1000)", example = "100")
+        @RequestParam(value = "size", defaultValue = "100") int size,
+        @Parameter(description = "Propriedades do cupom a retornar, separadas por vírgula; todas quando ausente",
+            example = "code,discountValue,expirationDate")
+        @RequestParam(value = "fields", required = false) String fields
     );
-}
 
+    @Operation(
+        summary = "Avaliar cupons em um carrinho",
+        description = "Calcula o desconto de cada cupom sobre o total do carrinho, na ordem informada, " +
+                      "sem alterar o estado dos cupons. O desconto total nunca ultrapassa o valor do carrinho."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Avaliação realizada com sucesso",
+            content = @Content(schema = @Schema(implementation = CartEvaluationResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Dados inválidos"
+        )
+    })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+        content = @Content(
+            schema = @Schema(implementation = EvaluateCartRequest.class),
+            examples = @ExampleObject(
+                name = "Exemplo de avaliação de carrinho",
+                value = """
+                    {
+                      "cartTotal": 150.00,
+                      "codes": ["ABC-123", "DEF456"]
+                    }
+                    """
+            )
+        )
+    )
+    ResponseEntity<CartEvaluationResponse> evaluateCart(@Valid @RequestBody EvaluateCartRequest request);
+
+    @Operation(
+        summary = "Resgatar cupom",
+        description = "Marca o cupom como resgatado. Apenas cupons ativos, publicados, dentro da validade " +
+                      "e ainda não resgatados podem ser resgatados. Cupons de um resgate por cliente exigem " +
+                      "customerId e recusam um segundo resgate do mesmo cliente."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cupom resgatado com sucesso",
+            content = @Content(schema = @Schema(implementation = CouponResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "customerId ausente ou inválido"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Cupom não encontrado"
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Cupom não pode ser resgatado ou já foi resgatado por este cliente"
+        )
+    })
+    ResponseEntity<CouponResponse> redeemCoupon(@Valid @RequestBody RedeemCouponRequest request);
+
+    @Operation(
+        summary = "Validar código de cupom",
+        description = "Informa instantaneamente se um código é válido, expirado, deletado, resgatado ou desconhecido. " +
+                      "A resposta vem de um índice em memória e não consulta o banco de dados."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Validação realizada com sucesso",
+            content = @Content(schema = @Schema(implementation = CouponValidationResponse.class))
+        )
+    })
+    ResponseEntity<CouponValidationResponse> validateCoupon(
+        @Parameter(description = "Código do cupom", example = "ABC123") @RequestParam("code") String code
+    );
+}
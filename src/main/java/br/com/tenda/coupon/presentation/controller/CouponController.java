@@ -1,33 +1,97 @@
 package br.com.tenda.coupon.presentation.controller;
 
+import br.com.tenda.coupon.application.importer.CouponCsvReader;
+import br.com.tenda.coupon.application.importer.CouponImportSummary;
+import br.com.tenda.coupon.application.usecase.BulkDeleteCouponsUseCase;
 import br.com.tenda.coupon.application.usecase.CreateCouponUseCase;
 import br.com.tenda.coupon.application.usecase.DeleteCouponUseCase;
+import br.com.tenda.coupon.application.usecase.EvaluateCouponsUseCase;
+import br.com.tenda.coupon.application.usecase.ExportCouponsUseCase;
+import br.com.tenda.coupon.application.usecase.GenerateCouponsUseCase;
 import br.com.tenda.coupon.application.usecase.GetAllCouponsUseCase;
 import br.com.tenda.coupon.application.usecase.GetCouponByIdUseCase;
+import br.com.tenda.coupon.application.usecase.GetExpiringCouponsUseCase;
+import br.com.tenda.coupon.application.usecase.ImportCouponsUseCase;
+import br.com.tenda.coupon.application.usecase.RedeemCouponUseCase;
+import br.com.tenda.coupon.application.usecase.TransitionCouponsUseCase;
+import br.com.tenda.coupon.application.usecase.ValidateCouponCodeUseCase;
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.CartEvaluation;
 import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponFilter;
+import br.com.tenda.coupon.domain.repository.ExpirationCursor;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.domain.vo.CouponTransition;
+import br.com.tenda.coupon.presentation.dto.BulkDeleteCouponsRequest;
+import br.com.tenda.coupon.presentation.dto.BulkDeleteCouponsResponse;
+import br.com.tenda.coupon.presentation.dto.CartEvaluationResponse;
 import br.com.tenda.coupon.presentation.dto.CreateCouponRequest;
+import br.com.tenda.coupon.presentation.dto.CouponImportErrorResponse;
+import br.com.tenda.coupon.presentation.dto.CouponImportSummaryResponse;
+import br.com.tenda.coupon.presentation.dto.CouponField;
+import br.com.tenda.coupon.presentation.dto.CouponPageResponse;
 import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import br.com.tenda.coupon.presentation.dto.CouponValidationResponse;
+import br.com.tenda.coupon.presentation.dto.EvaluateCartRequest;
+import br.com.tenda.coupon.presentation.dto.ExpiringCouponsResponse;
+import br.com.tenda.coupon.presentation.dto.GenerateCouponsRequest;
+import br.com.tenda.coupon.presentation.dto.GeneratedCouponsResponse;
+import br.com.tenda.coupon.presentation.dto.RedeemCouponRequest;
+import br.com.tenda.coupon.presentation.dto.TransitionCouponsRequest;
+import br.com.tenda.coupon.presentation.dto.TransitionCouponsResponse;
+import br.com.tenda.coupon.presentation.export.CouponExportFormat;
+import br.com.tenda.coupon.presentation.export.CouponExportWriter;
+import br.com.tenda.coupon.presentation.mapper.CartEvaluationMapper;
 import br.com.tenda.coupon.presentation.mapper.CouponMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/coupons")
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CouponController implements CouponApi {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final CreateCouponUseCase createCouponUseCase;
     private final DeleteCouponUseCase deleteCouponUseCase;
+    private final BulkDeleteCouponsUseCase bulkDeleteCouponsUseCase;
     private final GetCouponByIdUseCase getCouponByIdUseCase;
     private final GetAllCouponsUseCase getAllCouponsUseCase;
+    private final GetExpiringCouponsUseCase getExpiringCouponsUseCase;
+    private final EvaluateCouponsUseCase evaluateCouponsUseCase;
+    private final GenerateCouponsUseCase generateCouponsUseCase;
+    private final RedeemCouponUseCase redeemCouponUseCase;
+    private final ValidateCouponCodeUseCase validateCouponCodeUseCase;
+    private final ImportCouponsUseCase importCouponsUseCase;
+    private final ExportCouponsUseCase exportCouponsUseCase;
+    private final TransitionCouponsUseCase transitionCouponsUseCase;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
 
     @PostMapping
     @Override
@@ -38,12 +102,85 @@ public class CouponController implements CouponApi {
                 request.getDiscountValue(),
                 request.getExpirationDate(),
                 request.isPublished(),
-                request.isRedeemed()
+                request.isRedeemed(),
+                request.isOnePerCustomer()
+        );
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(CouponMapper.toResponse(coupon, LocalDateTime.now(clock)));
+    }
+
+    @PostMapping("/generate")
+    @Override
+    public ResponseEntity<GeneratedCouponsResponse> generateCoupons(@Valid @RequestBody GenerateCouponsRequest request) {
+        List<Coupon> coupons = generateCouponsUseCase.execute(
+                request.getCount(),
+                request.getDescription(),
+                request.getDiscountValue(),
+                request.getExpirationDate(),
+                request.isPublished(),
+                request.isOnePerCustomer()
         );
 
+        List<String> codes = coupons.stream().map(Coupon::getCodeValue).toList();
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(CouponMapper.toResponse(coupon));
+                .body(new GeneratedCouponsResponse(codes.size(), codes));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = NDJSON)
+    @Override
+    public ResponseEntity<StreamingResponseBody> importCoupons(@RequestPart("file") MultipartFile file) throws IOException {
+        // the header is read up front so a file without the required columns is still a plain 400
+        CouponCsvReader reader = CouponCsvReader.open(file.getInputStream());
+        StreamingResponseBody report = output -> {
+            try (reader) {
+                SequenceWriter writer = objectMapper.writer()
+                        .withRootValueSeparator("\n")
+                        .writeValues(output);
+                CouponImportSummary summary = importCouponsUseCase.execute(reader, error -> {
+                    try {
+                        writer.write(new CouponImportErrorResponse(error.getLine(), error.getCode(), error.getMessage()));
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+                writer.write(new CouponImportSummaryResponse(summary.getImported(), summary.getRejected()));
+                writer.flush();
+                output.write('\n');
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(report);
+    }
+
+    @GetMapping("/export")
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCoupons(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "status", required = false) CouponStatus status,
+            @RequestParam(value = "published", required = false) Boolean published,
+            @RequestParam(value = "redeemed", required = false) Boolean redeemed,
+            @RequestParam(value = "expiringBefore", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime expiringBefore,
+            @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        CouponExportFormat exportFormat = CouponExportFormat.from(format);
+        CouponFilter filter = CouponFilter.builder()
+                .status(status)
+                .published(published)
+                .redeemed(redeemed)
+                .expiringBefore(expiringBefore)
+                .includeArchived(includeArchived)
+                .build();
+        StreamingResponseBody body = output -> {
+            CouponExportWriter writer = CouponExportWriter.open(exportFormat, output, objectMapper, LocalDateTime.now(clock));
+            exportCouponsUseCase.execute(filter, writer::write);
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"coupons." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 
     @DeleteMapping("/{id}")
@@ -53,19 +190,90 @@ public class CouponController implements CouponApi {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/bulk-delete")
+    @Override
+    public ResponseEntity<BulkDeleteCouponsResponse> bulkDeleteCoupons(@Valid @RequestBody BulkDeleteCouponsRequest request) {
+        boolean byFilter = request.getCodePrefix() != null || request.getExpiringBefore() != null || request.getStatus() != null;
+        if (request.getIds() != null && byFilter) {
+            throw new InvalidCouponException("Bulk delete takes either ids or filter criteria, not both");
+        }
+        long deleted = request.getIds() != null
+                ? bulkDeleteCouponsUseCase.execute(request.getIds())
+                : bulkDeleteCouponsUseCase.execute(request.getCodePrefix(), request.getExpiringBefore(), request.getStatus());
+        return ResponseEntity.ok(new BulkDeleteCouponsResponse(deleted));
+    }
+
+    @PostMapping("/bulk-{transition}")
+    @Override
+    public ResponseEntity<TransitionCouponsResponse> transitionCoupons(@PathVariable("transition") String transition,
+                                                                       @Valid @RequestBody TransitionCouponsRequest request) {
+        long updated = transitionCouponsUseCase.execute(request.getIds(), CouponTransition.from(transition));
+        return ResponseEntity.ok(new TransitionCouponsResponse(updated));
+    }
+
+    @PostMapping("/{id}/{transition}")
+    @Override
+    public ResponseEntity<CouponResponse> transitionCoupon(@PathVariable("id") UUID id,
+                                                           @PathVariable("transition") String transition) {
+        Coupon coupon = transitionCouponsUseCase.execute(id, CouponTransition.from(transition));
+        return ResponseEntity.ok(CouponMapper.toResponse(coupon, LocalDateTime.now(clock)));
+    }
+
     @GetMapping("/{id}")
     @Override
-    public ResponseEntity<CouponResponse> getCouponById(@PathVariable("id") UUID id) {
-        Coupon coupon = getCouponByIdUseCase.execute(id);
-        return ResponseEntity.ok(CouponMapper.toResponse(coupon));
+    public ResponseEntity<CouponResponse> getCouponById(@PathVariable("id") UUID id,
+                                                        @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived,
+                                                        @RequestParam(value = "fields", required = false) String fields) {
+        // validated here, applied to the body by CouponFieldsResponseBodyAdvice
+        CouponField.parse(fields);
+        Coupon coupon = getCouponByIdUseCase.execute(id, includeArchived);
+        return ResponseEntity.ok(CouponMapper.toResponse(coupon, LocalDateTime.now(clock)));
     }
 
     @GetMapping
     @Override
-    public ResponseEntity<Page<CouponResponse>> getAllCoupons(@PageableDefault(size = 20) Pageable pageable) {
-        Page<Coupon> couponsPage = getAllCouponsUseCase.execute(pageable);
-        Page<CouponResponse> responsePage = couponsPage.map(CouponMapper::toResponse);
-        return ResponseEntity.ok(responsePage);
+    public ResponseEntity<CouponPageResponse> getAllCoupons(@PageableDefault(size = 20) Pageable pageable,
+                                                            @RequestParam(value = "fields", required = false) String fields) {
+        Set<CouponField> selected = CouponField.parse(fields);
+        Page<Coupon> couponsPage = getAllCouponsUseCase.execute(pageable, CouponMapper.toProjection(selected));
+        return ResponseEntity.ok(CouponMapper.toPageResponse(couponsPage, LocalDateTime.now(clock), selected));
+    }
+
+    @GetMapping("/expiring")
+    @Override
+    public ResponseEntity<ExpiringCouponsResponse> getExpiringCoupons(
+            @RequestParam("within") Duration within,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "100") int size,
+            @RequestParam(value = "fields", required = false) String fields) {
+        // validated here, applied to the body by CouponFieldsResponseBodyAdvice
+        CouponField.parse(fields);
+        LocalDateTime now = LocalDateTime.now(clock);
+        GetExpiringCouponsUseCase.Slice slice = getExpiringCouponsUseCase.execute(
+                now, within, cursor == null ? null : ExpirationCursor.decode(cursor), size);
+        List<CouponResponse> content = slice.getCoupons().stream()
+                .map(coupon -> CouponMapper.toResponse(coupon, now))
+                .toList();
+        return ResponseEntity.ok(new ExpiringCouponsResponse(content, slice.getNext() == null ? null : slice.getNext().encode()));
+    }
+
+    @PostMapping("/evaluate")
+    @Override
+    public ResponseEntity<CartEvaluationResponse> evaluateCart(@Valid @RequestBody EvaluateCartRequest request) {
+        CartEvaluation evaluation = evaluateCouponsUseCase.execute(request.getCartTotal(), request.getCodes());
+        return ResponseEntity.ok(CartEvaluationMapper.toResponse(evaluation));
+    }
+
+    @PostMapping("/redeem")
+    @Override
+    public ResponseEntity<CouponResponse> redeemCoupon(@Valid @RequestBody RedeemCouponRequest request) {
+        Coupon coupon = redeemCouponUseCase.execute(request.getCode(), request.getCustomerId());
+        return ResponseEntity.ok(CouponMapper.toResponse(coupon, LocalDateTime.now(clock)));
     }
-}
 
+    @GetMapping("/validate")
+    @Override
+    public ResponseEntity<CouponValidationResponse> validateCoupon(@RequestParam("code") String code) {
+        return ResponseEntity.ok(new CouponValidationResponse(code, validateCouponCodeUseCase.execute(code)));
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.tenda.coupon.presentation.controller;
+
+import br.com.tenda.coupon.application.reactive.ReactiveCreateCouponUseCase;
+import br.com.tenda.coupon.application.reactive.ReactiveDeleteCouponUseCase;
+import br.com.tenda.coupon.application.reactive.ReactiveGetAllCouponsUseCase;
+import br.com.tenda.coupon.application.reactive.ReactiveGetCouponByIdUseCase;
+import br.com.tenda.coupon.presentation.dto.CouponPageResponse;
+import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import br.com.tenda.coupon.presentation.dto.CreateCouponRequest;
+import br.com.tenda.coupon.presentation.mapper.CouponMapper;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/*
+ * The create, read, list and delete endpoints of CouponApi on WebFlux, for the reactive profile.
+ * Same paths, requests and responses, pages included.
+ */
+@RestController
+// JSON first, so it stays the answer to Accept: */*
+@RequestMapping(value = "/api/v1/coupons", produces = {
+        MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, ReactiveCouponController.PROTOBUF})
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCouponController {
+
+    static final String PROTOBUF = "application/x-protobuf";
+
+    private final ReactiveCreateCouponUseCase createCouponUseCase;
+    private final ReactiveGetCouponByIdUseCase getCouponByIdUseCase;
+    private final ReactiveGetAllCouponsUseCase getAllCouponsUseCase;
+    private final ReactiveDeleteCouponUseCase deleteCouponUseCase;
+    private final Clock clock;
+
+    @PostMapping
+    public Mono<ResponseEntity<CouponResponse>> createCoupon(@Valid @RequestBody CreateCouponRequest request) {
+        return createCouponUseCase.execute(
+                        request.getCode(),
+                        request.getDescription(),
+                        request.getDiscountValue(),
+                        request.getExpirationDate(),
+                        request.isPublished(),
+                        request.isRedeemed(),
+                        request.isOnePerCustomer())
+                .map(coupon -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(CouponMapper.toResponse(coupon, LocalDateTime.now(clock))));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<CouponResponse>> getCouponById(@PathVariable("id") UUID id,
+                                                              @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        return getCouponByIdUseCase.execute(id, includeArchived)
+                .map(coupon -> ResponseEntity.ok(CouponMapper.toResponse(coupon, LocalDateTime.now(clock))));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<CouponPageResponse>> getAllCoupons(@PageableDefault(size = 20) Pageable pageable) {
+        return getAllCouponsUseCase.execute(pageable)
+                .map(page -> ResponseEntity.ok(CouponMapper.toPageResponse(page, LocalDateTime.now(clock))));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteCoupon(@PathVariable("id") UUID id) {
+        return deleteCouponUseCase.execute(id)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "Resultado da aplicação de um cupom no carrinho")
+public class AppliedDiscountResponse {
+
+    @Schema(description = "Código do cupom normalizado", example = "ABC123")
+    private String code;
+
+    @Schema(description = "Situação do cupom no momento da avaliação", example = "VALID")
+    private CouponAvailability availability;
+
+    @Schema(description = "Indica se o cupom gerou desconto", example = "true")
+    private boolean applied;
+
+    @Schema(description = "Valor efetivamente descontado", example = "10.50")
+    private BigDecimal discountValue;
+}
@@ -0,0 +1,35 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request para deletar cupons em lote por lista de IDs ou por filtro (informe apenas um dos dois)")
+public class BulkDeleteCouponsRequest {
+
+    @Size(max = 100_000, message = "At most 100000 ids can be deleted at once")
+    @Schema(description = "IDs dos cupons a deletar", example = "[\"550e8400-e29b-41d4-a716-446655440000\"]")
+    private List<UUID> ids;
+
+    @Schema(description = "Filtro: prefixo do código (1 a 6 caracteres alfanuméricos)", example = "BF24")
+    private String codePrefix;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Filtro: somente cupons que expiram antes desta data", example = "2026-12-31T23:59:59",
+            type = "string", format = "date-time", pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime expiringBefore;
+
+    @Schema(description = "Filtro: status atual do cupom", example = "INACTIVE")
+    private CouponStatus status;
+}
@@ -0,0 +1,14 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Resultado da deleção em lote")
+public class BulkDeleteCouponsResponse {
+
+    @Schema(description = "Quantidade de cupons deletados por esta requisição", example = "25000")
+    private long deleted;
+}
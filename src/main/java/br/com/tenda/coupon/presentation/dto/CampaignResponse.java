@@ -0,0 +1,31 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "Resposta contendo os dados da campanha")
+public class CampaignResponse {
+
+    @Schema(description = "ID único da campanha", example = "7c9e6679-7425-40de-944b-e07fc1f90ae7")
+    private UUID id;
+
+    @Schema(description = "Descrição da campanha", example = "Black Friday")
+    private String description;
+
+    @Schema(description = "Valor do desconto", example = "10.50")
+    private BigDecimal discountValue;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Data de expiração da campanha", example = "2026-11-30T23:59:59")
+    private LocalDateTime expirationDate;
+}
@@ -0,0 +1,28 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "Resposta da avaliação de cupons sobre um carrinho")
+public class CartEvaluationResponse {
+
+    @Schema(description = "Valor total do carrinho", example = "150.00")
+    private BigDecimal cartTotal;
+
+    @Schema(description = "Resultado por cupom, na ordem de aplicação")
+    private List<AppliedDiscountResponse> discounts;
+
+    @Schema(description = "Soma dos descontos aplicados", example = "10.50")
+    private BigDecimal totalDiscount;
+
+    @Schema(description = "Valor final após os descontos", example = "139.50")
+    private BigDecimal finalAmount;
+}
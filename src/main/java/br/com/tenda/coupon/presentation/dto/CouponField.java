@@ -0,0 +1,61 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/*
+ * The properties of CouponResponse in the order they are written, by the names ?fields= takes.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CouponField {
+
+    ID("id"),
+    CODE("code"),
+    CAMPAIGN_ID("campaignId"),
+    DESCRIPTION("description"),
+    DISCOUNT_VALUE("discountValue"),
+    EXPIRATION_DATE("expirationDate"),
+    PUBLISHED("published"),
+    REDEEMED("redeemed"),
+    STATUS("status"),
+    ONE_PER_CUSTOMER("onePerCustomer"),
+    CUSTOMER_REDEMPTIONS("customerRedemptions");
+
+    private final String property;
+
+    /**
+     * The fields a comma-separated list of properties names, or all of them for {@code null}.
+     */
+    public static Set<CouponField> parse(String fields) {
+        if (fields == null) {
+            return EnumSet.allOf(CouponField.class);
+        }
+        Set<CouponField> selected = EnumSet.noneOf(CouponField.class);
+        for (String property : fields.split(",")) {
+            selected.add(fromProperty(property.strip()));
+        }
+        return selected;
+    }
+
+    public static CouponField fromProperty(String property) {
+        for (CouponField field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new InvalidCouponException("Unknown coupon field: " + property + " (use any of " + properties() + ")");
+    }
+
+    private static String properties() {
+        StringBuilder names = new StringBuilder();
+        for (CouponField field : values()) {
+            names.append(names.isEmpty() ? "" : ", ").append(field.property);
+        }
+        return names.toString();
+    }
+}
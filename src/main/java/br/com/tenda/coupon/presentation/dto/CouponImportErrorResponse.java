@@ -0,0 +1,20 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Linha rejeitada na importação")
+public class CouponImportErrorResponse {
+
+    @Schema(description = "Número da linha no arquivo (o cabeçalho é a linha 1)", example = "42")
+    private long line;
+
+    @Schema(description = "Código informado na linha", example = "AB-12")
+    private String code;
+
+    @Schema(description = "Motivo da rejeição", example = "Coupon code must have exactly 6 alphanumeric characters (after removing special characters)")
+    private String error;
+}
@@ -0,0 +1,17 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Totais da importação, enviados na última linha do relatório")
+public class CouponImportSummaryResponse {
+
+    @Schema(description = "Cupons importados", example = "99850")
+    private long imported;
+
+    @Schema(description = "Linhas rejeitadas", example = "150")
+    private long rejected;
+}
@@ -0,0 +1,37 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Página de cupons com os metadados da paginação")
+public class CouponPageResponse {
+
+    @Schema(description = "Cupons da página")
+    private List<CouponResponse> content;
+
+    @Schema(description = "Metadados da paginação")
+    private PageMetadata page;
+
+    @Getter
+    @AllArgsConstructor
+    @Schema(description = "Metadados da paginação")
+    public static class PageMetadata {
+
+        @Schema(description = "Tamanho da página pedido", example = "20")
+        private long size;
+
+        @Schema(description = "Número da página (começa em 0)", example = "0")
+        private long number;
+
+        @Schema(description = "Total de cupons", example = "137")
+        private long totalElements;
+
+        @Schema(description = "Total de páginas", example = "7")
+        private long totalPages;
+    }
+}
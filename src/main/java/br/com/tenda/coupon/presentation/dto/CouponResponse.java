@@ -1,6 +1,6 @@
 package br.com.tenda.coupon.presentation.dto;
 
-import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.domain.vo.CouponEffectiveStatus;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -23,6 +23,10 @@ public class CouponResponse {
     @Schema(description = "Código do cupom (6 caracteres alfanuméricos)", example = "ABC123")
     private String code;
 
+    @Schema(description = "ID da campanha do cupom, se houver; atributos não sobrescritos vêm dela",
+            example = "7c9e6679-7425-40de-944b-e07fc1f90ae7")
+    private UUID campaignId;
+
     @Schema(description = "Descrição do cupom", example = "Desconto de primavera")
     private String description;
 
@@ -39,7 +43,14 @@ public class CouponResponse {
     @Schema(description = "Indica se o cupom foi resgatado", example = "true")
     private boolean redeemed;
 
-    @Schema(description = "Status do cupom", example = "ACTIVE", allowableValues = {"ACTIVE", "INACTIVE", "DELETED"})
-    private CouponStatus status;
+    @Schema(description = "Status efetivo do cupom no momento da consulta, considerando resgate e expiração",
+            example = "ACTIVE", allowableValues = {"ACTIVE", "INACTIVE", "EXPIRED", "REDEEMED", "DELETED"})
+    private CouponEffectiveStatus status;
+
+    @Schema(description = "Indica se o cupom é limitado a um resgate por cliente", example = "false")
+    private boolean onePerCustomer;
+
+    @Schema(description = "Quantidade de clientes que já resgataram o cupom", example = "0")
+    private long customerRedemptions;
 }
 
@@ -0,0 +1,18 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Resultado da validação de um código de cupom")
+public class CouponValidationResponse {
+
+    @Schema(description = "Código consultado", example = "ABC123")
+    private String code;
+
+    @Schema(description = "Situação do cupom", example = "VALID")
+    private CouponAvailability availability;
+}
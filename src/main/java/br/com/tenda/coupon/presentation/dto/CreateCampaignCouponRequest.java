@@ -0,0 +1,40 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request para criar um cupom de uma campanha; atributos omitidos são herdados da campanha")
+public class CreateCampaignCouponRequest {
+
+    @Schema(description = "Código do cupom (6 caracteres alfanuméricos). Se omitido, o servidor atribui um código único",
+            example = "BF-001")
+    private String code;
+
+    @Schema(description = "Sobrescreve a descrição da campanha", example = "Black Friday - parceiro")
+    private String description;
+
+    @DecimalMin(value = "0.5", message = "Discount value must be at least 0.5")
+    @Schema(description = "Sobrescreve o valor do desconto da campanha (mínimo 0.5)", example = "15.00")
+    private BigDecimal discountValue;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(description = "Sobrescreve a data de expiração da campanha", example = "2026-12-07T23:59:59",
+            type = "string", format = "date-time", pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime expirationDate;
+
+    @Schema(description = "Indica se o cupom já está publicado", example = "true", defaultValue = "false")
+    private boolean published;
+
+    @Schema(description = "Limita o cupom a um resgate por cliente", example = "false", defaultValue = "false")
+    private boolean onePerCustomer;
+}
@@ -18,9 +18,8 @@ import java.time.LocalDateTime;
 @Schema(description = "Request para criar um novo cupom")
 public class CreateCouponRequest {
 
-    @NotBlank(message = "Code is required")
-    @Schema(description = "Código do cupom (6 caracteres alfanuméricos, caracteres especiais serão removidos)",
-            example = "ABC-123", requiredMode = Schema.RequiredMode.REQUIRED)
+    @Schema(description = "Código do cupom (6 caracteres alfanuméricos, caracteres especiais serão removidos). " +
+            "Se omitido, o servidor atribui um código único", example = "ABC-123")
     private String code;
 
     @NotBlank(message = "Description is required")
@@ -49,6 +48,15 @@ public class CreateCouponRequest {
 
     @Schema(description = "Indica se o cupom foi recuperado", example = "true", defaultValue = "false")
     private boolean redeemed;
+
+    @Schema(description = "Limita o cupom a um resgate por cliente (pode ser resgatado por vários clientes)",
+            example = "false", defaultValue = "false")
+    private boolean onePerCustomer;
+
+    public CreateCouponRequest(String code, String description, BigDecimal discountValue, LocalDateTime expirationDate,
+                               boolean published, boolean redeemed) {
+        this(code, description, discountValue, expirationDate, published, redeemed, false);
+    }
 }
 
 
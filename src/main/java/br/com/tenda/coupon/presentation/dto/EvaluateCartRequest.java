@@ -0,0 +1,34 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request para simular a aplicação de cupons sobre o total de um carrinho")
+public class EvaluateCartRequest {
+
+    @NotNull(message = "Cart total is required")
+    @DecimalMin(value = "0.00", message = "Cart total cannot be negative")
+    @Digits(integer = 13, fraction = 2, message = "Cart total must have at most 2 decimal places")
+    @Schema(description = "Valor total do carrinho", example = "150.00", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal cartTotal;
+
+    @NotEmpty(message = "At least one coupon code is required")
+    @Size(max = 20, message = "At most 20 coupon codes can be evaluated at once")
+    @Schema(description = "Códigos dos cupons a aplicar, na ordem de aplicação", example = "[\"ABC123\", \"DEF456\"]",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<@NotBlank(message = "Coupon code cannot be blank") String> codes;
+}
@@ -0,0 +1,19 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Página de cupons prestes a expirar, do mais próximo ao mais distante")
+public class ExpiringCouponsResponse {
+
+    @Schema(description = "Cupons da página")
+    private List<CouponResponse> content;
+
+    @Schema(description = "Cursor da próxima página; ausente na última", example = "MjAyNi0xMi0zMVQyMzo1OTo1OXw1NTBlODQwMC1lMjliLTQxZDQtYTcxNi00NDY2NTU0NDAwMDA")
+    private String nextCursor;
+}
@@ -0,0 +1,26 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request para gerar cupons de uma campanha; todos herdam descrição, desconto e expiração")
+public class GenerateCampaignCouponsRequest {
+
+    @Min(value = 1, message = "Count must be at least 1")
+    @Max(value = 10_000, message = "Count must be at most 10000")
+    @Schema(description = "Quantidade de cupons a gerar (1 a 10000)", example = "1000", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int count;
+
+    @Schema(description = "Indica se os cupons já nascem publicados", example = "true", defaultValue = "false")
+    private boolean published;
+
+    @Schema(description = "Limita cada cupom a um resgate por cliente", example = "false", defaultValue = "false")
+    private boolean onePerCustomer;
+}
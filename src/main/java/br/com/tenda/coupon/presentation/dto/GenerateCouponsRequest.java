@@ -0,0 +1,54 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request para gerar cupons em lote com códigos criados pelo servidor")
+public class GenerateCouponsRequest {
+
+    @Min(value = 1, message = "Count must be at least 1")
+    @Max(value = 10_000, message = "Count must be at most 10000")
+    @Schema(description = "Quantidade de cupons a gerar (1 a 10000)", example = "1000", requiredMode = Schema.RequiredMode.REQUIRED)
+    private int count;
+
+    @NotBlank(message = "Description is required")
+    @Schema(description = "Descrição aplicada a todos os cupons", example = "Campanha de inverno", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String description;
+
+    @NotNull(message = "Discount value is required")
+    @DecimalMin(value = "0.5", message = "Discount value must be at least 0.5")
+    @Schema(description = "Valor do desconto (mínimo 0.5)", example = "10.50", requiredMode = Schema.RequiredMode.REQUIRED)
+    private BigDecimal discountValue;
+
+    @NotNull(message = "Expiration date is required")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @Schema(
+            description = "Data de expiração (não pode ser no passado)",
+            example = "2026-12-31T23:59:59",
+            type = "string",
+            format = "date-time",
+            pattern = "yyyy-MM-dd'T'HH:mm:ss",
+            requiredMode = Schema.RequiredMode.REQUIRED
+    )
+    private LocalDateTime expirationDate;
+
+    @Schema(description = "Indica se os cupons já nascem publicados", example = "true", defaultValue = "false")
+    private boolean published;
+
+    @Schema(description = "Limita cada cupom a um resgate por cliente", example = "false", defaultValue = "false")
+    private boolean onePerCustomer;
+}
@@ -0,0 +1,19 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Resposta com os códigos gerados em lote")
+public class GeneratedCouponsResponse {
+
+    @Schema(description = "Quantidade de cupons gerados", example = "3")
+    private int count;
+
+    @Schema(description = "Códigos gerados", example = "[\"7QK2ZD\", \"0M4XH9\", \"RB81TC\"]")
+    private List<String> codes;
+}
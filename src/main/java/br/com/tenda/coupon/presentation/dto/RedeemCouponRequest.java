@@ -0,0 +1,26 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request para resgatar um cupom")
+public class RedeemCouponRequest {
+
+    @NotBlank(message = "Code is required")
+    @Schema(description = "Código do cupom (caracteres especiais serão removidos)", example = "ABC-123",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private String code;
+
+    @PositiveOrZero(message = "Customer id must be zero or positive")
+    @Max(value = 4294967295L, message = "Customer id must be at most 4294967295")
+    @Schema(description = "Identificador do cliente (obrigatório para cupons de um resgate por cliente)", example = "1024")
+    private Long customerId;
+}
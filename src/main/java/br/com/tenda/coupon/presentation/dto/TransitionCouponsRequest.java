@@ -0,0 +1,23 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request para publicar, despublicar, ativar ou desativar cupons em lote")
+public class TransitionCouponsRequest {
+
+    @NotEmpty(message = "Ids are required")
+    @Size(max = 100_000, message = "At most 100000 ids can be changed at once")
+    @Schema(description = "IDs dos cupons a alterar", example = "[\"550e8400-e29b-41d4-a716-446655440000\"]")
+    private List<UUID> ids;
+}
@@ -0,0 +1,14 @@
+package br.com.tenda.coupon.presentation.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Resultado da alteração de estado em lote")
+public class TransitionCouponsResponse {
+
+    @Schema(description = "Quantidade de cupons alterados por esta requisição", example = "25000")
+    private long updated;
+}
@@ -0,0 +1,26 @@
+package br.com.tenda.coupon.presentation.export;
+
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Locale;
+
+@Getter
+@RequiredArgsConstructor
+public enum CouponExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    public static CouponExportFormat from(String format) {
+        try {
+            return valueOf(format.strip().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCouponException("Unsupported export format: " + format + " (use ndjson or csv)");
+        }
+    }
+}
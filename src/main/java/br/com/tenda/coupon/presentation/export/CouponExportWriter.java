@@ -0,0 +1,147 @@
+package br.com.tenda.coupon.presentation.export;
+
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.presentation.mapper.CouponMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/*
+ * Writes coupons straight to the response stream as they come off the cursor and flushes every
+ * FLUSH_INTERVAL rows, so the client sees progress and nothing accumulates on the server.
+ * The CSV header uses the import column names, so an export can be imported back.
+ */
+public abstract class CouponExportWriter {
+
+    static final int FLUSH_INTERVAL = 1000;
+
+    protected final LocalDateTime now;
+    private int unflushed;
+
+    protected CouponExportWriter(LocalDateTime now) {
+        this.now = now;
+    }
+
+    /**
+     * @param now the instant every row's effective status is computed against
+     */
+    public static CouponExportWriter open(CouponExportFormat format, OutputStream output, ObjectMapper objectMapper,
+                                          LocalDateTime now) throws IOException {
+        return format == CouponExportFormat.CSV ? new Csv(output, now) : new Ndjson(output, objectMapper, now);
+    }
+
+    public void write(Coupon coupon) {
+        try {
+            writeRow(coupon);
+            if (++unflushed == FLUSH_INTERVAL) {
+                unflushed = 0;
+                flush();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public abstract void flush() throws IOException;
+
+    protected abstract void writeRow(Coupon coupon) throws IOException;
+
+    private static final class Ndjson extends CouponExportWriter {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter writer;
+
+        private Ndjson(OutputStream output, ObjectMapper objectMapper, LocalDateTime now) throws IOException {
+            super(now);
+            this.generator = objectMapper.getFactory().createGenerator(output);
+            // no separator between root values: each one is terminated by its own newline instead
+            this.generator.setRootValueSeparator(null);
+            this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        protected void writeRow(Coupon coupon) throws IOException {
+            writer.writeValue(generator, CouponMapper.toResponse(coupon, now));
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    private static final class Csv extends CouponExportWriter {
+
+        private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+        private final Writer writer;
+
+        private Csv(OutputStream output, LocalDateTime now) throws IOException {
+            super(now);
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writer.write("id,code,description,discountValue,expirationDate,published,redeemed,status,onePerCustomer,customerRedemptions\n");
+        }
+
+        @Override
+        protected void writeRow(Coupon coupon) throws IOException {
+            writer.write(coupon.getId().toString());
+            writer.write(',');
+            writer.write(coupon.getCodeValue());
+            writer.write(',');
+            writeEscaped(coupon.getDescription().getValue());
+            writer.write(',');
+            writer.write(coupon.getDiscount().getValue().toPlainString());
+            writer.write(',');
+            writer.write(DATE_TIME.format(coupon.getExpirationDate().getValue()));
+            writer.write(',');
+            writer.write(Boolean.toString(coupon.isPublished()));
+            writer.write(',');
+            writer.write(Boolean.toString(coupon.isRedeemed()));
+            writer.write(',');
+            writer.write(coupon.effectiveStatusAt(now).name());
+            writer.write(',');
+            writer.write(Boolean.toString(coupon.isOnePerCustomer()));
+            writer.write(',');
+            writer.write(Long.toString(coupon.getRedeemedCustomers().cardinality()));
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private void writeEscaped(String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    writer.write('"');
+                }
+                writer.write(c);
+            }
+            writer.write('"');
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.tenda.coupon.presentation.mapper;
+
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.presentation.dto.CampaignResponse;
+
+public class CampaignMapper {
+
+    private CampaignMapper() { }
+
+    public static CampaignResponse toResponse(Campaign campaign) {
+        return CampaignResponse.builder()
+                .id(campaign.getId())
+                .description(campaign.getDescription().getValue())
+                .discountValue(campaign.getDiscount().getValue())
+                .expirationDate(campaign.getExpirationDate().getValue())
+                .build();
+    }
+}
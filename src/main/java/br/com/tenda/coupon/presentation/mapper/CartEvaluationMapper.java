@@ -0,0 +1,32 @@
+package br.com.tenda.coupon.presentation.mapper;
+
+import br.com.tenda.coupon.domain.model.AppliedDiscount;
+import br.com.tenda.coupon.domain.model.CartEvaluation;
+import br.com.tenda.coupon.domain.vo.Money;
+import br.com.tenda.coupon.presentation.dto.AppliedDiscountResponse;
+import br.com.tenda.coupon.presentation.dto.CartEvaluationResponse;
+
+public class CartEvaluationMapper {
+
+    private CartEvaluationMapper() { }
+
+    public static CartEvaluationResponse toResponse(CartEvaluation evaluation) {
+        return CartEvaluationResponse.builder()
+                .cartTotal(Money.fromMinorUnits(evaluation.getCartTotalMinorUnits()))
+                .discounts(evaluation.getDiscounts().stream()
+                        .map(CartEvaluationMapper::toResponse)
+                        .toList())
+                .totalDiscount(Money.fromMinorUnits(evaluation.getTotalDiscountMinorUnits()))
+                .finalAmount(Money.fromMinorUnits(evaluation.getFinalAmountMinorUnits()))
+                .build();
+    }
+
+    private static AppliedDiscountResponse toResponse(AppliedDiscount discount) {
+        return AppliedDiscountResponse.builder()
+                .code(discount.getCode())
+                .availability(discount.getAvailability())
+                .applied(discount.isApplied())
+                .discountValue(Money.fromMinorUnits(discount.getDiscountMinorUnits()))
+                .build();
+    }
+}
@@ -1,25 +1,64 @@
 package br.com.tenda.coupon.presentation.mapper;
 
 import br.com.tenda.coupon.domain.model.Coupon;
-import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.domain.repository.CouponProjection;
+import br.com.tenda.coupon.presentation.dto.CouponField;
+import br.com.tenda.coupon.presentation.dto.CouponPageResponse;
 import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 public class CouponMapper {
 
     private CouponMapper() { }
 
-    public static CouponResponse toResponse(Coupon coupon) {
+    private static final Set<CouponField> ALL_FIELDS = EnumSet.allOf(CouponField.class);
+
+    // now is read once per request by the caller, so a page of coupons is judged against one instant
+    public static CouponResponse toResponse(Coupon coupon, LocalDateTime now) {
+        return toResponse(coupon, now, ALL_FIELDS);
+    }
+
+    // a coupon read through toProjection(fields) has only what those fields need: the others are left empty
+    public static CouponResponse toResponse(Coupon coupon, LocalDateTime now, Set<CouponField> fields) {
         return CouponResponse.builder()
                 .id(coupon.getId())
                 .code(coupon.getCodeValue())
-                .description(coupon.getDescription().getValue())
+                .campaignId(coupon.getCampaign() == null ? null : coupon.getCampaign().getId())
+                .description(fields.contains(CouponField.DESCRIPTION) ? coupon.getDescription().getValue() : null)
                 .discountValue(coupon.getDiscount().getValue())
                 .expirationDate(coupon.getExpirationDate().getValue())
                 .published(coupon.isPublished())
                 .redeemed(coupon.isRedeemed())
-                .status(CouponStatus.from(coupon.getStatus()))
+                .status(coupon.effectiveStatusAt(now))
+                .onePerCustomer(coupon.isOnePerCustomer())
+                .customerRedemptions(fields.contains(CouponField.CUSTOMER_REDEMPTIONS)
+                        ? coupon.getRedeemedCustomers().cardinality() : 0)
                 .build();
     }
-}
 
+    public static CouponProjection toProjection(Set<CouponField> fields) {
+        return CouponProjection.builder()
+                .description(fields.contains(CouponField.DESCRIPTION))
+                .redeemedCustomers(fields.contains(CouponField.CUSTOMER_REDEMPTIONS))
+                .build();
+    }
+
+    public static CouponPageResponse toPageResponse(Page<Coupon> page, LocalDateTime now) {
+        return toPageResponse(page, now, ALL_FIELDS);
+    }
 
+    public static CouponPageResponse toPageResponse(Page<Coupon> page, LocalDateTime now, Set<CouponField> fields) {
+        List<CouponResponse> content = new ArrayList<>(page.getNumberOfElements());
+        for (Coupon coupon : page.getContent()) {
+            content.add(toResponse(coupon, now, fields));
+        }
+        return new CouponPageResponse(content, new CouponPageResponse.PageMetadata(
+                page.getSize(), page.getNumber(), page.getTotalElements(), page.getTotalPages()));
+    }
+}
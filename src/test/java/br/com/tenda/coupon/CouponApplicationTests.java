@@ -2,8 +2,14 @@ package br.com.tenda.coupon;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:contextdb",
+		"coupon.occupancy.file=build/test-occupancy/context.bitmap",
+		"coupon.journal.directory=build/test-journal-context"
+})
+@ActiveProfiles("test")
 class CouponApplicationTests {
 
 	@Test
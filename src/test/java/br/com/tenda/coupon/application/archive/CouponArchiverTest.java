@@ -0,0 +1,96 @@
+package br.com.tenda.coupon.application.archive;
+
+import br.com.tenda.coupon.domain.event.CouponsArchivedEvent;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponArchiver")
+class CouponArchiverTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0, 0);
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CouponArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        archiver = new CouponArchiver(couponRepository, eventPublisher, transactionManager, clock, meterRegistry,
+                Duration.ofDays(90), 2, 5);
+    }
+
+    @Nested
+    @DisplayName("Quando arquivar")
+    class WhenArchiving {
+
+        @Test
+        @DisplayName("Deve mover em blocos com a retenção aplicada e publicar os códigos de cada bloco")
+        void shouldMoveInChunksAndPublishEachChunk() {
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+            when(couponRepository.archive(NOW.minusDays(90), NOW, 2))
+                    .thenReturn(List.of("ARC001", "ARC002"))
+                    .thenReturn(List.of("ARC003"));
+
+            assertThat(archiver.archive()).isEqualTo(3);
+
+            ArgumentCaptor<CouponsArchivedEvent> events = ArgumentCaptor.forClass(CouponsArchivedEvent.class);
+            verify(eventPublisher, times(2)).publishEvent(events.capture());
+            assertThat(events.getAllValues()).extracting(CouponsArchivedEvent::getCodes)
+                    .containsExactly(List.of("ARC001", "ARC002"), List.of("ARC003"));
+            verify(transactionManager, times(2)).commit(any());
+            assertThat(meterRegistry.get("coupon.archive.moved").counter().count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Não deve publicar evento quando não houver o que arquivar")
+        void shouldNotPublishWhenNothingToArchive() {
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+            when(couponRepository.archive(any(), any(), anyInt())).thenReturn(List.of());
+
+            assertThat(archiver.archive()).isZero();
+
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Não deve propagar falhas da execução agendada")
+        void shouldNotPropagateScheduledFailures() {
+            when(transactionManager.getTransaction(any())).thenThrow(new IllegalStateException("down"));
+
+            assertThatCode(archiver::scheduledArchive).doesNotThrowAnyException();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package br.com.tenda.coupon.application.cache;
+
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponLookupCache")
+class CouponLookupCacheTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private CouponLookupCache couponLookupCache;
+
+    @BeforeEach
+    void setUp() {
+        couponLookupCache = new CouponLookupCache(couponRepository, 2);
+        when(couponRepository.findByCode(anyString())).thenAnswer(invocation -> Optional.of(Coupon.reconstruct(
+                UUID.randomUUID(), invocation.getArgument(0), "Desconto", new BigDecimal("10.00"),
+                LocalDateTime.now().plusDays(10), true, false, CouponStatus.ACTIVE)));
+    }
+
+    @Test
+    @DisplayName("Deve descartar entradas ao atingir o limite e continuar cacheando novos códigos")
+    void shouldEvictWhenFullAndKeepCachingNewCodes() {
+        couponLookupCache.lookup("ABC123");
+        couponLookupCache.lookup("DEF456");
+        couponLookupCache.lookup("GHI789");
+
+        assertThat(couponLookupCache.size()).isEqualTo(2);
+
+        couponLookupCache.lookup("GHI789");
+
+        verify(couponRepository, times(1)).findByCode("GHI789");
+    }
+
+    @Test
+    @DisplayName("Deve manter os códigos consultados de novo ao descartar por falta de espaço")
+    void shouldKeepReferencedCodesWhenFull() {
+        couponLookupCache.lookup("ABC123");
+        couponLookupCache.lookup("DEF456");
+        couponLookupCache.lookup("ABC123");
+        couponLookupCache.lookup("GHI789");
+
+        couponLookupCache.lookup("ABC123");
+
+        verify(couponRepository, times(1)).findByCode("ABC123");
+    }
+
+    @Test
+    @DisplayName("Não deve guardar uma leitura que cruzou a remoção do código")
+    void shouldNotCacheLoadThatOverlappedEviction() {
+        Coupon stale = Coupon.reconstruct(UUID.randomUUID(), "ABC123", "Desconto", new BigDecimal("10.00"),
+                LocalDateTime.now().plusDays(10), true, false, CouponStatus.ACTIVE);
+        when(couponRepository.findByCode("ABC123")).thenAnswer(invocation -> {
+            // the redemption commits while this load still holds the old row
+            couponLookupCache.evict("ABC123");
+            return Optional.of(stale);
+        });
+
+        assertThat(couponLookupCache.lookup("ABC123")).isSameAs(stale);
+        assertThat(couponLookupCache.size()).isZero();
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.tenda.coupon.application.expiration;
+
+import br.com.tenda.coupon.application.usecase.TransitionCouponsUseCase;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponTransition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponExpirationSweeper")
+class CouponExpirationSweeperTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0, 0);
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private TransitionCouponsUseCase transitionCouponsUseCase;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CouponExpirationSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        sweeper = new CouponExpirationSweeper(couponRepository, transitionCouponsUseCase, clock, meterRegistry, 2, 3);
+    }
+
+    private static List<UUID> ids(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+
+    @Nested
+    @DisplayName("Quando varrer cupons expirados")
+    class WhenSweeping {
+
+        @Test
+        @DisplayName("Deve desativar em blocos até esgotar os expirados")
+        void shouldDeactivateInChunksUntilDrained() {
+            List<UUID> first = ids(2);
+            List<UUID> second = ids(1);
+            when(couponRepository.findOldestExpiredActive(NOW)).thenReturn(Optional.of(NOW.minusMinutes(5)));
+            when(couponRepository.findExpiredActiveIds(NOW, 2)).thenReturn(first).thenReturn(second);
+            when(transitionCouponsUseCase.execute(first, CouponTransition.DEACTIVATE)).thenReturn(2L);
+            when(transitionCouponsUseCase.execute(second, CouponTransition.DEACTIVATE)).thenReturn(1L);
+
+            assertThat(sweeper.sweep()).isEqualTo(3);
+
+            verify(couponRepository, times(2)).findExpiredActiveIds(NOW, 2);
+            assertThat(meterRegistry.get("coupon.expiration.swept").counter().count()).isEqualTo(3);
+            assertThat(meterRegistry.get("coupon.expiration.lag").gauge().value()).isEqualTo(300);
+            assertThat(meterRegistry.get("coupon.expiration.sweep").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve limitar a quantidade de blocos por execução")
+        void shouldBoundChunksPerRun() {
+            when(couponRepository.findOldestExpiredActive(NOW)).thenReturn(Optional.of(NOW.minusHours(1)));
+            when(couponRepository.findExpiredActiveIds(NOW, 2)).thenAnswer(invocation -> ids(2));
+            when(transitionCouponsUseCase.execute(anyList(), eq(CouponTransition.DEACTIVATE))).thenReturn(2L);
+
+            assertThat(sweeper.sweep()).isEqualTo(6);
+
+            verify(transitionCouponsUseCase, times(3)).execute(anyList(), eq(CouponTransition.DEACTIVATE));
+        }
+
+        @Test
+        @DisplayName("Não deve alterar nada quando não houver cupons expirados")
+        void shouldDoNothingWhenNothingExpired() {
+            when(couponRepository.findOldestExpiredActive(NOW)).thenReturn(Optional.empty());
+            when(couponRepository.findExpiredActiveIds(NOW, 2)).thenReturn(List.of());
+
+            assertThat(sweeper.sweep()).isZero();
+
+            verifyNoInteractions(transitionCouponsUseCase);
+            assertThat(meterRegistry.get("coupon.expiration.lag").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("Não deve propagar falhas da execução agendada")
+        void shouldNotPropagateScheduledFailures() {
+            when(couponRepository.findOldestExpiredActive(NOW)).thenThrow(new IllegalStateException("down"));
+
+            assertThatCode(sweeper::scheduledSweep).doesNotThrowAnyException();
+        }
+    }
+}
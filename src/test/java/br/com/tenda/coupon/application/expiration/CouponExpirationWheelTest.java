@@ -0,0 +1,157 @@
+package br.com.tenda.coupon.application.expiration;
+
+import br.com.tenda.coupon.domain.event.CampaignUpdatedEvent;
+import br.com.tenda.coupon.domain.event.CouponCreatedEvent;
+import br.com.tenda.coupon.domain.event.CouponDeletedEvent;
+import br.com.tenda.coupon.domain.event.CouponsArchivedEvent;
+import br.com.tenda.coupon.domain.event.CouponsExpiredEvent;
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponFilter;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponExpirationWheel")
+class CouponExpirationWheelTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("America/Sao_Paulo");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0, 0);
+    private static final Instant NOW_INSTANT = NOW.atZone(ZONE_ID).toInstant();
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Clock clock;
+
+    private CouponExpirationWheel expirationWheel;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.getZone()).thenReturn(ZONE_ID);
+        when(clock.instant()).thenReturn(NOW_INSTANT);
+        expirationWheel = new CouponExpirationWheel(couponRepository, eventPublisher, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        expirationWheel.destroy();
+    }
+
+    private static Coupon coupon(String code, LocalDateTime expiration, CouponStatus status) {
+        return Coupon.reconstruct(UUID.randomUUID(), code, "Desconto", new BigDecimal("10.00"), expiration, true, false, status);
+    }
+
+    @Nested
+    @DisplayName("Quando o relógio avançar")
+    class WhenTicking {
+
+        @Test
+        @DisplayName("Deve publicar os cupons carregados no segundo em que expiram")
+        @SuppressWarnings("unchecked")
+        void shouldPublishLoadedCouponsAtTheirExpirationSecond() {
+            when(clock.millis()).thenReturn(NOW_INSTANT.toEpochMilli());
+            doAnswer(invocation -> {
+                Consumer<Coupon> action = invocation.getArgument(0);
+                action.accept(coupon("EXP001", NOW.plusSeconds(2), CouponStatus.ACTIVE));
+                action.accept(coupon("EXP002", NOW.plusSeconds(2), CouponStatus.INACTIVE));
+                action.accept(coupon("DEL001", NOW.plusSeconds(2), CouponStatus.DELETED));
+                action.accept(coupon("OLD001", NOW.minusDays(1), CouponStatus.ACTIVE));
+                return null;
+            }).when(couponRepository).forEach(any(Consumer.class));
+            expirationWheel.afterSingletonsInstantiated();
+
+            assertThat(expirationWheel.size()).isEqualTo(2);
+
+            when(clock.instant()).thenReturn(NOW_INSTANT.plusSeconds(1));
+            expirationWheel.tick();
+            verifyNoInteractions(eventPublisher);
+
+            when(clock.instant()).thenReturn(NOW_INSTANT.plusSeconds(2));
+            expirationWheel.tick();
+
+            ArgumentCaptor<CouponsExpiredEvent> event = ArgumentCaptor.forClass(CouponsExpiredEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getCodes()).containsExactlyInAnyOrder("EXP001", "EXP002");
+            assertThat(event.getValue().getExpiredAtEpochSecond()).isEqualTo(NOW_INSTANT.getEpochSecond() + 2);
+            assertThat(expirationWheel.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve agendar cupom criado e cancelar cupom deletado")
+        void shouldScheduleCreatedAndCancelDeletedCoupons() {
+            Coupon kept = coupon("NEW001", NOW.plusSeconds(5), CouponStatus.ACTIVE);
+            Coupon deleted = coupon("NEW002", NOW.plusSeconds(5), CouponStatus.ACTIVE);
+            expirationWheel.onCouponCreated(new CouponCreatedEvent(kept));
+            expirationWheel.onCouponCreated(new CouponCreatedEvent(deleted));
+            expirationWheel.onCouponDeleted(new CouponDeletedEvent(deleted.getId(), "NEW002"));
+
+            when(clock.instant()).thenReturn(NOW_INSTANT.plusSeconds(10));
+            expirationWheel.tick();
+
+            ArgumentCaptor<CouponsExpiredEvent> event = ArgumentCaptor.forClass(CouponsExpiredEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getCodes()).containsExactly("NEW001");
+        }
+
+        @Test
+        @DisplayName("Deve cancelar cupons arquivados")
+        void shouldCancelArchivedCoupons() {
+            expirationWheel.onCouponCreated(new CouponCreatedEvent(coupon("ARC001", NOW.plusSeconds(5), CouponStatus.ACTIVE)));
+            expirationWheel.onCouponsArchived(new CouponsArchivedEvent(List.of("ARC001")));
+
+            assertThat(expirationWheel.size()).isZero();
+
+            when(clock.instant()).thenReturn(NOW_INSTANT.plusSeconds(10));
+            expirationWheel.tick();
+
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando a campanha mudar a expiração")
+    class WhenCampaignExpirationChanges {
+
+        @Test
+        @DisplayName("Deve reagendar os cupons da campanha fora da thread do evento e repetir após falha")
+        @SuppressWarnings("unchecked")
+        void shouldRescanInBackgroundAndRetryAfterFailure() {
+            Campaign campaign = Campaign.reconstruct(UUID.randomUUID(), "Campanha", new BigDecimal("10.00"), NOW.plusDays(5));
+            doThrow(new IllegalStateException("database down"))
+                    .doNothing()
+                    .when(couponRepository).forEach(any(CouponFilter.class), any(Consumer.class));
+
+            expirationWheel.onCampaignUpdated(new CampaignUpdatedEvent(campaign, true));
+
+            verify(couponRepository, timeout(3_000).times(2)).forEach(any(CouponFilter.class), any(Consumer.class));
+        }
+    }
+}
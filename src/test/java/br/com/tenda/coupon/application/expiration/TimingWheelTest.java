@@ -0,0 +1,110 @@
+package br.com.tenda.coupon.application.expiration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimingWheel")
+class TimingWheelTest {
+
+    private static final long START = 1_780_000_000L;
+
+    private final TimingWheel wheel = new TimingWheel(START);
+
+    private List<Integer> advanceTo(long epochSecond) {
+        List<Integer> fired = new ArrayList<>();
+        wheel.advanceTo(epochSecond, fired::add);
+        return fired;
+    }
+
+    @Nested
+    @DisplayName("Quando agendar chaves")
+    class WhenScheduling {
+
+        @Test
+        @DisplayName("Deve disparar cada chave exatamente no seu segundo, em todos os níveis")
+        void shouldFireEachKeyAtItsExactSecond() {
+            long[] offsets = {1, 63, 64, 65, 4095, 4096, 4097, 262_143, 262_144, 300_000, 16_777_215};
+            for (int i = 0; i < offsets.length; i++) {
+                wheel.schedule(i, START + offsets[i]);
+            }
+
+            for (int i = 0; i < offsets.length; i++) {
+                assertThat(advanceTo(START + offsets[i] - 1)).as("before offset %d", offsets[i]).isEmpty();
+                assertThat(advanceTo(START + offsets[i])).as("at offset %d", offsets[i]).containsExactly(i);
+            }
+            assertThat(wheel.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve disparar prazos além do último nível após reposicioná-los")
+        void shouldFireDeadlinesBeyondTheLastLevel() {
+            long deadline = START + 40_000_000L;
+            wheel.schedule(7, deadline);
+
+            assertThat(advanceTo(deadline - 1)).isEmpty();
+            assertThat(advanceTo(deadline)).containsExactly(7);
+        }
+
+        @Test
+        @DisplayName("Deve recusar prazos que já passaram")
+        void shouldRejectPastDeadlines() {
+            assertThat(wheel.schedule(1, START)).isFalse();
+            assertThat(wheel.schedule(2, START - 10)).isFalse();
+            assertThat(wheel.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve disparar em ordem de prazo chaves aleatórias")
+        void shouldFireRandomKeysInDeadlineOrder() {
+            Random random = new Random(42);
+            long[] deadlines = new long[5000];
+            for (int key = 0; key < deadlines.length; key++) {
+                deadlines[key] = START + 1 + random.nextInt(600_000);
+                wheel.schedule(key, deadlines[key]);
+            }
+
+            List<Long> firedAt = new ArrayList<>();
+            for (long second = START + 1; second <= START + 600_000; second++) {
+                long now = second;
+                wheel.advanceTo(second, key -> {
+                    assertThat(deadlines[key]).isEqualTo(now);
+                    firedAt.add(now);
+                });
+            }
+            assertThat(firedAt).hasSize(deadlines.length).isSorted();
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando cancelar ou reagendar")
+    class WhenCancelling {
+
+        @Test
+        @DisplayName("Não deve disparar chave cancelada")
+        void shouldNotFireCancelledKey() {
+            wheel.schedule(1, START + 100);
+            wheel.schedule(2, START + 100);
+
+            assertThat(wheel.cancel(1)).isTrue();
+            assertThat(wheel.cancel(1)).isFalse();
+            assertThat(advanceTo(START + 100)).containsExactly(2);
+        }
+
+        @Test
+        @DisplayName("Deve substituir o prazo anterior ao reagendar")
+        void shouldReplacePreviousDeadlineOnReschedule() {
+            wheel.schedule(1, START + 10);
+            wheel.schedule(1, START + 5000);
+
+            assertThat(advanceTo(START + 4999)).isEmpty();
+            assertThat(advanceTo(START + 5000)).containsExactly(1);
+        }
+    }
+}
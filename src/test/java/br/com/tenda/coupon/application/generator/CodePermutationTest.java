@@ -0,0 +1,57 @@
+package br.com.tenda.coupon.application.generator;
+
+import br.com.tenda.coupon.domain.vo.CouponCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CodePermutation")
+class CodePermutationTest {
+
+    private final CodePermutation permutation = new CodePermutation(42L);
+
+    @Test
+    @DisplayName("Deve gerar códigos distintos e dentro do espaço para sequências distintas")
+    void shouldProduceDistinctCodesInsideSpace() {
+        Set<Long> seen = new HashSet<>();
+        for (long sequence = 0; sequence < 200_000; sequence++) {
+            long value = permutation.permute(sequence);
+            assertThat(value).isBetween(0L, CouponCode.SPACE_SIZE - 1);
+            assertThat(seen.add(value)).isTrue();
+        }
+        for (long sequence = CouponCode.SPACE_SIZE - 1_000; sequence < CouponCode.SPACE_SIZE; sequence++) {
+            assertThat(seen.add(permutation.permute(sequence))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve ser determinística para a mesma chave e mudar com outra chave")
+    void shouldBeDeterministicPerKey() {
+        assertThat(new CodePermutation(42L).permute(12_345)).isEqualTo(permutation.permute(12_345));
+        assertThat(new CodePermutation(43L).permute(12_345)).isNotEqualTo(permutation.permute(12_345));
+    }
+
+    @Test
+    @DisplayName("Não deve gerar códigos vizinhos para sequências consecutivas")
+    void shouldNotLookSequential() {
+        int adjacent = 0;
+        for (long sequence = 0; sequence < 1_000; sequence++) {
+            if (Math.abs(permutation.permute(sequence + 1) - permutation.permute(sequence)) < 1_000) {
+                adjacent++;
+            }
+        }
+
+        assertThat(adjacent).isLessThan(5);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar sequência fora do espaço")
+    void shouldRejectSequenceOutsideSpace() {
+        assertThatThrownBy(() -> permutation.permute(CouponCode.SPACE_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,138 @@
+package br.com.tenda.coupon.application.generator;
+
+import br.com.tenda.coupon.domain.exception.CodePoolExhaustedException;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("CodePool")
+class CodePoolTest {
+
+    private static final int CAPACITY = 1_000;
+    private static final int LOW_WATERMARK = 200;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private final CodePermutation codePermutation = new CodePermutation(11L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    private CodePool codePool;
+
+    @BeforeEach
+    void setUp() {
+        when(couponRepository.reserveCodeSequence(anyInt()))
+                .thenAnswer(invocation -> nextSequence.getAndAdd(invocation.<Integer>getArgument(0)));
+        when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+        codePool = new CodePool(couponRepository, codePermutation, meterRegistry, CAPACITY, LOW_WATERMARK, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        codePool.destroy();
+    }
+
+    private void awaitDepthAtLeast(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (codePool.depth() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve encher o pool em segundo plano e publicar métricas")
+    void shouldFillInBackgroundAndPublishMetrics() throws InterruptedException {
+        codePool.afterSingletonsInstantiated();
+        awaitDepthAtLeast(CAPACITY);
+
+        assertThat(codePool.depth()).isEqualTo(CAPACITY);
+        assertThat(meterRegistry.get("coupon.code.pool.depth").gauge().value()).isEqualTo(CAPACITY);
+        assertThat(meterRegistry.get("coupon.code.pool.refill").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve entregar códigos distintos e reabastecer abaixo da marca mínima")
+    void shouldHandOutDistinctCodesAndRefillBelowWatermark() throws InterruptedException {
+        codePool.afterSingletonsInstantiated();
+        awaitDepthAtLeast(CAPACITY);
+
+        Set<String> taken = new HashSet<>();
+        for (int i = 0; i < CAPACITY - LOW_WATERMARK + 1; i++) {
+            assertThat(taken.add(codePool.take())).isTrue();
+        }
+        awaitDepthAtLeast(CAPACITY - 500);
+
+        assertThat(codePool.depth()).isGreaterThanOrEqualTo(CAPACITY - 500);
+        assertThat(taken.add(codePool.take())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve esperar o reabastecimento em segundo plano quando o pool estiver vazio")
+    void shouldWaitForBackgroundRefillWhenEmpty() {
+        String code = codePool.take();
+
+        assertThat(code).matches("[0-9A-Z]{6}");
+    }
+
+    @Test
+    @DisplayName("Deve descartar códigos do pool cadastrados depois de reservados")
+    void shouldSkipPooledCodesTakenSinceReserved() throws InterruptedException {
+        codePool.afterSingletonsInstantiated();
+        awaitDepthAtLeast(CAPACITY);
+        String claimed = codePermutation.codeAt(0).getValue();
+        when(couponRepository.existsByCode(claimed)).thenReturn(true);
+
+        assertThat(codePool.take()).isNotEqualTo(claimed);
+        assertThat(codePool.depth()).isEqualTo(CAPACITY - 2);
+    }
+
+    @Test
+    @DisplayName("Não deve colocar no pool códigos já cadastrados")
+    @SuppressWarnings("unchecked")
+    void shouldSkipCodesAlreadyTaken() {
+        String existing = codePermutation.codeAt(0).getValue();
+        when(couponRepository.findExistingCodes(anyCollection())).thenAnswer(invocation ->
+                ((Collection<String>) invocation.getArgument(0)).contains(existing) ? Set.of(existing) : Set.of());
+
+        for (int i = 0; i < 64; i++) {
+            assertThat(codePool.take()).isNotEqualTo(existing);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve sinalizar pool esgotado após a espera máxima e medir o tempo de espera")
+    void shouldSignalExhaustionAfterMaxWait() {
+        when(couponRepository.reserveCodeSequence(anyInt())).thenThrow(new IllegalStateException("database down"));
+        CodePool starved = new CodePool(couponRepository, codePermutation, meterRegistry, CAPACITY, LOW_WATERMARK, Duration.ofMillis(50));
+        try {
+            assertThatThrownBy(starved::take)
+                    .isInstanceOf(CodePoolExhaustedException.class)
+                    .extracting("retryAfterSeconds").isEqualTo(1L);
+            assertThat(meterRegistry.get("coupon.code.pool.wait").timer().count()).isEqualTo(1);
+        } finally {
+            starved.destroy();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package br.com.tenda.coupon.application.importer;
+
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CouponCsvReader")
+class CouponCsvReaderTest {
+
+    private static final String HEADER = "code,description,discountValue,expirationDate\n";
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("Quando ler o cabeçalho")
+    class WhenReadingHeader {
+
+        @Test
+        @DisplayName("Deve aceitar colunas em qualquer ordem e caixa")
+        void shouldMatchColumnsByName() throws IOException {
+            try (CouponCsvReader reader = CouponCsvReader.open(csv(
+                    "\uFEFFExpirationDate,onePerCustomer,CODE,discountvalue,description\n"
+                            + "2030-01-01T00:00:00,true,ABC123,10.00,Desconto\n"))) {
+                CouponCsvRow row = reader.next();
+
+                assertThat(row.getCode()).isEqualTo("ABC123");
+                assertThat(row.getDescription()).isEqualTo("Desconto");
+                assertThat(row.getDiscountValue()).isEqualTo("10.00");
+                assertThat(row.getExpirationDate()).isEqualTo("2030-01-01T00:00:00");
+                assertThat(row.getOnePerCustomer()).isEqualTo("true");
+                assertThat(row.getPublished()).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar cabeçalho sem colunas obrigatórias")
+        void shouldRejectHeaderWithoutRequiredColumns() {
+            assertThatThrownBy(() -> CouponCsvReader.open(csv("code,description\n")))
+                    .isInstanceOf(InvalidCouponException.class)
+                    .hasMessageContaining("discountValue");
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar arquivo vazio")
+        void shouldRejectEmptyFile() {
+            assertThatThrownBy(() -> CouponCsvReader.open(csv("")))
+                    .isInstanceOf(InvalidCouponException.class)
+                    .hasMessage("CSV file is empty");
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando ler as linhas")
+    class WhenReadingRows {
+
+        @Test
+        @DisplayName("Deve tratar aspas, vírgulas e quebras de linha dentro de campos")
+        void shouldParseQuotedFields() throws IOException {
+            try (CouponCsvReader reader = CouponCsvReader.open(csv(HEADER
+                    + "ABC123,\"Desconto, \"\"verão\"\"\nsegunda linha\",10.00,2030-01-01T00:00:00\r\n"
+                    + "\n"
+                    + "DEF456,Outro,5,2030-01-01T00:00:00"))) {
+                CouponCsvRow first = reader.next();
+                CouponCsvRow second = reader.next();
+
+                assertThat(first.getLine()).isEqualTo(2);
+                assertThat(first.getDescription()).isEqualTo("Desconto, \"verão\"\nsegunda linha");
+                assertThat(second.getLine()).isEqualTo(5);
+                assertThat(second.getCode()).isEqualTo("DEF456");
+                assertThat(reader.next()).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve marcar linha com quantidade errada de colunas")
+        void shouldFlagRowWithWrongColumnCount() throws IOException {
+            try (CouponCsvReader reader = CouponCsvReader.open(csv(HEADER + "ABC123,Desconto\n"))) {
+                CouponCsvRow row = reader.next();
+
+                assertThat(row.isMalformed()).isTrue();
+                assertThat(row.getCode()).isEqualTo("ABC123");
+                assertThat(row.getError()).isEqualTo("Expected 4 columns but found 2");
+            }
+        }
+
+        @Test
+        @DisplayName("Deve descartar linha longa demais sem interromper a leitura")
+        void shouldSkipOversizedRow() throws IOException {
+            String longDescription = "x".repeat(CouponCsvReader.MAX_RECORD_LENGTH * 4);
+            try (CouponCsvReader reader = CouponCsvReader.open(csv(HEADER
+                    + "ABC123," + longDescription + ",10.00,2030-01-01T00:00:00\n"
+                    + "DEF456,Outro,5,2030-01-01T00:00:00\n"))) {
+                CouponCsvRow oversized = reader.next();
+                CouponCsvRow next = reader.next();
+
+                assertThat(oversized.getError()).contains("exceeds");
+                assertThat(next.isMalformed()).isFalse();
+                assertThat(next.getCode()).isEqualTo("DEF456");
+            }
+        }
+
+        @Test
+        @DisplayName("Deve marcar aspas não fechadas")
+        void shouldFlagUnterminatedQuote() throws IOException {
+            try (CouponCsvReader reader = CouponCsvReader.open(csv(HEADER + "ABC123,\"Desconto,10.00,2030-01-01T00:00:00\n"))) {
+                assertThat(reader.next().getError()).isEqualTo("Unterminated quoted field");
+                assertThat(reader.next()).isNull();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descompactar arquivo gzip")
+    void shouldReadGzip() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write((HEADER + "ABC123,Desconto,10.00,2030-01-01T00:00:00\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (CouponCsvReader reader = CouponCsvReader.open(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(reader.next().getCode()).isEqualTo("ABC123");
+            assertThat(reader.next()).isNull();
+        }
+    }
+}
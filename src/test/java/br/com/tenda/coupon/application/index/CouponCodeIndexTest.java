@@ -0,0 +1,220 @@
+package br.com.tenda.coupon.application.index;
+
+import br.com.tenda.coupon.domain.event.CampaignUpdatedEvent;
+import br.com.tenda.coupon.domain.event.CouponCreatedEvent;
+import br.com.tenda.coupon.domain.event.CouponDeletedEvent;
+import br.com.tenda.coupon.domain.event.CouponRedeemedEvent;
+import br.com.tenda.coupon.domain.event.CouponsArchivedEvent;
+import br.com.tenda.coupon.domain.event.CouponsExpiredEvent;
+import br.com.tenda.coupon.domain.event.CouponsTransitionedEvent;
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.domain.vo.CouponTransition;
+import br.com.tenda.coupon.domain.vo.CustomerBitmap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CouponCodeIndex")
+class CouponCodeIndexTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("America/Sao_Paulo");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0, 0);
+    private static final long NOW_EPOCH_SECOND = NOW.atZone(ZONE_ID).toEpochSecond();
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private CouponCodeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CouponCodeIndex(couponRepository, Clock.fixed(NOW.atZone(ZONE_ID).toInstant(), ZONE_ID));
+    }
+
+    private Coupon coupon(String code, LocalDateTime expiration, boolean published) {
+        return Coupon.reconstruct(UUID.randomUUID(), code, "Desconto", new BigDecimal("10.00"), expiration, published, false, CouponStatus.ACTIVE);
+    }
+
+    @Nested
+    @DisplayName("Quando carregar o índice")
+    class WhenLoading {
+
+        @Test
+        @DisplayName("Deve carregar todos os cupons do repositório na inicialização")
+        @SuppressWarnings("unchecked")
+        void shouldLoadEveryCouponOnStartup() {
+            doAnswer(invocation -> {
+                Consumer<Coupon> action = invocation.getArgument(0);
+                action.accept(coupon("ABC123", NOW.plusDays(1), true));
+                action.accept(coupon("DEF456", NOW.minusDays(1), true));
+                return null;
+            }).when(couponRepository).forEach(any(Consumer.class));
+
+            index.afterSingletonsInstantiated();
+
+            assertThat(index.size()).isEqualTo(2);
+            assertThat(index.availabilityOf("ABC123", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.VALID);
+            assertThat(index.availabilityOf("DEF456", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.EXPIRED);
+        }
+
+        @Test
+        @DisplayName("Deve carregar os códigos arquivados como lápides na inicialização")
+        @SuppressWarnings("unchecked")
+        void shouldLoadArchivedCodesAsTombstones() {
+            doAnswer(invocation -> {
+                Consumer<Coupon> action = invocation.getArgument(0);
+                action.accept(coupon("OLD001", NOW.minusDays(100), true));
+                action.accept(Coupon.reconstruct(UUID.randomUUID(), "OLD002", "Desconto", new BigDecimal("10.00"),
+                        NOW.plusDays(1), true, false, CouponStatus.DELETED));
+                return null;
+            }).when(couponRepository).forEachArchived(any(Consumer.class));
+
+            index.afterSingletonsInstantiated();
+
+            assertThat(index.availabilityOf("OLD001", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.EXPIRED);
+            assertThat(index.availabilityOf("OLD002", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.DELETED);
+        }
+
+        @Test
+        @DisplayName("Deve responder desconhecido para código fora do índice")
+        void shouldAnswerUnknownForMissingCode() {
+            assertThat(index.availabilityOf("ZZZ999", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.UNKNOWN);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando receber eventos de cupom")
+    class WhenReceivingEvents {
+
+        @Test
+        @DisplayName("Deve incluir cupom criado")
+        void shouldIndexCreatedCoupon() {
+            index.onCouponCreated(new CouponCreatedEvent(coupon("ABC123", NOW.plusDays(1), false)));
+
+            assertThat(index.availabilityOf("ABC123", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.UNPUBLISHED);
+        }
+
+        @Test
+        @DisplayName("Deve marcar cupom deletado e resgatado")
+        void shouldMarkDeletedAndRedeemedCoupons() {
+            Coupon deleted = coupon("DEL001", NOW.plusDays(1), true);
+            Coupon redeemed = coupon("RED001", NOW.plusDays(1), true);
+            index.put(deleted);
+            index.put(redeemed);
+
+            index.onCouponDeleted(new CouponDeletedEvent(deleted.getId(), "DEL001"));
+            index.onCouponRedeemed(new CouponRedeemedEvent(redeemed.getId(), "RED001", Instant.now(), null, true));
+
+            assertThat(index.availabilityOf("DEL001", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.DELETED);
+            assertThat(index.availabilityOf("RED001", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.REDEEMED);
+        }
+
+        @Test
+        @DisplayName("Deve expirar exatamente na data de expiração")
+        void shouldExpireExactlyAtExpirationDate() {
+            index.put(coupon("EXP001", NOW.plusSeconds(1), true));
+
+            assertThat(index.availabilityOf("EXP001", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.VALID);
+            assertThat(index.availabilityOf("EXP001", NOW_EPOCH_SECOND + 1)).isEqualTo(CouponAvailability.EXPIRED);
+        }
+    
+        @Test
+        @DisplayName("Deve manter expirado o cupom sinalizado pela roda de expiração, mesmo após transições")
+        void shouldKeepWheelExpiredCouponExpired() {
+            index.put(coupon("EXP002", NOW.plusSeconds(1), true));
+            index.put(coupon("EXP003", NOW.plusDays(1), true));
+
+            index.onCouponsExpired(new CouponsExpiredEvent(List.of("EXP002", "EXP003"), NOW_EPOCH_SECOND + 1));
+            index.onCouponsTransitioned(new CouponsTransitionedEvent(List.of("EXP002"), CouponTransition.DEACTIVATE));
+
+            assertThat(index.availabilityOf("EXP002", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.EXPIRED);
+            assertThat(index.availabilityOf("EXP003", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.VALID);
+
+            index.onCouponDeleted(new CouponDeletedEvent(UUID.randomUUID(), "EXP002"));
+
+            assertThat(index.availabilityOf("EXP002", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.DELETED);
+        }
+    
+        @Test
+        @DisplayName("Deve manter a resposta de códigos arquivados")
+        void shouldKeepAnswerOfArchivedCodes() {
+            Coupon redeemed = Coupon.reconstruct(UUID.randomUUID(), "ARC003", "Desconto", new BigDecimal("10.00"),
+                    NOW.minusDays(1), true, true, CouponStatus.INACTIVE);
+            index.put(coupon("ARC001", NOW.minusDays(1), true));
+            index.put(coupon("ARC002", NOW.plusDays(1), true));
+            index.put(redeemed);
+            index.onCouponDeleted(new CouponDeletedEvent(UUID.randomUUID(), "ARC002"));
+
+            index.onCouponsArchived(new CouponsArchivedEvent(List.of("ARC001", "ARC002", "ARC003")));
+            index.onCouponsTransitioned(new CouponsTransitionedEvent(List.of("ARC001"), CouponTransition.ACTIVATE));
+
+            assertThat(index.availabilityOf("ARC001", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.EXPIRED);
+            assertThat(index.availabilityOf("ARC002", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.DELETED);
+            assertThat(index.availabilityOf("ARC003", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.REDEEMED);
+            assertThat(index.size()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando a campanha mudar a expiração")
+    class WhenCampaignExpirationChanges {
+
+        private final UUID campaignId = UUID.randomUUID();
+
+        private Campaign campaign(LocalDateTime expiration) {
+            return Campaign.reconstruct(campaignId, "Campanha", new BigDecimal("10.00"), expiration);
+        }
+
+        private Coupon campaignCoupon(String code, Campaign campaign, LocalDateTime ownExpiration) {
+            return Coupon.reconstruct(UUID.randomUUID(), code, campaign, null, null, ownExpiration, true, false,
+                    CouponStatus.ACTIVE, false, CustomerBitmap.empty());
+        }
+
+        @Test
+        @DisplayName("Deve aplicar a nova expiração em memória aos cupons que a herdam")
+        void shouldApplyNewExpirationInMemory() {
+            Campaign campaign = campaign(NOW.plusDays(10));
+            index.put(campaignCoupon("CMP001", campaign, null));
+            index.put(campaignCoupon("CMP002", campaign, NOW.plusDays(20)));
+
+            index.onCampaignUpdated(new CampaignUpdatedEvent(campaign(NOW.minusDays(1)), true));
+
+            assertThat(index.availabilityOf("CMP001", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.EXPIRED);
+            assertThat(index.availabilityOf("CMP002", NOW_EPOCH_SECOND)).isEqualTo(CouponAvailability.VALID);
+            verifyNoInteractions(couponRepository);
+        }
+
+        @Test
+        @DisplayName("Deve voltar a validar cupom expirado pela roda quando a campanha for prorrogada")
+        void shouldRevalidateWheelExpiredCouponWhenCampaignIsExtended() {
+            index.put(campaignCoupon("CMP003", campaign(NOW.plusSeconds(1)), null));
+            index.onCouponsExpired(new CouponsExpiredEvent(List.of("CMP003"), NOW_EPOCH_SECOND + 1));
+
+            index.onCampaignUpdated(new CampaignUpdatedEvent(campaign(NOW.plusDays(5)), true));
+
+            assertThat(index.availabilityOf("CMP003", NOW_EPOCH_SECOND + 2)).isEqualTo(CouponAvailability.VALID);
+        }
+    }
+}
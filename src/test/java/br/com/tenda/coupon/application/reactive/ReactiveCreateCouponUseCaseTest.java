@@ -0,0 +1,133 @@
+package br.com.tenda.coupon.application.reactive;
+
+import br.com.tenda.coupon.application.generator.CodePool;
+import br.com.tenda.coupon.domain.event.CouponCreatedEvent;
+import br.com.tenda.coupon.domain.exception.CodePoolExhaustedException;
+import br.com.tenda.coupon.domain.exception.ExpirationDateException;
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.ReactiveCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveCreateCouponUseCase")
+class ReactiveCreateCouponUseCaseTest {
+
+    @Mock
+    private ReactiveCouponRepository couponRepository;
+
+    @Mock
+    private TransactionalEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @Mock
+    private CodePool codePool;
+
+    private ReactiveCreateCouponUseCase useCase;
+
+    private final LocalDateTime futureDate = LocalDateTime.now().plusDays(30);
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReactiveCreateCouponUseCase(couponRepository, eventPublisher, transactionalOperator, codePool);
+        lenient().when(transactionalOperator.transactional(ArgumentMatchers.<Mono<Coupon>>any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        lenient().when(eventPublisher.publishEvent(any(Object.class))).thenReturn(Mono.empty());
+    }
+
+    @Nested
+    @DisplayName("Quando criar cupom com sucesso")
+    class WhenCreatingCouponSuccessfully {
+
+        @Test
+        @DisplayName("Deve salvar o cupom com o código normalizado e publicar o evento na transação")
+        void shouldSaveNormalizedCodeAndPublishEventInTransaction() {
+            when(couponRepository.existsByCode("ABC123")).thenReturn(Mono.just(false));
+
+            StepVerifier.create(useCase.execute("abc-123", "Desconto", new BigDecimal("10.00"), futureDate, true, false, false))
+                    .assertNext(coupon -> assertThat(coupon.getCodeValue()).isEqualTo("ABC123"))
+                    .verifyComplete();
+
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof CouponCreatedEvent created && created.getCoupon().getCodeValue().equals("ABC123")));
+            verify(transactionalOperator).transactional(ArgumentMatchers.<Mono<Coupon>>any());
+        }
+
+        @Test
+        @DisplayName("Deve usar um código do pool quando omitido")
+        void shouldTakeCodeFromPoolWhenOmitted() {
+            when(codePool.take()).thenReturn("POOL01");
+
+            StepVerifier.create(useCase.execute(null, "Desconto", new BigDecimal("10.00"), futureDate, true, false, false))
+                    .assertNext(coupon -> assertThat(coupon.getCodeValue()).isEqualTo("POOL01"))
+                    .verifyComplete();
+
+            verify(couponRepository, never()).existsByCode(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando a criação falhar")
+    class WhenCreationFails {
+
+        @Test
+        @DisplayName("Deve emitir erro para código já existente sem salvar")
+        void shouldFailForExistingCodeWithoutSaving() {
+            when(couponRepository.existsByCode("ABC123")).thenReturn(Mono.just(true));
+
+            StepVerifier.create(useCase.execute("ABC123", "Desconto", new BigDecimal("10.00"), futureDate, true, false, false))
+                    .expectErrorSatisfies(error -> assertThat(error)
+                            .isInstanceOf(InvalidCouponException.class)
+                            .hasMessage("A coupon with this code already exists"))
+                    .verify();
+
+            verify(couponRepository, never()).save(any());
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+
+        @Test
+        @DisplayName("Deve emitir erro de pool esgotado sem salvar quando não houver código disponível")
+        void shouldFailWhenCodePoolIsExhausted() {
+            when(codePool.take()).thenThrow(new CodePoolExhaustedException("No coupon code available, retry shortly", 1));
+
+            StepVerifier.create(useCase.execute(null, "Desconto", new BigDecimal("10.00"), futureDate, true, false, false))
+                    .expectError(CodePoolExhaustedException.class)
+                    .verify();
+
+            verify(couponRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Deve emitir erro para data de expiração no passado")
+        void shouldFailForPastExpirationDate() {
+            when(couponRepository.existsByCode("ABC123")).thenReturn(Mono.just(false));
+
+            StepVerifier.create(useCase.execute("ABC123", "Desconto", new BigDecimal("10.00"), LocalDateTime.now().minusDays(1), true, false, false))
+                    .expectError(ExpirationDateException.class)
+                    .verify();
+
+            verify(couponRepository, never()).save(any());
+        }
+    }
+}
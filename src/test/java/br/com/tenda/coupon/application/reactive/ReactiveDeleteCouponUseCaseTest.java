@@ -0,0 +1,99 @@
+package br.com.tenda.coupon.application.reactive;
+
+import br.com.tenda.coupon.domain.event.CouponDeletedEvent;
+import br.com.tenda.coupon.domain.exception.CouponAlreadyDeletedException;
+import br.com.tenda.coupon.domain.exception.CouponNotFoundException;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.ReactiveCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalEventPublisher;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveDeleteCouponUseCase")
+class ReactiveDeleteCouponUseCaseTest {
+
+    @Mock
+    private ReactiveCouponRepository couponRepository;
+
+    @Mock
+    private TransactionalEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    private ReactiveDeleteCouponUseCase useCase;
+
+    private final UUID couponId = UUID.randomUUID();
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReactiveDeleteCouponUseCase(couponRepository, eventPublisher, transactionalOperator);
+        coupon = Coupon.create("ABC123", "Desconto", new BigDecimal("10.50"), LocalDateTime.now().plusDays(30), false, false);
+        lenient().when(transactionalOperator.transactional(ArgumentMatchers.<Mono<Void>>any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        lenient().when(eventPublisher.publishEvent(any(Object.class))).thenReturn(Mono.empty());
+    }
+
+    @Nested
+    @DisplayName("Quando deletar cupom")
+    class WhenDeletingCoupon {
+
+        @Test
+        @DisplayName("Deve fazer soft delete e publicar o evento")
+        void shouldSoftDeleteAndPublishEvent() {
+            when(couponRepository.findById(couponId)).thenReturn(Mono.just(coupon));
+
+            StepVerifier.create(useCase.execute(couponId)).verifyComplete();
+
+            assertThat(coupon.getStatus()).isEqualTo("DELETED");
+            verify(couponRepository).save(coupon);
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof CouponDeletedEvent deleted && deleted.getCode().equals("ABC123")));
+        }
+
+        @Test
+        @DisplayName("Deve emitir erro para cupom inexistente")
+        void shouldFailForUnknownCoupon() {
+            when(couponRepository.findById(couponId)).thenReturn(Mono.empty());
+
+            StepVerifier.create(useCase.execute(couponId))
+                    .expectError(CouponNotFoundException.class)
+                    .verify();
+
+            verify(couponRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Deve emitir erro para cupom já deletado")
+        void shouldFailForAlreadyDeletedCoupon() {
+            coupon.delete();
+            when(couponRepository.findById(couponId)).thenReturn(Mono.just(coupon));
+
+            StepVerifier.create(useCase.execute(couponId))
+                    .expectError(CouponAlreadyDeletedException.class)
+                    .verify();
+
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.event.CouponsDeletedEvent;
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.repository.CouponFilter;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkDeleteCouponsUseCase")
+class BulkDeleteCouponsUseCaseTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BulkDeleteCouponsUseCase bulkDeleteCouponsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        bulkDeleteCouponsUseCase = new BulkDeleteCouponsUseCase(couponRepository, eventPublisher, transactionManager);
+    }
+
+    private static List<String> codesFor(Collection<UUID> ids) {
+        return ids.stream().map(id -> "C" + id.toString().substring(0, 5).toUpperCase()).toList();
+    }
+
+    @Nested
+    @DisplayName("Quando deletar por lista de IDs")
+    class WhenDeletingByIds {
+
+        @Test
+        @DisplayName("Deve deletar em blocos, cada um em sua transação, e publicar os códigos")
+        void shouldDeleteInChunksWithOwnTransactions() {
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+            List<UUID> ids = IntStream.range(0, BulkDeleteCouponsUseCase.CHUNK_SIZE * 2 + 1).mapToObj(i -> UUID.randomUUID()).toList();
+            when(couponRepository.softDeleteAll(anyCollection()))
+                    .thenAnswer(invocation -> codesFor(invocation.getArgument(0)));
+
+            long deleted = bulkDeleteCouponsUseCase.execute(ids);
+
+            assertThat(deleted).isEqualTo(ids.size());
+            verify(couponRepository, times(3)).softDeleteAll(anyCollection());
+            verify(transactionManager, times(3)).commit(any());
+            verify(eventPublisher, times(3)).publishEvent(any(CouponsDeletedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Não deve contar nem publicar IDs já deletados")
+        void shouldNotCountAlreadyDeletedIds() {
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+            when(couponRepository.softDeleteAll(anyCollection())).thenReturn(List.of());
+
+            long deleted = bulkDeleteCouponsUseCase.execute(List.of(UUID.randomUUID()));
+
+            assertThat(deleted).isZero();
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando deletar por filtro")
+    class WhenDeletingByFilter {
+
+        @Test
+        @DisplayName("Deve repetir blocos até não restar cupom e normalizar o prefixo")
+        void shouldLoopUntilNothingIsLeft() {
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+            List<UUID> first = List.of(UUID.randomUUID(), UUID.randomUUID());
+            List<UUID> second = List.of(UUID.randomUUID());
+            when(couponRepository.findDeletableIds(any(), eq(BulkDeleteCouponsUseCase.CHUNK_SIZE)))
+                    .thenReturn(first)
+                    .thenReturn(second)
+                    .thenReturn(List.of());
+            when(couponRepository.softDeleteAll(anyCollection()))
+                    .thenAnswer(invocation -> codesFor(invocation.getArgument(0)));
+            LocalDateTime cutoff = LocalDateTime.now();
+
+            long deleted = bulkDeleteCouponsUseCase.execute("bf-24", cutoff, CouponStatus.ACTIVE);
+
+            assertThat(deleted).isEqualTo(3);
+            ArgumentCaptor<CouponFilter> filter = ArgumentCaptor.forClass(CouponFilter.class);
+            verify(couponRepository, times(3)).findDeletableIds(filter.capture(), anyInt());
+            assertThat(filter.getValue().getCodePrefix()).isEqualTo("BF24");
+            assertThat(filter.getValue().getExpiringBefore()).isEqualTo(cutoff);
+            assertThat(filter.getValue().getStatus()).isEqualTo(CouponStatus.ACTIVE);
+        }
+
+        @Test
+        @DisplayName("Deve exigir ao menos um critério")
+        void shouldRequireAtLeastOneCriterion() {
+            assertThatThrownBy(() -> bulkDeleteCouponsUseCase.execute(null, null, null))
+                    .isInstanceOf(InvalidCouponException.class)
+                    .hasMessageContaining("at least one filter criterion");
+            verifyNoInteractions(couponRepository);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar prefixo inválido")
+        void shouldRejectInvalidPrefix() {
+            assertThatThrownBy(() -> bulkDeleteCouponsUseCase.execute("ABCDEFG", null, null))
+                    .isInstanceOf(InvalidCouponException.class)
+                    .hasMessage("Code prefix must have between 1 and 6 alphanumeric characters");
+            assertThatThrownBy(() -> bulkDeleteCouponsUseCase.execute("--", null, null))
+                    .isInstanceOf(InvalidCouponException.class);
+        }
+    }
+}
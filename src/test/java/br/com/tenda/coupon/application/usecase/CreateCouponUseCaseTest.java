@@ -1,8 +1,13 @@
 package br.com.tenda.coupon.application.usecase;
 
+import br.com.tenda.coupon.application.generator.CodePool;
+import br.com.tenda.coupon.domain.event.CouponCreatedEvent;
+import br.com.tenda.coupon.domain.exception.CampaignNotFoundException;
 import br.com.tenda.coupon.domain.exception.ExpirationDateException;
 import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Campaign;
 import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CampaignRepository;
 import br.com.tenda.coupon.domain.repository.CouponRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,13 +17,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +37,15 @@ class CreateCouponUseCaseTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CodePool codePool;
+
+    @Mock
+    private CampaignRepository campaignRepository;
+
     @InjectMocks
     private CreateCouponUseCase createCouponUseCase;
 
@@ -102,6 +120,101 @@ class CreateCouponUseCaseTest {
 
             assertThat(result.isPublished()).isTrue();
         }
+
+        @Test
+        @DisplayName("Deve publicar evento de cupom criado")
+        void shouldPublishCouponCreatedEvent() {
+            when(couponRepository.existsByCode(anyString())).thenReturn(false);
+            when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Coupon result = createCouponUseCase.execute(
+                    "ABC123",
+                    "Desconto",
+                    new BigDecimal("10.50"),
+                    futureDate,
+                    true,
+                    false
+            );
+
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof CouponCreatedEvent created && created.getCoupon() == result));
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando criar cupom de uma campanha")
+    class WhenCreatingCampaignCoupon {
+
+        @Test
+        @DisplayName("Deve herdar atributos omitidos e guardar apenas os sobrescritos")
+        void shouldInheritOmittedAndKeepOverriddenAttributes() {
+            Campaign campaign = Campaign.create("Black Friday", new BigDecimal("20.00"), futureDate);
+            when(campaignRepository.findById(campaign.getId())).thenReturn(Optional.of(campaign));
+            when(couponRepository.existsByCode("BF0001")).thenReturn(false);
+            when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Coupon result = createCouponUseCase.execute(campaign.getId(), "bf-0001", null, new BigDecimal("35.00"), null, true, false);
+
+            assertThat(result.getCampaign()).isSameAs(campaign);
+            assertThat(result.getDescription().getValue()).isEqualTo("Black Friday");
+            assertThat(result.getOwnDescription()).isNull();
+            assertThat(result.getDiscount().getValue()).isEqualByComparingTo("35.00");
+            assertThat(result.getExpirationDate()).isSameAs(campaign.getExpirationDate());
+            verify(eventPublisher).publishEvent(any(CouponCreatedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando a campanha não existir")
+        void shouldThrowWhenCampaignNotFound() {
+            UUID id = UUID.randomUUID();
+            when(campaignRepository.findById(id)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> createCouponUseCase.execute(id, "BF0001", null, null, null, true, false))
+                    .isInstanceOf(CampaignNotFoundException.class);
+            verify(couponRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando criar cupom sem código")
+    class WhenCreatingCouponWithoutCode {
+
+        @Test
+        @DisplayName("Deve usar código do pool sem consultar existência")
+        void shouldTakeCodeFromPool() {
+            when(codePool.take()).thenReturn("7QK2ZD");
+            when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Coupon result = createCouponUseCase.execute(
+                    null,
+                    "Desconto",
+                    new BigDecimal("10.50"),
+                    futureDate,
+                    true,
+                    false
+            );
+
+            assertThat(result.getCodeValue()).isEqualTo("7QK2ZD");
+            verify(couponRepository, never()).existsByCode(anyString());
+        }
+
+        @Test
+        @DisplayName("Deve tratar código em branco como omitido")
+        void shouldTreatBlankCodeAsOmitted() {
+            when(codePool.take()).thenReturn("0M4XH9");
+            when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Coupon result = createCouponUseCase.execute(
+                    "  ",
+                    "Desconto",
+                    new BigDecimal("10.50"),
+                    futureDate,
+                    false,
+                    false
+            );
+
+            assertThat(result.getCodeValue()).isEqualTo("0M4XH9");
+        }
     }
 
     @Nested
@@ -1,5 +1,6 @@
 package br.com.tenda.coupon.application.usecase;
 
+import br.com.tenda.coupon.domain.event.CouponDeletedEvent;
 import br.com.tenda.coupon.domain.exception.CouponAlreadyDeletedException;
 import br.com.tenda.coupon.domain.exception.CouponNotFoundException;
 import br.com.tenda.coupon.domain.model.Coupon;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -20,6 +22,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +32,9 @@ class DeleteCouponUseCaseTest {
     @Mock
     private CouponRepository couponRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private DeleteCouponUseCase deleteCouponUseCase;
 
@@ -60,6 +66,20 @@ class DeleteCouponUseCaseTest {
             verify(couponRepository).findById(couponId);
             verify(couponRepository).save(activeCoupon);
         }
+
+        @Test
+        @DisplayName("Deve publicar evento de cupom deletado")
+        void shouldPublishCouponDeletedEvent() {
+            when(couponRepository.findById(couponId)).thenReturn(Optional.of(activeCoupon));
+            when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            deleteCouponUseCase.execute(couponId);
+
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof CouponDeletedEvent deleted
+                            && deleted.getCouponId().equals(activeCoupon.getId())
+                            && deleted.getCode().equals("ABC123")));
+        }
     }
 
     @Nested
@@ -96,6 +116,7 @@ class DeleteCouponUseCaseTest {
 
             verify(couponRepository).findById(couponId);
             verify(couponRepository, never()).save(any(Coupon.class));
+            verifyNoInteractions(eventPublisher);
         }
     }
 }
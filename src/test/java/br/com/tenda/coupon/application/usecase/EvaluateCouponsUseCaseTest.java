@@ -0,0 +1,177 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.application.cache.CouponLookupCache;
+import br.com.tenda.coupon.domain.model.AppliedDiscount;
+import br.com.tenda.coupon.domain.model.CartEvaluation;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EvaluateCouponsUseCase")
+class EvaluateCouponsUseCaseTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("America/Sao_Paulo");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0, 0);
+
+    @Mock
+    private CouponLookupCache couponLookupCache;
+
+    private EvaluateCouponsUseCase evaluateCouponsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZONE_ID).toInstant(), ZONE_ID);
+        evaluateCouponsUseCase = new EvaluateCouponsUseCase(couponLookupCache, clock);
+    }
+
+    private Coupon coupon(String code, String discount, LocalDateTime expiration, boolean published, boolean redeemed, CouponStatus status) {
+        return Coupon.reconstruct(UUID.randomUUID(), code, "Desconto", new BigDecimal(discount), expiration, published, redeemed, status);
+    }
+
+    private Coupon validCoupon(String code, String discount) {
+        return coupon(code, discount, NOW.plusDays(10), true, false, CouponStatus.ACTIVE);
+    }
+
+    @Nested
+    @DisplayName("Quando aplicar cupons válidos")
+    class WhenApplyingValidCoupons {
+
+        @Test
+        @DisplayName("Deve aplicar desconto e calcular valor final")
+        void shouldApplyDiscountAndComputeFinalAmount() {
+            when(couponLookupCache.lookup("ABC123")).thenReturn(validCoupon("ABC123", "10.50"));
+
+            CartEvaluation result = evaluateCouponsUseCase.execute(new BigDecimal("150.00"), List.of("ABC123"));
+
+            assertThat(result.getCartTotalMinorUnits()).isEqualTo(15000L);
+            assertThat(result.getTotalDiscountMinorUnits()).isEqualTo(1050L);
+            assertThat(result.getFinalAmountMinorUnits()).isEqualTo(13950L);
+            assertThat(result.getDiscounts()).singleElement()
+                    .satisfies(discount -> {
+                        assertThat(discount.getCode()).isEqualTo("ABC123");
+                        assertThat(discount.getAvailability()).isEqualTo(CouponAvailability.VALID);
+                        assertThat(discount.isApplied()).isTrue();
+                    });
+        }
+
+        @Test
+        @DisplayName("Deve acumular descontos de vários cupons na ordem informada")
+        void shouldAccumulateDiscountsInOrder() {
+            when(couponLookupCache.lookup("ABC123")).thenReturn(validCoupon("ABC123", "10.00"));
+            when(couponLookupCache.lookup("DEF456")).thenReturn(validCoupon("DEF456", "5.25"));
+
+            CartEvaluation result = evaluateCouponsUseCase.execute(new BigDecimal("100"), List.of("ABC123", "DEF456"));
+
+            assertThat(result.getDiscounts()).extracting(AppliedDiscount::getDiscountMinorUnits)
+                    .containsExactly(1000L, 525L);
+            assertThat(result.getTotalDiscountMinorUnits()).isEqualTo(1525L);
+            assertThat(result.getFinalAmountMinorUnits()).isEqualTo(8475L);
+        }
+
+        @Test
+        @DisplayName("Deve limitar o desconto ao valor restante do carrinho")
+        void shouldCapDiscountAtRemainingAmount() {
+            when(couponLookupCache.lookup("ABC123")).thenReturn(validCoupon("ABC123", "30.00"));
+            when(couponLookupCache.lookup("DEF456")).thenReturn(validCoupon("DEF456", "30.00"));
+
+            CartEvaluation result = evaluateCouponsUseCase.execute(new BigDecimal("40.00"), List.of("ABC123", "DEF456"));
+
+            assertThat(result.getDiscounts()).extracting(AppliedDiscount::getDiscountMinorUnits)
+                    .containsExactly(3000L, 1000L);
+            assertThat(result.getFinalAmountMinorUnits()).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve normalizar códigos e ignorar repetidos")
+        void shouldNormalizeCodesAndSkipDuplicates() {
+            when(couponLookupCache.lookup("ABC123")).thenReturn(validCoupon("ABC123", "10.00"));
+
+            CartEvaluation result = evaluateCouponsUseCase.execute(new BigDecimal("100.00"), List.of("abc-123", "ABC123"));
+
+            assertThat(result.getDiscounts()).hasSize(1);
+            assertThat(result.getTotalDiscountMinorUnits()).isEqualTo(1000L);
+            verify(couponLookupCache, times(1)).lookup("ABC123");
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando cupom não pode ser aplicado")
+    class WhenCouponCannotBeApplied {
+
+        @Test
+        @DisplayName("Deve marcar código desconhecido sem desconto")
+        void shouldMarkUnknownCode() {
+            when(couponLookupCache.lookup("ZZZ999")).thenReturn(null);
+
+            CartEvaluation result = evaluateCouponsUseCase.execute(new BigDecimal("50.00"), List.of("ZZZ999"));
+
+            assertThat(result.getDiscounts()).singleElement()
+                    .satisfies(discount -> {
+                        assertThat(discount.getAvailability()).isEqualTo(CouponAvailability.UNKNOWN);
+                        assertThat(discount.isApplied()).isFalse();
+                    });
+            assertThat(result.getFinalAmountMinorUnits()).isEqualTo(5000L);
+        }
+
+        @Test
+        @DisplayName("Não deve consultar o cache para código com tamanho inválido")
+        void shouldNotLookupCodeWithInvalidLength() {
+            CartEvaluation result = evaluateCouponsUseCase.execute(new BigDecimal("50.00"), List.of("AB1"));
+
+            assertThat(result.getDiscounts()).singleElement()
+                    .extracting(AppliedDiscount::getAvailability)
+                    .isEqualTo(CouponAvailability.UNKNOWN);
+            verify(couponLookupCache, never()).lookup(anyString());
+        }
+
+        @Test
+        @DisplayName("Não deve aplicar cupom expirado")
+        void shouldNotApplyExpiredCoupon() {
+            when(couponLookupCache.lookup("EXP001"))
+                    .thenReturn(coupon("EXP001", "10.00", NOW.minusSeconds(1), true, false, CouponStatus.ACTIVE));
+
+            CartEvaluation result = evaluateCouponsUseCase.execute(new BigDecimal("50.00"), List.of("EXP001"));
+
+            assertThat(result.getDiscounts()).singleElement()
+                    .extracting(AppliedDiscount::getAvailability)
+                    .isEqualTo(CouponAvailability.EXPIRED);
+            assertThat(result.getTotalDiscountMinorUnits()).isZero();
+        }
+
+        @Test
+        @DisplayName("Não deve aplicar cupom deletado, resgatado ou não publicado")
+        void shouldNotApplyDeletedRedeemedOrUnpublishedCoupon() {
+            when(couponLookupCache.lookup("DEL001"))
+                    .thenReturn(coupon("DEL001", "10.00", NOW.plusDays(1), true, false, CouponStatus.DELETED));
+            when(couponLookupCache.lookup("RED001"))
+                    .thenReturn(coupon("RED001", "10.00", NOW.plusDays(1), true, true, CouponStatus.ACTIVE));
+            when(couponLookupCache.lookup("UNP001"))
+                    .thenReturn(coupon("UNP001", "10.00", NOW.plusDays(1), false, false, CouponStatus.ACTIVE));
+
+            CartEvaluation result = evaluateCouponsUseCase.execute(new BigDecimal("50.00"), List.of("DEL001", "RED001", "UNP001"));
+
+            assertThat(result.getDiscounts()).extracting(AppliedDiscount::getAvailability)
+                    .containsExactly(CouponAvailability.DELETED, CouponAvailability.REDEEMED, CouponAvailability.UNPUBLISHED);
+            assertThat(result.getFinalAmountMinorUnits()).isEqualTo(5000L);
+        }
+    }
+}
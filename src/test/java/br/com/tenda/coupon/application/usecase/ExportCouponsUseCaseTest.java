@@ -0,0 +1,48 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponFilter;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportCouponsUseCase")
+class ExportCouponsUseCaseTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @InjectMocks
+    private ExportCouponsUseCase exportCouponsUseCase;
+
+    @Test
+    @DisplayName("Deve repassar cada cupom do cursor ao consumidor sem acumular")
+    void shouldStreamEachCouponToSink() {
+        CouponFilter filter = CouponFilter.builder().published(true).build();
+        Coupon coupon = Coupon.create("ABC123", "Exportado", new BigDecimal("10.00"), LocalDateTime.now().plusDays(1), true, false);
+        doAnswer(invocation -> {
+            invocation.<Consumer<Coupon>>getArgument(1).accept(coupon);
+            return null;
+        }).when(couponRepository).forEach(eq(filter), any());
+
+        List<Coupon> exported = new ArrayList<>();
+        exportCouponsUseCase.execute(filter, exported::add);
+
+        assertThat(exported).containsExactly(coupon);
+    }
+}
@@ -0,0 +1,145 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.application.generator.CodePermutation;
+import br.com.tenda.coupon.domain.event.CouponsGeneratedEvent;
+import br.com.tenda.coupon.domain.exception.CampaignNotFoundException;
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CampaignRepository;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GenerateCouponsUseCase")
+class GenerateCouponsUseCaseTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CampaignRepository campaignRepository;
+
+    private final CodePermutation codePermutation = new CodePermutation(7L);
+
+    private GenerateCouponsUseCase generateCouponsUseCase;
+
+    private final LocalDateTime futureDate = LocalDateTime.now().plusDays(30);
+
+    @BeforeEach
+    void setUp() {
+        generateCouponsUseCase = new GenerateCouponsUseCase(couponRepository, codePermutation, eventPublisher, campaignRepository);
+    }
+
+    @Nested
+    @DisplayName("Quando gerar cupons com sucesso")
+    class WhenGeneratingSuccessfully {
+
+        @Test
+        @DisplayName("Deve gerar códigos da permutação, salvar em lote e publicar evento")
+        void shouldGenerateCodesFromPermutationAndSaveInBatch() {
+            when(couponRepository.reserveCodeSequence(3)).thenReturn(10L);
+            when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+
+            List<Coupon> result = generateCouponsUseCase.execute(3, "Campanha", new BigDecimal("5.00"), futureDate, true, false);
+
+            assertThat(result).extracting(Coupon::getCodeValue).containsExactly(
+                    codePermutation.codeAt(10).getValue(),
+                    codePermutation.codeAt(11).getValue(),
+                    codePermutation.codeAt(12).getValue());
+            assertThat(result).allMatch(Coupon::isPublished);
+            verify(couponRepository).saveAll(result);
+            verify(couponRepository, never()).existsByCode(anyString());
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof CouponsGeneratedEvent generated && generated.getCoupons().equals(result)));
+        }
+
+        @Test
+        @DisplayName("Deve pular códigos já cadastrados manualmente e completar a quantidade")
+        void shouldSkipCodesAlreadyTakenAndTopUp() {
+            String taken = codePermutation.codeAt(1).getValue();
+            when(couponRepository.reserveCodeSequence(2)).thenReturn(0L);
+            when(couponRepository.reserveCodeSequence(1)).thenReturn(2L);
+            when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of(taken)).thenReturn(Set.of());
+
+            List<Coupon> result = generateCouponsUseCase.execute(2, "Campanha", new BigDecimal("5.00"), futureDate, false, false);
+
+            assertThat(result).extracting(Coupon::getCodeValue).containsExactly(
+                    codePermutation.codeAt(0).getValue(),
+                    codePermutation.codeAt(2).getValue());
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando gerar cupons de uma campanha")
+    class WhenGeneratingForCampaign {
+
+        @Test
+        @DisplayName("Deve gerar cupons que herdam todos os atributos da mesma instância da campanha")
+        void shouldGenerateCouponsSharingTheCampaign() {
+            Campaign campaign = Campaign.create("Black Friday", new BigDecimal("20.00"), futureDate);
+            when(campaignRepository.findById(campaign.getId())).thenReturn(Optional.of(campaign));
+            when(couponRepository.reserveCodeSequence(2)).thenReturn(0L);
+            when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+
+            List<Coupon> result = generateCouponsUseCase.execute(campaign.getId(), 2, true, false);
+
+            assertThat(result).allSatisfy(coupon -> {
+                assertThat(coupon.getCampaign()).isSameAs(campaign);
+                assertThat(coupon.getOwnDescription()).isNull();
+                assertThat(coupon.getOwnDiscount()).isNull();
+                assertThat(coupon.getOwnExpirationDate()).isNull();
+                assertThat(coupon.getDiscount()).isSameAs(campaign.getDiscount());
+            });
+            verify(couponRepository).saveAll(result);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando a campanha não existir")
+        void shouldThrowWhenCampaignNotFound() {
+            UUID id = UUID.randomUUID();
+            when(campaignRepository.findById(id)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> generateCouponsUseCase.execute(id, 1, true, false))
+                    .isInstanceOf(CampaignNotFoundException.class)
+                    .hasMessage("Campaign not found with id: " + id);
+            verifyNoInteractions(couponRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando os dados forem inválidos")
+    class WhenInvalid {
+
+        @Test
+        @DisplayName("Deve rejeitar quantidade fora do limite sem reservar sequência")
+        void shouldRejectCountOutOfRange() {
+            assertThatThrownBy(() -> generateCouponsUseCase.execute(0, "Campanha", new BigDecimal("5.00"), futureDate, false, false))
+                    .isInstanceOf(InvalidCouponException.class)
+                    .hasMessage("Count must be between 1 and 10000");
+
+            verifyNoInteractions(couponRepository);
+        }
+    }
+}
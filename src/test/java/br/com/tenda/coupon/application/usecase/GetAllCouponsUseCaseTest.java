@@ -1,6 +1,7 @@
 package br.com.tenda.coupon.application.usecase;
 
 import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponProjection;
 import br.com.tenda.coupon.domain.repository.CouponRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -286,5 +287,23 @@ class GetAllCouponsUseCaseTest {
             verify(couponRepository).findAll(pageable);
         }
     }
-}
 
+    @Nested
+    @DisplayName("Quando buscar com projeção")
+    class WhenGettingWithProjection {
+
+        @Test
+        @DisplayName("Deve repassar a projeção ao repositório")
+        void shouldPassProjectionToRepository() {
+            CouponProjection projection = CouponProjection.builder().redeemedCustomers(true).build();
+            Page<Coupon> couponsPage = new PageImpl<>(coupons, pageable, coupons.size());
+            when(couponRepository.findAll(pageable, projection)).thenReturn(couponsPage);
+
+            Page<Coupon> result = getAllCouponsUseCase.execute(pageable, projection);
+
+            assertThat(result).isSameAs(couponsPage);
+            verify(couponRepository).findAll(pageable, projection);
+            verifyNoMoreInteractions(couponRepository);
+        }
+    }
+}
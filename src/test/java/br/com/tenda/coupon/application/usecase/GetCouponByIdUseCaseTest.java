@@ -249,5 +249,21 @@ class GetCouponByIdUseCaseTest {
             assertThat(result.isRedeemed()).isFalse();
         }
     }
-}
 
+    @Nested
+    @DisplayName("Quando incluir cupons arquivados")
+    class WhenIncludingArchived {
+
+        @Test
+        @DisplayName("Deve procurar no arquivo somente quando solicitado")
+        void shouldLookInArchiveOnlyWhenAsked() {
+            when(couponRepository.findById(couponId)).thenReturn(Optional.empty());
+            when(couponRepository.findArchivedById(couponId)).thenReturn(Optional.of(coupon));
+
+            assertThat(getCouponByIdUseCase.execute(couponId, true)).isSameAs(coupon);
+            assertThatThrownBy(() -> getCouponByIdUseCase.execute(couponId, false))
+                    .isInstanceOf(CouponNotFoundException.class);
+            verify(couponRepository, times(1)).findArchivedById(couponId);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.repository.ExpirationCursor;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetExpiringCouponsUseCase")
+class GetExpiringCouponsUseCaseTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0, 0);
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private GetExpiringCouponsUseCase getExpiringCouponsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        getExpiringCouponsUseCase = new GetExpiringCouponsUseCase(couponRepository);
+    }
+
+    private static Coupon coupon(String code, LocalDateTime expiration) {
+        return Coupon.reconstruct(UUID.randomUUID(), code, "Desconto", new BigDecimal("10.00"), expiration, true, false, CouponStatus.ACTIVE);
+    }
+
+    @Nested
+    @DisplayName("Quando listar cupons prestes a expirar")
+    class WhenListing {
+
+        @Test
+        @DisplayName("Deve buscar um cupom além da página e devolver o cursor do último")
+        void shouldFetchOneExtraAndReturnCursorOfLast() {
+            Coupon first = coupon("EXP001", NOW.plusHours(1));
+            Coupon second = coupon("EXP002", NOW.plusHours(2));
+            when(couponRepository.findExpiring(NOW, NOW.plusHours(24), null, 3))
+                    .thenReturn(List.of(first, second, coupon("EXP003", NOW.plusHours(3))));
+
+            GetExpiringCouponsUseCase.Slice slice = getExpiringCouponsUseCase.execute(NOW, Duration.ofHours(24), null, 2);
+
+            assertThat(slice.getCoupons()).containsExactly(first, second);
+            assertThat(slice.getNext()).isEqualTo(new ExpirationCursor(NOW.plusHours(2), second.getId()));
+        }
+
+        @Test
+        @DisplayName("Não deve devolver cursor na última página")
+        void shouldNotReturnCursorOnLastPage() {
+            ExpirationCursor after = new ExpirationCursor(NOW.plusMinutes(5), UUID.randomUUID());
+            when(couponRepository.findExpiring(NOW, NOW.plusHours(1), after, 11)).thenReturn(List.of(coupon("EXP001", NOW.plusMinutes(30))));
+
+            GetExpiringCouponsUseCase.Slice slice = getExpiringCouponsUseCase.execute(NOW, Duration.ofHours(1), after, 10);
+
+            assertThat(slice.getCoupons()).hasSize(1);
+            assertThat(slice.getNext()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar janela ou tamanho de página inválidos")
+        void shouldRejectInvalidWindowOrPageSize() {
+            assertThatThrownBy(() -> getExpiringCouponsUseCase.execute(NOW, Duration.ZERO, null, 10))
+                    .isInstanceOf(InvalidCouponException.class);
+            assertThatThrownBy(() -> getExpiringCouponsUseCase.execute(NOW, Duration.ofDays(400), null, 10))
+                    .isInstanceOf(InvalidCouponException.class);
+            assertThatThrownBy(() -> getExpiringCouponsUseCase.execute(NOW, Duration.ofHours(1), null, 1001))
+                    .isInstanceOf(InvalidCouponException.class);
+            verifyNoInteractions(couponRepository);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.application.importer.CouponCsvReader;
+import br.com.tenda.coupon.application.importer.CouponImportError;
+import br.com.tenda.coupon.application.importer.CouponImportSummary;
+import br.com.tenda.coupon.domain.event.CouponsImportedEvent;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportCouponsUseCase")
+class ImportCouponsUseCaseTest {
+
+    private static final String HEADER = "code,description,discountValue,expirationDate,published\n";
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImportCouponsUseCase importCouponsUseCase;
+
+    private final String futureDate = LocalDateTime.now().plusDays(30).withNano(0).toString();
+    private final List<CouponImportError> errors = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        importCouponsUseCase = new ImportCouponsUseCase(couponRepository, eventPublisher, transactionManager);
+    }
+
+    private CouponImportSummary importCsv(String rows) throws IOException {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        try (CouponCsvReader reader = CouponCsvReader.open(
+                new ByteArrayInputStream((HEADER + rows).getBytes(StandardCharsets.UTF_8)))) {
+            return importCouponsUseCase.execute(reader, errors::add);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando importar linhas válidas")
+    class WhenImportingValidRows {
+
+        @Test
+        @DisplayName("Deve normalizar, salvar em lote e publicar evento")
+        void shouldSaveInBatchAndPublishEvent() throws IOException {
+            when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+
+            CouponImportSummary summary = importCsv(
+                    "abc-123,Primeiro,10.00," + futureDate + ",true\n"
+                            + "DEF456,Segundo,5," + futureDate + ",\n");
+
+            assertThat(summary.getImported()).isEqualTo(2);
+            assertThat(summary.getRejected()).isZero();
+            assertThat(errors).isEmpty();
+
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<List<Coupon>> saved = ArgumentCaptor.forClass(List.class);
+            verify(couponRepository).saveAll(saved.capture());
+            assertThat(saved.getValue()).extracting(Coupon::getCodeValue).containsExactly("ABC123", "DEF456");
+            assertThat(saved.getValue()).extracting(Coupon::isPublished).containsExactly(true, false);
+            verify(eventPublisher).publishEvent(any(CouponsImportedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Deve gravar em blocos de tamanho fixo")
+        void shouldFlushInChunks() throws IOException {
+            when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+            StringBuilder rows = new StringBuilder();
+            int count = ImportCouponsUseCase.CHUNK_SIZE * 2 + 1;
+            for (int i = 0; i < count; i++) {
+                rows.append(String.format("C%05d,Lote,1.00,%s,\n", i, futureDate));
+            }
+
+            CouponImportSummary summary = importCsv(rows.toString());
+
+            assertThat(summary.getImported()).isEqualTo(count);
+            verify(couponRepository, times(3)).saveAll(anyList());
+            verify(transactionManager, times(3)).commit(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando importar linhas inválidas")
+    class WhenImportingInvalidRows {
+
+        @Test
+        @DisplayName("Deve relatar cada linha rejeitada com número e motivo")
+        void shouldReportRejectedRows() throws IOException {
+            when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of("TAKEN1"));
+
+            CouponImportSummary summary = importCsv(
+                    "AB-12,Curto,10.00," + futureDate + ",\n"
+                            + "ABC123,Valor,abc," + futureDate + ",\n"
+                            + "ABC124,Data,10.00,amanhã,\n"
+                            + "ABC125,Flag,10.00," + futureDate + ",sim\n"
+                            + "ABC126,Baixo,0.10," + futureDate + ",\n"
+                            + "TAKEN1,Existente,10.00," + futureDate + ",\n"
+                            + "OK0001,Válido,10.00," + futureDate + ",\n"
+                            + "ok-0001,Repetido,10.00," + futureDate + ",\n");
+
+            assertThat(summary.getImported()).isEqualTo(1);
+            assertThat(summary.getRejected()).isEqualTo(7);
+            assertThat(errors).extracting(CouponImportError::getLine).containsExactly(2L, 3L, 4L, 5L, 6L, 9L, 7L);
+            assertThat(errors).extracting(CouponImportError::getMessage).containsExactly(
+                    "Coupon code must have exactly 6 alphanumeric characters (after removing special characters)",
+                    "Discount value is not a number: abc",
+                    "Expiration date must be formatted as yyyy-MM-ddTHH:mm:ss: amanhã",
+                    "Column published must be true or false: sim",
+                    "Discount value must be at least 0.5",
+                    "Code appears more than once in the file",
+                    "A coupon with this code already exists");
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar o bloco inteiro quando um código for criado em paralelo")
+        void shouldRejectChunkOnConcurrentInsert() throws IOException {
+            when(couponRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+            doThrow(new DuplicateKeyException("duplicate")).when(couponRepository).saveAll(anyList());
+
+            CouponImportSummary summary = importCsv("ABC123,Primeiro,10.00," + futureDate + ",\n");
+
+            assertThat(summary.getImported()).isZero();
+            assertThat(summary.getRejected()).isEqualTo(1);
+            assertThat(errors).singleElement().extracting(CouponImportError::getCode).isEqualTo("ABC123");
+            verify(transactionManager).rollback(any());
+        }
+    }
+}
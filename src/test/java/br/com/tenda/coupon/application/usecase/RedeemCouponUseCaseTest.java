@@ -0,0 +1,144 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.event.CouponRedeemedEvent;
+import br.com.tenda.coupon.domain.exception.CouponNotFoundException;
+import br.com.tenda.coupon.domain.exception.CouponNotRedeemableException;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.domain.vo.CustomerBitmap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RedeemCouponUseCase")
+class RedeemCouponUseCaseTest {
+
+    private static final ZoneId ZONE_ID = ZoneId.of("America/Sao_Paulo");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 6, 1, 12, 0, 0);
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RedeemCouponUseCase redeemCouponUseCase;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.atZone(ZONE_ID).toInstant(), ZONE_ID);
+        redeemCouponUseCase = new RedeemCouponUseCase(couponRepository, eventPublisher, clock);
+    }
+
+    private Coupon coupon(LocalDateTime expiration, boolean redeemed, CouponStatus status) {
+        return Coupon.reconstruct(UUID.randomUUID(), "ABC123", "Desconto", new BigDecimal("10.00"), expiration, true, redeemed, status);
+    }
+
+    @Nested
+    @DisplayName("Quando resgatar cupom com sucesso")
+    class WhenRedeemingSuccessfully {
+
+        @Test
+        @DisplayName("Deve marcar cupom como resgatado e publicar evento")
+        void shouldRedeemCouponAndPublishEvent() {
+            Coupon coupon = coupon(NOW.plusDays(1), false, CouponStatus.ACTIVE);
+            when(couponRepository.findByCodeForUpdate("ABC123")).thenReturn(Optional.of(coupon));
+            when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Coupon result = redeemCouponUseCase.execute("abc-123", null);
+
+            assertThat(result.isRedeemed()).isTrue();
+            verify(couponRepository).save(coupon);
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof CouponRedeemedEvent redeemed
+                            && redeemed.getCouponId().equals(coupon.getId())
+                            && redeemed.getCode().equals("ABC123")
+                            && redeemed.getRedeemedAt().equals(NOW.atZone(ZONE_ID).toInstant())));
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando resgatar cupom de um uso por cliente")
+    class WhenRedeemingOnePerCustomer {
+
+        @Test
+        @DisplayName("Deve registrar o cliente sem esgotar o cupom")
+        void shouldRecordCustomerWithoutExhaustingCoupon() {
+            Coupon coupon = Coupon.reconstruct(UUID.randomUUID(), "ABC123", "Desconto", new BigDecimal("10.00"),
+                    NOW.plusDays(1), true, false, CouponStatus.ACTIVE, true, CustomerBitmap.empty());
+            when(couponRepository.findByCodeForUpdate("ABC123")).thenReturn(Optional.of(coupon));
+            when(couponRepository.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Coupon result = redeemCouponUseCase.execute("ABC123", 99L);
+
+            assertThat(result.isRedeemed()).isFalse();
+            assertThat(result.wasRedeemedBy(99L)).isTrue();
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof CouponRedeemedEvent redeemed
+                            && redeemed.getCustomerId() == 99L
+                            && !redeemed.isExhausted()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando cupom não pode ser resgatado")
+    class WhenCouponCannotBeRedeemed {
+
+        @Test
+        @DisplayName("Deve lançar exceção se cupom não for encontrado")
+        void shouldThrowExceptionIfCouponNotFound() {
+            when(couponRepository.findByCodeForUpdate("ZZZ999")).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> redeemCouponUseCase.execute("ZZZ999", null))
+                    .isInstanceOf(CouponNotFoundException.class)
+                    .hasMessage("Coupon not found with code: ZZZ999");
+
+            verify(couponRepository, never()).save(any(Coupon.class));
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção ao resgatar cupom já resgatado")
+        void shouldThrowExceptionForAlreadyRedeemedCoupon() {
+            when(couponRepository.findByCodeForUpdate("ABC123"))
+                    .thenReturn(Optional.of(coupon(NOW.plusDays(1), true, CouponStatus.ACTIVE)));
+
+            assertThatThrownBy(() -> redeemCouponUseCase.execute("ABC123", null))
+                    .isInstanceOf(CouponNotRedeemableException.class)
+                    .hasMessage("Coupon ABC123 cannot be redeemed: REDEEMED");
+
+            verify(couponRepository, never()).save(any(Coupon.class));
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção ao resgatar cupom expirado")
+        void shouldThrowExceptionForExpiredCoupon() {
+            when(couponRepository.findByCodeForUpdate("ABC123"))
+                    .thenReturn(Optional.of(coupon(NOW.minusMinutes(1), false, CouponStatus.ACTIVE)));
+
+            assertThatThrownBy(() -> redeemCouponUseCase.execute("ABC123", null))
+                    .isInstanceOf(CouponNotRedeemableException.class)
+                    .hasMessage("Coupon ABC123 cannot be redeemed: EXPIRED");
+        }
+    }
+}
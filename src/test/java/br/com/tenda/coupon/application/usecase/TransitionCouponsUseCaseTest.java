@@ -0,0 +1,135 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.event.CouponsTransitionedEvent;
+import br.com.tenda.coupon.domain.exception.CouponNotFoundException;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.domain.vo.CouponTransition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransitionCouponsUseCase")
+class TransitionCouponsUseCaseTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransitionCouponsUseCase transitionCouponsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        transitionCouponsUseCase = new TransitionCouponsUseCase(couponRepository, eventPublisher, transactionManager);
+    }
+
+    private static Coupon coupon(boolean published) {
+        return Coupon.reconstruct(UUID.randomUUID(), "ABC123", "Desconto", new BigDecimal("10.00"),
+                LocalDateTime.now().plusDays(1), published, false, CouponStatus.ACTIVE);
+    }
+
+    @Nested
+    @DisplayName("Quando alterar um cupom")
+    class WhenTransitioningOneCoupon {
+
+        @Test
+        @DisplayName("Deve salvar e publicar o evento quando o cupom mudar")
+        void shouldSaveAndPublishWhenChanged() {
+            Coupon coupon = coupon(false);
+            when(couponRepository.findByIdForUpdate(coupon.getId())).thenReturn(Optional.of(coupon));
+            when(couponRepository.save(coupon)).thenReturn(coupon);
+
+            Coupon result = transitionCouponsUseCase.execute(coupon.getId(), CouponTransition.PUBLISH);
+
+            assertThat(result.isPublished()).isTrue();
+            ArgumentCaptor<CouponsTransitionedEvent> event = ArgumentCaptor.forClass(CouponsTransitionedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getCodes()).containsExactly("ABC123");
+            assertThat(event.getValue().getTransition()).isEqualTo(CouponTransition.PUBLISH);
+        }
+
+        @Test
+        @DisplayName("Não deve salvar quando o cupom já estiver no estado de destino")
+        void shouldNotSaveWhenAlreadyInTargetState() {
+            Coupon coupon = coupon(true);
+            when(couponRepository.findByIdForUpdate(coupon.getId())).thenReturn(Optional.of(coupon));
+
+            Coupon result = transitionCouponsUseCase.execute(coupon.getId(), CouponTransition.PUBLISH);
+
+            assertThat(result).isSameAs(coupon);
+            verify(couponRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando o cupom não existir")
+        void shouldThrowWhenCouponNotFound() {
+            UUID id = UUID.randomUUID();
+            when(couponRepository.findByIdForUpdate(id)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> transitionCouponsUseCase.execute(id, CouponTransition.ACTIVATE))
+                    .isInstanceOf(CouponNotFoundException.class)
+                    .hasMessage("Coupon not found with id: " + id);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando alterar em lote")
+    class WhenTransitioningInBulk {
+
+        @Test
+        @DisplayName("Deve alterar em blocos, cada um em sua transação, e publicar os códigos")
+        void shouldTransitionInChunksWithOwnTransactions() {
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+            List<UUID> ids = IntStream.range(0, TransitionCouponsUseCase.CHUNK_SIZE + 1).mapToObj(i -> UUID.randomUUID()).toList();
+            when(couponRepository.applyAll(anyCollection(), eq(CouponTransition.DEACTIVATE)))
+                    .thenReturn(List.of("AAA111", "AAA112"))
+                    .thenReturn(List.of("AAA113"));
+
+            long updated = transitionCouponsUseCase.execute(ids, CouponTransition.DEACTIVATE);
+
+            assertThat(updated).isEqualTo(3);
+            verify(couponRepository, times(2)).applyAll(anyCollection(), eq(CouponTransition.DEACTIVATE));
+            verify(transactionManager, times(2)).commit(any());
+            verify(eventPublisher, times(2)).publishEvent(any(CouponsTransitionedEvent.class));
+        }
+
+        @Test
+        @DisplayName("Não deve publicar evento quando nenhum cupom mudar")
+        void shouldNotPublishWhenNothingChanged() {
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+            when(couponRepository.applyAll(anyCollection(), any())).thenReturn(List.of());
+
+            long updated = transitionCouponsUseCase.execute(List.of(UUID.randomUUID()), CouponTransition.PUBLISH);
+
+            assertThat(updated).isZero();
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.domain.event.CampaignUpdatedEvent;
+import br.com.tenda.coupon.domain.exception.CampaignNotFoundException;
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.domain.repository.CampaignRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateCampaignUseCase")
+class UpdateCampaignUseCaseTest {
+
+    @Mock
+    private CampaignRepository campaignRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UpdateCampaignUseCase updateCampaignUseCase;
+
+    private final LocalDateTime futureDate = LocalDateTime.now().plusDays(30);
+
+    @Nested
+    @DisplayName("Quando alterar uma campanha")
+    class WhenUpdatingCampaign {
+
+        @Test
+        @DisplayName("Deve salvar uma nova instância com o mesmo ID e publicar o evento")
+        void shouldSaveNewInstanceAndPublishEvent() {
+            Campaign current = Campaign.create("Black Friday", new BigDecimal("20.00"), futureDate);
+            when(campaignRepository.findById(current.getId())).thenReturn(Optional.of(current));
+            when(campaignRepository.save(any(Campaign.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            Campaign updated = updateCampaignUseCase.execute(current.getId(), "Black Week", new BigDecimal("25.00"), futureDate);
+
+            assertThat(updated).isNotSameAs(current);
+            assertThat(updated.getId()).isEqualTo(current.getId());
+            assertThat(updated.getDescription().getValue()).isEqualTo("Black Week");
+            ArgumentCaptor<CampaignUpdatedEvent> event = ArgumentCaptor.forClass(CampaignUpdatedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().getCampaign()).isSameAs(updated);
+            assertThat(event.getValue().isExpirationChanged()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve sinalizar mudança de expiração")
+        void shouldFlagExpirationChange() {
+            Campaign current = Campaign.create("Black Friday", new BigDecimal("20.00"), futureDate);
+            when(campaignRepository.findById(current.getId())).thenReturn(Optional.of(current));
+            when(campaignRepository.save(any(Campaign.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            updateCampaignUseCase.execute(current.getId(), "Black Friday", new BigDecimal("20.00"), futureDate.plusDays(7));
+
+            ArgumentCaptor<CampaignUpdatedEvent> event = ArgumentCaptor.forClass(CampaignUpdatedEvent.class);
+            verify(eventPublisher).publishEvent(event.capture());
+            assertThat(event.getValue().isExpirationChanged()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar atributos inválidos sem salvar")
+        void shouldRejectInvalidAttributes() {
+            Campaign current = Campaign.create("Black Friday", new BigDecimal("20.00"), futureDate);
+            when(campaignRepository.findById(current.getId())).thenReturn(Optional.of(current));
+
+            assertThatThrownBy(() -> updateCampaignUseCase.execute(current.getId(), "Black Friday", new BigDecimal("0.10"), futureDate))
+                    .isInstanceOf(InvalidCouponException.class)
+                    .hasMessage("Discount value must be at least 0.5");
+            verify(campaignRepository, never()).save(any());
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando a campanha não existir")
+        void shouldThrowWhenCampaignNotFound() {
+            UUID id = UUID.randomUUID();
+            when(campaignRepository.findById(id)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> updateCampaignUseCase.execute(id, "Black Friday", new BigDecimal("20.00"), futureDate))
+                    .isInstanceOf(CampaignNotFoundException.class)
+                    .hasMessage("Campaign not found with id: " + id);
+        }
+    }
+}
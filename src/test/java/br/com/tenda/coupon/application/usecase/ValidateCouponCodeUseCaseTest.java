@@ -0,0 +1,52 @@
+package br.com.tenda.coupon.application.usecase;
+
+import br.com.tenda.coupon.application.index.CouponCodeIndex;
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ValidateCouponCodeUseCase")
+class ValidateCouponCodeUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T15:00:00Z");
+
+    @Mock
+    private CouponCodeIndex couponCodeIndex;
+
+    private ValidateCouponCodeUseCase validateCouponCodeUseCase;
+
+    @BeforeEach
+    void setUp() {
+        validateCouponCodeUseCase = new ValidateCouponCodeUseCase(couponCodeIndex, Clock.fixed(NOW, ZoneId.of("America/Sao_Paulo")));
+    }
+
+    @Test
+    @DisplayName("Deve consultar o índice com o código normalizado e o instante atual")
+    void shouldQueryIndexWithNormalizedCodeAndCurrentInstant() {
+        when(couponCodeIndex.availabilityOf("ABC123", NOW.getEpochSecond())).thenReturn(CouponAvailability.VALID);
+
+        assertThat(validateCouponCodeUseCase.execute("abc-123")).isEqualTo(CouponAvailability.VALID);
+    }
+
+    @Test
+    @DisplayName("Deve responder desconhecido para código com tamanho inválido sem consultar o índice")
+    void shouldAnswerUnknownForInvalidLength() {
+        assertThat(validateCouponCodeUseCase.execute("AB-12")).isEqualTo(CouponAvailability.UNKNOWN);
+
+        verify(couponCodeIndex, never()).availabilityOf(anyString(), anyLong());
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.tenda.coupon.domain.model;
+
+import br.com.tenda.coupon.domain.exception.ExpirationDateException;
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.domain.vo.CustomerBitmap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Campaign")
+class CampaignTest {
+
+    private final LocalDateTime futureDate = LocalDateTime.now().plusDays(30);
+
+    @Nested
+    @DisplayName("Quando criar uma campanha")
+    class WhenCreatingCampaign {
+
+        @Test
+        @DisplayName("Deve validar os atributos como os de um cupom")
+        void shouldValidateAttributesLikeCoupon() {
+            assertThatThrownBy(() -> Campaign.create(" ", new BigDecimal("10.00"), futureDate))
+                    .isInstanceOf(InvalidCouponException.class)
+                    .hasMessage("Description is required");
+            assertThatThrownBy(() -> Campaign.create("Campanha", new BigDecimal("10.00"), LocalDateTime.now().minusDays(1)))
+                    .isInstanceOf(ExpirationDateException.class);
+        }
+
+        @Test
+        @DisplayName("Deve produzir nova instância com o mesmo ID ao alterar")
+        void shouldProduceNewInstanceWithSameIdOnUpdate() {
+            Campaign campaign = Campaign.create("Campanha", new BigDecimal("10.00"), futureDate);
+
+            Campaign updated = campaign.update("Campanha estendida", new BigDecimal("12.00"), futureDate.plusDays(1));
+
+            assertThat(updated).isNotSameAs(campaign);
+            assertThat(updated.getId()).isEqualTo(campaign.getId());
+            assertThat(campaign.getDescription().getValue()).isEqualTo("Campanha");
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando um cupom pertence à campanha")
+    class WhenCouponBelongsToCampaign {
+
+        private final Campaign campaign = Campaign.create("Black Friday", new BigDecimal("20.00"), futureDate);
+
+        @Test
+        @DisplayName("Deve herdar os atributos não sobrescritos")
+        void shouldInheritAttributesNotOverridden() {
+            Coupon coupon = Coupon.create("BF0001", campaign, null, new BigDecimal("30.00"), null, true, false);
+
+            assertThat(coupon.getDescription()).isSameAs(campaign.getDescription());
+            assertThat(coupon.getExpirationDate()).isSameAs(campaign.getExpirationDate());
+            assertThat(coupon.getDiscount().getValue()).isEqualByComparingTo("30.00");
+            assertThat(coupon.getOwnDiscount()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Deve refletir a campanha alterada ao ser reconstruído com ela")
+        void shouldReflectUpdatedCampaign() {
+            Campaign extended = campaign.update("Black Friday", new BigDecimal("20.00"), futureDate.plusDays(10));
+            Coupon coupon = Coupon.reconstruct(UUID.randomUUID(), "BF0002", extended, null, null, null,
+                    true, false, CouponStatus.ACTIVE, false, CustomerBitmap.empty());
+
+            assertThat(coupon.getExpirationDate().getValue()).isEqualTo(futureDate.plusDays(10));
+            assertThat(coupon.availabilityAt(futureDate.plusDays(5))).isEqualTo(CouponAvailability.VALID);
+        }
+
+        @Test
+        @DisplayName("Deve validar apenas os atributos sobrescritos")
+        void shouldValidateOnlyOverriddenAttributes() {
+            assertThatThrownBy(() -> Coupon.create("BF0003", campaign, null, new BigDecimal("0.10"), null, true, false))
+                    .isInstanceOf(InvalidCouponException.class)
+                    .hasMessage("Discount value must be at least 0.5");
+        }
+    }
+}
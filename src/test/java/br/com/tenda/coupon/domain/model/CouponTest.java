@@ -1,16 +1,22 @@
 package br.com.tenda.coupon.domain.model;
 
 import br.com.tenda.coupon.domain.exception.CouponAlreadyDeletedException;
+import br.com.tenda.coupon.domain.exception.CouponNotRedeemableException;
 import br.com.tenda.coupon.domain.exception.CouponStatusException;
 import br.com.tenda.coupon.domain.exception.ExpirationDateException;
 import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import br.com.tenda.coupon.domain.vo.CouponEffectiveStatus;
 import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.domain.vo.CouponTransition;
+import br.com.tenda.coupon.domain.vo.CustomerBitmap;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -290,6 +296,61 @@ class CouponTest {
         }
     }
 
+    @Nested
+    @DisplayName("Quando aplicar uma transição de estado")
+    class WhenApplyingTransition {
+
+        private Coupon coupon(boolean published, CouponStatus status) {
+            return Coupon.reconstruct(UUID.randomUUID(), "ABC123", "Desconto", new BigDecimal("10.00"),
+                    LocalDateTime.now().plusDays(1), published, false, status);
+        }
+
+        @Test
+        @DisplayName("Deve publicar e despublicar o cupom")
+        void shouldPublishAndUnpublish() {
+            Coupon coupon = coupon(false, CouponStatus.ACTIVE);
+
+            assertThat(coupon.apply(CouponTransition.PUBLISH)).isTrue();
+            assertThat(coupon.isPublished()).isTrue();
+            assertThat(coupon.apply(CouponTransition.UNPUBLISH)).isTrue();
+            assertThat(coupon.isPublished()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve desativar e reativar o cupom")
+        void shouldDeactivateAndActivate() {
+            Coupon coupon = coupon(true, CouponStatus.ACTIVE);
+
+            assertThat(coupon.apply(CouponTransition.DEACTIVATE)).isTrue();
+            assertThat(coupon.getStatus()).isEqualTo("INACTIVE");
+            assertThat(coupon.availabilityAt(LocalDateTime.now())).isEqualTo(CouponAvailability.INACTIVE);
+            assertThat(coupon.apply(CouponTransition.ACTIVATE)).isTrue();
+            assertThat(coupon.getStatus()).isEqualTo("ACTIVE");
+        }
+
+        @Test
+        @DisplayName("Não deve alterar o cupom ao repetir a transição")
+        void shouldBeNoOpWhenAlreadyInTargetState() {
+            Coupon coupon = coupon(true, CouponStatus.INACTIVE);
+
+            assertThat(coupon.apply(CouponTransition.PUBLISH)).isFalse();
+            assertThat(coupon.apply(CouponTransition.DEACTIVATE)).isFalse();
+            assertThat(coupon.isPublished()).isTrue();
+            assertThat(coupon.getStatus()).isEqualTo("INACTIVE");
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção ao alterar cupom deletado")
+        void shouldThrowExceptionWhenCouponIsDeleted() {
+            Coupon coupon = coupon(false, CouponStatus.DELETED);
+
+            assertThatThrownBy(() -> coupon.apply(CouponTransition.PUBLISH))
+                    .isInstanceOf(CouponAlreadyDeletedException.class)
+                    .hasMessage(String.format("Coupon with id %s is deleted and cannot publish", coupon.getId()));
+            assertThat(coupon.isPublished()).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("Quando validar status do cupom")
     class WhenValidatingCouponStatus {
@@ -342,5 +403,144 @@ class CouponTest {
             assertThat(CouponStatus.from("Deleted")).isEqualTo(CouponStatus.DELETED);
         }
     }
-}
 
+    @Nested
+    @DisplayName("Quando calcular disponibilidade do cupom")
+    class WhenComputingAvailability {
+
+        private final LocalDateTime now = LocalDateTime.of(2026, 6, 1, 12, 0, 0);
+
+        private Coupon coupon(LocalDateTime expiration, boolean published, boolean redeemed, CouponStatus status) {
+            return Coupon.reconstruct(UUID.randomUUID(), "ABC123", "Desconto", new BigDecimal("10.00"), expiration, published, redeemed, status);
+        }
+
+        @Test
+        @DisplayName("Deve ser válido quando ativo, publicado e dentro da validade")
+        void shouldBeValidWhenActivePublishedAndNotExpired() {
+            assertThat(coupon(now.plusSeconds(1), true, false, CouponStatus.ACTIVE).availabilityAt(now))
+                    .isEqualTo(CouponAvailability.VALID);
+        }
+
+        @Test
+        @DisplayName("Deve estar expirado a partir da data de expiração")
+        void shouldBeExpiredFromExpirationDate() {
+            assertThat(coupon(now, true, false, CouponStatus.ACTIVE).availabilityAt(now))
+                    .isEqualTo(CouponAvailability.EXPIRED);
+        }
+
+        @Test
+        @DisplayName("Deve priorizar deletado sobre resgatado e expirado")
+        void shouldPrioritizeDeletedOverRedeemedAndExpired() {
+            assertThat(coupon(now.minusDays(1), true, true, CouponStatus.DELETED).availabilityAt(now))
+                    .isEqualTo(CouponAvailability.DELETED);
+        }
+
+        @Test
+        @DisplayName("Deve indicar resgatado, inativo e não publicado")
+        void shouldReportRedeemedInactiveAndUnpublished() {
+            assertThat(coupon(now.plusDays(1), true, true, CouponStatus.ACTIVE).availabilityAt(now))
+                    .isEqualTo(CouponAvailability.REDEEMED);
+            assertThat(coupon(now.plusDays(1), true, false, CouponStatus.INACTIVE).availabilityAt(now))
+                    .isEqualTo(CouponAvailability.INACTIVE);
+            assertThat(coupon(now.plusDays(1), false, false, CouponStatus.ACTIVE).availabilityAt(now))
+                    .isEqualTo(CouponAvailability.UNPUBLISHED);
+        }
+
+        @Test
+        @DisplayName("Deve derivar o status efetivo com a mesma precedência da disponibilidade")
+        void shouldDeriveEffectiveStatusWithAvailabilityPrecedence() {
+            assertThat(coupon(now.plusDays(1), false, false, CouponStatus.ACTIVE).effectiveStatusAt(now))
+                    .isEqualTo(CouponEffectiveStatus.ACTIVE);
+            assertThat(coupon(now, true, false, CouponStatus.ACTIVE).effectiveStatusAt(now))
+                    .isEqualTo(CouponEffectiveStatus.EXPIRED);
+            assertThat(coupon(now.minusDays(1), true, true, CouponStatus.ACTIVE).effectiveStatusAt(now))
+                    .isEqualTo(CouponEffectiveStatus.REDEEMED);
+            assertThat(coupon(now.plusDays(1), true, false, CouponStatus.INACTIVE).effectiveStatusAt(now))
+                    .isEqualTo(CouponEffectiveStatus.INACTIVE);
+            assertThat(coupon(now.minusDays(1), true, true, CouponStatus.DELETED).effectiveStatusAt(now))
+                    .isEqualTo(CouponEffectiveStatus.DELETED);
+        }
+
+        @Test
+        @DisplayName("Deve continuar expirado depois de desativado pela varredura de expiração")
+        void shouldStayExpiredAfterSweeperDeactivates() {
+            assertThat(coupon(now.minusDays(1), true, false, CouponStatus.INACTIVE).availabilityAt(now))
+                    .isEqualTo(CouponAvailability.EXPIRED);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando resgatar um cupom")
+    class WhenRedeemingCoupon {
+
+        private final LocalDateTime now = LocalDateTime.of(2026, 6, 1, 12, 0, 0);
+
+        @Test
+        @DisplayName("Deve marcar cupom válido como resgatado")
+        void shouldMarkValidCouponAsRedeemed() {
+            Coupon coupon = Coupon.reconstruct(UUID.randomUUID(), "ABC123", "Desconto", new BigDecimal("10.00"), now.plusDays(1), true, false, CouponStatus.ACTIVE);
+
+            coupon.redeem(now, null);
+
+            assertThat(coupon.isRedeemed()).isTrue();
+            assertThat(coupon.availabilityAt(now)).isEqualTo(CouponAvailability.REDEEMED);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção ao resgatar cupom deletado")
+        void shouldThrowExceptionWhenRedeemingDeletedCoupon() {
+            Coupon coupon = Coupon.reconstruct(UUID.randomUUID(), "ABC123", "Desconto", new BigDecimal("10.00"), now.plusDays(1), true, false, CouponStatus.DELETED);
+
+            assertThatThrownBy(() -> coupon.redeem(now, null))
+                    .isInstanceOf(CouponNotRedeemableException.class)
+                    .hasMessage("Coupon ABC123 cannot be redeemed: DELETED");
+            assertThat(coupon.isRedeemed()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando resgatar um cupom de um uso por cliente")
+    class WhenRedeemingOnePerCustomerCoupon {
+
+        private final LocalDateTime now = LocalDateTime.of(2026, 6, 1, 12, 0, 0);
+
+        private Coupon onePerCustomer() {
+            return Coupon.reconstruct(UUID.randomUUID(), "ABC123", "Desconto", new BigDecimal("10.00"), now.plusDays(1),
+                    true, false, CouponStatus.ACTIVE, true, CustomerBitmap.empty());
+        }
+
+        @Test
+        @DisplayName("Deve permitir um resgate por cliente mantendo o cupom disponível")
+        void shouldAllowOneRedemptionPerCustomer() {
+            Coupon coupon = onePerCustomer();
+
+            coupon.redeem(now, 1L);
+            coupon.redeem(now, 2L);
+
+            assertThat(coupon.isRedeemed()).isFalse();
+            assertThat(coupon.availabilityAt(now)).isEqualTo(CouponAvailability.VALID);
+            assertThat(coupon.wasRedeemedBy(1L)).isTrue();
+            assertThat(coupon.wasRedeemedBy(3L)).isFalse();
+            assertThat(coupon.getRedeemedCustomers().cardinality()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção no segundo resgate do mesmo cliente")
+        void shouldRejectSecondRedemptionBySameCustomer() {
+            Coupon coupon = onePerCustomer();
+            coupon.redeem(now, 42L);
+
+            assertThatThrownBy(() -> coupon.redeem(now, 42L))
+                    .isInstanceOf(CouponNotRedeemableException.class)
+                    .hasMessage("Coupon ABC123 was already redeemed by customer 42");
+        }
+
+        @Test
+        @DisplayName("Deve exigir o cliente no resgate")
+        void shouldRequireCustomerId() {
+            assertThatThrownBy(() -> onePerCustomer().redeem(now, null))
+                    .isInstanceOf(InvalidCouponException.class)
+                    .hasMessageContaining("requires a customer id");
+        }
+    }
+}
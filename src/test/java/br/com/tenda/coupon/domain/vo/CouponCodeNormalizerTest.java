@@ -0,0 +1,88 @@
+package br.com.tenda.coupon.domain.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CouponCodeNormalizer")
+class CouponCodeNormalizerTest {
+
+    @Nested
+    @DisplayName("Quando normalizar um código válido")
+    class WhenNormalizingValidCode {
+
+        @Test
+        @DisplayName("Deve devolver a mesma instância para código já canônico")
+        void shouldReturnSameInstanceForCanonicalCode() {
+            String code = "ABC123";
+
+            assertThat(CouponCodeNormalizer.normalize(code)).isSameAs(code);
+        }
+
+        @Test
+        @DisplayName("Deve converter para maiúsculas e remover separadores")
+        void shouldUppercaseAndStripSeparators() {
+            assertThat(CouponCodeNormalizer.normalize(" ab-c1_2.3 ")).isEqualTo("ABC123");
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando normalizar um código inválido")
+    class WhenNormalizingInvalidCode {
+
+        @Test
+        @DisplayName("Deve rejeitar nulo, vazio e tamanhos diferentes de 6")
+        void shouldRejectWrongLengths() {
+            assertThat(CouponCodeNormalizer.normalize(null)).isNull();
+            assertThat(CouponCodeNormalizer.normalize("")).isNull();
+            assertThat(CouponCodeNormalizer.normalize("AB-12")).isNull();
+            assertThat(CouponCodeNormalizer.normalize("ABC1234")).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve ignorar letras e dígitos fora do ASCII")
+        void shouldIgnoreNonAsciiAlphanumerics() {
+            assertThat(CouponCodeNormalizer.normalize("ÁBC123")).isNull();
+            assertThat(CouponCodeNormalizer.normalize("ÁABC123")).isEqualTo("ABC123");
+            assertThat(CouponCodeNormalizer.normalize("ABC12٣")).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar entrada longa de separadores")
+        void shouldRejectLongSeparatorRun() {
+            assertThat(CouponCodeNormalizer.normalize("-".repeat(100_000))).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve normalizar prefixos de 1 a 6 caracteres")
+    void shouldNormalizePrefix() {
+        assertThat(CouponCodeNormalizer.normalizePrefix("bf-24")).isEqualTo("BF24");
+        assertThat(CouponCodeNormalizer.normalizePrefix("ABC-123")).isEqualTo("ABC123");
+        assertThat(CouponCodeNormalizer.normalizePrefix("ABC1234")).isNull();
+        assertThat(CouponCodeNormalizer.normalizePrefix("--")).isNull();
+        assertThat(CouponCodeNormalizer.normalizePrefix(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve coincidir com a normalização por expressão regular")
+    void shouldMatchRegexNormalization() {
+        Random random = new Random(42);
+        String symbols = "aZ09-_ .#Çé";
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder raw = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                raw.append(symbols.charAt(random.nextInt(symbols.length())));
+            }
+            String cleaned = raw.toString().replaceAll("[^a-zA-Z0-9]", "").toUpperCase();
+            String expected = cleaned.length() == CouponCodeNormalizer.CODE_LENGTH ? cleaned : null;
+
+            assertThat(CouponCodeNormalizer.normalize(raw.toString())).as(raw.toString()).isEqualTo(expected);
+        }
+    }
+}
@@ -139,5 +139,61 @@ class CouponCodeTest {
             assertThat(code1).isNotEqualTo(code2);
         }
     }
-}
 
+    @Nested
+    @DisplayName("Quando converter para ordinal")
+    class WhenConvertingToOrdinal {
+
+        @Test
+        @DisplayName("Deve mapear os extremos do espaço de códigos")
+        void shouldMapBoundsOfCodeSpace() {
+            assertThat(CouponCode.fromOrdinal(0).getValue()).isEqualTo("000000");
+            assertThat(CouponCode.fromOrdinal(CouponCode.SPACE_SIZE - 1).getValue()).isEqualTo("ZZZZZZ");
+        }
+
+        @Test
+        @DisplayName("Deve ida e volta entre código e ordinal")
+        void shouldRoundTripOrdinal() {
+            CouponCode code = CouponCode.from("ABC123");
+
+            assertThat(CouponCode.fromOrdinal(code.ordinal())).isEqualTo(code);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar ordinal fora do espaço")
+        void shouldRejectOrdinalOutsideSpace() {
+            assertThatThrownBy(() -> CouponCode.fromOrdinal(CouponCode.SPACE_SIZE))
+                    .isInstanceOf(InvalidCouponException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando empacotar em int")
+    class WhenPacking {
+
+        @Test
+        @DisplayName("Deve ida e volta entre código e forma empacotada")
+        void shouldRoundTripPackedCode() {
+            CouponCode code = CouponCode.from("zz-9a1b");
+
+            assertThat(CouponCode.fromPacked(code.packed())).isEqualTo(code);
+            assertThat(CouponCode.fromPacked(CouponCode.pack("000000")).getValue()).isEqualTo("000000");
+            assertThat(CouponCode.fromPacked(CouponCode.pack("ZZZZZZ")).getValue()).isEqualTo("ZZZZZZ");
+        }
+
+        @Test
+        @DisplayName("Deve preservar a ordem dos códigos")
+        void shouldPreserveCodeOrder() {
+            assertThat(CouponCode.pack("000000")).isEqualTo(Integer.MIN_VALUE);
+            assertThat(CouponCode.pack("A00000")).isLessThan(CouponCode.pack("Y00000"));
+            assertThat(CouponCode.pack("Y00000")).isLessThan(CouponCode.pack("ZZZZZZ"));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar código não normalizado")
+        void shouldRejectCodeThatIsNotNormalized() {
+            assertThatThrownBy(() -> CouponCode.pack("abc123"))
+                    .isInstanceOf(InvalidCouponException.class);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.tenda.coupon.domain.vo;
+
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CustomerBitmap")
+class CustomerBitmapTest {
+
+    @Nested
+    @DisplayName("Quando adicionar clientes")
+    class WhenAdding {
+
+        @Test
+        @DisplayName("Deve indicar pertencimento e ignorar duplicados")
+        void shouldTrackMembershipAndIgnoreDuplicates() {
+            CustomerBitmap bitmap = CustomerBitmap.empty();
+
+            assertThat(bitmap.add(7)).isTrue();
+            assertThat(bitmap.add(7)).isFalse();
+            assertThat(bitmap.add(CustomerBitmap.MAX_CUSTOMER_ID)).isTrue();
+
+            assertThat(bitmap.contains(7)).isTrue();
+            assertThat(bitmap.contains(8)).isFalse();
+            assertThat(bitmap.contains(CustomerBitmap.MAX_CUSTOMER_ID)).isTrue();
+            assertThat(bitmap.cardinality()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve continuar correto ao converter um bloco denso em bitmap")
+        void shouldStayCorrectWhenContainerBecomesDense() {
+            CustomerBitmap bitmap = CustomerBitmap.empty();
+            for (long id = 0; id < 10_000; id += 2) {
+                bitmap.add(id);
+            }
+
+            assertThat(bitmap.cardinality()).isEqualTo(5_000);
+            assertThat(bitmap.contains(9_998)).isTrue();
+            assertThat(bitmap.contains(9_999)).isFalse();
+            assertThat(bitmap.add(9_998)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar ids fora do intervalo de 32 bits sem sinal")
+        void shouldRejectOutOfRangeIds() {
+            CustomerBitmap bitmap = CustomerBitmap.empty();
+
+            assertThatThrownBy(() -> bitmap.add(-1))
+                    .isInstanceOf(InvalidCouponException.class);
+            assertThatThrownBy(() -> bitmap.contains(CustomerBitmap.MAX_CUSTOMER_ID + 1))
+                    .isInstanceOf(InvalidCouponException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando serializar")
+    class WhenSerializing {
+
+        @Test
+        @DisplayName("Deve restaurar o mesmo conjunto a partir dos bytes")
+        void shouldRoundTripSparseAndDenseContainers() {
+            CustomerBitmap bitmap = CustomerBitmap.empty();
+            Set<Long> expected = new TreeSet<>();
+            Random random = new Random(42);
+            for (int i = 0; i < 2_000; i++) {
+                long id = random.nextLong(CustomerBitmap.MAX_CUSTOMER_ID + 1);
+                bitmap.add(id);
+                expected.add(id);
+            }
+            for (long id = 1L << 20; id < (1L << 20) + 6_000; id++) {
+                bitmap.add(id);
+                expected.add(id);
+            }
+
+            CustomerBitmap restored = CustomerBitmap.fromBytes(bitmap.toBytes());
+
+            assertThat(restored.cardinality()).isEqualTo(expected.size());
+            assertThat(expected).allMatch(restored::contains);
+            assertThat(restored.contains((1L << 20) + 6_000)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve ocupar cerca de 2 bytes por cliente em blocos esparsos")
+        void shouldStayCompactForSparseCustomers() {
+            CustomerBitmap bitmap = CustomerBitmap.empty();
+            for (long id = 0; id < 1_000; id++) {
+                bitmap.add(id * 3);
+            }
+
+            assertThat(bitmap.toBytes()).hasSizeLessThan(2_100);
+        }
+
+        @Test
+        @DisplayName("Deve tratar blob ausente como conjunto vazio")
+        void shouldTreatMissingBlobAsEmpty() {
+            assertThat(CustomerBitmap.fromBytes(null).isEmpty()).isTrue();
+            assertThat(CustomerBitmap.fromBytes(new byte[0]).isEmpty()).isTrue();
+        }
+    }
+}
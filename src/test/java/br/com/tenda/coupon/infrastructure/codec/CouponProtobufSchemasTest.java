@@ -0,0 +1,128 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import br.com.tenda.coupon.domain.vo.CouponEffectiveStatus;
+import br.com.tenda.coupon.presentation.dto.AppliedDiscountResponse;
+import br.com.tenda.coupon.presentation.dto.BulkDeleteCouponsResponse;
+import br.com.tenda.coupon.presentation.dto.CampaignResponse;
+import br.com.tenda.coupon.presentation.dto.CartEvaluationResponse;
+import br.com.tenda.coupon.presentation.dto.CouponPageResponse;
+import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import br.com.tenda.coupon.presentation.dto.CouponValidationResponse;
+import br.com.tenda.coupon.presentation.dto.ErrorResponse;
+import br.com.tenda.coupon.presentation.dto.ExpiringCouponsResponse;
+import br.com.tenda.coupon.presentation.dto.GeneratedCouponsResponse;
+import br.com.tenda.coupon.presentation.dto.TransitionCouponsResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CouponProtobufSchemas - Mensagens do schema Protobuf")
+class CouponProtobufSchemasTest {
+
+    private final CouponProtobufSchemas schemas = CouponProtobufSchemas.load();
+    // dates as text, as spring.jackson configures the application's builder, which also installs the JSON module
+    private final ObjectMapper mapper = BinaryObjectMappers.protobuf(Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .modulesToInstall(new CouponJsonModule()));
+
+    private final CouponResponse coupon = new CouponResponse(UUID.randomUUID(), "ABC123", UUID.randomUUID(), "Desconto",
+            new BigDecimal("10.50"), LocalDateTime.of(2026, 12, 31, 23, 59, 59), true, false,
+            CouponEffectiveStatus.REDEEMED, true, 3);
+
+    private JsonNode roundTrip(Object value, ResolvableType type) throws Exception {
+        byte[] bytes = mapper.writer(schemas.schemaFor(type)).writeValueAsBytes(value);
+        return mapper.readerFor(JsonNode.class).with(schemas.schemaFor(type)).readValue(bytes);
+    }
+
+    private JsonNode roundTrip(Object value) throws Exception {
+        return roundTrip(value, ResolvableType.forClass(value.getClass()));
+    }
+
+    @Nested
+    @DisplayName("Escrita pelas mensagens")
+    class Writing {
+
+        @Test
+        @DisplayName("Deve escrever todos os atributos do cupom")
+        void shouldWriteEveryCouponAttribute() throws Exception {
+            JsonNode node = roundTrip(coupon);
+
+            assertThat(node.get("code").asText()).isEqualTo("ABC123");
+            assertThat(node.get("id").binaryValue()).hasSize(16);
+            assertThat(node.get("campaignId").binaryValue()).hasSize(16);
+            assertThat(node.get("description").asText()).isEqualTo("Desconto");
+            assertThat(node.get("discountValue").asText()).isEqualTo("10.50");
+            assertThat(node.get("expirationDate").asText()).isEqualTo("2026-12-31T23:59:59");
+            assertThat(node.get("published").asBoolean()).isTrue();
+            assertThat(node.get("status").asInt()).isEqualTo(CouponEffectiveStatus.REDEEMED.ordinal());
+            assertThat(node.get("onePerCustomer").asBoolean()).isTrue();
+            assertThat(node.get("customerRedemptions").asLong()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Deve escrever a página com os metadados")
+        void shouldWritePageWithMetadata() throws Exception {
+            CouponPageResponse page = new CouponPageResponse(List.of(coupon, coupon), new CouponPageResponse.PageMetadata(2, 1, 7, 4));
+
+            JsonNode node = roundTrip(page);
+
+            assertThat(node.get("content")).hasSize(2);
+            assertThat(node.get("page").get("size").asLong()).isEqualTo(2);
+            assertThat(node.get("page").get("number").asLong()).isEqualTo(1);
+            assertThat(node.get("page").get("totalElements").asLong()).isEqualTo(7);
+            assertThat(node.get("page").get("totalPages").asLong()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("Deve ter mensagem para todas as respostas dos endpoints de cupom")
+        void shouldHaveMessageForEveryCouponResponse() throws Exception {
+            assertThat(roundTrip(new ExpiringCouponsResponse(List.of(coupon), "cursor")).get("nextCursor").asText()).isEqualTo("cursor");
+            assertThat(roundTrip(new GeneratedCouponsResponse(2, List.of("AAA111", "BBB222"))).get("codes")).hasSize(2);
+            assertThat(roundTrip(new BulkDeleteCouponsResponse(5)).get("deleted").asLong()).isEqualTo(5);
+            assertThat(roundTrip(new TransitionCouponsResponse(6)).get("updated").asLong()).isEqualTo(6);
+            assertThat(roundTrip(new CouponValidationResponse("ABC123", CouponAvailability.UNPUBLISHED)).get("availability").asInt())
+                    .isEqualTo(CouponAvailability.UNPUBLISHED.ordinal());
+            JsonNode cart = roundTrip(new CartEvaluationResponse(new BigDecimal("100.00"),
+                    List.of(new AppliedDiscountResponse("ABC123", CouponAvailability.VALID, true, new BigDecimal("10.50"))),
+                    new BigDecimal("10.50"), new BigDecimal("89.50")));
+            assertThat(cart.get("finalAmount").asText()).isEqualTo("89.50");
+            assertThat(cart.get("discounts").get(0).get("applied").asBoolean()).isTrue();
+            assertThat(roundTrip(new ErrorResponse(LocalDateTime.of(2026, 1, 1, 10, 0), 404, "Not Found", "Coupon not found", "/api/v1/coupons/x"))
+                    .get("status").asInt()).isEqualTo(404);
+        }
+    }
+
+    @Nested
+    @DisplayName("Resolução por tipo")
+    class Resolution {
+
+        @Test
+        @DisplayName("Deve usar a mensagem CouponPage para a página de cupons")
+        void shouldUseCouponPageMessageForCouponPages() {
+            assertThat(schemas.schemaFor(ResolvableType.forClass(CouponPageResponse.class)).getRootType().getName())
+                    .isEqualTo("CouponPage");
+        }
+
+        @Test
+        @DisplayName("Não deve ter mensagem para outras respostas")
+        void shouldHaveNoMessageForOtherResponses() {
+            assertThat(schemas.schemaFor(ResolvableType.forClass(CampaignResponse.class))).isNull();
+            assertThat(schemas.schemaFor(ResolvableType.forClassWithGenerics(Page.class, CouponResponse.class))).isNull();
+            assertThat(schemas.schemaFor(ResolvableType.forClass(Object.class))).isNull();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package br.com.tenda.coupon.infrastructure.codec;
+
+import br.com.tenda.coupon.domain.vo.CouponEffectiveStatus;
+import br.com.tenda.coupon.presentation.dto.CouponField;
+import br.com.tenda.coupon.presentation.dto.CouponPageResponse;
+import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CouponResponseJsonSerializer - Serialização JSON do cupom")
+class CouponResponseJsonSerializerTest {
+
+    // dates as text, as spring.jackson configures the application's builder
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private final ObjectMapper beanMapper = builder().build();
+    private final ObjectMapper mapper = builder().modulesToInstall(new CouponJsonModule()).build();
+
+    private final CouponResponse coupon = new CouponResponse(UUID.fromString("550e8400-e29b-41d4-a716-446655440000"), "ABC123",
+            UUID.fromString("7c9e6679-7425-40de-944b-e07fc1f90ae7"), "Desconto \"de\" primavera", new BigDecimal("10.50"),
+            LocalDateTime.of(2026, 3, 1, 8, 5, 9), true, false, CouponEffectiveStatus.ACTIVE, true, 3);
+
+    @Nested
+    @DisplayName("Equivalência com o serializador padrão")
+    class Equivalence {
+
+        @Test
+        @DisplayName("Deve escrever o mesmo JSON que o serializador padrão")
+        void shouldWriteSameJsonAsBeanSerializer() throws Exception {
+            assertThat(mapper.writeValueAsString(coupon)).isEqualTo(beanMapper.writeValueAsString(coupon));
+        }
+
+        @Test
+        @DisplayName("Deve escrever nulos como o serializador padrão")
+        void shouldWriteNullsAsBeanSerializer() throws Exception {
+            CouponResponse empty = new CouponResponse(null, null, null, null, null, null, false, false, null, false, 0);
+
+            assertThat(mapper.writeValueAsString(empty)).isEqualTo(beanMapper.writeValueAsString(empty));
+        }
+
+        @Test
+        @DisplayName("Deve formatar datas de qualquer ano como o serializador padrão")
+        void shouldFormatAnyYearAsBeanSerializer() throws Exception {
+            for (int year : new int[] {1, 999, 9999, 10000}) {
+                CouponResponse dated = CouponResponse.builder().expirationDate(LocalDateTime.of(year, 12, 31, 23, 59, 59)).build();
+
+                assertThat(mapper.writeValueAsString(dated)).isEqualTo(beanMapper.writeValueAsString(dated));
+            }
+        }
+
+        @Test
+        @DisplayName("Deve escrever a página no mesmo formato")
+        void shouldWritePageInSameFormat() throws Exception {
+            CouponPageResponse page = new CouponPageResponse(List.of(coupon, coupon), new CouponPageResponse.PageMetadata(2, 0, 5, 3));
+
+            assertThat(mapper.writeValueAsString(page)).isEqualTo(beanMapper.writeValueAsString(page))
+                    .contains("\"page\":{\"size\":2,\"number\":0,\"totalElements\":5,\"totalPages\":3}");
+        }
+    }
+
+    @Nested
+    @DisplayName("Formatos")
+    class Formats {
+
+        @Test
+        @DisplayName("Deve escrever o desconto sem notação científica")
+        void shouldWriteDiscountAsPlainNumber() throws Exception {
+            CouponResponse rounded = CouponResponse.builder().discountValue(new BigDecimal("1E+3")).build();
+
+            assertThat(mapper.readTree(mapper.writeValueAsString(rounded)).get("discountValue").isNumber()).isTrue();
+            assertThat(mapper.writeValueAsString(rounded)).contains("\"discountValue\":1000,");
+        }
+
+        @Test
+        @DisplayName("Deve manter o serializador padrão no CBOR")
+        void shouldKeepBeanSerializerForCbor() throws Exception {
+            byte[] expected = BinaryObjectMappers.cbor(builder()).writeValueAsBytes(coupon);
+
+            assertThat(BinaryObjectMappers.cbor(builder().modulesToInstall(new CouponJsonModule())).writeValueAsBytes(coupon))
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Nested
+    @DisplayName("Seleção de campos")
+    class FieldSelection {
+
+        private final Set<CouponField> selected = EnumSet.of(CouponField.EXPIRATION_DATE, CouponField.CODE, CouponField.DISCOUNT_VALUE);
+
+        @Test
+        @DisplayName("Deve nomear as propriedades de CouponResponse na ordem em que são escritas")
+        void shouldNameResponsePropertiesInOrder() throws Exception {
+            List<String> properties = new ArrayList<>();
+            beanMapper.readTree(beanMapper.writeValueAsString(coupon)).fieldNames().forEachRemaining(properties::add);
+
+            assertThat(Arrays.stream(CouponField.values()).map(CouponField::getProperty)).containsExactlyElementsOf(properties);
+        }
+
+        @Test
+        @DisplayName("Deve escrever em JSON apenas os campos selecionados")
+        void shouldWriteOnlySelectedFieldsAsJson() throws Exception {
+            String json = mapper.writer(CouponFieldsFilter.provider(selected)).writeValueAsString(coupon);
+
+            assertThat(json).isEqualTo("{\"code\":\"ABC123\",\"discountValue\":10.50,\"expirationDate\":\"2026-03-01T08:05:09\"}");
+        }
+
+        @Test
+        @DisplayName("Deve escrever em CBOR apenas os campos selecionados")
+        void shouldWriteOnlySelectedFieldsAsCbor() throws Exception {
+            ObjectMapper cbor = BinaryObjectMappers.cbor(builder().modulesToInstall(new CouponJsonModule()));
+
+            JsonNode node = cbor.readTree(cbor.writer(CouponFieldsFilter.provider(selected)).writeValueAsBytes(coupon));
+
+            List<String> properties = new ArrayList<>();
+            node.fieldNames().forEachRemaining(properties::add);
+            assertThat(properties).containsExactly("code", "discountValue", "expirationDate");
+        }
+    }
+}
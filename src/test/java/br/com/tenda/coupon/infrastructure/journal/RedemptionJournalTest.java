@@ -0,0 +1,186 @@
+package br.com.tenda.coupon.infrastructure.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RedemptionJournal")
+class RedemptionJournalTest {
+
+    private static final int RECORD_SIZE = JournalSegment.RECORD_HEADER_SIZE + JournalEntry.BODY_SIZE;
+
+    @TempDir
+    Path directory;
+
+    private RedemptionJournal open(int segmentSize, int retainedSegments) throws Exception {
+        return RedemptionJournal.open(directory, segmentSize, retainedSegments, Duration.ZERO);
+    }
+
+    private List<JournalEntry> replay(long fromSequence) {
+        List<JournalEntry> entries = new ArrayList<>();
+        new JournalReader(directory).replay(fromSequence, entries::add);
+        return entries;
+    }
+
+    private long segmentCount() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando gravar e reler eventos")
+    class WhenWritingAndReplaying {
+
+        @Test
+        @DisplayName("Deve reler eventos na ordem com todos os campos")
+        void shouldReplayEntriesInOrder() throws Exception {
+            UUID couponId = UUID.randomUUID();
+            try (RedemptionJournal journal = open(4096, 4)) {
+                assertThat(journal.append(JournalEntryType.REDEEMED, couponId, "ABC123", 1000L)).isEqualTo(1L);
+                assertThat(journal.append(JournalEntryType.REDEEMED, UUID.randomUUID(), "DEF456", 2000L)).isEqualTo(2L);
+            }
+
+            List<JournalEntry> entries = replay(1L);
+
+            assertThat(entries).extracting(JournalEntry::getSequence).containsExactly(1L, 2L);
+            assertThat(entries.get(0).getCouponId()).isEqualTo(couponId);
+            assertThat(entries.get(0).getCode()).isEqualTo("ABC123");
+            assertThat(entries.get(0).getTimestampMillis()).isEqualTo(1000L);
+            assertThat(entries.get(0).getType()).isEqualTo(JournalEntryType.REDEEMED);
+        }
+
+        @Test
+        @DisplayName("Deve reler a partir de uma sequência")
+        void shouldReplayFromSequence() throws Exception {
+            try (RedemptionJournal journal = open(4096, 4)) {
+                for (int i = 0; i < 5; i++) {
+                    journal.append(JournalEntryType.REDEEMED, UUID.randomUUID(), "ABC12" + i, i);
+                }
+            }
+
+            assertThat(replay(4L)).extracting(JournalEntry::getSequence).containsExactly(4L, 5L);
+        }
+
+        @Test
+        @DisplayName("Deve continuar a sequência após reabrir o journal")
+        void shouldContinueSequenceAfterReopen() throws Exception {
+            try (RedemptionJournal journal = open(4096, 4)) {
+                journal.append(JournalEntryType.REDEEMED, UUID.randomUUID(), "ABC123", 1L);
+            }
+            try (RedemptionJournal journal = open(4096, 4)) {
+                assertThat(journal.getLastWrittenSequence()).isEqualTo(1L);
+                assertThat(journal.append(JournalEntryType.REDEEMED, UUID.randomUUID(), "DEF456", 2L)).isEqualTo(2L);
+            }
+
+            assertThat(replay(1L)).extracting(JournalEntry::getCode).containsExactly("ABC123", "DEF456");
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando o segmento enche")
+    class WhenSegmentIsFull {
+
+        @Test
+        @DisplayName("Deve criar novo segmento e manter a ordem na releitura")
+        void shouldRollSegmentsAndKeepOrder() throws Exception {
+            int segmentSize = JournalSegment.HEADER_SIZE + 3 * RECORD_SIZE;
+            try (RedemptionJournal journal = open(segmentSize, 10)) {
+                for (int i = 0; i < 10; i++) {
+                    journal.append(JournalEntryType.REDEEMED, UUID.randomUUID(), "ROLL0" + i, i);
+                }
+            }
+
+            assertThat(segmentCount()).isEqualTo(4);
+            assertThat(replay(1L)).extracting(JournalEntry::getSequence)
+                    .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        }
+
+        @Test
+        @DisplayName("Deve apagar segmentos antigos além da retenção")
+        void shouldDeleteSegmentsBeyondRetention() throws Exception {
+            int segmentSize = JournalSegment.HEADER_SIZE + 2 * RECORD_SIZE;
+            try (RedemptionJournal journal = open(segmentSize, 2)) {
+                for (int i = 0; i < 10; i++) {
+                    journal.append(JournalEntryType.REDEEMED, UUID.randomUUID(), "KEEP0" + i, i);
+                }
+            }
+
+            assertThat(segmentCount()).isEqualTo(2);
+            assertThat(replay(1L)).extracting(JournalEntry::getSequence).containsExactly(7L, 8L, 9L, 10L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando houver escritores concorrentes")
+    class WhenWritersAreConcurrent {
+
+        @Test
+        @DisplayName("Deve gravar todos os eventos com sequências únicas")
+        void shouldWriteEveryEntryWithUniqueSequence() throws Exception {
+            int threads = 8;
+            int perThread = 200;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try (RedemptionJournal journal = open(64 * 1024, 64)) {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < perThread; i++) {
+                            journal.append(JournalEntryType.REDEEMED, UUID.randomUUID(), "CONC01", i);
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            assertThat(replay(1L)).extracting(JournalEntry::getSequence)
+                    .hasSize(threads * perThread)
+                    .doesNotHaveDuplicates()
+                    .isSorted();
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando acompanhar o journal")
+    class WhenTailing {
+
+        @Test
+        @DisplayName("Deve entregar apenas eventos novos a cada consulta do cursor")
+        void shouldDeliverOnlyNewEntriesOnEachPoll() throws Exception {
+            int segmentSize = JournalSegment.HEADER_SIZE + 2 * RECORD_SIZE;
+            try (RedemptionJournal journal = open(segmentSize, 10);
+                 JournalReader.Cursor cursor = new JournalReader(directory).openCursor(1L)) {
+                List<JournalEntry> received = new ArrayList<>();
+
+                journal.append(JournalEntryType.REDEEMED, UUID.randomUUID(), "TAIL01", 1L);
+                assertThat(cursor.poll(received::add)).isEqualTo(1);
+                assertThat(cursor.poll(received::add)).isZero();
+
+                journal.append(JournalEntryType.REDEEMED, UUID.randomUUID(), "TAIL02", 2L);
+                journal.append(JournalEntryType.REDEEMED, UUID.randomUUID(), "TAIL03", 3L);
+                assertThat(cursor.poll(received::add)).isEqualTo(2);
+
+                assertThat(received).extracting(JournalEntry::getCode).containsExactly("TAIL01", "TAIL02", "TAIL03");
+                assertThat(cursor.getLastSequence()).isEqualTo(3L);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.tenda.coupon.infrastructure.occupancy;
+
+import br.com.tenda.coupon.domain.vo.CouponCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CodeOccupancyBitmap")
+class CodeOccupancyBitmapTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file() {
+        return directory.resolve("codes.bitmap");
+    }
+
+    @Nested
+    @DisplayName("Quando marcar códigos")
+    class WhenSettingBits {
+
+        @Test
+        @DisplayName("Deve marcar, consultar e liberar bits nos extremos do espaço")
+        void shouldSetTestAndClearBits() throws IOException {
+            try (CodeOccupancyBitmap bitmap = CodeOccupancyBitmap.open(file(), 0, sink -> { })) {
+                long last = CouponCode.SPACE_SIZE - 1;
+
+                assertThat(bitmap.set(0)).isTrue();
+                assertThat(bitmap.set(last)).isTrue();
+                assertThat(bitmap.set(last)).isFalse();
+
+                assertThat(bitmap.isSet(0)).isTrue();
+                assertThat(bitmap.isSet(1)).isFalse();
+                assertThat(bitmap.isSet(last)).isTrue();
+                assertThat(bitmap.count()).isEqualTo(2);
+
+                assertThat(bitmap.clear(0)).isTrue();
+                assertThat(bitmap.isSet(0)).isFalse();
+                assertThat(bitmap.count()).isEqualTo(1);
+            }
+        }
+
+        @Test
+        @DisplayName("Deve ter um único vencedor quando várias threads marcam o mesmo código")
+        void shouldHaveSingleWinnerUnderContention() throws Exception {
+            try (CodeOccupancyBitmap bitmap = CodeOccupancyBitmap.open(file(), 0, sink -> { })) {
+                AtomicInteger winners = new AtomicInteger();
+                ExecutorService executor = Executors.newFixedThreadPool(8);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 8; t++) {
+                    futures.add(executor.submit(() -> {
+                        for (long ordinal = 0; ordinal < 10_000; ordinal++) {
+                            if (bitmap.set(ordinal)) {
+                                winners.incrementAndGet();
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                executor.shutdown();
+
+                assertThat(winners.get()).isEqualTo(10_000);
+                assertThat(bitmap.count()).isEqualTo(10_000);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando reabrir o arquivo")
+    class WhenReopening {
+
+        @Test
+        @DisplayName("Deve reaproveitar arquivo fechado corretamente com a mesma contagem")
+        void shouldReuseCleanFileWithMatchingCount() throws IOException {
+            try (CodeOccupancyBitmap bitmap = CodeOccupancyBitmap.open(file(), 0, sink -> { })) {
+                bitmap.set(CouponCode.ordinalOf("ABC123"));
+            }
+
+            try (CodeOccupancyBitmap bitmap = CodeOccupancyBitmap.open(file(), 1, sink -> fail("should not rebuild"))) {
+                assertThat(bitmap.wasRebuilt()).isFalse();
+                assertThat(bitmap.isSet(CouponCode.ordinalOf("ABC123"))).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve reconstruir quando a contagem divergir da tabela")
+        void shouldRebuildWhenCountDiffers() throws IOException {
+            try (CodeOccupancyBitmap bitmap = CodeOccupancyBitmap.open(file(), 0, sink -> { })) {
+                bitmap.set(CouponCode.ordinalOf("ABC123"));
+            }
+
+            try (CodeOccupancyBitmap bitmap = CodeOccupancyBitmap.open(file(), 2, sink -> {
+                sink.accept(CouponCode.ordinalOf("XYZ789"));
+                sink.accept(CouponCode.ordinalOf("DEF456"));
+            })) {
+                assertThat(bitmap.wasRebuilt()).isTrue();
+                assertThat(bitmap.isSet(CouponCode.ordinalOf("ABC123"))).isFalse();
+                assertThat(bitmap.isSet(CouponCode.ordinalOf("XYZ789"))).isTrue();
+                assertThat(bitmap.count()).isEqualTo(2);
+            }
+        }
+
+        @Test
+        @DisplayName("Deve reconstruir arquivo que não foi fechado corretamente")
+        void shouldRebuildAfterUncleanShutdown() throws IOException {
+            try (CodeOccupancyBitmap bitmap = CodeOccupancyBitmap.open(file(), 0, sink -> { })) {
+                bitmap.set(CouponCode.ordinalOf("ABC123"));
+            }
+            try (FileChannel channel = FileChannel.open(file(), StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.nativeOrder()).putInt(0, 1), 8);
+            }
+
+            AtomicInteger loaded = new AtomicInteger();
+            try (CodeOccupancyBitmap bitmap = CodeOccupancyBitmap.open(file(), 1, sink -> {
+                loaded.incrementAndGet();
+                sink.accept(CouponCode.ordinalOf("ABC123"));
+            })) {
+                assertThat(loaded.get()).isEqualTo(1);
+                assertThat(bitmap.wasRebuilt()).isTrue();
+                assertThat(bitmap.isSet(CouponCode.ordinalOf("ABC123"))).isTrue();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve cobrir o espaço inteiro de códigos")
+        void shouldCoverWholeCodeSpace() throws IOException {
+            try (CodeOccupancyBitmap bitmap = CodeOccupancyBitmap.open(file(), 0, sink -> { })) {
+                bitmap.set(CouponCode.SPACE_SIZE - 1);
+            }
+
+            assertThat(Files.size(file())).isEqualTo(CodeOccupancyBitmap.FILE_SIZE);
+        }
+    }
+}
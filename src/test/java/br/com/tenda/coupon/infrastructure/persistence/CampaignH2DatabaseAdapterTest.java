@@ -0,0 +1,68 @@
+package br.com.tenda.coupon.infrastructure.persistence;
+
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.infrastructure.persistence.entity.CampaignEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CampaignH2DatabaseAdapter")
+class CampaignH2DatabaseAdapterTest {
+
+    private static final UUID ID = UUID.randomUUID();
+    private static final LocalDateTime EXPIRATION = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Mock
+    private SpringDataCampaignRepository springDataRepository;
+
+    private CampaignH2DatabaseAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new CampaignH2DatabaseAdapter(springDataRepository);
+    }
+
+    private static CampaignEntity entity(String description) {
+        return new CampaignEntity(ID, description, new BigDecimal("10.00"), EXPIRATION);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a mesma instância em leituras seguidas")
+    void shouldInternLoadedCampaign() {
+        when(springDataRepository.findById(ID)).thenReturn(Optional.of(entity("Natal")));
+
+        Campaign first = adapter.findById(ID).orElseThrow();
+
+        assertThat(adapter.findById(ID)).containsSame(first);
+        verify(springDataRepository, times(1)).findById(ID);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar uma leitura que cruzou a gravação da campanha")
+    void shouldNotInternLoadThatOverlappedSave() {
+        when(springDataRepository.findById(ID))
+                .thenAnswer(invocation -> {
+                    // the save commits while this load still holds the old row
+                    adapter.save(Campaign.reconstruct(ID, "Natal 2", new BigDecimal("10.00"), EXPIRATION));
+                    return Optional.of(entity("Natal"));
+                })
+                .thenReturn(Optional.of(entity("Natal 2")));
+
+        assertThat(adapter.findById(ID)).hasValueSatisfying(campaign ->
+                assertThat(campaign.getDescription().getValue()).isEqualTo("Natal"));
+        assertThat(adapter.findById(ID)).hasValueSatisfying(campaign ->
+                assertThat(campaign.getDescription().getValue()).isEqualTo("Natal 2"));
+    }
+}
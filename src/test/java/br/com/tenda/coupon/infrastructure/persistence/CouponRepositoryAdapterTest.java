@@ -1,23 +1,41 @@
 package br.com.tenda.coupon.infrastructure.persistence;
 
+import br.com.tenda.coupon.domain.exception.InvalidCouponException;
+import br.com.tenda.coupon.domain.model.Campaign;
 import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponFilter;
+import br.com.tenda.coupon.domain.repository.CouponProjection;
+import br.com.tenda.coupon.domain.repository.ExpirationCursor;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.domain.vo.CouponTransition;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 
 @DataJpaTest
-@Import(CouponH2DatabaseAdapter.class)
+@Import({CouponH2DatabaseAdapter.class, CampaignH2DatabaseAdapter.class})
 @ActiveProfiles("test")
 @DisplayName("CouponRepositoryAdapter - Integração com H2")
 class CouponRepositoryAdapterTest {
@@ -25,6 +43,12 @@ class CouponRepositoryAdapterTest {
     @Autowired
     private CouponH2DatabaseAdapter couponRepository;
 
+    @Autowired
+    private CampaignH2DatabaseAdapter campaignRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Nested
     @DisplayName("Quando salvar cupom")
     class WhenSavingCoupon {
@@ -149,6 +173,36 @@ class CouponRepositoryAdapterTest {
             assertThat(foundCoupon).isPresent();
             assertThat(foundCoupon.get().getId()).isEqualTo(savedCoupon.getId());
         }
+
+        @Test
+        @DisplayName("Deve encontrar cupom por código")
+        void shouldFindCouponByCode() {
+            LocalDateTime futureDate = LocalDateTime.now().plusDays(30);
+            Coupon coupon = Coupon.create(
+                    "COD123",
+                    "Desconto",
+                    new BigDecimal("10.00"),
+                    futureDate,
+                    false,
+                    false
+            );
+
+            Coupon savedCoupon = couponRepository.save(coupon);
+
+            Optional<Coupon> foundCoupon = couponRepository.findByCode("COD123");
+
+            assertThat(foundCoupon).isPresent();
+            assertThat(foundCoupon.get().getId()).isEqualTo(savedCoupon.getId());
+            assertThat(foundCoupon.get().getDiscount().getMinorUnits()).isEqualTo(1000L);
+        }
+
+        @Test
+        @DisplayName("Deve retornar empty para código inexistente")
+        void shouldReturnEmptyForNonExistentCode() {
+            Optional<Coupon> result = couponRepository.findByCode("XXXXXX");
+
+            assertThat(result).isEmpty();
+        }
     }
 
     @Nested
@@ -238,5 +292,429 @@ class CouponRepositoryAdapterTest {
             assertThat(coupon.getStatus()).isEqualTo(originalCoupon.getStatus());
         }
     }
-}
 
+    @Nested
+    @DisplayName("Quando salvar cupons em lote")
+    class WhenSavingInBatch {
+
+        @Test
+        @DisplayName("Deve inserir em lote e encontrar os códigos existentes")
+        void shouldBatchInsertAndFindExistingCodes() {
+            LocalDateTime futureDate = LocalDateTime.now().plusDays(30);
+            List<Coupon> coupons = List.of(
+                    Coupon.create("BAT001", "Lote", new BigDecimal("5.00"), futureDate, true, false),
+                    Coupon.create("BAT002", "Lote", new BigDecimal("5.00"), futureDate, true, false, true)
+            );
+
+            couponRepository.saveAll(coupons);
+
+            assertThat(couponRepository.findExistingCodes(List.of("BAT001", "BAT002", "BAT003")))
+                    .containsExactlyInAnyOrder("BAT001", "BAT002");
+            assertThat(couponRepository.findByCode("BAT002")).get()
+                    .satisfies(coupon -> assertThat(coupon.isOnePerCustomer()).isTrue());
+        }
+
+        @Test
+        @DisplayName("Deve reservar blocos consecutivos de sequência")
+        void shouldReserveConsecutiveSequenceBlocks() {
+            long first = couponRepository.reserveCodeSequence(10);
+            long second = couponRepository.reserveCodeSequence(5);
+
+            assertThat(second).isEqualTo(first + 10);
+        }
+
+        @Test
+        @DisplayName("Deve reservar blocos disjuntos em chamadas concorrentes, cada uma na sua transação")
+        void shouldReserveDisjointBlocksConcurrently() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<Long>> reservations = new ArrayList<>();
+                for (int i = 0; i < 32; i++) {
+                    reservations.add(executor.submit(() -> couponRepository.reserveCodeSequence(100)));
+                }
+                List<Long> firsts = new ArrayList<>();
+                for (Future<Long> reservation : reservations) {
+                    firsts.add(reservation.get(10, TimeUnit.SECONDS));
+                }
+                firsts.sort(null);
+
+                for (int i = 1; i < firsts.size(); i++) {
+                    assertThat(firsts.get(i)).isEqualTo(firsts.get(i - 1) + 100);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando percorrer cupons com filtro")
+    class WhenScanningWithFilter {
+
+        @Test
+        @DisplayName("Deve aplicar apenas os critérios informados")
+        void shouldApplyOnlyGivenCriteria() {
+            LocalDateTime soon = LocalDateTime.now().plusDays(1);
+            LocalDateTime later = LocalDateTime.now().plusDays(60);
+            couponRepository.saveAll(List.of(
+                    Coupon.create("FLT001", "Filtro", new BigDecimal("5.00"), soon, true, false),
+                    Coupon.create("FLT002", "Filtro", new BigDecimal("5.00"), later, true, false),
+                    Coupon.create("FLT003", "Filtro", new BigDecimal("5.00"), soon, false, false)
+            ));
+
+            List<String> published = new ArrayList<>();
+            couponRepository.forEach(CouponFilter.builder()
+                    .status(CouponStatus.ACTIVE)
+                    .published(true)
+                    .expiringBefore(LocalDateTime.now().plusDays(7))
+                    .build(), coupon -> published.add(coupon.getCodeValue()));
+            List<String> all = new ArrayList<>();
+            couponRepository.forEach(CouponFilter.none(), coupon -> all.add(coupon.getCodeValue()));
+
+            assertThat(published).containsExactly("FLT001");
+            assertThat(all).contains("FLT001", "FLT002", "FLT003");
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando deletar em lote")
+    class WhenBulkDeleting {
+
+        @Test
+        @DisplayName("Deve selecionar pelo prefixo do código e ignorar os já deletados")
+        void shouldSelectByPrefixAndSkipDeleted() {
+            LocalDateTime futureDate = LocalDateTime.now().plusDays(30);
+            Coupon first = Coupon.create("PRX001", "Lote", new BigDecimal("5.00"), futureDate, true, false);
+            Coupon second = Coupon.create("PRX002", "Lote", new BigDecimal("5.00"), futureDate, true, false);
+            Coupon other = Coupon.create("PRY001", "Lote", new BigDecimal("5.00"), futureDate, true, false);
+            couponRepository.saveAll(List.of(first, second, other));
+            CouponFilter filter = CouponFilter.builder().codePrefix("PRX").build();
+
+            List<UUID> ids = couponRepository.findDeletableIds(filter, 10);
+            List<String> deleted = couponRepository.softDeleteAll(ids);
+
+            assertThat(ids).containsExactlyInAnyOrder(first.getId(), second.getId());
+            assertThat(deleted).containsExactlyInAnyOrder("PRX001", "PRX002");
+            assertThat(couponRepository.findById(first.getId())).get()
+                    .satisfies(coupon -> assertThat(coupon.getStatus()).isEqualTo(CouponStatus.DELETED.name()));
+            assertThat(couponRepository.findDeletableIds(filter, 10)).isEmpty();
+            assertThat(couponRepository.softDeleteAll(List.of(first.getId(), other.getId()))).containsExactly("PRY001");
+        }
+
+        @Test
+        @DisplayName("Deve limitar a quantidade de IDs por bloco")
+        void shouldLimitIdsPerChunk() {
+            LocalDateTime futureDate = LocalDateTime.now().plusDays(30);
+            couponRepository.saveAll(List.of(
+                    Coupon.create("LIM001", "Lote", new BigDecimal("5.00"), futureDate, true, false),
+                    Coupon.create("LIM002", "Lote", new BigDecimal("5.00"), futureDate, true, false),
+                    Coupon.create("LIM003", "Lote", new BigDecimal("5.00"), futureDate, true, false)
+            ));
+
+            assertThat(couponRepository.findDeletableIds(CouponFilter.builder().codePrefix("LIM").build(), 2)).hasSize(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando alterar o estado em lote")
+    class WhenTransitioningInBulk {
+
+        @Test
+        @DisplayName("Deve alterar apenas cupons fora do estado de destino e não deletados")
+        void shouldChangeOnlyCouponsOutsideTargetState() {
+            LocalDateTime futureDate = LocalDateTime.now().plusDays(30);
+            Coupon draft = Coupon.create("TRN001", "Lote", new BigDecimal("5.00"), futureDate, false, false);
+            Coupon live = Coupon.create("TRN002", "Lote", new BigDecimal("5.00"), futureDate, true, false);
+            Coupon deleted = Coupon.create("TRN003", "Lote", new BigDecimal("5.00"), futureDate, false, false);
+            deleted.delete();
+            couponRepository.saveAll(List.of(draft, live, deleted));
+            List<UUID> ids = List.of(draft.getId(), live.getId(), deleted.getId());
+
+            assertThat(couponRepository.applyAll(ids, CouponTransition.PUBLISH)).containsExactly("TRN001");
+            assertThat(couponRepository.applyAll(ids, CouponTransition.DEACTIVATE)).containsExactlyInAnyOrder("TRN001", "TRN002");
+            assertThat(couponRepository.applyAll(ids, CouponTransition.DEACTIVATE)).isEmpty();
+            assertThat(couponRepository.applyAll(List.of(live.getId()), CouponTransition.ACTIVATE)).containsExactly("TRN002");
+
+            assertThat(couponRepository.findById(draft.getId())).get().satisfies(coupon -> {
+                assertThat(coupon.isPublished()).isTrue();
+                assertThat(coupon.getStatus()).isEqualTo(CouponStatus.INACTIVE.name());
+            });
+            assertThat(couponRepository.findById(deleted.getId())).get().satisfies(coupon -> {
+                assertThat(coupon.isPublished()).isFalse();
+                assertThat(coupon.getStatus()).isEqualTo(CouponStatus.DELETED.name());
+            });
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando listar com projeção")
+    class WhenListingWithProjection {
+
+        private Coupon savedWithRedemption() {
+            Coupon coupon = Coupon.create("PRJ001", "Descrição longa", new BigDecimal("7.25"), LocalDateTime.now().plusDays(10).withNano(0), true, false, true);
+            coupon.redeem(LocalDateTime.now(), 42L);
+            couponRepository.saveAll(List.of(coupon));
+            return coupon;
+        }
+
+        private Coupon find(CouponProjection projection, UUID id) {
+            return couponRepository.findAll(PageRequest.of(0, 1000, Sort.by("code")), projection).getContent().stream()
+                    .filter(coupon -> coupon.getId().equals(id))
+                    .findFirst()
+                    .orElseThrow();
+        }
+
+        @Test
+        @DisplayName("Deve deixar de ler a descrição e os clientes que resgataram")
+        void shouldSkipDescriptionAndRedeemedCustomers() {
+            Coupon saved = savedWithRedemption();
+
+            Coupon narrowed = find(CouponProjection.builder().build(), saved.getId());
+
+            assertThat(narrowed.getOwnDescription()).isNull();
+            assertThat(narrowed.getRedeemedCustomers().isEmpty()).isTrue();
+            assertThat(narrowed.getCodeValue()).isEqualTo("PRJ001");
+            assertThat(narrowed.getDiscount().getValue()).isEqualByComparingTo("7.25");
+            assertThat(narrowed.getExpirationDate().getValue()).isEqualTo(saved.getExpirationDate().getValue());
+            assertThat(narrowed.isOnePerCustomer()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve ler as colunas pedidas na projeção")
+        void shouldReadProjectedColumns() {
+            Coupon saved = savedWithRedemption();
+
+            Coupon projected = find(CouponProjection.builder().description(true).redeemedCustomers(true).build(), saved.getId());
+
+            assertThat(projected.getDescription().getValue()).isEqualTo("Descrição longa");
+            assertThat(projected.getRedeemedCustomers().cardinality()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve paginar e ordenar pela consulta projetada")
+        void shouldPageAndSort() {
+            couponRepository.saveAll(List.of(
+                    Coupon.create("PRJ102", "B", new BigDecimal("5.00"), LocalDateTime.now().plusDays(10), true, false),
+                    Coupon.create("PRJ101", "A", new BigDecimal("6.00"), LocalDateTime.now().plusDays(10), true, false),
+                    Coupon.create("PRJ103", "C", new BigDecimal("7.00"), LocalDateTime.now().plusDays(10), true, false)
+            ));
+            long total = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM coupons", Long.class);
+
+            Page<Coupon> page = couponRepository.findAll(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "discountValue")),
+                    CouponProjection.builder().build());
+
+            assertThat(page.getContent()).extracting(Coupon::getCodeValue).containsExactly("PRJ103", "PRJ101");
+            assertThat(page.getTotalElements()).isEqualTo(total);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar ordenação por propriedade desconhecida")
+        void shouldRejectUnknownSortProperty() {
+            assertThatThrownBy(() -> couponRepository.findAll(PageRequest.of(0, 10, Sort.by("redeemedCustomers")),
+                    CouponProjection.builder().build()))
+                    .isInstanceOf(InvalidCouponException.class)
+                    .hasMessage("Coupons cannot be sorted by: redeemedCustomers");
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando cupons pertencem a uma campanha")
+    class WhenCouponsBelongToCampaign {
+
+        @Test
+        @DisplayName("Deve guardar apenas os atributos sobrescritos e compartilhar a mesma campanha")
+        void shouldStoreOnlyOverridesAndShareCampaign() {
+            LocalDateTime futureDate = LocalDateTime.now().plusDays(30);
+            Campaign campaign = campaignRepository.save(Campaign.create("Campanha", new BigDecimal("20.00"), futureDate));
+            Coupon inherited = Coupon.create("CMP001", campaign, null, null, null, true, false);
+            Coupon overridden = Coupon.create("CMP002", campaign, "Parceiro", null, null, true, false);
+            couponRepository.saveAll(List.of(inherited));
+            couponRepository.save(overridden);
+
+            Coupon first = couponRepository.findByCode("CMP001").orElseThrow();
+            Coupon second = couponRepository.findById(overridden.getId()).orElseThrow();
+
+            assertThat(first.getCampaign()).isSameAs(second.getCampaign());
+            assertThat(first.getDescription().getValue()).isEqualTo("Campanha");
+            assertThat(second.getDescription().getValue()).isEqualTo("Parceiro");
+            assertThat(second.getDiscount().getValue()).isEqualByComparingTo("20.00");
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM coupons WHERE campaign_id = ? AND discount_value IS NULL AND expiration_date IS NULL",
+                    Integer.class, campaign.getId())).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve filtrar pela campanha e pela expiração herdada")
+        void shouldFilterByCampaignAndInheritedExpiration() {
+            LocalDateTime soon = LocalDateTime.now().plusDays(1);
+            Campaign campaign = campaignRepository.save(Campaign.create("Campanha curta", new BigDecimal("20.00"), soon));
+            couponRepository.saveAll(List.of(
+                    Coupon.create("CMP101", campaign, null, null, null, true, false),
+                    Coupon.create("CMP102", campaign, null, null, LocalDateTime.now().plusDays(60), true, false)
+            ));
+
+            List<String> expiring = new ArrayList<>();
+            couponRepository.forEach(CouponFilter.builder()
+                    .campaignId(campaign.getId())
+                    .expiringBefore(LocalDateTime.now().plusDays(7))
+                    .build(), coupon -> expiring.add(coupon.getCodeValue()));
+
+            assertThat(expiring).containsExactly("CMP101");
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando buscar cupons ativos já expirados")
+    class WhenFindingExpiredActiveCoupons {
+
+        @Test
+        @DisplayName("Deve retornar expirações próprias em ordem e completar com as herdadas da campanha")
+        void shouldReturnOwnExpirationsInOrderThenInherited() {
+            LocalDateTime base = LocalDateTime.now().plusDays(400).truncatedTo(ChronoUnit.SECONDS);
+            Campaign campaign = campaignRepository.save(Campaign.create("Campanha", new BigDecimal("20.00"), base.plusHours(1)));
+            Coupon later = Coupon.create("EXP002", "Própria", new BigDecimal("5.00"), base.plusMinutes(30), true, false);
+            Coupon earlier = Coupon.create("EXP001", "Própria", new BigDecimal("5.00"), base.plusMinutes(10), true, false);
+            Coupon inactive = Coupon.create("EXP003", "Própria", new BigDecimal("5.00"), base.plusMinutes(5), true, false);
+            inactive.apply(CouponTransition.DEACTIVATE);
+            Coupon inherited = Coupon.create("EXP004", campaign, null, null, null, true, false);
+            Coupon notYet = Coupon.create("EXP005", "Própria", new BigDecimal("5.00"), base.plusDays(1), true, false);
+            couponRepository.saveAll(List.of(later, earlier, inactive, inherited, notYet));
+            LocalDateTime now = base.plusHours(2);
+
+            assertThat(couponRepository.findExpiredActiveIds(now, 10))
+                    .containsExactly(earlier.getId(), later.getId(), inherited.getId());
+            assertThat(couponRepository.findExpiredActiveIds(now, 1)).containsExactly(earlier.getId());
+            assertThat(couponRepository.findOldestExpiredActive(now)).contains(base.plusMinutes(10));
+            assertThat(couponRepository.findOldestExpiredActive(base)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve considerar a expiração da campanha quando for a mais antiga")
+        void shouldReportInheritedExpirationWhenOldest() {
+            LocalDateTime base = LocalDateTime.now().plusDays(500).truncatedTo(ChronoUnit.SECONDS);
+            Campaign campaign = campaignRepository.save(Campaign.create("Campanha", new BigDecimal("20.00"), base));
+            couponRepository.saveAll(List.of(Coupon.create("EXP101", campaign, null, null, null, true, false)));
+
+            assertThat(couponRepository.findOldestExpiredActive(base.plusMinutes(1))).contains(base);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando buscar cupons prestes a expirar")
+    class WhenFindingExpiringCoupons {
+
+        @Test
+        @DisplayName("Deve intercalar expirações próprias e herdadas e continuar após o cursor")
+        void shouldMergeOwnAndInheritedAndResumeAfterCursor() {
+            LocalDateTime base = LocalDateTime.now().plusDays(600).truncatedTo(ChronoUnit.SECONDS);
+            Campaign campaign = campaignRepository.save(Campaign.create("Campanha", new BigDecimal("20.00"), base.plusMinutes(20)));
+            Coupon first = Coupon.create("SON001", "Própria", new BigDecimal("5.00"), base.plusMinutes(10), true, false);
+            Coupon inherited = Coupon.create("SON002", campaign, null, null, null, true, false);
+            Coupon last = Coupon.create("SON003", "Própria", new BigDecimal("5.00"), base.plusMinutes(30), true, false);
+            Coupon redeemed = Coupon.create("SON004", "Própria", new BigDecimal("5.00"), base.plusMinutes(15), true, true);
+            Coupon deleted = Coupon.create("SON005", "Própria", new BigDecimal("5.00"), base.plusMinutes(15), true, false);
+            deleted.delete();
+            Coupon outside = Coupon.create("SON006", "Própria", new BigDecimal("5.00"), base.plusHours(2), true, false);
+            couponRepository.saveAll(List.of(last, inherited, first, redeemed, deleted, outside));
+            LocalDateTime until = base.plusHours(1);
+
+            List<Coupon> firstPage = couponRepository.findExpiring(base, until, null, 2);
+            assertThat(firstPage).extracting(Coupon::getCodeValue).containsExactly("SON001", "SON002");
+
+            ExpirationCursor cursor = ExpirationCursor.after(firstPage.get(1));
+            assertThat(ExpirationCursor.decode(cursor.encode())).isEqualTo(cursor);
+            assertThat(couponRepository.findExpiring(base, until, cursor, 2))
+                    .extracting(Coupon::getCodeValue).containsExactly("SON003");
+        }
+
+        @Test
+        @DisplayName("Deve desempatar cupons com a mesma expiração pelo id")
+        void shouldBreakTiesById() {
+            LocalDateTime expiration = LocalDateTime.now().plusDays(700).truncatedTo(ChronoUnit.SECONDS);
+            List<Coupon> coupons = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                coupons.add(Coupon.create("TIE00" + i, "Própria", new BigDecimal("5.00"), expiration, true, false));
+            }
+            couponRepository.saveAll(coupons);
+
+            List<String> paged = new ArrayList<>();
+            ExpirationCursor cursor = null;
+            do {
+                List<Coupon> page = couponRepository.findExpiring(expiration.minusMinutes(1), expiration, cursor, 2);
+                page.forEach(coupon -> paged.add(coupon.getCodeValue()));
+                cursor = page.size() < 2 ? null : ExpirationCursor.after(page.get(page.size() - 1));
+            } while (cursor != null);
+
+            assertThat(paged).hasSize(5).doesNotHaveDuplicates();
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando arquivar cupons")
+    class WhenArchiving {
+
+        @Test
+        @DisplayName("Deve mover deletados e expirados há mais que a retenção, mantendo os códigos ocupados")
+        void shouldMoveDeletedAndLongExpiredKeepingCodesTaken() {
+            LocalDateTime base = LocalDateTime.now().plusDays(800).truncatedTo(ChronoUnit.SECONDS);
+            Campaign campaign = campaignRepository.save(Campaign.create("Campanha", new BigDecimal("20.00"), base.minusDays(1)));
+            Coupon deleted = Coupon.create("ARC001", "Própria", new BigDecimal("5.00"), base.plusDays(30), true, false);
+            deleted.delete();
+            Coupon expired = Coupon.create("ARC002", "Própria", new BigDecimal("5.00"), base.minusDays(2), true, false);
+            Coupon inherited = Coupon.create("ARC003", campaign, null, null, null, true, false);
+            Coupon live = Coupon.create("ARC004", "Própria", new BigDecimal("5.00"), base.plusDays(1), true, false);
+            couponRepository.saveAll(List.of(deleted, expired, inherited, live));
+            LocalDateTime archivedAt = base.plusDays(90);
+
+            assertThat(couponRepository.archive(base, archivedAt, 10)).contains("ARC001", "ARC002", "ARC003").doesNotContain("ARC004");
+
+            assertThat(couponRepository.findById(expired.getId())).isEmpty();
+            assertThat(couponRepository.findById(live.getId())).isPresent();
+            assertThat(couponRepository.findArchivedById(inherited.getId())).get().satisfies(coupon -> {
+                assertThat(coupon.getCampaign().getId()).isEqualTo(campaign.getId());
+                assertThat(coupon.getExpirationDate().getValue()).isEqualTo(base.minusDays(1));
+            });
+            assertThat(couponRepository.findArchivedById(deleted.getId())).get()
+                    .extracting(Coupon::getStatus).isEqualTo(CouponStatus.DELETED.name());
+            assertThat(couponRepository.existsByCode("ARC002")).isTrue();
+            assertThat(couponRepository.findExistingCodes(List.of("ARC001", "ARC004", "ARC999"))).containsExactlyInAnyOrder("ARC001", "ARC004");
+            assertThat(jdbcTemplate.queryForObject("SELECT archived_at FROM coupons_archive WHERE id = ?",
+                    LocalDateTime.class, expired.getId())).isEqualTo(archivedAt);
+        }
+
+        @Test
+        @DisplayName("Deve percorrer o arquivo somente quando o filtro incluir arquivados")
+        void shouldScanArchiveOnlyWhenFilterIncludesIt() {
+            Coupon deleted = Coupon.create("ARC101", "Própria", new BigDecimal("5.00"), LocalDateTime.now().plusDays(30), true, false);
+            deleted.delete();
+            couponRepository.saveAll(List.of(deleted));
+            couponRepository.archive(LocalDateTime.now().minusYears(10), LocalDateTime.now(), 100);
+
+            List<String> hot = new ArrayList<>();
+            couponRepository.forEach(CouponFilter.builder().codePrefix("ARC1").build(), coupon -> hot.add(coupon.getCodeValue()));
+            List<String> all = new ArrayList<>();
+            couponRepository.forEach(CouponFilter.builder().codePrefix("ARC1").includeArchived(true).build(),
+                    coupon -> all.add(coupon.getCodeValue()));
+
+            assertThat(hot).isEmpty();
+            assertThat(all).containsExactly("ARC101");
+        }
+
+        @Test
+        @DisplayName("Deve percorrer somente o arquivo")
+        void shouldScanOnlyArchive() {
+            Coupon deleted = Coupon.create("ARC201", "Própria", new BigDecimal("5.00"), LocalDateTime.now().plusDays(30), true, false);
+            deleted.delete();
+            couponRepository.saveAll(List.of(deleted,
+                    Coupon.create("ARC202", "Própria", new BigDecimal("5.00"), LocalDateTime.now().plusDays(30), true, false)));
+            couponRepository.archive(LocalDateTime.now().minusYears(10), LocalDateTime.now(), 100);
+
+            List<Coupon> archived = new ArrayList<>();
+            couponRepository.forEachArchived(archived::add);
+
+            assertThat(archived).extracting(Coupon::getCodeValue).contains("ARC201").doesNotContain("ARC202");
+            assertThat(archived).filteredOn(coupon -> coupon.getCodeValue().equals("ARC201"))
+                    .extracting(Coupon::getStatus).containsExactly(CouponStatus.DELETED.name());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.tenda.coupon.infrastructure.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitFilter")
+class RateLimitFilterTest {
+
+    @Mock
+    private TokenBucketRateLimiter rateLimiter;
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new RateLimitFilter(rateLimiter, new ObjectMapper().registerModule(new JavaTimeModule()), "X-API-Key", Set.of("partner-1"));
+    }
+
+    private MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/coupons/validate");
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+
+    @Test
+    @DisplayName("Deve repassar a requisição dentro do limite usando o IP como chave")
+    void shouldPassRequestWithinBudgetKeyedByAddress() throws Exception {
+        when(rateLimiter.tryAcquire("ip:10.0.0.1")).thenReturn(0L);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Deve preferir a chave de API ao IP")
+    void shouldPreferApiKeyOverAddress() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader("X-API-Key", "partner-1");
+        when(rateLimiter.tryAcquire("key:partner-1")).thenReturn(0L);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryAcquire("key:partner-1");
+    }
+
+    @Test
+    @DisplayName("Deve limitar pelo IP quando a chave de API não for conhecida")
+    void shouldFallBackToAddressForUnknownApiKey() throws Exception {
+        MockHttpServletRequest request = request();
+        request.addHeader("X-API-Key", "random-1");
+        when(rateLimiter.tryAcquire("ip:10.0.0.1")).thenReturn(0L);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimiter).tryAcquire("ip:10.0.0.1");
+        verifyNoMoreInteractions(rateLimiter);
+    }
+
+    @Test
+    @DisplayName("Deve responder 429 com Retry-After arredondado para cima sem chamar a cadeia")
+    void shouldRejectWithRetryAfter() throws Exception {
+        when(rateLimiter.tryAcquire("ip:10.0.0.1")).thenReturn(TimeUnit.MILLISECONDS.toNanos(1_200));
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request(), response, chain);
+
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString())
+                .contains("\"status\":429")
+                .contains("\"path\":\"/api/v1/coupons/validate\"");
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.tenda.coupon.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TokenBucketRateLimiter")
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new TokenBucketRateLimiter(3, 1, 4, Duration.ofSeconds(10), 1_000, now::get);
+    }
+
+    private void advance(long seconds) {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    @Nested
+    @DisplayName("Quando consumir tokens")
+    class WhenAcquiring {
+
+        @Test
+        @DisplayName("Deve permitir rajada até a capacidade e recusar a seguinte")
+        void shouldAllowBurstUpToCapacity() {
+            assertThat(rateLimiter.tryAcquire("client")).isZero();
+            assertThat(rateLimiter.tryAcquire("client")).isZero();
+            assertThat(rateLimiter.tryAcquire("client")).isZero();
+
+            assertThat(rateLimiter.tryAcquire("client")).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        }
+
+        @Test
+        @DisplayName("Deve reabastecer tokens conforme o tempo passa sem exceder a capacidade")
+        void shouldRefillLazilyUpToCapacity() {
+            for (int i = 0; i < 3; i++) {
+                rateLimiter.tryAcquire("client");
+            }
+
+            advance(1);
+            assertThat(rateLimiter.tryAcquire("client")).isZero();
+            assertThat(rateLimiter.tryAcquire("client")).isPositive();
+
+            advance(60);
+            for (int i = 0; i < 3; i++) {
+                assertThat(rateLimiter.tryAcquire("client")).isZero();
+            }
+            assertThat(rateLimiter.tryAcquire("client")).isPositive();
+        }
+
+        @Test
+        @DisplayName("Deve manter baldes independentes por cliente")
+        void shouldKeepIndependentBucketsPerClient() {
+            for (int i = 0; i < 3; i++) {
+                rateLimiter.tryAcquire("bot");
+            }
+
+            assertThat(rateLimiter.tryAcquire("bot")).isPositive();
+            assertThat(rateLimiter.tryAcquire("shopper")).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando clientes ficarem ociosos")
+    class WhenIdle {
+
+        @Test
+        @DisplayName("Deve remover baldes ociosos")
+        void shouldEvictIdleBuckets() {
+            for (int i = 0; i < 50; i++) {
+                rateLimiter.tryAcquire("client-" + i);
+            }
+            assertThat(rateLimiter.size()).isEqualTo(50);
+
+            advance(11);
+            for (int i = 0; i < 64; i++) {
+                rateLimiter.tryAcquire("fresh-" + i);
+            }
+
+            assertThat(rateLimiter.size()).isEqualTo(64);
+        }
+
+        @Test
+        @DisplayName("Deve remover no máximo um lote de baldes ociosos por requisição")
+        void shouldSweepAtMostOneBatchPerAcquire() {
+            TokenBucketRateLimiter singleStripe = new TokenBucketRateLimiter(3, 1, 1, Duration.ofSeconds(10), 1_000, now::get);
+            for (int i = 0; i < 100; i++) {
+                singleStripe.tryAcquire("client-" + i);
+            }
+
+            advance(11);
+            singleStripe.tryAcquire("client-99");
+
+            assertThat(singleStripe.size()).isEqualTo(100 - 16);
+        }
+    }
+
+    @Nested
+    @DisplayName("Quando a stripe estiver cheia")
+    class WhenStripeIsFull {
+
+        @Test
+        @DisplayName("Deve limitar clientes novos por um balde compartilhado sem liberar os existentes")
+        void shouldShareOverflowBucketAmongNewClients() {
+            TokenBucketRateLimiter bounded = new TokenBucketRateLimiter(3, 1, 1, Duration.ofSeconds(10), 2, now::get);
+            for (int i = 0; i < 3; i++) {
+                bounded.tryAcquire("bot");
+            }
+            bounded.tryAcquire("shopper");
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(bounded.tryAcquire("new-" + i)).isZero();
+            }
+
+            assertThat(bounded.tryAcquire("new-3")).isPositive();
+            assertThat(bounded.tryAcquire("bot")).isPositive();
+            assertThat(bounded.tryAcquire("shopper")).isZero();
+            assertThat(bounded.size()).isEqualTo(2);
+        }
+    }
+}
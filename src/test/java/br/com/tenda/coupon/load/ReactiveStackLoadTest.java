@@ -0,0 +1,164 @@
+package br.com.tenda.coupon.load;
+
+import br.com.tenda.coupon.CouponApplication;
+import br.com.tenda.coupon.application.usecase.CreateCouponUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/*
+ * The servlet stack and the reactive profile side by side, each in its own context and database,
+ * serving GET /{id} to the same number of connections held open at once. Heap and threads are
+ * sampled for the whole JVM, so the client's share is in both numbers alike.
+ */
+@Tag("load")
+@DisplayName("GET /api/v1/coupons/{id} - Carga servlet x reativo")
+class ReactiveStackLoadTest {
+
+    private static final int COUPONS = 1_000;
+    private static final int CONNECTIONS = Integer.getInteger("loadTest.connections", 10_000);
+    private static final int REQUESTS_PER_CONNECTION = 10;
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final int CONNECTION_POOL_SIZE = 50;
+    private static final int CLIENT_THREADS = 8;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("Deve atender as conexões simultâneas nos dois modos com menos threads no reativo")
+    void shouldServeAllConnectionsWithFewerThreadsWhenReactive() throws Exception {
+        Result servlet = run("servlet", "test");
+        Result reactive = run("reactive", "test", "reactive");
+
+        System.out.printf("reactive/servlet: %.2fx throughput, %.2fx peak heap, %d vs %d peak threads%n",
+                reactive.throughput() / servlet.throughput(), (double) reactive.peakHeapBytes() / servlet.peakHeapBytes(),
+                reactive.peakThreads(), servlet.peakThreads());
+
+        assertThat(servlet.failures()).isZero();
+        assertThat(reactive.failures()).isZero();
+        assertThat(reactive.peakThreads()).isLessThan(servlet.peakThreads());
+    }
+
+    private Result run(String mode, String... profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CouponApplication.class)
+                .profiles(profiles)
+                // command-line arguments, so they win over the profiles' own datasource and file settings
+                .run(
+                        "--server.port=0",
+                        "--server.tomcat.max-connections=" + CONNECTIONS,
+                        "--server.tomcat.accept-count=1000",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                        "--spring.datasource.hikari.maximum-pool-size=" + CONNECTION_POOL_SIZE,
+                        "--coupon.reactive.url=r2dbc:pool:h2:mem:///load-" + mode + "?maxSize=" + CONNECTION_POOL_SIZE,
+                        "--coupon.occupancy.file=build/load-occupancy/" + mode + ".bitmap",
+                        "--coupon.journal.directory=build/load-journal/" + mode,
+                        "--coupon.expiration-wheel.enabled=false")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            CreateCouponUseCase createCouponUseCase = context.getBean(CreateCouponUseCase.class);
+            List<UUID> ids = new ArrayList<>(COUPONS);
+            for (int i = 0; i < COUPONS; i++) {
+                ids.add(createCouponUseCase.execute(null, "Carga", new BigDecimal("5.00"), LocalDateTime.now().plusDays(30), true, false).getId());
+            }
+            return measure(mode, port, ids);
+        }
+    }
+
+    private Result measure(String mode, int port, List<UUID> ids) throws Exception {
+        // a fixed executor for the client, so the peak thread count moves with the server alone
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(CLIENT_THREADS);
+        try {
+            return measure(mode, port, ids, HttpClient.newBuilder()
+                    .executor(clientExecutor)
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build());
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private Result measure(String mode, int port, List<UUID> ids, HttpClient client) throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            client.send(request(port, ids.get(i % COUPONS)), HttpResponse.BodyHandlers.discarding());
+        }
+
+        System.gc();
+        threads.resetPeakThreadCount();
+        AtomicLong peakHeap = new AtomicLong();
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+        sampler.scheduleAtFixedRate(() -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+                0, 50, TimeUnit.MILLISECONDS);
+
+        // at most CONNECTIONS requests in flight, so the client holds that many connections open at once
+        int total = CONNECTIONS * REQUESTS_PER_CONNECTION;
+        long[] latencies = new long[total];
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONNECTIONS);
+        List<CompletableFuture<?>> futures = new ArrayList<>(total);
+        long started = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            int index = i;
+            inFlight.acquire();
+            long begin = System.nanoTime();
+            futures.add(client.sendAsync(request(port, ids.get(i % COUPONS)), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[index] = System.nanoTime() - begin;
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        inFlight.release();
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(error -> null).join();
+        long elapsed = System.nanoTime() - started;
+        sampler.shutdownNow();
+
+        Arrays.sort(latencies);
+        Result result = new Result(total / (elapsed / 1_000_000_000.0), peakHeap.get(), threads.getPeakThreadCount(), failures.get());
+        System.out.printf("%s: %d requests, %d connections, %.0f req/s, p50=%.3fms p99=%.3fms, peak heap=%dMB, peak threads=%d, failures=%d%n",
+                mode, total, CONNECTIONS, result.throughput(),
+                percentile(latencies, 0.50) / 1_000_000.0, percentile(latencies, 0.99) / 1_000_000.0,
+                result.peakHeapBytes() / (1024 * 1024), result.peakThreads(), result.failures());
+        return result;
+    }
+
+    private static HttpRequest request(int port, UUID id) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/coupons/" + id)).GET().build();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.ceil(quantile * sorted.length) - 1];
+    }
+
+    private record Result(double throughput, long peakHeapBytes, int peakThreads, int failures) {
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.tenda.coupon.load;
+
+import br.com.tenda.coupon.CouponApplication;
+import br.com.tenda.coupon.application.usecase.CreateCouponUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+ * Same application, same pool of H2 connections, two thread modes: each GET /{id} runs a
+ * @Transactional use case that blocks on JDBC, with far more clients in flight than Tomcat's
+ * 200 platform threads.
+ */
+@Tag("load")
+@DisplayName("GET /api/v1/coupons/{id} - Carga com threads de plataforma e virtuais")
+class ThreadModeLoadTest {
+
+    private static final int COUPONS = 1_000;
+    private static final int CONCURRENCY = Integer.getInteger("loadTest.concurrency", 1_000);
+    private static final int REQUESTS_PER_CLIENT = 50;
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final int CONNECTION_POOL_SIZE = 50;
+
+    @Test
+    @DisplayName("Deve sustentar com threads virtuais ao menos a vazão das threads de plataforma sob alta concorrência")
+    void shouldSustainAtLeastPlatformThroughputOnVirtualThreads() throws Exception {
+        assumeTrue(JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE), "virtual threads need Java 21 (-PjavaVersion=21)");
+
+        Result platform = run("platform", "test");
+        Result virtual = run("virtual", "test", "virtual-threads");
+
+        System.out.printf("virtual/platform: %.2fx throughput, %.2fx p99%n",
+                virtual.throughput() / platform.throughput(), virtual.p99Millis() / platform.p99Millis());
+
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput() * 0.9);
+    }
+
+    private Result run(String mode, String... profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CouponApplication.class)
+                .profiles(profiles)
+                // command-line arguments, so they win over the profiles' own datasource and file settings
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                        "--spring.datasource.hikari.maximum-pool-size=" + CONNECTION_POOL_SIZE,
+                        "--coupon.occupancy.file=build/load-occupancy/" + mode + ".bitmap",
+                        "--coupon.journal.directory=build/load-journal/" + mode,
+                        "--coupon.expiration-wheel.enabled=false")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            CreateCouponUseCase createCouponUseCase = context.getBean(CreateCouponUseCase.class);
+            List<UUID> ids = new ArrayList<>(COUPONS);
+            for (int i = 0; i < COUPONS; i++) {
+                ids.add(createCouponUseCase.execute(null, "Carga", new BigDecimal("5.00"), LocalDateTime.now().plusDays(30), true, false).getId());
+            }
+            return measure(mode, port, ids);
+        }
+    }
+
+    private Result measure(String mode, int port, List<UUID> ids) throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            send(client, port, ids.get(i % COUPONS));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>(CONCURRENCY);
+        for (int c = 0; c < CONCURRENCY; c++) {
+            int offset = c;
+            futures.add(executor.submit(() -> {
+                start.await();
+                long[] latencies = new long[REQUESTS_PER_CLIENT];
+                for (int i = 0; i < REQUESTS_PER_CLIENT; i++) {
+                    long begin = System.nanoTime();
+                    send(client, port, ids.get((offset * REQUESTS_PER_CLIENT + i) % COUPONS));
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                return latencies;
+            }));
+        }
+
+        long started = System.nanoTime();
+        start.countDown();
+        long[] all = new long[CONCURRENCY * REQUESTS_PER_CLIENT];
+        int position = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            System.arraycopy(latencies, 0, all, position, latencies.length);
+            position += latencies.length;
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+
+        Arrays.sort(all);
+        Result result = new Result(all.length / (elapsed / 1_000_000_000.0), percentile(all, 0.99) / 1_000_000.0);
+        System.out.printf("%s threads: %d requests, %d clients, %.0f req/s, p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms%n",
+                mode, all.length, CONCURRENCY, result.throughput(),
+                percentile(all, 0.50) / 1_000_000.0, percentile(all, 0.90) / 1_000_000.0,
+                result.p99Millis(), all[all.length - 1] / 1_000_000.0);
+        return result;
+    }
+
+    private void send(HttpClient client, int port, UUID id) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/coupons/" + id)).GET().build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected response: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.ceil(quantile * sorted.length) - 1];
+    }
+
+    private record Result(double throughput, double p99Millis) {
+    }
+}
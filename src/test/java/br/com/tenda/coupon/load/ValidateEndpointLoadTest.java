@@ -0,0 +1,107 @@
+package br.com.tenda.coupon.load;
+
+import br.com.tenda.coupon.application.usecase.CreateCouponUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "coupon.rate-limit.enabled=false")
+@ActiveProfiles("test")
+@DisplayName("GET /api/v1/coupons/validate - Carga")
+class ValidateEndpointLoadTest {
+
+    private static final int COUPONS = 1_000;
+    private static final int THREADS = 32;
+    private static final int REQUESTS_PER_THREAD = 2_000;
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final double P99_BUDGET_MILLIS = Double.parseDouble(System.getProperty("loadTest.p99Millis", "50"));
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CreateCouponUseCase createCouponUseCase;
+
+    @Test
+    @DisplayName("Deve responder validações com p99 baixo sob concorrência")
+    void shouldValidateWithLowP99UnderConcurrency() throws Exception {
+        List<String> codes = new ArrayList<>(COUPONS);
+        for (int i = 0; i < COUPONS; i++) {
+            String code = String.format("L%05d", i);
+            createCouponUseCase.execute(code, "Carga", new BigDecimal("5.00"), LocalDateTime.now().plusDays(30), true, false);
+            codes.add(code);
+        }
+
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            send(client, codes.get(i % COUPONS));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<long[]>> futures = new ArrayList<>();
+        long started = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            futures.add(executor.submit(() -> {
+                long[] latencies = new long[REQUESTS_PER_THREAD];
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    long begin = System.nanoTime();
+                    send(client, codes.get((offset * REQUESTS_PER_THREAD + i) % COUPONS));
+                    latencies[i] = System.nanoTime() - begin;
+                }
+                return latencies;
+            }));
+        }
+
+        long[] all = new long[THREADS * REQUESTS_PER_THREAD];
+        int position = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            System.arraycopy(latencies, 0, all, position, latencies.length);
+            position += latencies.length;
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+
+        Arrays.sort(all);
+        double p99Millis = percentile(all, 0.99) / 1_000_000.0;
+        System.out.printf("validate: %d requests, %d threads, %.0f req/s, p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms%n",
+                all.length, THREADS, all.length / (elapsed / 1_000_000_000.0),
+                percentile(all, 0.50) / 1_000_000.0, percentile(all, 0.90) / 1_000_000.0,
+                p99Millis, all[all.length - 1] / 1_000_000.0);
+
+        assertThat(p99Millis).isLessThan(P99_BUDGET_MILLIS);
+    }
+
+    private void send(HttpClient client, String code) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/coupons/validate?code=" + code)).GET().build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200 || !response.body().contains("VALID")) {
+            throw new IllegalStateException("Unexpected response: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted[(int) Math.ceil(quantile * sorted.length) - 1];
+    }
+}
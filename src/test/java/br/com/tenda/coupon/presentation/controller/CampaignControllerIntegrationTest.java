@@ -0,0 +1,171 @@
+package br.com.tenda.coupon.presentation.controller;
+
+import br.com.tenda.coupon.presentation.dto.CampaignRequest;
+import br.com.tenda.coupon.presentation.dto.CreateCampaignCouponRequest;
+import br.com.tenda.coupon.presentation.dto.EvaluateCartRequest;
+import br.com.tenda.coupon.presentation.dto.GenerateCampaignCouponsRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/*
+ * Not transactional: campaign changes reach the shared instance, the cache and the index after commit.
+ * The committed rows are removed after each test so listings in other classes do not see them.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("CampaignController - Integração E2E")
+class CampaignControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime futureDate = LocalDateTime.now().plusDays(30).withNano(0);
+    private final List<String> campaignIds = new ArrayList<>();
+
+    @AfterEach
+    void removeCommittedRows() {
+        for (String campaignId : campaignIds) {
+            jdbcTemplate.update("DELETE FROM coupons WHERE campaign_id = ?", UUID.fromString(campaignId));
+            jdbcTemplate.update("DELETE FROM campaigns WHERE id = ?", UUID.fromString(campaignId));
+        }
+    }
+
+    private String createCampaign(String description, String discountValue) throws Exception {
+        CampaignRequest request = new CampaignRequest(description, new BigDecimal(discountValue), futureDate);
+
+        MvcResult result = mockMvc.perform(post("/api/v1/campaigns")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.description", is(description)))
+                .andReturn();
+        String id = objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+        campaignIds.add(id);
+        return id;
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/campaigns/{id}/coupons/generate - Gerar cupons da campanha")
+    class GenerateCampaignCouponsEndpoint {
+
+        @Test
+        @DisplayName("Deve gerar cupons que herdam os atributos e refletir a alteração da campanha")
+        void shouldGenerateCouponsThatFollowTheCampaign() throws Exception {
+            String campaignId = createCampaign("Campanha de verão", "10.00");
+
+            MvcResult generated = mockMvc.perform(post("/api/v1/campaigns/" + campaignId + "/coupons/generate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new GenerateCampaignCouponsRequest(3, true, false))))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.count", is(3)))
+                    .andReturn();
+            JsonNode codes = objectMapper.readTree(generated.getResponse().getContentAsString()).get("codes");
+            String code = codes.get(0).asText();
+            EvaluateCartRequest evaluation = new EvaluateCartRequest(new BigDecimal("100.00"), List.of(code));
+
+            mockMvc.perform(post("/api/v1/coupons/evaluate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(evaluation)))
+                    .andExpect(jsonPath("$.discounts[0].discountValue", is(10.00)));
+
+            mockMvc.perform(put("/api/v1/campaigns/" + campaignId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new CampaignRequest("Campanha de verão estendida", new BigDecimal("15.00"), futureDate.plusDays(10)))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.id", is(campaignId)))
+                    .andExpect(jsonPath("$.discountValue", is(15.00)));
+
+            mockMvc.perform(post("/api/v1/coupons/evaluate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(evaluation)))
+                    .andExpect(jsonPath("$.discounts[0].discountValue", is(15.00)));
+            mockMvc.perform(get("/api/v1/coupons/validate").param("code", code))
+                    .andExpect(jsonPath("$.availability", is("VALID")));
+            mockMvc.perform(get("/api/v1/campaigns/" + campaignId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.description", is("Campanha de verão estendida")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 404 para campanha inexistente")
+        void shouldReturn404ForUnknownCampaign() throws Exception {
+            mockMvc.perform(post("/api/v1/campaigns/" + UUID.randomUUID() + "/coupons/generate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new GenerateCampaignCouponsRequest(1, true, false))))
+                    .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/campaigns/{id}/coupons - Criar cupom da campanha")
+    class CreateCampaignCouponEndpoint {
+
+        @Test
+        @DisplayName("Deve criar cupom com atributo sobrescrito e herdar os demais")
+        void shouldCreateCouponWithOverride() throws Exception {
+            String campaignId = createCampaign("Campanha de parceiros", "10.00");
+            CreateCampaignCouponRequest request = new CreateCampaignCouponRequest("CPG001", null, new BigDecimal("25.00"), null, true, false);
+
+            MvcResult result = mockMvc.perform(post("/api/v1/campaigns/" + campaignId + "/coupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.code", is("CPG001")))
+                    .andExpect(jsonPath("$.campaignId", is(campaignId)))
+                    .andExpect(jsonPath("$.description", is("Campanha de parceiros")))
+                    .andExpect(jsonPath("$.discountValue", is(25.00)))
+                    .andReturn();
+            String couponId = objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+
+            mockMvc.perform(put("/api/v1/campaigns/" + campaignId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new CampaignRequest("Parceiros 2026", new BigDecimal("12.00"), futureDate))))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/v1/coupons/" + couponId))
+                    .andExpect(jsonPath("$.description", is("Parceiros 2026")))
+                    .andExpect(jsonPath("$.discountValue", is(25.00)));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para campanha com dados inválidos")
+        void shouldReturn400ForInvalidCampaign() throws Exception {
+            mockMvc.perform(post("/api/v1/campaigns")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                    new CampaignRequest("", new BigDecimal("0.10"), futureDate))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+}
@@ -1,27 +1,52 @@
 package br.com.tenda.coupon.presentation.controller;
 
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.repository.CouponRepository;
+import br.com.tenda.coupon.domain.vo.CouponStatus;
+import br.com.tenda.coupon.infrastructure.codec.CouponProtobufSchemas;
+import br.com.tenda.coupon.presentation.dto.CampaignRequest;
+import br.com.tenda.coupon.presentation.dto.CouponPageResponse;
+import br.com.tenda.coupon.presentation.dto.CouponResponse;
 import br.com.tenda.coupon.presentation.dto.CreateCouponRequest;
+import br.com.tenda.coupon.presentation.dto.ErrorResponse;
+import br.com.tenda.coupon.presentation.dto.EvaluateCartRequest;
+import br.com.tenda.coupon.presentation.dto.GenerateCouponsRequest;
+import br.com.tenda.coupon.presentation.dto.RedeemCouponRequest;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ResolvableType;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.hamcrest.Matchers.*;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -30,12 +55,23 @@ import static org.hamcrest.Matchers.*;
 @DisplayName("CouponController - Integração E2E")
 class CouponControllerIntegrationTest {
 
+    private static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
     @Autowired
     private MockMvc mockMvc;
 
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponProtobufSchemas protobufSchemas;
+
+    @Autowired
+    private Clock clock;
+
     @Nested
     @DisplayName("POST /api/v1/coupons - Criar cupom")
     class CreateCouponEndpoint {
@@ -183,6 +219,25 @@ class CouponControllerIntegrationTest {
                     .andExpect(status().isBadRequest());
         }
 
+        @Test
+        @DisplayName("Deve atribuir código do pool quando o código for omitido")
+        void shouldAssignPooledCodeWhenCodeIsOmitted() throws Exception {
+            CreateCouponRequest request = new CreateCouponRequest(
+                    null,
+                    "Sem código",
+                    new BigDecimal("10.00"),
+                    LocalDateTime.now().plusDays(30),
+                    false,
+                    false
+            );
+
+            mockMvc.perform(post("/api/v1/coupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.code", matchesPattern("[0-9A-Z]{6}")));
+        }
+
         @Test
         @DisplayName("Deve retornar 400 para campos obrigatórios ausentes")
         void shouldReturn400ForMissingRequiredFields() throws Exception {
@@ -225,6 +280,17 @@ class CouponControllerIntegrationTest {
     @DisplayName("GET /api/v1/coupons/{id} - Buscar cupom por ID")
     class GetCouponByIdEndpoint {
 
+        @Test
+        @DisplayName("Deve retornar status EXPIRED para cupom ativo com data de expiração passada")
+        void shouldReturnExpiredStatusForActiveCouponPastExpiration() throws Exception {
+            Coupon expired = couponRepository.save(Coupon.reconstruct(UUID.randomUUID(), "EFF001", "Expirado",
+                    new BigDecimal("10.00"), LocalDateTime.now().minusDays(2), true, false, CouponStatus.ACTIVE));
+
+            mockMvc.perform(get("/api/v1/coupons/" + expired.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status", is("EXPIRED")));
+        }
+
         @Test
         @DisplayName("Deve buscar cupom existente e retornar 200")
         void shouldGetExistingCouponAndReturn200() throws Exception {
@@ -491,6 +557,60 @@ class CouponControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/coupons/expiring - Listar cupons prestes a expirar")
+    class GetExpiringCouponsEndpoint {
+
+        private static Coupon coupon(String code, LocalDateTime expiration, boolean redeemed) {
+            return Coupon.create(code, "Cupom " + code, new BigDecimal("10.00"), expiration, true, redeemed);
+        }
+
+        @Test
+        @DisplayName("Deve paginar por cursor do mais próximo ao mais distante, sem deletados e resgatados")
+        void shouldPageByCursorSoonestFirstSkippingDeletedAndRedeemed() throws Exception {
+            LocalDateTime now = LocalDateTime.now(clock);
+            Coupon deleted = coupon("SOON04", now.plusMinutes(3), false);
+            deleted.delete();
+            // inserted with the batch path so the rows are visible to the listing inside this test transaction
+            couponRepository.saveAll(List.of(
+                    coupon("SOON03", now.plusMinutes(6), false),
+                    coupon("SOON01", now.plusMinutes(2), false),
+                    coupon("SOON02", now.plusMinutes(4), false),
+                    deleted,
+                    coupon("SOON05", now.plusMinutes(5), true),
+                    coupon("LATE01", now.plusHours(3), false)));
+
+            List<String> codes = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                MockHttpServletRequestBuilder request = get("/api/v1/coupons/expiring").param("within", "PT10M").param("size", "2");
+                if (cursor != null) {
+                    request.param("cursor", cursor);
+                }
+                JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString());
+                page.get("content").forEach(coupon -> codes.add(coupon.get("code").asText()));
+                cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+                pages++;
+            } while (cursor != null);
+
+            assertThat(codes).containsSubsequence("SOON01", "SOON02", "SOON03")
+                    .doesNotContain("SOON04", "SOON05", "LATE01");
+            assertThat(pages).isGreaterThanOrEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para janela ou cursor inválidos")
+        void shouldReturn400ForInvalidWindowOrCursor() throws Exception {
+            mockMvc.perform(get("/api/v1/coupons/expiring").param("within", "-PT1H"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(get("/api/v1/coupons/expiring").param("within", "PT1H").param("cursor", "not-a-cursor"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
     @Nested
     @DisplayName("GET /api/v1/coupons - Listar todos os cupons")
     class GetAllCouponsEndpoint {
@@ -727,6 +847,812 @@ class CouponControllerIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("POST /api/v1/coupons/evaluate - Avaliar cupons no carrinho")
+    class EvaluateCartEndpoint {
+
+        private String createCoupon(String code, String discountValue, boolean published) throws Exception {
+            CreateCouponRequest request = new CreateCouponRequest(
+                    code,
+                    "Cupom " + code,
+                    new BigDecimal(discountValue),
+                    LocalDateTime.now().plusDays(30),
+                    published,
+                    false
+            );
+
+            MvcResult result = mockMvc.perform(post("/api/v1/coupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+
+            return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+        }
+
+        @Test
+        @DisplayName("Deve aplicar cupons publicados e retornar valor final")
+        void shouldApplyPublishedCouponsAndReturnFinalAmount() throws Exception {
+            createCoupon("EVA001", "10.50", true);
+            createCoupon("EVA002", "20.00", true);
+
+            EvaluateCartRequest request = new EvaluateCartRequest(new BigDecimal("100.00"), List.of("EVA-001", "EVA002"));
+
+            mockMvc.perform(post("/api/v1/coupons/evaluate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.cartTotal", is(100.00)))
+                    .andExpect(jsonPath("$.discounts.length()", is(2)))
+                    .andExpect(jsonPath("$.discounts[0].code", is("EVA001")))
+                    .andExpect(jsonPath("$.discounts[0].availability", is("VALID")))
+                    .andExpect(jsonPath("$.discounts[0].applied", is(true)))
+                    .andExpect(jsonPath("$.discounts[0].discountValue", is(10.50)))
+                    .andExpect(jsonPath("$.totalDiscount", is(30.50)))
+                    .andExpect(jsonPath("$.finalAmount", is(69.50)));
+        }
+
+        @Test
+        @DisplayName("Deve informar cupons desconhecidos, não publicados e deletados sem aplicar desconto")
+        void shouldReportUnavailableCouponsWithoutDiscount() throws Exception {
+            createCoupon("EVA003", "10.00", false);
+            String deletedId = createCoupon("EVA004", "10.00", true);
+
+            mockMvc.perform(delete("/api/v1/coupons/" + deletedId))
+                    .andExpect(status().isNoContent());
+
+            EvaluateCartRequest request = new EvaluateCartRequest(new BigDecimal("50.00"), List.of("EVA003", "EVA004", "NOPE00"));
+
+            mockMvc.perform(post("/api/v1/coupons/evaluate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.discounts[0].availability", is("UNPUBLISHED")))
+                    .andExpect(jsonPath("$.discounts[1].availability", is("DELETED")))
+                    .andExpect(jsonPath("$.discounts[2].availability", is("UNKNOWN")))
+                    .andExpect(jsonPath("$.totalDiscount", is(0.00)))
+                    .andExpect(jsonPath("$.finalAmount", is(50.00)));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para lista de códigos vazia")
+        void shouldReturn400ForEmptyCodes() throws Exception {
+            EvaluateCartRequest request = new EvaluateCartRequest(new BigDecimal("50.00"), List.of());
+
+            mockMvc.perform(post("/api/v1/coupons/evaluate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("At least one coupon code is required")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para total com mais de duas casas decimais")
+        void shouldReturn400ForCartTotalWithTooManyDecimals() throws Exception {
+            EvaluateCartRequest request = new EvaluateCartRequest(new BigDecimal("10.001"), List.of("ABC123"));
+
+            mockMvc.perform(post("/api/v1/coupons/evaluate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("at most 2 decimal places")));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/coupons/redeem - Resgatar cupom")
+    class RedeemCouponEndpoint {
+
+        private void createCoupon(String code, boolean published) throws Exception {
+            CreateCouponRequest request = new CreateCouponRequest(
+                    code,
+                    "Cupom " + code,
+                    new BigDecimal("10.00"),
+                    LocalDateTime.now().plusDays(30),
+                    published,
+                    false
+            );
+
+            mockMvc.perform(post("/api/v1/coupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        @Test
+        @DisplayName("Deve resgatar cupom publicado e retornar 200")
+        void shouldRedeemPublishedCouponAndReturn200() throws Exception {
+            createCoupon("RED001", true);
+
+            mockMvc.perform(post("/api/v1/coupons/redeem")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RedeemCouponRequest("red-001", null))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code", is("RED001")))
+                    .andExpect(jsonPath("$.redeemed", is(true)))
+                    .andExpect(jsonPath("$.status", is("REDEEMED")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 409 ao resgatar cupom duas vezes")
+        void shouldReturn409WhenRedeemingTwice() throws Exception {
+            createCoupon("RED002", true);
+            String body = objectMapper.writeValueAsString(new RedeemCouponRequest("RED002", null));
+
+            mockMvc.perform(post("/api/v1/coupons/redeem")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(post("/api/v1/coupons/redeem")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message", containsString("cannot be redeemed: REDEEMED")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 409 ao resgatar cupom não publicado")
+        void shouldReturn409ForUnpublishedCoupon() throws Exception {
+            createCoupon("RED003", false);
+
+            mockMvc.perform(post("/api/v1/coupons/redeem")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RedeemCouponRequest("RED003", null))))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message", containsString("UNPUBLISHED")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 404 para código inexistente")
+        void shouldReturn404ForUnknownCode() throws Exception {
+            mockMvc.perform(post("/api/v1/coupons/redeem")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RedeemCouponRequest("NOPE01", null))))
+                    .andExpect(status().isNotFound())
+                    .andExpect(jsonPath("$.message", containsString("Coupon not found with code")));
+        }
+
+        @Test
+        @DisplayName("Deve permitir um resgate por cliente em cupom de uso por cliente")
+        void shouldAllowOneRedemptionPerCustomer() throws Exception {
+            CreateCouponRequest request = new CreateCouponRequest(
+                    "RED004",
+                    "Um por cliente",
+                    new BigDecimal("10.00"),
+                    LocalDateTime.now().plusDays(30),
+                    true,
+                    false,
+                    true
+            );
+            mockMvc.perform(post("/api/v1/coupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.onePerCustomer", is(true)));
+
+            mockMvc.perform(post("/api/v1/coupons/redeem")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RedeemCouponRequest("RED004", 1L))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.redeemed", is(false)))
+                    .andExpect(jsonPath("$.customerRedemptions", is(1)));
+
+            mockMvc.perform(post("/api/v1/coupons/redeem")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RedeemCouponRequest("RED004", 2L))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.customerRedemptions", is(2)));
+
+            mockMvc.perform(post("/api/v1/coupons/redeem")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RedeemCouponRequest("RED004", 1L))))
+                    .andExpect(status().isConflict())
+                    .andExpect(jsonPath("$.message", is("Coupon RED004 was already redeemed by customer 1")));
+
+            mockMvc.perform(post("/api/v1/coupons/redeem")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RedeemCouponRequest("RED004", null))))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para customerId fora do intervalo")
+        void shouldReturn400ForOutOfRangeCustomerId() throws Exception {
+            mockMvc.perform(post("/api/v1/coupons/redeem")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RedeemCouponRequest("RED005", -1L))))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("GET /api/v1/coupons/validate - Validar código")
+    class ValidateCouponEndpoint {
+
+        private String createCoupon(String code, boolean published) throws Exception {
+            CreateCouponRequest request = new CreateCouponRequest(
+                    code,
+                    "Cupom " + code,
+                    new BigDecimal("10.00"),
+                    LocalDateTime.now().plusDays(30),
+                    published,
+                    false
+            );
+
+            MvcResult result = mockMvc.perform(post("/api/v1/coupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+
+            return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+        }
+
+        @Test
+        @DisplayName("Deve validar cupom publicado recém-criado")
+        void shouldValidateNewlyCreatedPublishedCoupon() throws Exception {
+            createCoupon("VLD001", true);
+
+            mockMvc.perform(get("/api/v1/coupons/validate").param("code", "vld-001"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.availability", is("VALID")));
+        }
+
+        @Test
+        @DisplayName("Deve refletir deleção e resgate no índice")
+        void shouldReflectDeletionAndRedemption() throws Exception {
+            String deletedId = createCoupon("VLD002", true);
+            createCoupon("VLD003", true);
+
+            mockMvc.perform(delete("/api/v1/coupons/" + deletedId))
+                    .andExpect(status().isNoContent());
+            mockMvc.perform(post("/api/v1/coupons/redeem")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new RedeemCouponRequest("VLD003", null))))
+                    .andExpect(status().isOk());
+
+            mockMvc.perform(get("/api/v1/coupons/validate").param("code", "VLD002"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.availability", is("DELETED")));
+            mockMvc.perform(get("/api/v1/coupons/validate").param("code", "VLD003"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.availability", is("REDEEMED")));
+        }
+
+        @Test
+        @DisplayName("Deve responder UNKNOWN para código inexistente")
+        void shouldAnswerUnknownForMissingCode() throws Exception {
+            mockMvc.perform(get("/api/v1/coupons/validate").param("code", "NOPE99"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code", is("NOPE99")))
+                    .andExpect(jsonPath("$.availability", is("UNKNOWN")));
+        }
+    }
+
+    @Nested
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("POST /api/v1/coupons/import - Importar cupons de CSV")
+    class ImportCouponsEndpoint {
+
+        private final String futureDate = LocalDateTime.now().plusDays(30).withNano(0).toString();
+
+        @Test
+        @DisplayName("Deve importar linhas válidas e relatar as rejeitadas em NDJSON")
+        void shouldImportValidRowsAndStreamReport() throws Exception {
+            String csv = "code,description,discountValue,expirationDate,published\n"
+                    + "imp-001,Importado,10.00," + futureDate + ",true\n"
+                    + "IMP,Curto,10.00," + futureDate + ",true\n";
+            MockMultipartFile file = new MockMultipartFile("file", "coupons.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8));
+
+            MvcResult started = mockMvc.perform(multipart("/api/v1/coupons/import").file(file))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            String report = mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType("application/x-ndjson"))
+                    .andReturn().getResponse().getContentAsString();
+
+            List<String> lines = report.lines().toList();
+            assertThat(lines).hasSize(2);
+            assertThat(objectMapper.readTree(lines.get(0)).get("line").asLong()).isEqualTo(3);
+            assertThat(objectMapper.readTree(lines.get(0)).get("code").asText()).isEqualTo("IMP");
+            assertThat(objectMapper.readTree(lines.get(1)).get("imported").asLong()).isEqualTo(1);
+            assertThat(objectMapper.readTree(lines.get(1)).get("rejected").asLong()).isEqualTo(1);
+
+            mockMvc.perform(get("/api/v1/coupons/validate").param("code", "IMP001"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.availability", is("VALID")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para cabeçalho sem colunas obrigatórias")
+        void shouldReturn400ForMissingColumns() throws Exception {
+            MockMultipartFile file = new MockMultipartFile("file", "coupons.csv", "text/csv",
+                    "code,description\nIMP002,Sem valor\n".getBytes(StandardCharsets.UTF_8));
+
+            mockMvc.perform(multipart("/api/v1/coupons/import").file(file))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("discountValue")));
+        }
+    }
+
+    @Nested
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("GET /api/v1/coupons/export - Exportar cupons")
+    class ExportCouponsEndpoint {
+
+        private void createCoupon(String code, String description, boolean published) throws Exception {
+            CreateCouponRequest request = new CreateCouponRequest(
+                    code, description, new BigDecimal("10.00"), LocalDateTime.now().plusDays(30), published, false);
+
+            mockMvc.perform(post("/api/v1/coupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        private String export(String query) throws Exception {
+            MvcResult started = mockMvc.perform(get("/api/v1/coupons/export?" + query))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+            return mockMvc.perform(asyncDispatch(started))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+
+        @Test
+        @DisplayName("Deve exportar em NDJSON uma linha por cupom filtrado")
+        void shouldExportFilteredCouponsAsNdjson() throws Exception {
+            createCoupon("EXP101", "Publicado", true);
+            createCoupon("EXP102", "Rascunho", false);
+
+            List<JsonNode> rows = new ArrayList<>();
+            for (String line : export("format=ndjson&published=false").lines().toList()) {
+                rows.add(objectMapper.readTree(line));
+            }
+
+            assertThat(rows).extracting(row -> row.get("code").asText()).contains("EXP102").doesNotContain("EXP101");
+            assertThat(rows).allSatisfy(row -> assertThat(row.get("published").asBoolean()).isFalse());
+        }
+
+        @Test
+        @DisplayName("Deve exportar em CSV com cabeçalho e campos escapados")
+        void shouldExportCsvWithEscapedFields() throws Exception {
+            createCoupon("EXP103", "Com vírgula, e \"aspas\"", true);
+
+            List<String> lines = export("format=csv&status=ACTIVE").lines().toList();
+
+            assertThat(lines.get(0)).startsWith("id,code,description,discountValue,expirationDate,published");
+            assertThat(lines).anySatisfy(line ->
+                    assertThat(line).contains(",EXP103,\"Com vírgula, e \"\"aspas\"\"\",10.00,"));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para formato desconhecido")
+        void shouldReturn400ForUnknownFormat() throws Exception {
+            mockMvc.perform(get("/api/v1/coupons/export").param("format", "xml"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", containsString("Unsupported export format")));
+        }
+    }
+
+    @Nested
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("POST /api/v1/coupons/bulk-delete - Deletar cupons em lote")
+    class BulkDeleteCouponsEndpoint {
+
+        private String createCoupon(String code) throws Exception {
+            CreateCouponRequest request = new CreateCouponRequest(
+                    code, "Campanha cancelada", new BigDecimal("10.00"), LocalDateTime.now().plusDays(30), true, false);
+
+            MvcResult result = mockMvc.perform(post("/api/v1/coupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+        }
+
+        @Test
+        @DisplayName("Deve deletar por prefixo do código e refletir no índice")
+        void shouldDeleteByCodePrefix() throws Exception {
+            createCoupon("BLK101");
+            createCoupon("BLK102");
+            createCoupon("BLL101");
+
+            mockMvc.perform(post("/api/v1/coupons/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"codePrefix\": \"blk-1\"}"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.deleted", is(2)));
+
+            mockMvc.perform(get("/api/v1/coupons/validate").param("code", "BLK102"))
+                    .andExpect(jsonPath("$.availability", is("DELETED")));
+            mockMvc.perform(get("/api/v1/coupons/validate").param("code", "BLL101"))
+                    .andExpect(jsonPath("$.availability", is("VALID")));
+        }
+
+        @Test
+        @DisplayName("Deve deletar por lista de IDs sem contar os já deletados")
+        void shouldDeleteByIds() throws Exception {
+            String first = createCoupon("BLK201");
+            String second = createCoupon("BLK202");
+            mockMvc.perform(delete("/api/v1/coupons/" + first))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(post("/api/v1/coupons/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("ids", List.of(first, second, UUID.randomUUID())))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.deleted", is(1)));
+
+            mockMvc.perform(get("/api/v1/coupons/" + second))
+                    .andExpect(jsonPath("$.status", is("DELETED")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 sem critérios ou com IDs e filtro juntos")
+        void shouldReturn400ForMissingOrMixedCriteria() throws Exception {
+            mockMvc.perform(post("/api/v1/coupons/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{}"))
+                    .andExpect(status().isBadRequest());
+            mockMvc.perform(post("/api/v1/coupons/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\": [], \"status\": \"ACTIVE\"}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("POST /api/v1/coupons/{id}/{transição} - Publicar, despublicar, ativar e desativar")
+    class TransitionCouponsEndpoint {
+
+        private String createCoupon(String code, boolean published) throws Exception {
+            CreateCouponRequest request = new CreateCouponRequest(
+                    code, "Campanha relâmpago", new BigDecimal("10.00"), LocalDateTime.now().plusDays(30), published, false);
+
+            MvcResult result = mockMvc.perform(post("/api/v1/coupons")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andReturn();
+            return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+        }
+
+        @Test
+        @DisplayName("Deve publicar e desativar um cupom e refletir no índice")
+        void shouldPublishAndDeactivateCoupon() throws Exception {
+            String id = createCoupon("TRS101", false);
+
+            mockMvc.perform(post("/api/v1/coupons/" + id + "/publish"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.published", is(true)));
+            mockMvc.perform(get("/api/v1/coupons/validate").param("code", "TRS101"))
+                    .andExpect(jsonPath("$.availability", is("VALID")));
+
+            mockMvc.perform(post("/api/v1/coupons/" + id + "/deactivate"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.status", is("INACTIVE")));
+            mockMvc.perform(get("/api/v1/coupons/validate").param("code", "TRS101"))
+                    .andExpect(jsonPath("$.availability", is("INACTIVE")));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 409 para cupom deletado e 400 para transição desconhecida")
+        void shouldRejectDeletedCouponAndUnknownTransition() throws Exception {
+            String id = createCoupon("TRS201", true);
+            mockMvc.perform(delete("/api/v1/coupons/" + id))
+                    .andExpect(status().isNoContent());
+
+            mockMvc.perform(post("/api/v1/coupons/" + id + "/activate"))
+                    .andExpect(status().isConflict());
+            mockMvc.perform(post("/api/v1/coupons/" + id + "/archive"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        @DisplayName("Deve despublicar em lote contando apenas os cupons alterados")
+        void shouldUnpublishInBulk() throws Exception {
+            String first = createCoupon("TRS301", true);
+            String second = createCoupon("TRS302", false);
+
+            mockMvc.perform(post("/api/v1/coupons/bulk-unpublish")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(Map.of("ids", List.of(first, second, UUID.randomUUID())))))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.updated", is(1)));
+
+            mockMvc.perform(get("/api/v1/coupons/validate").param("code", "TRS301"))
+                    .andExpect(jsonPath("$.availability", is("UNPUBLISHED")));
+            mockMvc.perform(post("/api/v1/coupons/bulk-publish")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"ids\": []}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/coupons/generate - Gerar cupons em lote")
+    class GenerateCouponsEndpoint {
+
+        @Test
+        @DisplayName("Deve gerar cupons com códigos únicos e retornar 201")
+        void shouldGenerateUniqueCodesAndReturn201() throws Exception {
+            GenerateCouponsRequest request = new GenerateCouponsRequest(
+                    3, "Campanha", new BigDecimal("5.00"), LocalDateTime.now().plusDays(30), true, false);
+
+            MvcResult result = mockMvc.perform(post("/api/v1/coupons/generate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.count", is(3)))
+                    .andExpect(jsonPath("$.codes", hasSize(3)))
+                    .andExpect(jsonPath("$.codes[*]", everyItem(matchesPattern("[0-9A-Z]{6}"))))
+                    .andReturn();
+
+            String code = objectMapper.readTree(result.getResponse().getContentAsString()).get("codes").get(0).asText();
+            mockMvc.perform(get("/api/v1/coupons"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[*].code", hasItem(code)));
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para quantidade acima do limite")
+        void shouldReturn400ForCountAboveLimit() throws Exception {
+            GenerateCouponsRequest request = new GenerateCouponsRequest(
+                    10_001, "Campanha", new BigDecimal("5.00"), LocalDateTime.now().plusDays(30), true, false);
+
+            mockMvc.perform(post("/api/v1/coupons/generate")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Nested
+    @DisplayName("Limite de requisições por cliente")
+    class RateLimit {
+
+        @Test
+        @DisplayName("Deve responder 429 com Retry-After quando o cliente esgotar a rajada")
+        void shouldRejectClientOverBudget() throws Exception {
+            // Tokens trickle back while the burst runs, so allow a few extra requests before the first 429.
+            int allowed = 0;
+            MvcResult rejected = null;
+            while (rejected == null && allowed < 40) {
+                MvcResult result = mockMvc.perform(get("/api/v1/coupons/validate").param("code", "NOPE99").header("X-API-Key", "burst-client"))
+                        .andReturn();
+                if (result.getResponse().getStatus() == 429) {
+                    rejected = result;
+                } else {
+                    allowed++;
+                }
+            }
+
+            assertThat(allowed).isGreaterThanOrEqualTo(20);
+            assertThat(rejected).isNotNull();
+            assertThat(rejected.getResponse().getHeader("Retry-After")).isEqualTo("1");
+            assertThat(objectMapper.readTree(rejected.getResponse().getContentAsString()).get("status").asInt()).isEqualTo(429);
+
+            mockMvc.perform(get("/api/v1/coupons/validate").param("code", "NOPE99").header("X-API-Key", "other-client"))
+                    .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("Não deve limitar endpoints fora da lista configurada")
+        void shouldNotLimitOtherEndpoints() throws Exception {
+            for (int i = 0; i < 25; i++) {
+                mockMvc.perform(get("/api/v1/coupons").header("X-API-Key", "listing-client"))
+                        .andExpect(status().isOk());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Negociação de conteúdo - JSON, CBOR e Protobuf")
+    class ContentNegotiation {
+
+        private final ObjectMapper cborMapper = new CBORMapper();
+        private final ObjectMapper protobufMapper = new ProtobufMapper();
+
+        private Coupon saved(String code) {
+            return couponRepository.save(Coupon.reconstruct(UUID.randomUUID(), code, "Cupom binário",
+                    new BigDecimal("10.50"), LocalDateTime.now().plusDays(30).withNano(0), true, false, CouponStatus.ACTIVE));
+        }
+
+        private JsonNode readProtobuf(byte[] body, Class<?> type) throws Exception {
+            return protobufMapper.readerFor(JsonNode.class)
+                    .with(protobufSchemas.schemaFor(ResolvableType.forClass(type)))
+                    .readValue(body);
+        }
+
+        @Test
+        @DisplayName("Deve manter JSON quando o Accept não pede outro formato")
+        void shouldKeepJsonByDefault() throws Exception {
+            Coupon coupon = saved("NEG001");
+
+            mockMvc.perform(get("/api/v1/coupons/" + coupon.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+            mockMvc.perform(get("/api/v1/coupons/" + coupon.getId()).accept(MediaType.ALL))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+        }
+
+        @Test
+        @DisplayName("Deve responder o cupom em CBOR")
+        void shouldWriteCouponAsCbor() throws Exception {
+            Coupon coupon = saved("NEG002");
+
+            MvcResult result = mockMvc.perform(get("/api/v1/coupons/" + coupon.getId()).accept(MediaType.APPLICATION_CBOR))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                    .andReturn();
+
+            JsonNode body = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+            assertThat(body.get("code").asText()).isEqualTo("NEG002");
+            assertThat(body.get("discountValue").decimalValue()).isEqualByComparingTo("10.50");
+            assertThat(body.get("status").asText()).isEqualTo("ACTIVE");
+            assertThat(body.get("expirationDate").asText()).isEqualTo(coupon.getExpirationDate().getValue().toString());
+        }
+
+        @Test
+        @DisplayName("Deve responder o cupom em Protobuf")
+        void shouldWriteCouponAsProtobuf() throws Exception {
+            Coupon coupon = saved("NEG003");
+
+            MvcResult result = mockMvc.perform(get("/api/v1/coupons/" + coupon.getId()).accept(PROTOBUF))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(PROTOBUF))
+                    .andReturn();
+
+            byte[] bytes = result.getResponse().getContentAsByteArray();
+            JsonNode body = readProtobuf(bytes, CouponResponse.class);
+            ByteBuffer id = ByteBuffer.wrap(body.get("id").binaryValue());
+            assertThat(new UUID(id.getLong(), id.getLong())).isEqualTo(coupon.getId());
+            assertThat(body.get("code").asText()).isEqualTo("NEG003");
+            assertThat(body.get("discountValue").asText()).isEqualTo("10.50");
+            // enums read back as their numbers: ACTIVE of CouponResponse.Status
+            assertThat(body.get("status").asInt()).isZero();
+            byte[] json = mockMvc.perform(get("/api/v1/coupons/" + coupon.getId())).andReturn().getResponse().getContentAsByteArray();
+            assertThat(bytes.length).isLessThan(json.length);
+        }
+
+        @Test
+        @DisplayName("Deve responder a página de cupons em Protobuf")
+        void shouldWriteCouponPageAsProtobuf() throws Exception {
+            saved("NEG004");
+            saved("NEG005");
+
+            MvcResult result = mockMvc.perform(get("/api/v1/coupons").param("size", "1").param("sort", "code").accept(PROTOBUF))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            JsonNode body = protobufMapper.readerFor(JsonNode.class)
+                    .with(protobufSchemas.schemaFor(ResolvableType.forClass(CouponPageResponse.class)))
+                    .readValue(result.getResponse().getContentAsByteArray());
+            assertThat(body.get("content")).hasSize(1);
+            assertThat(body.get("content").get(0).get("code").asText()).isEqualTo("NEG004");
+            assertThat(body.get("page").get("size").asLong()).isEqualTo(1);
+            assertThat(body.get("page").get("totalElements").asLong()).isGreaterThanOrEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve responder erros em Protobuf")
+        void shouldWriteErrorAsProtobuf() throws Exception {
+            MvcResult result = mockMvc.perform(get("/api/v1/coupons/" + UUID.randomUUID()).accept(PROTOBUF))
+                    .andExpect(status().isNotFound())
+                    .andExpect(content().contentType(PROTOBUF))
+                    .andReturn();
+
+            JsonNode body = readProtobuf(result.getResponse().getContentAsByteArray(), ErrorResponse.class);
+            assertThat(body.get("status").asInt()).isEqualTo(404);
+            assertThat(body.get("error").asText()).isEqualTo("Not Found");
+        }
+
+        @Test
+        @DisplayName("Deve retornar 406 em Protobuf para respostas fora do schema")
+        void shouldReturn406ForResponsesOutsideSchema() throws Exception {
+            CampaignRequest request = new CampaignRequest("Campanha", new BigDecimal("5.00"), LocalDateTime.now().plusDays(30));
+
+            mockMvc.perform(post("/api/v1/campaigns")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request))
+                            .accept(PROTOBUF))
+                    .andExpect(status().isNotAcceptable());
+        }
+    }
+
+    @Nested
+    @DisplayName("Seleção de campos - ?fields=")
+    class FieldSelection {
+
+        private Coupon saved(String code, LocalDateTime expiration) {
+            Coupon coupon = Coupon.create(code, "Descrição que não deve ir", new BigDecimal("12.30"), expiration, true, false);
+            // inserted with the batch path so the rows are visible to the projected listing inside this test transaction
+            couponRepository.saveAll(List.of(coupon));
+            return coupon;
+        }
+
+        @Test
+        @DisplayName("Deve listar apenas os campos pedidos")
+        void shouldListOnlyRequestedFields() throws Exception {
+            saved("FLD001", LocalDateTime.now().plusDays(10).withNano(0));
+
+            MvcResult result = mockMvc.perform(get("/api/v1/coupons")
+                            .param("fields", "code,discountValue,expirationDate")
+                            .param("sort", "code")
+                            .param("size", "1000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.page.size", is(1000)))
+                    .andReturn();
+
+            JsonNode content = objectMapper.readTree(result.getResponse().getContentAsByteArray()).get("content");
+            JsonNode coupon = null;
+            for (JsonNode node : content) {
+                assertThat(node.size()).isEqualTo(3);
+                if ("FLD001".equals(node.get("code").asText())) {
+                    coupon = node;
+                }
+            }
+            assertThat(coupon).isNotNull();
+            assertThat(coupon.get("discountValue").decimalValue()).isEqualByComparingTo("12.30");
+            assertThat(coupon.has("description")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para campo desconhecido")
+        void shouldReturn400ForUnknownField() throws Exception {
+            mockMvc.perform(get("/api/v1/coupons").param("fields", "code,secret"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message", startsWith("Unknown coupon field: secret")));
+        }
+
+        @Test
+        @DisplayName("Deve buscar por ID apenas com os campos pedidos")
+        void shouldGetByIdWithRequestedFields() throws Exception {
+            Coupon coupon = saved("FLD002", LocalDateTime.now().plusDays(10));
+
+            mockMvc.perform(get("/api/v1/coupons/" + coupon.getId()).param("fields", "status,code"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.code", is("FLD002")))
+                    .andExpect(jsonPath("$.status", is("ACTIVE")))
+                    .andExpect(jsonPath("$.id").doesNotExist())
+                    .andExpect(jsonPath("$.description").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Deve listar cupons prestes a expirar apenas com os campos pedidos")
+        void shouldListExpiringWithRequestedFields() throws Exception {
+            saved("FLD003", LocalDateTime.now(clock).plusMinutes(5));
+
+            mockMvc.perform(get("/api/v1/coupons/expiring").param("within", "PT10M").param("fields", "code"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content[?(@.code == 'FLD003')]").exists())
+                    .andExpect(jsonPath("$.content[0].expirationDate").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Deve aplicar os campos pedidos em Protobuf")
+        void shouldApplyRequestedFieldsToProtobuf() throws Exception {
+            Coupon coupon = saved("FLD004", LocalDateTime.now().plusDays(10));
+
+            MvcResult result = mockMvc.perform(get("/api/v1/coupons/" + coupon.getId()).param("fields", "code").accept(PROTOBUF))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            JsonNode body = new ProtobufMapper().readerFor(JsonNode.class)
+                    .with(protobufSchemas.schemaFor(ResolvableType.forClass(CouponResponse.class)))
+                    .readValue(result.getResponse().getContentAsByteArray());
+            assertThat(body.get("code").asText()).isEqualTo("FLD004");
+            assertThat(body.has("description")).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("Cenários de integração complexos")
     class ComplexIntegrationScenarios {
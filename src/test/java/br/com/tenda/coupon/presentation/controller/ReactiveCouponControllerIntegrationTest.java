@@ -0,0 +1,346 @@
+package br.com.tenda.coupon.presentation.controller;
+
+import br.com.tenda.coupon.application.index.CouponCodeIndex;
+import br.com.tenda.coupon.application.usecase.CreateCampaignUseCase;
+import br.com.tenda.coupon.application.usecase.CreateCouponUseCase;
+import br.com.tenda.coupon.domain.model.Campaign;
+import br.com.tenda.coupon.domain.model.Coupon;
+import br.com.tenda.coupon.domain.vo.CouponAvailability;
+import br.com.tenda.coupon.infrastructure.codec.CouponProtobufSchemas;
+import br.com.tenda.coupon.presentation.dto.CreateCouponRequest;
+import br.com.tenda.coupon.presentation.dto.CouponPageResponse;
+import br.com.tenda.coupon.presentation.dto.CouponResponse;
+import br.com.tenda.coupon.presentation.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/*
+ * The reactive profile on its own database. Not transactional: every request commits over R2DBC,
+ * and the rows are removed after each test.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactivedb",
+        "coupon.reactive.url=r2dbc:h2:mem:///reactivedb",
+        "coupon.occupancy.file=build/test-occupancy/reactive.bitmap",
+        "coupon.journal.directory=build/test-journal-reactive"
+})
+@ActiveProfiles({"test", "reactive"})
+@DisplayName("ReactiveCouponController - Integração E2E")
+class ReactiveCouponControllerIntegrationTest {
+
+    private static final String BASE_URL = "/api/v1/coupons";
+    private static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CreateCouponUseCase createCouponUseCase;
+
+    @Autowired
+    private CreateCampaignUseCase createCampaignUseCase;
+
+    @Autowired
+    private CouponCodeIndex couponCodeIndex;
+
+    @Autowired
+    private Clock clock;
+
+    @Autowired
+    private CouponProtobufSchemas protobufSchemas;
+
+    private final LocalDateTime futureDate = LocalDateTime.now().plusDays(30).withNano(0);
+
+    @AfterEach
+    void removeCommittedRows() {
+        jdbcTemplate.update("DELETE FROM coupons");
+        jdbcTemplate.update("DELETE FROM campaigns");
+    }
+
+    private CouponResponse create(CreateCouponRequest request) {
+        return webTestClient.post().uri(BASE_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CouponResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private CouponAvailability availabilityOf(String code) {
+        return couponCodeIndex.availabilityOf(code, clock.instant().getEpochSecond());
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/coupons - Criar cupom")
+    class CreateCouponEndpoint {
+
+        @Test
+        @DisplayName("Deve criar cupom e publicar o evento após o commit")
+        void shouldCreateCouponAndPublishEventAfterCommit() {
+            CouponResponse response = create(new CreateCouponRequest("rx-0001", "Cupom reativo", new BigDecimal("10.00"), futureDate, true, false));
+
+            assertThat(response.getCode()).isEqualTo("RX0001");
+            assertThat(response.getDescription()).isEqualTo("Cupom reativo");
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM coupons WHERE id = ?", Integer.class, response.getId())).isEqualTo(1);
+            assertThat(availabilityOf("RX0001")).isEqualTo(CouponAvailability.VALID);
+        }
+
+        @Test
+        @DisplayName("Deve atribuir um código quando omitido")
+        void shouldAssignCodeWhenOmitted() {
+            CouponResponse response = create(new CreateCouponRequest(null, "Sem código", new BigDecimal("5.00"), futureDate, true, false));
+
+            assertThat(response.getCode()).hasSize(6);
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para código já existente")
+        void shouldReturn400ForDuplicateCode() {
+            create(new CreateCouponRequest("RX0002", "Primeiro", new BigDecimal("5.00"), futureDate, true, false));
+
+            webTestClient.post().uri(BASE_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new CreateCouponRequest("RX0002", "Segundo", new BigDecimal("5.00"), futureDate, true, false))
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("A coupon with this code already exists")
+                    .jsonPath("$.path").isEqualTo(BASE_URL);
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 com as mensagens de validação")
+        void shouldReturn400WithValidationMessages() {
+            webTestClient.post().uri(BASE_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new CreateCouponRequest("RX0003", null, new BigDecimal("5.00"), futureDate, true, false))
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.error").isEqualTo("Validation Failed")
+                    .jsonPath("$.message").isEqualTo("Description is required");
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para atributo não reconhecido")
+        void shouldReturn400ForUnrecognizedAttribute() {
+            webTestClient.post().uri(BASE_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue("{\"code\":\"RX0004\",\"description\":\"X\",\"discountValue\":5,\"expirationDate\":\""
+                            + DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(futureDate) + "\",\"unknown\":true}")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.error").isEqualTo("Unrecognized field");
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/coupons/{id} - Buscar cupom por ID")
+    class GetCouponByIdEndpoint {
+
+        @Test
+        @DisplayName("Deve ler pelo R2DBC um cupom de campanha gravado pelo JPA")
+        void shouldReadCampaignCouponWrittenOverJpa() {
+            Campaign campaign = createCampaignUseCase.execute("Campanha reativa", new BigDecimal("12.50"), futureDate);
+            Coupon coupon = createCouponUseCase.execute(campaign.getId(), "RX0005", null, null, null, true, false);
+
+            webTestClient.get().uri(BASE_URL + "/" + coupon.getId())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.code").isEqualTo("RX0005")
+                    .jsonPath("$.campaignId").isEqualTo(campaign.getId().toString())
+                    .jsonPath("$.description").isEqualTo("Campanha reativa")
+                    .jsonPath("$.discountValue").isEqualTo(12.50)
+                    .jsonPath("$.status").isEqualTo("ACTIVE");
+        }
+
+        @Test
+        @DisplayName("Deve retornar 404 para cupom inexistente")
+        void shouldReturn404ForUnknownCoupon() {
+            webTestClient.get().uri(BASE_URL + "/" + UUID.randomUUID())
+                    .exchange()
+                    .expectStatus().isNotFound()
+                    .expectBody()
+                    .jsonPath("$.error").isEqualTo("Not Found");
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/coupons - Listar cupons")
+    class GetAllCouponsEndpoint {
+
+        @Test
+        @DisplayName("Deve paginar e ordenar no mesmo formato da API servlet")
+        void shouldPageAndSortInServletPageFormat() {
+            create(new CreateCouponRequest("RXB001", "B", new BigDecimal("5.00"), futureDate, true, false));
+            create(new CreateCouponRequest("RXA001", "A", new BigDecimal("5.00"), futureDate, true, false));
+            create(new CreateCouponRequest("RXC001", "C", new BigDecimal("5.00"), futureDate, true, false));
+
+            webTestClient.get().uri(BASE_URL + "?page=0&size=2&sort=description,desc")
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.content.length()").isEqualTo(2)
+                    .jsonPath("$.content[0].code").isEqualTo("RXC001")
+                    .jsonPath("$.content[1].code").isEqualTo("RXB001")
+                    .jsonPath("$.page.size").isEqualTo(2)
+                    .jsonPath("$.page.number").isEqualTo(0)
+                    .jsonPath("$.page.totalElements").isEqualTo(3)
+                    .jsonPath("$.page.totalPages").isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve retornar 400 para propriedade de ordenação desconhecida")
+        void shouldReturn400ForUnknownSortProperty() {
+            webTestClient.get().uri(BASE_URL + "?sort=secret")
+                    .exchange()
+                    .expectStatus().isBadRequest()
+                    .expectBody()
+                    .jsonPath("$.message").isEqualTo("Coupons cannot be sorted by: secret");
+        }
+    }
+
+    @Nested
+    @DisplayName("DELETE /api/v1/coupons/{id} - Deletar cupom")
+    class DeleteCouponEndpoint {
+
+        @Test
+        @DisplayName("Deve fazer soft delete e atualizar o índice após o commit")
+        void shouldSoftDeleteAndUpdateIndexAfterCommit() {
+            CouponResponse created = create(new CreateCouponRequest("RXD001", "Para deletar", new BigDecimal("5.00"), futureDate, true, false));
+
+            webTestClient.delete().uri(BASE_URL + "/" + created.getId())
+                    .exchange()
+                    .expectStatus().isNoContent();
+
+            webTestClient.get().uri(BASE_URL + "/" + created.getId())
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectBody()
+                    .jsonPath("$.status").isEqualTo("DELETED");
+            assertThat(availabilityOf("RXD001")).isEqualTo(CouponAvailability.DELETED);
+        }
+
+        @Test
+        @DisplayName("Deve retornar 409 ao deletar cupom já deletado")
+        void shouldReturn409ForAlreadyDeletedCoupon() {
+            CouponResponse created = create(new CreateCouponRequest("RXD002", "Duas vezes", new BigDecimal("5.00"), futureDate, true, false));
+            webTestClient.delete().uri(BASE_URL + "/" + created.getId()).exchange().expectStatus().isNoContent();
+
+            webTestClient.delete().uri(BASE_URL + "/" + created.getId())
+                    .exchange()
+                    .expectStatus().isEqualTo(409);
+        }
+
+        @Test
+        @DisplayName("Deve retornar 404 para cupom inexistente")
+        void shouldReturn404ForUnknownCoupon() {
+            webTestClient.delete().uri(BASE_URL + "/" + UUID.randomUUID())
+                    .exchange()
+                    .expectStatus().isNotFound();
+        }
+    }
+
+    @Nested
+    @DisplayName("Negociação de conteúdo - JSON, CBOR e Protobuf")
+    class ContentNegotiation {
+
+        @Test
+        @DisplayName("Deve manter JSON quando o Accept não pede outro formato")
+        void shouldKeepJsonByDefault() {
+            CouponResponse created = create(new CreateCouponRequest("RXN001", "Padrão", new BigDecimal("5.00"), futureDate, true, false));
+
+            webTestClient.get().uri(BASE_URL + "/" + created.getId())
+                    .accept(MediaType.ALL)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON);
+        }
+
+        @Test
+        @DisplayName("Deve responder o cupom em CBOR")
+        void shouldWriteCouponAsCbor() throws Exception {
+            CouponResponse created = create(new CreateCouponRequest("RXN002", "CBOR", new BigDecimal("5.00"), futureDate, true, false));
+
+            byte[] body = webTestClient.get().uri(BASE_URL + "/" + created.getId())
+                    .accept(MediaType.APPLICATION_CBOR)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(MediaType.APPLICATION_CBOR)
+                    .expectBody(byte[].class)
+                    .returnResult()
+                    .getResponseBody();
+
+            JsonNode coupon = new CBORMapper().readTree(body);
+            assertThat(coupon.get("code").asText()).isEqualTo("RXN002");
+            assertThat(coupon.get("description").asText()).isEqualTo("CBOR");
+        }
+
+        @Test
+        @DisplayName("Deve responder a página de cupons em Protobuf")
+        void shouldWriteCouponPageAsProtobuf() throws Exception {
+            create(new CreateCouponRequest("RXN003", "Protobuf", new BigDecimal("7.25"), futureDate, true, false));
+
+            byte[] body = webTestClient.get().uri(BASE_URL)
+                    .accept(PROTOBUF)
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().contentType(PROTOBUF)
+                    .expectBody(byte[].class)
+                    .returnResult()
+                    .getResponseBody();
+
+            JsonNode page = new ProtobufMapper().readerFor(JsonNode.class)
+                    .with(protobufSchemas.schemaFor(ResolvableType.forClass(CouponPageResponse.class)))
+                    .readValue(body);
+            assertThat(page.get("content").get(0).get("code").asText()).isEqualTo("RXN003");
+            assertThat(page.get("content").get(0).get("discountValue").asText()).isEqualTo("7.25");
+            assertThat(page.get("page").get("totalElements").asLong()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve responder erros em Protobuf")
+        void shouldWriteErrorAsProtobuf() throws Exception {
+            byte[] body = webTestClient.get().uri(BASE_URL + "/" + UUID.randomUUID())
+                    .accept(PROTOBUF)
+                    .exchange()
+                    .expectStatus().isNotFound()
+                    .expectHeader().contentType(PROTOBUF)
+                    .expectBody(byte[].class)
+                    .returnResult()
+                    .getResponseBody();
+
+            JsonNode error = new ProtobufMapper().readerFor(JsonNode.class)
+                    .with(protobufSchemas.schemaFor(ResolvableType.forClass(ErrorResponse.class)))
+                    .readValue(body);
+            assertThat(error.get("status").asInt()).isEqualTo(404);
+        }
+    }
+}